@@ -58,6 +58,27 @@ public abstract class AbstractMetricsContext implements MetricsContext, Serializ
         return meter;
     }
 
+    /**
+     * Registers a {@link ThreadSafeHistogram}, or returns the histogram already registered with the
+     * name. Histograms are only supported by the Zeta engine, so they are not part of {@link
+     * MetricsContext}.
+     *
+     * @param name name of the histogram
+     * @param unit unit of the recorded values
+     * @return the registered histogram
+     */
+    public Histogram histogram(String name, Unit unit) {
+        if (metrics.containsKey(name)) {
+            return (Histogram) metrics.get(name);
+        }
+        return this.histogram(name, new ThreadSafeHistogram(name, unit));
+    }
+
+    public <H extends Histogram> H histogram(String name, H histogram) {
+        this.addMetric(name, histogram);
+        return histogram;
+    }
+
     protected void addMetric(String name, Metric metric) {
         if (metric == null) {
             log.warn("Ignoring attempted add of a metric due to being null for name {}.", name);
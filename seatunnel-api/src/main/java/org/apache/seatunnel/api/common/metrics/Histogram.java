@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.api.common.metrics;
+
+/** Metric for measuring the distribution of values, such as latencies. */
+public interface Histogram extends Metric {
+    /**
+     * Record one occurrence of a value, negative values are recorded as 0.
+     *
+     * @param value the recorded value
+     */
+    void update(long value);
+
+    /**
+     * Record multiple occurrences of the same value, used when one measurement covers several
+     * events.
+     *
+     * @param value the recorded value
+     * @param n number of occurrences
+     */
+    void update(long value, long n);
+
+    /**
+     * Get number of values recorded by the histogram.
+     *
+     * @return number of values recorded by the histogram
+     */
+    long getCount();
+
+    /**
+     * Get the sum of the values recorded by the histogram.
+     *
+     * @return sum of the values recorded by the histogram
+     */
+    long getSum();
+
+    /**
+     * Returns the value at the given quantile of the recently recorded values, 0 if there are none.
+     *
+     * @param quantile quantile between 0 and 1, 1 returns the max
+     * @return value at the quantile
+     */
+    long getQuantile(double quantile);
+}
@@ -33,4 +33,12 @@ public final class MetricNames {
     public static final String SINK_WRITE_BYTES = "SinkWriteBytes";
     public static final String SINK_WRITE_QPS = "SinkWriteQPS";
     public static final String SINK_WRITE_BYTES_PER_SECONDS = "SinkWriteBytesPerSeconds";
+
+    public static final String EDGE_BUFFER_USAGE = "EdgeBufferUsage";
+    public static final String EDGE_BLOCKED_TIME_MILLIS = "EdgeBlockedTimeMillis";
+    public static final String EDGE_BACK_PRESSURE_RATIO = "EdgeBackPressureRatio";
+
+    public static final String TRANSFORM_LATENCY_NANOS = "TransformLatencyNanos";
+    public static final String SINK_WRITE_LATENCY_NANOS = "SinkWriteLatencyNanos";
+    public static final String END_TO_END_LATENCY_MILLIS = "EndToEndLatencyMillis";
 }
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.api.common.metrics;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Lock free histogram with log-linear buckets in the style of HdrHistogram. Values below 64 are
+ * counted exactly, every larger power of two is split into 32 buckets, so a reported quantile is at
+ * most about 3% above the recorded value.
+ *
+ * <p>Quantiles cover the values recorded in the current and the previous window of one minute, so
+ * they follow the recent behavior of a long-running job. Count and sum cover all the recorded
+ * values. The buckets are not serialized, a deserialized histogram keeps its count and sum but
+ * starts a new distribution.
+ */
+public class ThreadSafeHistogram implements Histogram, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private static final long WINDOW_MILLIS = 60_000L;
+
+    private static final AtomicLongFieldUpdater<ThreadSafeHistogram> VOLATILE_COUNT_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(ThreadSafeHistogram.class, "count");
+
+    private static final AtomicLongFieldUpdater<ThreadSafeHistogram> VOLATILE_SUM_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(ThreadSafeHistogram.class, "sum");
+
+    private final String name;
+
+    private final Unit unit;
+
+    private volatile long count;
+
+    private volatile long sum;
+
+    private transient volatile AtomicLongArray currentWindow;
+
+    private transient volatile AtomicLongArray previousWindow;
+
+    private transient volatile long currentWindowStart;
+
+    public ThreadSafeHistogram(String name, Unit unit) {
+        this.name = name;
+        this.unit = unit;
+        resetWindows();
+    }
+
+    @Override
+    public void update(long value) {
+        update(value, 1);
+    }
+
+    @Override
+    public void update(long value, long n) {
+        if (n <= 0) {
+            return;
+        }
+        long recorded = Math.max(value, 0);
+        currentWindow.addAndGet(bucketIndex(recorded), n);
+        VOLATILE_COUNT_UPDATER.addAndGet(this, n);
+        VOLATILE_SUM_UPDATER.addAndGet(this, recorded * n);
+    }
+
+    @Override
+    public long getCount() {
+        return VOLATILE_COUNT_UPDATER.get(this);
+    }
+
+    @Override
+    public long getSum() {
+        return VOLATILE_SUM_UPDATER.get(this);
+    }
+
+    @Override
+    public long getQuantile(double quantile) {
+        // windows are only rotated by readers, the metrics are read every few seconds
+        rotateWindows();
+        AtomicLongArray current = currentWindow;
+        AtomicLongArray previous = previousWindow;
+        long[] buckets = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = current.get(i) + previous.get(i);
+            total += buckets[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(Math.max(quantile, 0), 1) * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return highestValueOfBucket(i);
+            }
+        }
+        return highestValueOfBucket(BUCKETS - 1);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Unit unit() {
+        return unit;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS << 1) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long highestValueOfBucket(int index) {
+        if (index < SUB_BUCKETS << 1) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long subBucket = (index & (SUB_BUCKETS - 1)) + SUB_BUCKETS;
+        // the last bucket ends at Long.MAX_VALUE, the shift overflows to Long.MIN_VALUE
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    private void rotateWindows() {
+        long now = System.currentTimeMillis();
+        if (now - currentWindowStart < WINDOW_MILLIS) {
+            return;
+        }
+        synchronized (this) {
+            if (now - currentWindowStart < WINDOW_MILLIS) {
+                return;
+            }
+            previousWindow = currentWindow;
+            currentWindow = new AtomicLongArray(BUCKETS);
+            currentWindowStart = now;
+        }
+    }
+
+    private void resetWindows() {
+        currentWindow = new AtomicLongArray(BUCKETS);
+        previousWindow = new AtomicLongArray(BUCKETS);
+        currentWindowStart = System.currentTimeMillis();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        resetWindows();
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadSafeHistogram{"
+                + "name='"
+                + name
+                + '\''
+                + ", unit="
+                + unit
+                + ", count="
+                + count
+                + ", sum="
+                + sum
+                + '}';
+    }
+}
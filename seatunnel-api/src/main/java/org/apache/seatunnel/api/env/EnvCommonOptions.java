@@ -78,6 +78,20 @@ public interface EnvCommonOptions {
                     .withDescription(
                             "The each parallelism bytes limit per second for read data from source.");
 
+    Option<Integer> RECORD_BATCH_SIZE =
+            Options.key("record.batch.size")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The max number of rows the source passes to the transforms and sinks at once, 1 passes the rows one by one. Only supported by the Zeta engine.");
+
+    Option<Long> LATENCY_MARKER_INTERVAL =
+            Options.key("latency.marker.interval")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "The interval (in milliseconds) between two latency markers sent by every source subtask to measure the end-to-end latency at the sinks, 0 disables the markers. Only supported by the Zeta engine.");
+
     Option<Long> CHECKPOINT_TIMEOUT =
             Options.key("checkpoint.timeout")
                     .longType()
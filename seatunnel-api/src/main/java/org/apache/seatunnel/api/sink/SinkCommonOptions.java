@@ -21,6 +21,8 @@ import org.apache.seatunnel.api.annotation.Experimental;
 import org.apache.seatunnel.api.configuration.Option;
 import org.apache.seatunnel.api.configuration.Options;
 
+import java.util.List;
+
 public class SinkCommonOptions {
 
     @Experimental
@@ -29,4 +31,20 @@ public class SinkCommonOptions {
                     .intType()
                     .defaultValue(1)
                     .withDescription("The replica number of multi table sink writer");
+
+    @Experimental
+    public static Option<Boolean> SHUFFLE_BY_KEY =
+            Options.key("shuffle_by_key")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Shuffle the rows by key before they reach the sink writers, so that rows with the same key are written by the same writer in order");
+
+    @Experimental
+    public static Option<List<String>> SHUFFLE_KEY_COLUMNS =
+            Options.key("shuffle_key_columns")
+                    .listType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The columns used by shuffle_by_key, the primary key of the table is used when not set");
 }
@@ -46,6 +46,20 @@ public interface SinkWriter<T, CommitInfoT, StateT> {
      */
     void write(T element) throws IOException;
 
+    /**
+     * write a batch of data to third party data receiver. Engines that pass the rows in batches
+     * call this method instead of {@link #write(Object)}, writers that can write several rows at
+     * once should override it.
+     *
+     * @param elements the data need be written, in order. The list can't be kept after the call.
+     * @throws IOException throw IOException when write data failed.
+     */
+    default void writeBatch(List<T> elements) throws IOException {
+        for (T element : elements) {
+            write(element);
+        }
+    }
+
     /** @deprecated instead by {@link SupportSchemaEvolutionSinkWriter} TODO: remove this method */
     @Deprecated
     default void applySchemaChange(SchemaChangeEvent event) throws IOException {}
@@ -124,8 +124,13 @@ public final class SeaTunnelRow implements Serializable {
         return size;
     }
 
+    /** Caches a size computed outside the row, see {@link SeaTunnelRowSizeEstimator}. */
+    void setBytesSize(int size) {
+        this.size = size;
+    }
+
     /** faster version of {@link #getBytesSize(SeaTunnelRowType)}. */
-    private int getBytesForValue(Object v, SeaTunnelDataType<?> dataType) {
+    int getBytesForValue(Object v, SeaTunnelDataType<?> dataType) {
         if (v == null) {
             return 0;
         }
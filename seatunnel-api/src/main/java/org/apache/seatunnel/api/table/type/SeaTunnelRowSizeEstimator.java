@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.type;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Estimates {@link SeaTunnelRow#getBytesSize(SeaTunnelRowType)} without walking nested values for
+ * every row.
+ *
+ * <p>The width of the fixed-width fields is resolved once per schema, and strings, bytes and
+ * vectors only need their length. Arrays, maps and nested rows are measured exactly for one row out
+ * of {@link #SAMPLE_INTERVAL} and the moving average of those samples is used for the other rows.
+ * The estimate is stored in the row, so later calls of {@link SeaTunnelRow#getBytesSize()} return
+ * it without recomputing.
+ *
+ * <p>This class is not thread safe. Concurrent callers only make the samples less accurate.
+ */
+public final class SeaTunnelRowSizeEstimator {
+
+    /** Measure a nested value exactly once every this many non-null values of a field. */
+    static final int SAMPLE_INTERVAL = 16;
+
+    private static final int STRING = -1;
+    private static final int BYTES = -2;
+    private static final int BUFFER = -3;
+    private static final int NESTED = -4;
+
+    private final SeaTunnelDataType<?>[] fieldTypes;
+
+    /** The width of each fixed-width field, or one of the negative kinds above. */
+    private final int[] widths;
+
+    private final int[] nestedAverages;
+
+    private final int[] nestedCountdowns;
+
+    public SeaTunnelRowSizeEstimator(SeaTunnelRowType rowType) {
+        this.fieldTypes = rowType.getFieldTypes();
+        this.widths = new int[fieldTypes.length];
+        this.nestedAverages = new int[fieldTypes.length];
+        this.nestedCountdowns = new int[fieldTypes.length];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            widths[i] = width(fieldTypes[i].getSqlType());
+        }
+    }
+
+    /** Returns the estimated size of the row and caches it in the row. */
+    public int estimate(SeaTunnelRow row) {
+        Object[] fields = row.getFields();
+        int size = 0;
+        for (int i = 0; i < fields.length && i < widths.length; i++) {
+            Object value = fields[i];
+            if (value == null) {
+                continue;
+            }
+            int width = widths[i];
+            if (width >= 0) {
+                size += width;
+                continue;
+            }
+            switch (width) {
+                case STRING:
+                    size += ((String) value).length();
+                    break;
+                case BYTES:
+                    size += ((byte[]) value).length;
+                    break;
+                case BUFFER:
+                    size += ((ByteBuffer) value).capacity();
+                    break;
+                default:
+                    size += estimateNested(row, i, value);
+            }
+        }
+        row.setBytesSize(size);
+        return size;
+    }
+
+    private int estimateNested(SeaTunnelRow row, int index, Object value) {
+        if (nestedCountdowns[index]-- > 0) {
+            return nestedAverages[index];
+        }
+        nestedCountdowns[index] = SAMPLE_INTERVAL - 1;
+        int exact = row.getBytesForValue(value, fieldTypes[index]);
+        int average = nestedAverages[index];
+        // the first sample replaces the initial zero, later ones move the average by a quarter
+        nestedAverages[index] = average == 0 ? exact : average + (exact - average) / 4;
+        return exact;
+    }
+
+    private static int width(SqlType sqlType) {
+        switch (sqlType) {
+            case STRING:
+                return STRING;
+            case BYTES:
+                return BYTES;
+            case BINARY_VECTOR:
+            case FLOAT_VECTOR:
+            case FLOAT16_VECTOR:
+            case BFLOAT16_VECTOR:
+                return BUFFER;
+            case BOOLEAN:
+            case TINYINT:
+                return 1;
+            case SMALLINT:
+                return 2;
+            case INT:
+            case FLOAT:
+                return 4;
+            case BIGINT:
+            case DOUBLE:
+                return 8;
+            case DECIMAL:
+                return 36;
+            case NULL:
+                return 0;
+            case DATE:
+                return 24;
+            case TIME:
+                return 12;
+            case TIMESTAMP:
+            case TIMESTAMP_TZ:
+                return 48;
+            default:
+                return NESTED;
+        }
+    }
+}
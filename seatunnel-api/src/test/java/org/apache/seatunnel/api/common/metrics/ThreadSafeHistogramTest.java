@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.api.common.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+public class ThreadSafeHistogramTest {
+
+    @Test
+    public void testBucketBounds() {
+        for (long value = 0; value < 100_000; value++) {
+            long highest =
+                    ThreadSafeHistogram.highestValueOfBucket(
+                            ThreadSafeHistogram.bucketIndex(value));
+            Assertions.assertTrue(highest >= value);
+            Assertions.assertTrue(highest - value <= value / 32, "value " + value);
+        }
+        Assertions.assertEquals(
+                Long.MAX_VALUE,
+                ThreadSafeHistogram.highestValueOfBucket(
+                        ThreadSafeHistogram.bucketIndex(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testQuantiles() {
+        Histogram histogram = new ThreadSafeHistogram("latency", Unit.NS);
+        Assertions.assertEquals(0, histogram.getQuantile(0.99));
+        for (long value = 1; value <= 1000; value++) {
+            histogram.update(value);
+        }
+        histogram.update(-1);
+        histogram.update(50, 0);
+
+        Assertions.assertEquals(1001, histogram.getCount());
+        Assertions.assertEquals(500500, histogram.getSum());
+        Assertions.assertEquals(500, histogram.getQuantile(0.5), 500 / 32);
+        Assertions.assertEquals(990, histogram.getQuantile(0.99), 990 / 32);
+        Assertions.assertEquals(1000, histogram.getQuantile(1), 1000 / 32);
+        Assertions.assertEquals(0, histogram.getQuantile(0));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        Histogram histogram = new ThreadSafeHistogram("latency", Unit.MS);
+        histogram.update(10, 5);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(histogram);
+        }
+        Histogram restored;
+        try (ObjectInputStream in =
+                new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (Histogram) in.readObject();
+        }
+
+        Assertions.assertEquals(5, restored.getCount());
+        Assertions.assertEquals(50, restored.getSum());
+        Assertions.assertEquals(0, restored.getQuantile(0.5));
+        restored.update(20);
+        Assertions.assertEquals(20, restored.getQuantile(0.5));
+    }
+}
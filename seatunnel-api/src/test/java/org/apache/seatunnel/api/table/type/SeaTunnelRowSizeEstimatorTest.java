@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.type;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+public class SeaTunnelRowSizeEstimatorTest {
+
+    private static final SeaTunnelRowType FLAT_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "amount", "day", "created", "data", "vector"},
+                    new SeaTunnelDataType[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        new DecimalType(18, 2),
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        PrimitiveByteArrayType.INSTANCE,
+                        VectorType.VECTOR_FLOAT_TYPE
+                    });
+
+    private static final SeaTunnelRowType NESTED_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "tags", "attributes"},
+                    new SeaTunnelDataType[] {
+                        BasicType.INT_TYPE,
+                        ArrayType.STRING_ARRAY_TYPE,
+                        new MapType<>(BasicType.STRING_TYPE, BasicType.STRING_TYPE)
+                    });
+
+    @Test
+    void testFlatRowIsExact() {
+        SeaTunnelRowSizeEstimator estimator = new SeaTunnelRowSizeEstimator(FLAT_TYPE);
+        for (int i = 0; i < 100; i++) {
+            SeaTunnelRow row =
+                    new SeaTunnelRow(
+                            new Object[] {
+                                (long) i,
+                                i % 3 == 0 ? null : "name-" + i,
+                                BigDecimal.valueOf(i, 2),
+                                LocalDate.of(2024, 1, 1),
+                                i % 5 == 0 ? null : LocalDateTime.of(2024, 1, 1, 0, 0),
+                                new byte[i],
+                                ByteBuffer.allocate(16)
+                            });
+            int expected = row.copy().getBytesSize(FLAT_TYPE);
+            Assertions.assertEquals(expected, estimator.estimate(row));
+            Assertions.assertEquals(expected, row.getBytesSize());
+        }
+    }
+
+    @Test
+    void testNestedValuesAreSampled() {
+        SeaTunnelRowSizeEstimator estimator = new SeaTunnelRowSizeEstimator(NESTED_TYPE);
+        long exact = 0;
+        long estimated = 0;
+        for (int i = 0; i < 10 * SeaTunnelRowSizeEstimator.SAMPLE_INTERVAL; i++) {
+            SeaTunnelRow row =
+                    new SeaTunnelRow(
+                            new Object[] {
+                                i,
+                                new String[] {"tag-" + (i % 10), "tag"},
+                                Collections.singletonMap("key", "value-" + (i % 10))
+                            });
+            exact += row.copy().getBytesSize(NESTED_TYPE);
+            estimated += estimator.estimate(row);
+        }
+        Assertions.assertEquals(exact, estimated, exact * 0.05);
+    }
+
+    @Test
+    void testNullNestedValueIsEmpty() {
+        SeaTunnelRowSizeEstimator estimator = new SeaTunnelRowSizeEstimator(NESTED_TYPE);
+        estimator.estimate(new SeaTunnelRow(new Object[] {1, new String[] {"abc"}, null}));
+        Assertions.assertEquals(
+                4, estimator.estimate(new SeaTunnelRow(new Object[] {1, null, null})));
+    }
+}
@@ -37,6 +37,7 @@ import lombok.Getter;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -61,16 +62,23 @@ public abstract class BaseFileSourceConfig implements Serializable {
         this.baseFileSourceConfig = readonlyConfig;
         this.fileFormat = readonlyConfig.get(BaseSourceConfigOptions.FILE_FORMAT_TYPE);
         this.readStrategy = ReadStrategyFactory.of(readonlyConfig, getHadoopConfig());
-        this.filePaths = parseFilePaths(readonlyConfig);
-
-        this.catalogTable = parseCatalogTable(readonlyConfig);
+        if (readStrategy.isStreamingFileDiscovery()) {
+            // the split enumerator discovers the files while they are read, only the first file is
+            // listed here for the schema
+            this.filePaths = Collections.emptyList();
+            this.catalogTable =
+                    parseCatalogTable(readonlyConfig, parseFilePaths(readonlyConfig, 1));
+        } else {
+            this.filePaths = parseFilePaths(readonlyConfig, Integer.MAX_VALUE);
+            this.catalogTable = parseCatalogTable(readonlyConfig, filePaths);
+        }
     }
 
-    private List<String> parseFilePaths(ReadonlyConfig readonlyConfig) {
+    private List<String> parseFilePaths(ReadonlyConfig readonlyConfig, int limit) {
         String rootPath = null;
         try {
             rootPath = readonlyConfig.get(BaseSourceConfigOptions.FILE_PATH);
-            return readStrategy.getFileNamesByPath(rootPath);
+            return readStrategy.getFileNamesByPath(rootPath, limit);
         } catch (Exception ex) {
             String errorMsg = String.format("Get file list from this path [%s] failed", rootPath);
             throw new FileConnectorException(
@@ -78,7 +86,7 @@ public abstract class BaseFileSourceConfig implements Serializable {
         }
     }
 
-    private CatalogTable parseCatalogTable(ReadonlyConfig readonlyConfig) {
+    private CatalogTable parseCatalogTable(ReadonlyConfig readonlyConfig, List<String> filePaths) {
         final CatalogTable catalogTable;
         boolean configSchema = readonlyConfig.getOptional(TableSchemaOptions.SCHEMA).isPresent();
         if (configSchema) {
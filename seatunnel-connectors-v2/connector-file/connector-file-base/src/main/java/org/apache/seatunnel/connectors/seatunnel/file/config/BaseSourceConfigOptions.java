@@ -134,6 +134,71 @@ public class BaseSourceConfigOptions {
                     .noDefaultValue()
                     .withDescription("The columns list that the user want to read");
 
+    public static final Option<List<String>> PARQUET_FILTERS =
+            Options.key("parquet_filters")
+                    .listType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The filters like 'id > 10' which the rows must match, only valid for parquet files. "
+                                    + "Row groups which can not contain matching rows are skipped without being read.");
+
+    public static final Option<Boolean> ENABLE_FILE_SPLIT =
+            Options.key("enable_file_split")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to split large files, so that several readers read one file in parallel. "
+                                    + "Parquet and orc files are split by their row groups or stripes, "
+                                    + "uncompressed text, csv and json files are split on line boundaries.");
+
+    public static final Option<Long> FILE_SPLIT_SIZE =
+            Options.key("file_split_size")
+                    .longType()
+                    .defaultValue(128 * 1024 * 1024L)
+                    .withDescription(
+                            "The number of bytes a split covers when enable_file_split is true, "
+                                    + "a row group, stripe or line is never split.");
+
+    public static final Option<Boolean> DYNAMIC_SPLIT_ASSIGNMENT =
+            Options.key("dynamic_split_assignment")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the readers request the next split when they are idle, the largest split is assigned first. "
+                                    + "By default the splits are assigned to the readers up front.");
+
+    public static final Option<Integer> FILE_DISCOVERY_PARALLELISM =
+            Options.key("file_discovery_parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads which list the sub directories of the path in parallel "
+                                    + "while discovering the files to read.");
+
+    public static final Option<Boolean> FILE_DISCOVERY_FLAT_LISTING =
+            Options.key("file_discovery_flat_listing")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether all files under the path are listed with one recursive listing instead of walking the directories. "
+                                    + "Object stores like S3, OSS and COS serve it as a flat listing of the keys under the prefix.");
+
+    public static final Option<Boolean> STREAMING_FILE_DISCOVERY =
+            Options.key("streaming_file_discovery")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the split enumerator discovers the files while the readers already read the discovered ones, "
+                                    + "instead of listing all files before the job starts. It implies dynamic_split_assignment.");
+
+    public static final Option<Boolean> CACHE_FILE_LISTING =
+            Options.key("cache_file_listing")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Only used when streaming_file_discovery is true. Whether the finished file listing is saved in the checkpoint, "
+                                    + "so a restored job reads the same files without listing the path again.");
+
     public static final Option<String> SHEET_NAME =
             Options.key("sheet_name")
                     .stringType()
@@ -43,6 +43,7 @@ import java.io.Serializable;
 import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 @Slf4j
 public class HadoopFileSystemProxy implements Serializable, Closeable {
@@ -179,6 +180,25 @@ public class HadoopFileSystemProxy implements Serializable, Closeable {
                 });
     }
 
+    /**
+     * Lists the files under the path recursively and passes them to the visitor until it returns
+     * false. Object stores serve it as a flat listing of the keys under the prefix.
+     */
+    public void listFilesRecursively(
+            @NonNull String filePath, Predicate<LocatedFileStatus> fileVisitor) throws IOException {
+        execute(
+                () -> {
+                    RemoteIterator<LocatedFileStatus> locatedFileStatusRemoteIterator =
+                            getFileSystem().listFiles(new Path(filePath), true);
+                    while (locatedFileStatusRemoteIterator.hasNext()) {
+                        if (!fileVisitor.test(locatedFileStatusRemoteIterator.next())) {
+                            break;
+                        }
+                    }
+                    return Void.class;
+                });
+    }
+
     public FileStatus[] listStatus(String filePath) throws IOException {
         return execute(() -> getFileSystem().listStatus(new Path(filePath)));
     }
@@ -34,10 +34,14 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 
 @Slf4j
 public class BaseFileSourceReader implements SourceReader<SeaTunnelRow, FileSourceSplit> {
+    private static final long SPLIT_REQUEST_WAIT_MS = 100L;
+
     private final ReadStrategy readStrategy;
     private final SourceReader.Context context;
     private final Deque<FileSourceSplit> sourceSplits = new ConcurrentLinkedDeque<>();
     private volatile boolean noMoreSplit;
+    /** Whether a split was requested and neither a split nor the end of splits arrived yet. */
+    private volatile boolean splitRequested;
 
     public BaseFileSourceReader(ReadStrategy readStrategy, SourceReader.Context context) {
         this.readStrategy = readStrategy;
@@ -54,13 +58,17 @@ public class BaseFileSourceReader implements SourceReader<SeaTunnelRow, FileSour
 
     @Override
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
+        boolean requestSplit = false;
         synchronized (output.getCheckpointLock()) {
             FileSourceSplit split = sourceSplits.poll();
             if (null != split) {
                 try {
                     // todo: If there is only one table , the tableId is not needed, but it's better
                     // to set this
-                    readStrategy.read(split.splitId(), "", output);
+                    readStrategy.read(
+                            new FileSourceSplit(
+                                    "", split.getFilePath(), split.getStart(), split.getLength()),
+                            output);
                 } catch (Exception e) {
                     throw CommonError.fileOperationFailed("SeaTunnel", "read", split.splitId(), e);
                 }
@@ -68,10 +76,22 @@ public class BaseFileSourceReader implements SourceReader<SeaTunnelRow, FileSour
                 // signal to the source that we have reached the end of the data.
                 log.info("Closed the bounded File source");
                 context.signalNoMoreElement();
+            } else if (readStrategy.isDynamicSplitAssignment()) {
+                requestSplit = true;
             } else {
                 Thread.sleep(1000L);
             }
         }
+        if (requestSplit) {
+            // request the split outside the checkpoint lock, the request waits for the enumerator
+            if (!splitRequested) {
+                splitRequested = true;
+                context.sendSplitRequest();
+            }
+            if (sourceSplits.isEmpty() && !noMoreSplit) {
+                Thread.sleep(SPLIT_REQUEST_WAIT_MS);
+            }
+        }
     }
 
     @Override
@@ -82,11 +102,13 @@ public class BaseFileSourceReader implements SourceReader<SeaTunnelRow, FileSour
     @Override
     public void addSplits(List<FileSourceSplit> splits) {
         sourceSplits.addAll(splits);
+        splitRequested = false;
     }
 
     @Override
     public void handleNoMoreSplits() {
         noMoreSplit = true;
+        splitRequested = false;
     }
 
     @Override
@@ -30,12 +30,15 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOpt
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.hadoop.HadoopFileSystemProxy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipParameters;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.Path;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,15 +46,24 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.math.BigDecimal;
+import java.nio.charset.Charset;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -86,6 +98,17 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
             BaseSourceConfigOptions.ARCHIVE_COMPRESS_CODEC.defaultValue();
 
     protected Pattern pattern;
+    protected boolean enableFileSplit = BaseSourceConfigOptions.ENABLE_FILE_SPLIT.defaultValue();
+    protected long fileSplitSize = BaseSourceConfigOptions.FILE_SPLIT_SIZE.defaultValue();
+    protected boolean dynamicSplitAssignment =
+            BaseSourceConfigOptions.DYNAMIC_SPLIT_ASSIGNMENT.defaultValue();
+    protected int fileDiscoveryParallelism =
+            BaseSourceConfigOptions.FILE_DISCOVERY_PARALLELISM.defaultValue();
+    protected boolean fileDiscoveryFlatListing =
+            BaseSourceConfigOptions.FILE_DISCOVERY_FLAT_LISTING.defaultValue();
+    protected boolean streamingFileDiscovery =
+            BaseSourceConfigOptions.STREAMING_FILE_DISCOVERY.defaultValue();
+    protected boolean cacheFileListing = BaseSourceConfigOptions.CACHE_FILE_LISTING.defaultValue();
 
     @Override
     public void init(HadoopConf conf) {
@@ -106,38 +129,145 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
 
     @Override
     public List<String> getFileNamesByPath(String path) throws IOException {
-        ArrayList<String> fileNames = new ArrayList<>();
-        FileStatus[] stats = hadoopFileSystemProxy.listStatus(path);
-        for (FileStatus fileStatus : stats) {
+        return getFileNamesByPath(path, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<String> getFileNamesByPath(String path, int limit) throws IOException {
+        List<String> fileNames = new ArrayList<>();
+        Predicate<String> fileVisitor =
+                fileName -> {
+                    fileNames.add(fileName);
+                    return fileNames.size() < limit;
+                };
+        boolean parallelListing = fileDiscoveryParallelism > 1 && !fileDiscoveryFlatListing;
+        if (parallelListing && limit < Integer.MAX_VALUE) {
+            // the parallel listing stops at the files listed first, which differ between the runs
+            discoverFilesInDirectory(path, fileVisitor);
+        } else {
+            discoverFiles(path, fileVisitor);
+        }
+        if (parallelListing) {
+            // the directories are listed in parallel, keep the order stable between the runs
+            Collections.sort(fileNames);
+        }
+        this.fileNames.addAll(fileNames);
+        return fileNames;
+    }
+
+    @Override
+    public void discoverFiles(String path, Predicate<String> fileVisitor) throws IOException {
+        if (fileDiscoveryFlatListing) {
+            int rootDepth = new Path(path).depth();
+            hadoopFileSystemProxy.listFilesRecursively(
+                    path,
+                    fileStatus ->
+                            isInHiddenDirectory(fileStatus.getPath(), rootDepth)
+                                    || !isFileToRead(fileStatus)
+                                    || fileVisitor.test(fileStatus.getPath().toString()));
+        } else if (fileDiscoveryParallelism > 1) {
+            discoverFilesInParallel(path, fileVisitor);
+        } else {
+            discoverFilesInDirectory(path, fileVisitor);
+        }
+    }
+
+    /** Returns false when the visitor stopped the discovery. */
+    private boolean discoverFilesInDirectory(String path, Predicate<String> fileVisitor)
+            throws IOException {
+        for (FileStatus fileStatus : hadoopFileSystemProxy.listStatus(path)) {
             if (fileStatus.isDirectory()) {
-                // skip hidden tmp directory, such as .hive-staging_hive
-                if (!fileStatus.getPath().getName().startsWith(".")) {
-                    fileNames.addAll(getFileNamesByPath(fileStatus.getPath().toString()));
+                if (!isHiddenDirectory(fileStatus.getPath())
+                        && !discoverFilesInDirectory(
+                                fileStatus.getPath().toString(), fileVisitor)) {
+                    return false;
                 }
-                continue;
+            } else if (isFileToRead(fileStatus)
+                    && !fileVisitor.test(fileStatus.getPath().toString())) {
+                return false;
             }
-            if (fileStatus.isFile() && filterFileByPattern(fileStatus) && fileStatus.getLen() > 0) {
-                // filter '_SUCCESS' file
-                if (!fileStatus.getPath().getName().equals("_SUCCESS")
-                        && !fileStatus.getPath().getName().startsWith(".")) {
-                    String filePath = fileStatus.getPath().toString();
-                    if (!readPartitions.isEmpty()) {
-                        for (String readPartition : readPartitions) {
-                            if (filePath.contains(readPartition)) {
-                                fileNames.add(filePath);
-                                this.fileNames.add(filePath);
-                                break;
-                            }
+        }
+        return true;
+    }
+
+    /**
+     * Lists the directories with a bounded pool of threads, the visitor is only called by the
+     * current thread.
+     */
+    private void discoverFilesInParallel(String path, Predicate<String> fileVisitor)
+            throws IOException {
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        fileDiscoveryParallelism,
+                        runnable -> {
+                            Thread thread = new Thread(runnable);
+                            thread.setDaemon(true);
+                            thread.setName("file-discovery-" + path);
+                            return thread;
+                        });
+        CompletionService<FileStatus[]> listings = new ExecutorCompletionService<>(executor);
+        try {
+            listings.submit(() -> hadoopFileSystemProxy.listStatus(path));
+            int pendingListings = 1;
+            while (pendingListings > 0) {
+                FileStatus[] fileStatuses = listings.take().get();
+                pendingListings--;
+                for (FileStatus fileStatus : fileStatuses) {
+                    if (fileStatus.isDirectory()) {
+                        if (!isHiddenDirectory(fileStatus.getPath())) {
+                            String directory = fileStatus.getPath().toString();
+                            listings.submit(() -> hadoopFileSystemProxy.listStatus(directory));
+                            pendingListings++;
                         }
-                    } else {
-                        fileNames.add(filePath);
-                        this.fileNames.add(filePath);
+                    } else if (isFileToRead(fileStatus)
+                            && !fileVisitor.test(fileStatus.getPath().toString())) {
+                        return;
                     }
                 }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Discover the files of " + path + " interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
         }
+    }
 
-        return fileNames;
+    /** Hidden directories are skipped, such as the tmp directory .hive-staging_hive. */
+    private static boolean isHiddenDirectory(Path directory) {
+        return directory.getName().startsWith(".");
+    }
+
+    private static boolean isInHiddenDirectory(Path filePath, int rootDepth) {
+        for (Path parent = filePath.getParent();
+                parent != null && parent.depth() > rootDepth;
+                parent = parent.getParent()) {
+            if (isHiddenDirectory(parent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isFileToRead(FileStatus fileStatus) {
+        if (!fileStatus.isFile() || !filterFileByPattern(fileStatus) || fileStatus.getLen() <= 0) {
+            return false;
+        }
+        // filter '_SUCCESS' file
+        String fileName = fileStatus.getPath().getName();
+        if (fileName.equals("_SUCCESS") || fileName.startsWith(".")) {
+            return false;
+        }
+        if (readPartitions.isEmpty()) {
+            return true;
+        }
+        String filePath = fileStatus.getPath().toString();
+        return readPartitions.stream().anyMatch(filePath::contains);
     }
 
     @Override
@@ -172,6 +302,58 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
                     pluginConfig.getString(BaseSourceConfigOptions.FILE_FILTER_PATTERN.key());
             this.pattern = Pattern.compile(Matcher.quoteReplacement(filterPattern));
         }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key())) {
+            enableFileSplit =
+                    pluginConfig.getBoolean(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key())) {
+            fileSplitSize = pluginConfig.getLong(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.DYNAMIC_SPLIT_ASSIGNMENT.key())) {
+            dynamicSplitAssignment =
+                    pluginConfig.getBoolean(BaseSourceConfigOptions.DYNAMIC_SPLIT_ASSIGNMENT.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_DISCOVERY_PARALLELISM.key())) {
+            fileDiscoveryParallelism =
+                    pluginConfig.getInt(BaseSourceConfigOptions.FILE_DISCOVERY_PARALLELISM.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_DISCOVERY_FLAT_LISTING.key())) {
+            fileDiscoveryFlatListing =
+                    pluginConfig.getBoolean(
+                            BaseSourceConfigOptions.FILE_DISCOVERY_FLAT_LISTING.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.STREAMING_FILE_DISCOVERY.key())) {
+            streamingFileDiscovery =
+                    pluginConfig.getBoolean(BaseSourceConfigOptions.STREAMING_FILE_DISCOVERY.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.CACHE_FILE_LISTING.key())) {
+            cacheFileListing =
+                    pluginConfig.getBoolean(BaseSourceConfigOptions.CACHE_FILE_LISTING.key());
+        }
+    }
+
+    @Override
+    public boolean isDynamicSplitAssignment() {
+        // the discovered splits are assigned to the readers which request them
+        return dynamicSplitAssignment || streamingFileDiscovery;
+    }
+
+    @Override
+    public boolean isStreamingFileDiscovery() {
+        return streamingFileDiscovery;
+    }
+
+    @Override
+    public boolean isCacheFileListing() {
+        return cacheFileListing;
+    }
+
+    @Override
+    public long getSplitSize(FileSourceSplit split) throws IOException {
+        if (split.isWholeFile()) {
+            return hadoopFileSystemProxy.getFileStatus(split.getFilePath()).getLen();
+        }
+        return split.getLength();
     }
 
     @Override
@@ -299,6 +481,86 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
                 "The file does not support the compressed file reading");
     }
 
+    /**
+     * Groups the consecutive blocks of a file, e.g. the row groups of a parquet file, into splits
+     * of at least {@link #fileSplitSize} bytes. Each block is given by its offset and length, and
+     * belongs to the split its offset lies in.
+     */
+    protected List<FileSourceSplit> splitByBlocks(
+            String tableId, String path, List<Pair<Long, Long>> blocks) {
+        List<FileSourceSplit> splits = new ArrayList<>();
+        long splitStart = blocks.isEmpty() ? 0 : blocks.get(0).getLeft();
+        long splitEnd = splitStart;
+        for (Pair<Long, Long> block : blocks) {
+            if (splitEnd - splitStart >= fileSplitSize) {
+                splits.add(
+                        new FileSourceSplit(
+                                tableId, path, splitStart, block.getLeft() - splitStart));
+                splitStart = block.getLeft();
+            }
+            splitEnd = block.getLeft() + block.getRight();
+        }
+        if (splits.isEmpty()) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path));
+        }
+        splits.add(new FileSourceSplit(tableId, path, splitStart, splitEnd - splitStart));
+        return splits;
+    }
+
+    /**
+     * Splits a line-oriented file into byte ranges of {@link #fileSplitSize} bytes, each range
+     * reads the lines which start in it, see {@link LineRangeInputStream}. The first range ends
+     * after the given number of header lines, so that only the first split skips them. Archived
+     * files and encodings whose new line is not a single byte are not split.
+     */
+    protected List<FileSourceSplit> splitByLines(
+            String tableId, String path, String encoding, long headerLines) throws IOException {
+        if (!enableFileSplit
+                || archiveCompressFormat != ArchiveCompressFormat.NONE
+                || !Arrays.equals("\n".getBytes(Charset.forName(encoding)), new byte[] {'\n'})) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path));
+        }
+        long fileLength = hadoopFileSystemProxy.getFileStatus(path).getLen();
+        long firstSplitLength = Math.max(fileSplitSize, getHeaderLength(path, headerLines));
+        if (fileLength <= firstSplitLength) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path));
+        }
+        List<FileSourceSplit> splits = new ArrayList<>();
+        splits.add(new FileSourceSplit(tableId, path, 0, firstSplitLength));
+        for (long start = firstSplitLength; start < fileLength; start += fileSplitSize) {
+            splits.add(
+                    new FileSourceSplit(
+                            tableId, path, start, Math.min(fileSplitSize, fileLength - start)));
+        }
+        return splits;
+    }
+
+    /** Returns the number of bytes of the first lines of the file, up to the end of the file. */
+    private long getHeaderLength(String path, long headerLines) throws IOException {
+        long length = 0;
+        long lines = 0;
+        byte[] buffer = new byte[8 * 1024];
+        try (InputStream inputStream = hadoopFileSystemProxy.getInputStream(path)) {
+            int read;
+            while (lines < headerLines && (read = inputStream.read(buffer)) > 0) {
+                for (int i = 0; i < read && lines < headerLines; i++) {
+                    length++;
+                    if (buffer[i] == '\n') {
+                        lines++;
+                    }
+                }
+            }
+        }
+        return length;
+    }
+
+    protected InputStream openLineRange(FileSourceSplit split) throws IOException {
+        return new LineRangeInputStream(
+                hadoopFileSystemProxy.getInputStream(split.getFilePath()),
+                split.getStart(),
+                split.getStart() + split.getLength());
+    }
+
     protected Map<String, String> parsePartitionsByPath(String path) {
         LinkedHashMap<String, String> partitions = new LinkedHashMap<>();
         Arrays.stream(path.split("/", -1))
@@ -34,6 +34,7 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 import org.apache.seatunnel.format.csv.CsvDeserializationSchema;
 import org.apache.seatunnel.format.csv.constant.CsvFormatConstant;
 import org.apache.seatunnel.format.csv.processor.CsvLineProcessor;
@@ -47,6 +48,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -70,6 +72,31 @@ public class CsvReadStrategy extends AbstractReadStrategy {
         resolveArchiveCompressedInputStream(path, tableId, output, partitionsMap, FileFormat.CSV);
     }
 
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        if (split.isWholeFile()) {
+            read(split.getFilePath(), split.getTableId(), output);
+            return;
+        }
+        // the first split of the file ends after the header lines, see splitByLines
+        readProcess(
+                split.getTableId(),
+                output,
+                openLineRange(split),
+                parsePartitionsByPath(split.getFilePath()),
+                split.getStart() == 0 ? skipHeaderNumber : 0);
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws FileConnectorException, IOException {
+        if (compressFormat != CompressFormat.NONE) {
+            return super.getFileSourceSplits(tableId, path);
+        }
+        return splitByLines(tableId, path, encoding, skipHeaderNumber);
+    }
+
     @Override
     public void readProcess(
             String path,
@@ -79,6 +106,16 @@ public class CsvReadStrategy extends AbstractReadStrategy {
             Map<String, String> partitionsMap,
             String currentFileName)
             throws IOException {
+        readProcess(tableId, output, inputStream, partitionsMap, skipHeaderNumber);
+    }
+
+    private void readProcess(
+            String tableId,
+            Collector<SeaTunnelRow> output,
+            InputStream inputStream,
+            Map<String, String> partitionsMap,
+            long skipLines)
+            throws IOException {
         InputStream actualInputStream;
         switch (compressFormat) {
             case LZO:
@@ -99,7 +136,7 @@ public class CsvReadStrategy extends AbstractReadStrategy {
         try (BufferedReader reader =
                 new BufferedReader(new InputStreamReader(actualInputStream, encoding))) {
             reader.lines()
-                    .skip(skipHeaderNumber)
+                    .skip(skipLines)
                     .forEach(
                             line -> {
                                 try {
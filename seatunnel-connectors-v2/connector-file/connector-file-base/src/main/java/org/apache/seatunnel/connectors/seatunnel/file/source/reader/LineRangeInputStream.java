@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the lines of a file which start in the byte range {@code [start, end)}. The partial line at
+ * the start of the range belongs to the previous range and is skipped, while the last line is read
+ * to its end even if it ends behind the range. So the ranges of a file read each line exactly once.
+ */
+public class LineRangeInputStream extends InputStream {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final FSDataInputStream in;
+    private final long end;
+    private final byte[] buffer = new byte[64 * 1024];
+    private int bufferPos;
+    private int bufferLimit;
+    /** The position of the next byte in the file. */
+    private long pos;
+    /** Whether the last returned byte is inside a line, i.e. no new line. */
+    private boolean inLine;
+
+    private boolean finished;
+
+    public LineRangeInputStream(FSDataInputStream in, long start, long end) throws IOException {
+        this.in = in;
+        this.end = end;
+        if (start > 0) {
+            // a line starts in the range if the byte before it is a new line
+            in.seek(start - 1);
+            pos = start - 1;
+            skipLine();
+        }
+    }
+
+    private void skipLine() throws IOException {
+        while (fill()) {
+            while (bufferPos < bufferLimit) {
+                pos++;
+                if (buffer[bufferPos++] == NEW_LINE) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean fill() throws IOException {
+        if (bufferPos < bufferLimit) {
+            return true;
+        }
+        int read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            finished = true;
+            return false;
+        }
+        bufferPos = 0;
+        bufferLimit = read;
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (finished || !fill()) {
+            return -1;
+        }
+        int n = 0;
+        while (n < len && bufferPos < bufferLimit) {
+            if (pos >= end && !inLine) {
+                finished = true;
+                break;
+            }
+            byte c = buffer[bufferPos++];
+            b[off + n++] = c;
+            pos++;
+            inLine = c != NEW_LINE;
+        }
+        return n == 0 ? -1 : n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
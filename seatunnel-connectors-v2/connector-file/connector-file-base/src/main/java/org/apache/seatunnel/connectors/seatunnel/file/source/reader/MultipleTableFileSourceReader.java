@@ -42,12 +42,18 @@ import static org.apache.seatunnel.connectors.seatunnel.file.exception.FileConne
 public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow, FileSourceSplit> {
 
     private final Context context;
+    private static final long SPLIT_REQUEST_WAIT_MS = 100L;
+
     private volatile boolean noMoreSplit;
+    /** Whether a split was requested and neither a split nor the end of splits arrived yet. */
+    private volatile boolean splitRequested;
 
     private final Deque<FileSourceSplit> sourceSplits = new ConcurrentLinkedDeque<>();
 
     private final Map<String, ReadStrategy> readStrategyMap;
 
+    private final boolean dynamicSplitAssignment;
+
     public MultipleTableFileSourceReader(
             Context context, BaseMultipleTableFileSourceConfig multipleTableFileSourceConfig) {
         this.context = context;
@@ -62,10 +68,13 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
                                                         .toTablePath()
                                                         .toString(),
                                         BaseFileSourceConfig::getReadStrategy));
+        this.dynamicSplitAssignment =
+                readStrategyMap.values().stream().anyMatch(ReadStrategy::isDynamicSplitAssignment);
     }
 
     @Override
-    public void pollNext(Collector<SeaTunnelRow> output) {
+    public void pollNext(Collector<SeaTunnelRow> output) throws InterruptedException {
+        boolean requestSplit = false;
         synchronized (output.getCheckpointLock()) {
             FileSourceSplit split = sourceSplits.poll();
             if (null != split) {
@@ -78,7 +87,7 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
                                     + "]");
                 }
                 try {
-                    readStrategy.read(split.getFilePath(), split.getTableId(), output);
+                    readStrategy.read(split, output);
                 } catch (Exception e) {
                     String errorMsg =
                             String.format("Read data from this file [%s] failed", split.splitId());
@@ -89,6 +98,18 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
                 log.info(
                         "There is no more element for the bounded MultipleTableLocalFileSourceReader");
                 context.signalNoMoreElement();
+            } else if (dynamicSplitAssignment) {
+                requestSplit = true;
+            }
+        }
+        if (requestSplit) {
+            // request the split outside the checkpoint lock, the request waits for the enumerator
+            if (!splitRequested) {
+                splitRequested = true;
+                context.sendSplitRequest();
+            }
+            if (sourceSplits.isEmpty() && !noMoreSplit) {
+                Thread.sleep(SPLIT_REQUEST_WAIT_MS);
             }
         }
     }
@@ -101,11 +122,13 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
     @Override
     public void addSplits(List<FileSourceSplit> splits) {
         sourceSplits.addAll(splits);
+        splitRequested = false;
     }
 
     @Override
     public void handleNoMoreSplits() {
         noMoreSplit = true;
+        splitRequested = false;
     }
 
     @Override
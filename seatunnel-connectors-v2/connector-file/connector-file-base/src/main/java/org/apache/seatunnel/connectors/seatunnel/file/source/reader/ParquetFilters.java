@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Builds the Parquet filter of the {@code parquet_filters} option. Each filter has the form {@code
+ * <column> <operator> <value>} with one of the operators {@code =, !=, <, <=, >, >=}, and all
+ * filters must match. String values may be quoted with single quotes and {@code null} compares with
+ * null. Parquet uses the filter to skip row groups by their statistics, dictionaries and column
+ * indexes, and to drop the rows which don't match.
+ */
+public class ParquetFilters {
+
+    private static final Pattern FILTER_PATTERN =
+            Pattern.compile("^\\s*(\\S+)\\s*(=|!=|<=|>=|<|>)\\s*(.*?)\\s*$");
+
+    private ParquetFilters() {}
+
+    /** Returns null when there is no filter. */
+    public static FilterPredicate build(List<String> filters, MessageType fileSchema) {
+        FilterPredicate predicate = null;
+        for (String filter : filters) {
+            FilterPredicate next = build(filter, fileSchema);
+            predicate = predicate == null ? next : FilterApi.and(predicate, next);
+        }
+        return predicate;
+    }
+
+    /**
+     * Returns the columns the filters compare, they must be read even if they are not projected.
+     */
+    public static Set<String> getColumns(List<String> filters) {
+        Set<String> columns = new LinkedHashSet<>();
+        for (String filter : filters) {
+            Matcher matcher = FILTER_PATTERN.matcher(filter);
+            if (matcher.matches()) {
+                columns.add(matcher.group(1));
+            }
+        }
+        return columns;
+    }
+
+    private static FilterPredicate build(String filter, MessageType fileSchema) {
+        Matcher matcher = FILTER_PATTERN.matcher(filter);
+        if (!matcher.matches()) {
+            throw illegalFilter(filter, "expected '<column> <operator> <value>'");
+        }
+        String column = matcher.group(1);
+        String operator = matcher.group(2);
+        String value = matcher.group(3);
+        if (!fileSchema.containsField(column) || !fileSchema.getType(column).isPrimitive()) {
+            throw illegalFilter(filter, "the file has no primitive column " + column);
+        }
+        PrimitiveType type = fileSchema.getType(column).asPrimitiveType();
+        if (type.isRepetition(Type.Repetition.REPEATED)) {
+            throw illegalFilter(filter, "repeated columns can not be filtered");
+        }
+        boolean isNull = "null".equalsIgnoreCase(value);
+        if (isNull && !("=".equals(operator) || "!=".equals(operator))) {
+            throw illegalFilter(filter, "null can only be compared with = or !=");
+        }
+        try {
+            switch (type.getPrimitiveTypeName()) {
+                case INT32:
+                    Integer intValue = null;
+                    if (!isNull) {
+                        intValue =
+                                type.getLogicalTypeAnnotation()
+                                                instanceof
+                                                LogicalTypeAnnotation.DateLogicalTypeAnnotation
+                                        ? (int) LocalDate.parse(unquote(value)).toEpochDay()
+                                        : Integer.valueOf(value);
+                    }
+                    return compare(FilterApi.intColumn(column), operator, intValue);
+                case INT64:
+                    return compare(
+                            FilterApi.longColumn(column),
+                            operator,
+                            isNull ? null : Long.valueOf(value));
+                case FLOAT:
+                    return compare(
+                            FilterApi.floatColumn(column),
+                            operator,
+                            isNull ? null : Float.valueOf(value));
+                case DOUBLE:
+                    return compare(
+                            FilterApi.doubleColumn(column),
+                            operator,
+                            isNull ? null : Double.valueOf(value));
+                case BOOLEAN:
+                    if (!("=".equals(operator) || "!=".equals(operator))) {
+                        throw illegalFilter(filter, "booleans can only be compared with = or !=");
+                    }
+                    Operators.BooleanColumn booleanColumn = FilterApi.booleanColumn(column);
+                    Boolean booleanValue = isNull ? null : Boolean.valueOf(value);
+                    return "=".equals(operator)
+                            ? FilterApi.eq(booleanColumn, booleanValue)
+                            : FilterApi.notEq(booleanColumn, booleanValue);
+                case BINARY:
+                    if (type.getLogicalTypeAnnotation()
+                            instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation) {
+                        return compare(
+                                FilterApi.binaryColumn(column),
+                                operator,
+                                isNull ? null : Binary.fromString(unquote(value)));
+                    }
+                    throw illegalFilter(filter, "only string binary columns can be filtered");
+                default:
+                    throw illegalFilter(
+                            filter,
+                            "columns of type "
+                                    + type.getPrimitiveTypeName()
+                                    + " can not be filtered");
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw illegalFilter(filter, "the value does not match the column type " + type);
+        }
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt>
+            FilterPredicate compare(C column, String operator, T value) {
+        switch (operator) {
+            case "=":
+                return FilterApi.eq(column, value);
+            case "!=":
+                return FilterApi.notEq(column, value);
+            case "<":
+                return FilterApi.lt(column, value);
+            case "<=":
+                return FilterApi.ltEq(column, value);
+            case ">":
+                return FilterApi.gt(column, value);
+            default:
+                return FilterApi.gtEq(column, value);
+        }
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("'") && value.endsWith("'")) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    private static FileConnectorException illegalFilter(String filter, String reason) {
+        return new FileConnectorException(
+                CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                String.format("Illegal parquet filter [%s], %s", filter, reason));
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.ArrayType;
@@ -31,24 +33,21 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
-import org.apache.avro.Conversions;
-import org.apache.avro.data.TimeConversions;
-import org.apache.avro.generic.GenericData;
-import org.apache.avro.generic.GenericRecord;
-import org.apache.avro.util.Utf8;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.Path;
-import org.apache.parquet.avro.AvroParquetReader;
-import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.filter2.compat.FilterCompat;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
-import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
 import org.apache.parquet.schema.MessageType;
@@ -58,33 +57,38 @@ import org.apache.parquet.schema.Type;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.sql.Timestamp;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 @Slf4j
 public class ParquetReadStrategy extends AbstractReadStrategy {
     private static final byte[] PARQUET_MAGIC =
             new byte[] {(byte) 'P', (byte) 'A', (byte) 'R', (byte) '1'};
-    private static final long NANOS_PER_MILLISECOND = 1000000;
-    private static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1L);
-    private static final long JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH = 2440588;
     private static final String PARQUET = "Parquet";
 
-    private int[] indexes;
+    private List<String> parquetFilters = new ArrayList<>();
+
+    @Override
+    public void setPluginConfig(Config pluginConfig) {
+        super.setPluginConfig(pluginConfig);
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.PARQUET_FILTERS.key())) {
+            parquetFilters =
+                    pluginConfig.getStringList(BaseSourceConfigOptions.PARQUET_FILTERS.key());
+        }
+    }
 
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(tableId, path), output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -93,147 +97,60 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
             throw new FileConnectorException(FileConnectorErrorCode.FILE_TYPE_INVALID, errorMsg);
         }
         Path filePath = new Path(path);
-        Map<String, String> partitionsMap = parsePartitionsByPath(path);
-        HadoopInputFile hadoopInputFile =
+        Object[] partitions =
+                isMergePartition ? parsePartitionsByPath(path).values().toArray() : new Object[0];
+        ParquetReader.Builder<SeaTunnelRow> builder =
                 hadoopFileSystemProxy.doWithHadoopAuth(
                         (configuration, userGroupInformation) ->
-                                HadoopInputFile.fromPath(filePath, configuration));
-        int fieldsCount = seaTunnelRowType.getTotalFields();
-        GenericData dataModel = new GenericData();
-        dataModel.addLogicalTypeConversion(new Conversions.DecimalConversion());
-        dataModel.addLogicalTypeConversion(new TimeConversions.DateConversion());
-        dataModel.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
-        GenericRecord record;
-        try (ParquetReader<GenericData.Record> reader =
-                AvroParquetReader.<GenericData.Record>builder(hadoopInputFile)
-                        .withDataModel(dataModel)
-                        .build()) {
-            while ((record = reader.read()) != null) {
-                Object[] fields;
-                if (isMergePartition) {
-                    int index = fieldsCount;
-                    fields = new Object[fieldsCount + partitionsMap.size()];
-                    for (String value : partitionsMap.values()) {
-                        fields[index++] = value;
-                    }
-                } else {
-                    fields = new Object[fieldsCount];
-                }
-                for (int i = 0; i < fieldsCount; i++) {
-                    Object data = record.get(indexes[i]);
-                    fields[i] = resolveObject(data, seaTunnelRowType.getFieldType(i));
-                }
-                SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
-                seaTunnelRow.setTableId(tableId);
-                output.collect(seaTunnelRow);
+                                ParquetReader.builder(
+                                                new ParquetRowReadSupport(
+                                                        seaTunnelRowType,
+                                                        partitions,
+                                                        ParquetFilters.getColumns(parquetFilters)),
+                                                filePath)
+                                        .withConf(configuration));
+        if (!split.isWholeFile()) {
+            // only the row groups whose midpoint lies in the range are read
+            builder.withFileRange(split.getStart(), split.getStart() + split.getLength());
+        }
+        if (!parquetFilters.isEmpty()) {
+            MessageType fileSchema;
+            try (ParquetFileReader reader =
+                    hadoopFileSystemProxy.doWithHadoopAuth(
+                            (configuration, userGroupInformation) ->
+                                    ParquetFileReader.open(
+                                            HadoopInputFile.fromPath(filePath, configuration)))) {
+                fileSchema = reader.getFooter().getFileMetaData().getSchema();
+            }
+            // row groups whose statistics, dictionaries or column indexes can't match are skipped
+            builder.withFilter(FilterCompat.get(ParquetFilters.build(parquetFilters, fileSchema)));
+        }
+        SeaTunnelRow row;
+        try (ParquetReader<SeaTunnelRow> reader = builder.build()) {
+            while ((row = reader.read()) != null) {
+                row.setTableId(split.getTableId());
+                output.collect(row);
             }
         }
     }
 
-    private Object resolveObject(Object field, SeaTunnelDataType<?> fieldType) {
-        if (field == null) {
-            return null;
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws FileConnectorException, IOException {
+        if (!enableFileSplit) {
+            return super.getFileSourceSplits(tableId, path);
         }
-        switch (fieldType.getSqlType()) {
-            case ARRAY:
-                ArrayList<Object> origArray = new ArrayList<>();
-                ((GenericData.Array<?>) field)
-                        .iterator()
-                        .forEachRemaining(
-                                ele -> {
-                                    if (ele instanceof Utf8) {
-                                        origArray.add(ele.toString());
-                                    } else {
-                                        origArray.add(ele);
-                                    }
-                                });
-                SeaTunnelDataType<?> elementType = ((ArrayType<?, ?>) fieldType).getElementType();
-                switch (elementType.getSqlType()) {
-                    case STRING:
-                        return origArray.toArray(TYPE_ARRAY_STRING);
-                    case BOOLEAN:
-                        return origArray.toArray(TYPE_ARRAY_BOOLEAN);
-                    case TINYINT:
-                        return origArray.toArray(TYPE_ARRAY_BYTE);
-                    case SMALLINT:
-                        return origArray.toArray(TYPE_ARRAY_SHORT);
-                    case INT:
-                        return origArray.toArray(TYPE_ARRAY_INTEGER);
-                    case BIGINT:
-                        return origArray.toArray(TYPE_ARRAY_LONG);
-                    case FLOAT:
-                        return origArray.toArray(TYPE_ARRAY_FLOAT);
-                    case DOUBLE:
-                        return origArray.toArray(TYPE_ARRAY_DOUBLE);
-                    default:
-                        String errorMsg =
-                                String.format(
-                                        "SeaTunnel array type not support this type [%s] now",
-                                        fieldType.getSqlType());
-                        throw new FileConnectorException(
-                                CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE, errorMsg);
-                }
-            case MAP:
-                HashMap<Object, Object> dataMap = new HashMap<>();
-                SeaTunnelDataType<?> keyType = ((MapType<?, ?>) fieldType).getKeyType();
-                SeaTunnelDataType<?> valueType = ((MapType<?, ?>) fieldType).getValueType();
-                HashMap<Object, Object> origDataMap = (HashMap<Object, Object>) field;
-                origDataMap.forEach(
-                        (key, value) ->
-                                dataMap.put(
-                                        resolveObject(key, keyType),
-                                        resolveObject(value, valueType)));
-                return dataMap;
-            case BOOLEAN:
-            case INT:
-            case BIGINT:
-            case FLOAT:
-            case DOUBLE:
-            case DECIMAL:
-            case DATE:
-                return field;
-            case STRING:
-                return field.toString();
-            case TINYINT:
-                return Byte.parseByte(field.toString());
-            case SMALLINT:
-                return Short.parseShort(field.toString());
-            case NULL:
-                return null;
-            case BYTES:
-                ByteBuffer buffer = (ByteBuffer) field;
-                byte[] bytes = new byte[buffer.remaining()];
-                buffer.get(bytes, 0, bytes.length);
-                return bytes;
-            case TIMESTAMP:
-                if (field instanceof GenericData.Fixed) {
-                    Binary binary =
-                            Binary.fromConstantByteArray(((GenericData.Fixed) field).bytes());
-                    NanoTime nanoTime = NanoTime.fromBinary(binary);
-                    int julianDay = nanoTime.getJulianDay();
-                    long nanosOfDay = nanoTime.getTimeOfDayNanos();
-                    long timestamp =
-                            (julianDay - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
-                                    + nanosOfDay / NANOS_PER_MILLISECOND;
-                    return new Timestamp(timestamp).toLocalDateTime();
-                }
-                Instant instant = Instant.ofEpochMilli((long) field);
-                return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
-            case ROW:
-                SeaTunnelRowType rowType = (SeaTunnelRowType) fieldType;
-                Object[] objects = new Object[rowType.getTotalFields()];
-                for (int i = 0; i < rowType.getTotalFields(); i++) {
-                    SeaTunnelDataType<?> dataType = rowType.getFieldType(i);
-                    objects[i] = resolveObject(((GenericRecord) field).get(i), dataType);
-                }
-                return new SeaTunnelRow(objects);
-            default:
-                // do nothing
-                // never got in there
-                throw new FileConnectorException(
-                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
-                        "SeaTunnel not support this data type now");
+        List<Pair<Long, Long>> rowGroups = new ArrayList<>();
+        try (ParquetFileReader reader =
+                hadoopFileSystemProxy.doWithHadoopAuth(
+                        (configuration, userGroupInformation) ->
+                                ParquetFileReader.open(
+                                        HadoopInputFile.fromPath(new Path(path), configuration)))) {
+            for (BlockMetaData block : reader.getFooter().getBlocks()) {
+                rowGroups.add(Pair.of(block.getStartingPos(), block.getCompressedSize()));
+            }
         }
+        return splitByBlocks(tableId, path, rowGroups);
     }
 
     @Override
@@ -268,15 +185,12 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
         String[] fields = new String[readColumns.size()];
         SeaTunnelDataType<?>[] types = new SeaTunnelDataType[readColumns.size()];
-        indexes = new int[readColumns.size()];
         buildColumnsWithErrorCheck(
                 tablePath,
                 IntStream.range(0, readColumns.size()).iterator(),
                 i -> {
                     fields[i] = readColumns.get(i);
                     Type type = originalSchema.getType(fields[i]);
-                    int fieldIndex = originalSchema.getFieldIndex(fields[i]);
-                    indexes[i] = fieldIndex;
                     types[i] = parquetType2SeaTunnelType(type, fields[i]);
                 });
         seaTunnelRowType = new SeaTunnelRowType(fields, types);
@@ -0,0 +1,456 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Converts the column values of a Parquet group directly into the fields of a {@link SeaTunnelRow},
+ * without materializing an intermediate record. Nested groups, maps and lists get converters of
+ * their own which hand their value to the parent when they end.
+ */
+public class ParquetRowConverter extends GroupConverter {
+    private static final long NANOS_PER_MILLISECOND = 1000000;
+    private static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1L);
+    private static final long JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH = 2440588;
+
+    private final Converter[] converters;
+    private final int arity;
+    private final Object[] constantFields;
+    private final Consumer<SeaTunnelRow> parent;
+    private Object[] fields;
+    private SeaTunnelRow currentRow;
+
+    /**
+     * @param groupType the Parquet group to read, may be a projection of the group in the file
+     * @param rowType the row type of all fields of the group as they are placed in the row
+     * @param fieldIndexes the position in the row of each field of the group, -1 for the fields
+     *     which are only read for the filter and are skipped
+     * @param constantFields the values placed behind the fields, e.g. the partitions of the file
+     */
+    public ParquetRowConverter(
+            GroupType groupType,
+            SeaTunnelRowType rowType,
+            int[] fieldIndexes,
+            Object[] constantFields) {
+        this(groupType, rowType, fieldIndexes, constantFields, null);
+    }
+
+    private ParquetRowConverter(
+            GroupType groupType,
+            SeaTunnelRowType rowType,
+            int[] fieldIndexes,
+            Object[] constantFields,
+            Consumer<SeaTunnelRow> parent) {
+        this.arity = rowType.getTotalFields();
+        this.constantFields = constantFields;
+        this.parent = parent;
+        this.converters = new Converter[groupType.getFieldCount()];
+        for (int i = 0; i < converters.length; i++) {
+            int fieldIndex = fieldIndexes[i];
+            if (fieldIndex < 0) {
+                converters[i] = new SkipConverter();
+                continue;
+            }
+            converters[i] =
+                    createConverter(
+                            groupType.getType(i),
+                            rowType.getFieldType(fieldIndex),
+                            value -> fields[fieldIndex] = value);
+        }
+    }
+
+    public SeaTunnelRow getCurrentRow() {
+        return currentRow;
+    }
+
+    @Override
+    public Converter getConverter(int fieldIndex) {
+        return converters[fieldIndex];
+    }
+
+    @Override
+    public void start() {
+        fields = new Object[arity + constantFields.length];
+        System.arraycopy(constantFields, 0, fields, arity, constantFields.length);
+    }
+
+    @Override
+    public void end() {
+        currentRow = new SeaTunnelRow(fields);
+        if (parent != null) {
+            parent.accept(currentRow);
+        }
+    }
+
+    private static Converter createConverter(
+            Type type, SeaTunnelDataType<?> dataType, Consumer<Object> parent) {
+        switch (dataType.getSqlType()) {
+            case ROW:
+                SeaTunnelRowType rowType = (SeaTunnelRowType) dataType;
+                int[] fieldIndexes = new int[rowType.getTotalFields()];
+                for (int i = 0; i < fieldIndexes.length; i++) {
+                    fieldIndexes[i] = i;
+                }
+                return new ParquetRowConverter(
+                        type.asGroupType(), rowType, fieldIndexes, new Object[0], parent::accept);
+            case MAP:
+                return new MapConverter(type.asGroupType(), (MapType<?, ?>) dataType, parent);
+            case ARRAY:
+                return new ListConverter(type.asGroupType(), (ArrayType<?, ?>) dataType, parent);
+            case BOOLEAN:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addBoolean(boolean value) {
+                        parent.accept(value);
+                    }
+                };
+            case TINYINT:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addInt(int value) {
+                        parent.accept((byte) value);
+                    }
+                };
+            case SMALLINT:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addInt(int value) {
+                        parent.accept((short) value);
+                    }
+                };
+            case INT:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addInt(int value) {
+                        parent.accept(value);
+                    }
+                };
+            case DATE:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addInt(int value) {
+                        parent.accept(LocalDate.ofEpochDay(value));
+                    }
+                };
+            case BIGINT:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addLong(long value) {
+                        parent.accept(value);
+                    }
+                };
+            case FLOAT:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addFloat(float value) {
+                        parent.accept(value);
+                    }
+                };
+            case DOUBLE:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addDouble(double value) {
+                        parent.accept(value);
+                    }
+                };
+            case TIMESTAMP:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addLong(long value) {
+                        parent.accept(
+                                LocalDateTime.ofInstant(
+                                        Instant.ofEpochMilli(value), ZoneId.systemDefault()));
+                    }
+
+                    @Override
+                    public void addBinary(Binary value) {
+                        NanoTime nanoTime = NanoTime.fromBinary(value);
+                        long timestamp =
+                                (nanoTime.getJulianDay() - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH)
+                                                * MILLIS_PER_DAY
+                                        + nanoTime.getTimeOfDayNanos() / NANOS_PER_MILLISECOND;
+                        parent.accept(new Timestamp(timestamp).toLocalDateTime());
+                    }
+                };
+            case DECIMAL:
+                int scale = ((DecimalType) dataType).getScale();
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addBinary(Binary value) {
+                        parent.accept(new BigDecimal(new BigInteger(value.getBytes()), scale));
+                    }
+                };
+            case BYTES:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addBinary(Binary value) {
+                        parent.accept(value.getBytes());
+                    }
+                };
+            case STRING:
+                return new StringConverter(type.asPrimitiveType(), parent);
+            case NULL:
+                return new PrimitiveConverter() {};
+            default:
+                throw new FileConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "SeaTunnel not support this data type now");
+        }
+    }
+
+    /** Decodes each dictionary entry once instead of once per value. */
+    /** Skips the values of a primitive column which is only read for the filter. */
+    private static class SkipConverter extends PrimitiveConverter {
+        @Override
+        public void addBinary(Binary value) {}
+
+        @Override
+        public void addBoolean(boolean value) {}
+
+        @Override
+        public void addDouble(double value) {}
+
+        @Override
+        public void addFloat(float value) {}
+
+        @Override
+        public void addInt(int value) {}
+
+        @Override
+        public void addLong(long value) {}
+    }
+
+    private static class StringConverter extends PrimitiveConverter {
+        private final Consumer<Object> parent;
+        private final int decimalScale;
+        private String[] dictionary;
+
+        private StringConverter(PrimitiveType type, Consumer<Object> parent) {
+            this.parent = parent;
+            LogicalTypeAnnotation annotation = type.getLogicalTypeAnnotation();
+            this.decimalScale =
+                    annotation instanceof LogicalTypeAnnotation.DecimalLogicalTypeAnnotation
+                            ? ((LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) annotation)
+                                    .getScale()
+                            : -1;
+        }
+
+        @Override
+        public boolean hasDictionarySupport() {
+            return true;
+        }
+
+        @Override
+        public void setDictionary(Dictionary dictionary) {
+            this.dictionary = new String[dictionary.getMaxId() + 1];
+            for (int i = 0; i <= dictionary.getMaxId(); i++) {
+                this.dictionary[i] = decode(dictionary.decodeToBinary(i));
+            }
+        }
+
+        @Override
+        public void addValueFromDictionary(int dictionaryId) {
+            parent.accept(dictionary[dictionaryId]);
+        }
+
+        @Override
+        public void addBinary(Binary value) {
+            parent.accept(decode(value));
+        }
+
+        private String decode(Binary value) {
+            if (decimalScale >= 0) {
+                return new BigDecimal(new BigInteger(value.getBytes()), decimalScale).toString();
+            }
+            return value.toStringUsingUTF8();
+        }
+    }
+
+    /** Reads the repeated key_value group of a MAP annotated group into a {@link HashMap}. */
+    private static class MapConverter extends GroupConverter {
+        private final Consumer<Object> parent;
+        private final GroupConverter keyValueConverter;
+        private Map<Object, Object> map;
+        private Object key;
+        private Object value;
+
+        private MapConverter(GroupType type, MapType<?, ?> mapType, Consumer<Object> parent) {
+            this.parent = parent;
+            GroupType keyValueType = type.getType(0).asGroupType();
+            Converter keyConverter =
+                    createConverter(keyValueType.getType(0), mapType.getKeyType(), k -> key = k);
+            Converter valueConverter =
+                    createConverter(
+                            keyValueType.getType(1), mapType.getValueType(), v -> value = v);
+            this.keyValueConverter =
+                    new GroupConverter() {
+                        @Override
+                        public Converter getConverter(int fieldIndex) {
+                            return fieldIndex == 0 ? keyConverter : valueConverter;
+                        }
+
+                        @Override
+                        public void start() {
+                            key = null;
+                            value = null;
+                        }
+
+                        @Override
+                        public void end() {
+                            map.put(key, value);
+                        }
+                    };
+        }
+
+        @Override
+        public Converter getConverter(int fieldIndex) {
+            return keyValueConverter;
+        }
+
+        @Override
+        public void start() {
+            map = new HashMap<>();
+        }
+
+        @Override
+        public void end() {
+            parent.accept(map);
+        }
+    }
+
+    /**
+     * Reads a LIST annotated group into a typed array. Supports the standard three-level list and
+     * the legacy two-level list whose repeated field is the element itself.
+     */
+    private static class ListConverter extends GroupConverter {
+        private final Consumer<Object> parent;
+        private final Object[] arrayType;
+        private final Converter repeatedConverter;
+        private final List<Object> elements = new ArrayList<>();
+        private Object element;
+
+        private ListConverter(GroupType type, ArrayType<?, ?> arrayType, Consumer<Object> parent) {
+            this.parent = parent;
+            this.arrayType = emptyArray(arrayType);
+            Type repeatedType = type.getType(0);
+            SeaTunnelDataType<?> elementType = arrayType.getElementType();
+            if (repeatedType.isPrimitive()) {
+                this.repeatedConverter = createConverter(repeatedType, elementType, elements::add);
+            } else {
+                Converter elementConverter =
+                        createConverter(
+                                repeatedType.asGroupType().getType(0),
+                                elementType,
+                                value -> element = value);
+                this.repeatedConverter =
+                        new GroupConverter() {
+                            @Override
+                            public Converter getConverter(int fieldIndex) {
+                                return elementConverter;
+                            }
+
+                            @Override
+                            public void start() {
+                                element = null;
+                            }
+
+                            @Override
+                            public void end() {
+                                elements.add(element);
+                            }
+                        };
+            }
+        }
+
+        @Override
+        public Converter getConverter(int fieldIndex) {
+            return repeatedConverter;
+        }
+
+        @Override
+        public void start() {
+            elements.clear();
+        }
+
+        @Override
+        public void end() {
+            parent.accept(elements.toArray(arrayType));
+        }
+
+        private static Object[] emptyArray(ArrayType<?, ?> arrayType) {
+            switch (arrayType.getElementType().getSqlType()) {
+                case STRING:
+                    return AbstractReadStrategy.TYPE_ARRAY_STRING;
+                case BOOLEAN:
+                    return AbstractReadStrategy.TYPE_ARRAY_BOOLEAN;
+                case TINYINT:
+                    return AbstractReadStrategy.TYPE_ARRAY_BYTE;
+                case SMALLINT:
+                    return AbstractReadStrategy.TYPE_ARRAY_SHORT;
+                case INT:
+                    return AbstractReadStrategy.TYPE_ARRAY_INTEGER;
+                case BIGINT:
+                    return AbstractReadStrategy.TYPE_ARRAY_LONG;
+                case FLOAT:
+                    return AbstractReadStrategy.TYPE_ARRAY_FLOAT;
+                case DOUBLE:
+                    return AbstractReadStrategy.TYPE_ARRAY_DOUBLE;
+                default:
+                    String errorMsg =
+                            String.format(
+                                    "SeaTunnel array type not support this type [%s] now",
+                                    arrayType.getElementType().getSqlType());
+                    throw new FileConnectorException(
+                            CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE, errorMsg);
+            }
+        }
+    }
+}
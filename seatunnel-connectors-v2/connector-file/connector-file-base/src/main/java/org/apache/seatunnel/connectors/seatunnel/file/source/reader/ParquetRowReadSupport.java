@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.hadoop.api.InitContext;
+import org.apache.parquet.hadoop.api.ReadSupport;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.RecordMaterializer;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads only the columns of the row type from a Parquet file and converts them directly into {@link
+ * SeaTunnelRow}s, see {@link ParquetRowConverter}. The columns of the filter are read as well, so
+ * the filter can drop rows by columns which are not part of the rows.
+ */
+public class ParquetRowReadSupport extends ReadSupport<SeaTunnelRow> {
+
+    private final SeaTunnelRowType rowType;
+    private final Object[] constantFields;
+    private final Collection<String> filterColumns;
+
+    /**
+     * @param rowType the columns to read, in the order they are placed in the rows
+     * @param constantFields the values placed behind the columns, e.g. the partitions of the file
+     * @param filterColumns the columns of the filter, they are read but not placed in the rows
+     */
+    public ParquetRowReadSupport(
+            SeaTunnelRowType rowType, Object[] constantFields, Collection<String> filterColumns) {
+        this.rowType = rowType;
+        this.constantFields = constantFields;
+        this.filterColumns = filterColumns;
+    }
+
+    @Override
+    public ReadContext init(InitContext context) {
+        MessageType fileSchema = context.getFileSchema();
+        List<Type> requestedFields = new ArrayList<>();
+        for (Type field : fileSchema.getFields()) {
+            if (rowType.indexOf(field.getName(), false) >= 0
+                    || filterColumns.contains(field.getName())) {
+                requestedFields.add(field);
+            }
+        }
+        return new ReadContext(new MessageType(fileSchema.getName(), requestedFields));
+    }
+
+    @Override
+    public RecordMaterializer<SeaTunnelRow> prepareForRead(
+            Configuration configuration,
+            Map<String, String> keyValueMetaData,
+            MessageType fileSchema,
+            ReadContext readContext) {
+        MessageType requestedSchema = readContext.getRequestedSchema();
+        int[] fieldIndexes = new int[requestedSchema.getFieldCount()];
+        for (int i = 0; i < fieldIndexes.length; i++) {
+            fieldIndexes[i] = rowType.indexOf(requestedSchema.getFieldName(i), false);
+        }
+        ParquetRowConverter rowConverter =
+                new ParquetRowConverter(requestedSchema, rowType, fieldIndexes, constantFields);
+        return new RecordMaterializer<SeaTunnelRow>() {
+            @Override
+            public SeaTunnelRow getCurrentRecord() {
+                return rowConverter.getCurrentRow();
+            }
+
+            @Override
+            public GroupConverter getRootConverter() {
+                return rowConverter;
+            }
+        };
+    }
+}
@@ -29,15 +29,18 @@ import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public interface ReadStrategy extends Serializable, Closeable {
     void init(HadoopConf conf);
@@ -45,6 +48,28 @@ public interface ReadStrategy extends Serializable, Closeable {
     void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws IOException, FileConnectorException;
 
+    /** Reads the byte range of the split, formats which can't be split read the whole file. */
+    default void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws IOException, FileConnectorException {
+        read(split.getFilePath(), split.getTableId(), output);
+    }
+
+    /** Returns the splits of the file which can be read in parallel, one split by default. */
+    default List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException, FileConnectorException {
+        return Collections.singletonList(new FileSourceSplit(tableId, path));
+    }
+
+    /** Whether the readers request their splits one by one, see {@link #getSplitSize}. */
+    default boolean isDynamicSplitAssignment() {
+        return false;
+    }
+
+    /** Returns the number of bytes of the split, the largest splits are assigned first. */
+    default long getSplitSize(FileSourceSplit split) throws IOException {
+        return split.getLength();
+    }
+
     SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException;
 
     default SeaTunnelRowType getSeaTunnelRowTypeInfo(TablePath tablePath, String path)
@@ -61,6 +86,34 @@ public interface ReadStrategy extends Serializable, Closeable {
 
     List<String> getFileNamesByPath(String path) throws IOException;
 
+    /** Returns at most {@code limit} files to read under the path. */
+    default List<String> getFileNamesByPath(String path, int limit) throws IOException {
+        List<String> fileNames = getFileNamesByPath(path);
+        return fileNames.subList(0, Math.min(limit, fileNames.size()));
+    }
+
+    /**
+     * Passes the files to read under the path to the visitor as soon as they are listed, until the
+     * visitor returns false. The files are not kept by the read strategy.
+     */
+    default void discoverFiles(String path, Predicate<String> fileVisitor) throws IOException {
+        for (String fileName : getFileNamesByPath(path)) {
+            if (!fileVisitor.test(fileName)) {
+                return;
+            }
+        }
+    }
+
+    /** Whether the split enumerator discovers the files while the readers read them. */
+    default boolean isStreamingFileDiscovery() {
+        return false;
+    }
+
+    /** Whether the finished file listing of the streaming discovery is saved in the checkpoint. */
+    default boolean isCacheFileListing() {
+        return false;
+    }
+
     // todo: use ReadonlyConfig
     void setPluginConfig(Config pluginConfig);
 
@@ -27,23 +27,41 @@ public class FileSourceSplit implements SourceSplit {
     @Getter private final String tableId;
     @Getter private final String filePath;
 
+    /**
+     * The byte range of the file this split reads. A split reads the whole file when its length is
+     * 0, which is also the case for the splits restored from the state of older versions.
+     */
+    @Getter private final long start;
+
+    @Getter private final long length;
+
     public FileSourceSplit(String splitId) {
-        this.filePath = splitId;
-        this.tableId = null;
+        this(null, splitId);
     }
 
     public FileSourceSplit(String tableId, String filePath) {
+        this(tableId, filePath, 0, 0);
+    }
+
+    public FileSourceSplit(String tableId, String filePath, long start, long length) {
         this.tableId = tableId;
         this.filePath = filePath;
+        this.start = start;
+        this.length = length;
+    }
+
+    public boolean isWholeFile() {
+        return length <= 0;
     }
 
     @Override
     public String splitId() {
         // In order to be compatible with the split before the upgrade, when tableId is null,
         // filePath is directly returned
-        if (tableId == null) {
-            return filePath;
+        String fileId = tableId == null ? filePath : tableId + "_" + filePath;
+        if (isWholeFile()) {
+            return fileId;
         }
-        return tableId + "_" + filePath;
+        return fileId + "_" + start + "_" + length;
     }
 }
@@ -18,6 +18,9 @@
 package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 
 import org.slf4j.Logger;
@@ -25,6 +28,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
@@ -43,30 +47,67 @@ public class FileSourceSplitEnumerator
             new TreeSet<>(Comparator.comparing(FileSourceSplit::splitId));
     private Set<FileSourceSplit> assignedSplit;
     private final List<String> filePaths;
+    private final ReadStrategy readStrategy;
     private final AtomicInteger assignCount = new AtomicInteger(0);
+    /** Whether the readers request their splits one by one instead of getting them up front. */
+    private final boolean dynamicSplitAssignment;
+
+    private final LargestFirstSplitQueue dynamicPendingSplit;
 
     public FileSourceSplitEnumerator(
             SourceSplitEnumerator.Context<FileSourceSplit> context, List<String> filePaths) {
+        this(context, filePaths, (ReadStrategy) null);
+    }
+
+    public FileSourceSplitEnumerator(
+            SourceSplitEnumerator.Context<FileSourceSplit> context,
+            List<String> filePaths,
+            ReadStrategy readStrategy) {
         this.context = context;
         this.filePaths = filePaths;
+        this.readStrategy = readStrategy;
         this.assignedSplit = new HashSet<>();
+        this.dynamicSplitAssignment =
+                readStrategy != null && readStrategy.isDynamicSplitAssignment();
+        this.dynamicPendingSplit = new LargestFirstSplitQueue(split -> readStrategy);
     }
 
     public FileSourceSplitEnumerator(
             SourceSplitEnumerator.Context<FileSourceSplit> context,
             List<String> filePaths,
             FileSourceState sourceState) {
-        this(context, filePaths);
+        this(context, filePaths, null, sourceState);
+    }
+
+    public FileSourceSplitEnumerator(
+            SourceSplitEnumerator.Context<FileSourceSplit> context,
+            List<String> filePaths,
+            ReadStrategy readStrategy,
+            FileSourceState sourceState) {
+        this(context, filePaths, readStrategy);
         this.assignedSplit = sourceState.getAssignedSplit();
     }
 
     @Override
     public void open() {
         this.allSplit.addAll(discoverySplits());
+        if (dynamicSplitAssignment) {
+            Set<String> assignedSplitIds =
+                    assignedSplit.stream()
+                            .map(FileSourceSplit::splitId)
+                            .collect(Collectors.toSet());
+            allSplit.stream()
+                    .filter(split -> !assignedSplitIds.contains(split.splitId()))
+                    .forEach(dynamicPendingSplit::add);
+        }
     }
 
     @Override
     public void run() {
+        if (dynamicSplitAssignment) {
+            // the readers request their splits
+            return;
+        }
         for (int i = 0; i < context.currentParallelism(); i++) {
             LOGGER.info("Assigned splits to reader [{}]", i);
             assignSplit(i);
@@ -75,7 +116,20 @@ public class FileSourceSplitEnumerator
 
     private Set<FileSourceSplit> discoverySplits() {
         Set<FileSourceSplit> fileSourceSplits = new HashSet<>();
-        filePaths.forEach(k -> fileSourceSplits.add(new FileSourceSplit(k)));
+        for (String filePath : filePaths) {
+            if (readStrategy == null) {
+                fileSourceSplits.add(new FileSourceSplit(filePath));
+                continue;
+            }
+            try {
+                // a single table has no table id, which keeps the split ids of the whole files
+                fileSourceSplits.addAll(readStrategy.getFileSourceSplits(null, filePath));
+            } catch (IOException e) {
+                String errorMsg = String.format("Split this file [%s] failed", filePath);
+                throw new FileConnectorException(
+                        FileConnectorErrorCode.FILE_READ_FAILED, errorMsg, e);
+            }
+        }
         return fileSourceSplits;
     }
 
@@ -85,8 +139,13 @@ public class FileSourceSplitEnumerator
     }
 
     @Override
-    public void addSplitsBack(List<FileSourceSplit> splits, int subtaskId) {
-        if (!splits.isEmpty()) {
+    public synchronized void addSplitsBack(List<FileSourceSplit> splits, int subtaskId) {
+        if (dynamicSplitAssignment) {
+            Set<String> splitIds =
+                    splits.stream().map(FileSourceSplit::splitId).collect(Collectors.toSet());
+            assignedSplit.removeIf(split -> splitIds.contains(split.splitId()));
+            splits.forEach(dynamicPendingSplit::add);
+        } else if (!splits.isEmpty()) {
             allSplit.addAll(splits);
             assignSplit(subtaskId);
         }
@@ -128,7 +187,10 @@ public class FileSourceSplitEnumerator
     }
 
     @Override
-    public int currentUnassignedSplitSize() {
+    public synchronized int currentUnassignedSplitSize() {
+        if (dynamicSplitAssignment) {
+            return dynamicPendingSplit.size();
+        }
         return allSplit.size() - assignedSplit.size();
     }
 
@@ -138,13 +200,26 @@ public class FileSourceSplitEnumerator
     }
 
     @Override
-    public FileSourceState snapshotState(long checkpointId) {
-        return new FileSourceState(assignedSplit);
+    public synchronized FileSourceState snapshotState(long checkpointId) {
+        return new FileSourceState(new HashSet<>(assignedSplit));
     }
 
     @Override
     public void notifyCheckpointComplete(long checkpointId) {}
 
     @Override
-    public void handleSplitRequest(int subtaskId) {}
+    public synchronized void handleSplitRequest(int subtaskId) {
+        if (!dynamicSplitAssignment) {
+            return;
+        }
+        FileSourceSplit split = dynamicPendingSplit.poll();
+        if (split == null) {
+            LOGGER.info("There is no more split for SubTask {}", subtaskId);
+            context.signalNoMoreSplits(subtaskId);
+            return;
+        }
+        context.assignSplit(subtaskId, Collections.singletonList(split));
+        assignedSplit.add(split);
+        LOGGER.info("SubTask {} is assigned to [{}]", subtaskId, split.splitId());
+    }
 }
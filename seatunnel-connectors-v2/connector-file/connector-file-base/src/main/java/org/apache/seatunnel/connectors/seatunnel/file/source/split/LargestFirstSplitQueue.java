@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.split;
+
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * The pending splits of the dynamic split assignment. The largest split is handed out first, so the
+ * small splits fill the gaps at the end and the readers finish at about the same time.
+ */
+public class LargestFirstSplitQueue {
+
+    private final Function<FileSourceSplit, ReadStrategy> readStrategyOfSplit;
+
+    private final PriorityQueue<Pair<Long, FileSourceSplit>> splits =
+            new PriorityQueue<>(
+                    Comparator.<Pair<Long, FileSourceSplit>>comparingLong(Pair::getLeft)
+                            .reversed()
+                            .thenComparing(split -> split.getRight().splitId()));
+
+    public LargestFirstSplitQueue(Function<FileSourceSplit, ReadStrategy> readStrategyOfSplit) {
+        this.readStrategyOfSplit = readStrategyOfSplit;
+    }
+
+    public void add(FileSourceSplit split) {
+        add(split, getSplitSize(split));
+    }
+
+    /** Adds the split whose size was already got, e.g. outside of the lock of the enumerator. */
+    public void add(FileSourceSplit split, long size) {
+        splits.add(Pair.of(size, split));
+    }
+
+    public long getSplitSize(FileSourceSplit split) {
+        try {
+            return readStrategyOfSplit.apply(split).getSplitSize(split);
+        } catch (IOException e) {
+            String errorMsg =
+                    String.format("Get the size of this split [%s] failed", split.splitId());
+            throw new FileConnectorException(FileConnectorErrorCode.FILE_READ_FAILED, errorMsg, e);
+        }
+    }
+
+    /** Returns null when there is no pending split. */
+    public FileSourceSplit poll() {
+        Pair<Long, FileSourceSplit> split = splits.poll();
+        return split == null ? null : split.getRight();
+    }
+
+    public int size() {
+        return splits.size();
+    }
+}
@@ -20,6 +20,10 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseFileSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseMultipleTableFileSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -28,10 +32,17 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -42,6 +53,26 @@ public class MultipleTableFileSourceSplitEnumerator
     private final Set<FileSourceSplit> pendingSplit;
     private final Set<FileSourceSplit> assignedSplit;
     private final Map<String, List<String>> filePathMap;
+    private final Map<String, ReadStrategy> readStrategyMap;
+    /** The splits of all files, large files may be split by their row groups or stripes. */
+    private List<FileSourceSplit> allSplit;
+    /** Whether the readers request their splits one by one instead of getting them up front. */
+    private final boolean dynamicSplitAssignment;
+
+    private final LargestFirstSplitQueue dynamicPendingSplit;
+    /** The root paths of the tables whose files are discovered while the readers read them. */
+    private final Map<String, String> streamingRootPathMap;
+    /** The finished file listings which are saved in the checkpoint. */
+    private final Map<String, List<String>> discoveredFileMap = new HashMap<>();
+
+    private final Set<String> discoveringTables = new HashSet<>();
+    /** The readers which requested a split while the discovered splits were all assigned. */
+    private final Set<Integer> waitingReaders = new LinkedHashSet<>();
+
+    private Set<String> restoredSplitIds;
+    private ExecutorService discoveryExecutor;
+    private Exception discoveryException;
+    private boolean closed;
 
     public MultipleTableFileSourceSplitEnumerator(
             Context<FileSourceSplit> context,
@@ -58,8 +89,42 @@ public class MultipleTableFileSourceSplitEnumerator
                                                         .toTablePath()
                                                         .toString(),
                                         BaseFileSourceConfig::getFilePaths));
+        this.readStrategyMap =
+                multipleTableFileSourceConfig.getFileSourceConfigs().stream()
+                        .collect(
+                                Collectors.toMap(
+                                        fileSourceConfig ->
+                                                fileSourceConfig
+                                                        .getCatalogTable()
+                                                        .getTableId()
+                                                        .toTablePath()
+                                                        .toString(),
+                                        BaseFileSourceConfig::getReadStrategy));
         this.assignedSplit = new HashSet<>();
         this.pendingSplit = new HashSet<>();
+        this.dynamicSplitAssignment =
+                readStrategyMap.values().stream().anyMatch(ReadStrategy::isDynamicSplitAssignment);
+        this.dynamicPendingSplit =
+                new LargestFirstSplitQueue(split -> readStrategyMap.get(split.getTableId()));
+        this.streamingRootPathMap =
+                multipleTableFileSourceConfig.getFileSourceConfigs().stream()
+                        .filter(
+                                fileSourceConfig ->
+                                        fileSourceConfig
+                                                .getReadStrategy()
+                                                .isStreamingFileDiscovery())
+                        .collect(
+                                Collectors.toMap(
+                                        fileSourceConfig ->
+                                                fileSourceConfig
+                                                        .getCatalogTable()
+                                                        .getTableId()
+                                                        .toTablePath()
+                                                        .toString(),
+                                        fileSourceConfig ->
+                                                fileSourceConfig
+                                                        .getBaseFileSourceConfig()
+                                                        .get(BaseSourceConfigOptions.FILE_PATH)));
     }
 
     public MultipleTableFileSourceSplitEnumerator(
@@ -68,40 +133,189 @@ public class MultipleTableFileSourceSplitEnumerator
             FileSourceState fileSourceState) {
         this(context, multipleTableFileSourceConfig);
         this.assignedSplit.addAll(fileSourceState.getAssignedSplit());
+        this.discoveredFileMap.putAll(fileSourceState.getDiscoveredFiles());
     }
 
     @Override
-    public void addSplitsBack(List<FileSourceSplit> splits, int subtaskId) {
+    public synchronized void addSplitsBack(List<FileSourceSplit> splits, int subtaskId) {
         if (CollectionUtils.isEmpty(splits)) {
             return;
         }
+        if (dynamicSplitAssignment) {
+            // the splits are handed out again when the readers request them
+            Set<String> splitIds =
+                    splits.stream().map(FileSourceSplit::splitId).collect(Collectors.toSet());
+            assignedSplit.removeIf(split -> splitIds.contains(split.splitId()));
+            splits.forEach(dynamicPendingSplit::add);
+            return;
+        }
         pendingSplit.addAll(splits);
         assignSplit(subtaskId);
     }
 
     @Override
-    public int currentUnassignedSplitSize() {
-        return pendingSplit.size();
+    public synchronized int currentUnassignedSplitSize() {
+        return dynamicSplitAssignment ? dynamicPendingSplit.size() : pendingSplit.size();
     }
 
     @Override
-    public void handleSplitRequest(int subtaskId) {}
+    public synchronized void handleSplitRequest(int subtaskId) {
+        if (!dynamicSplitAssignment) {
+            return;
+        }
+        checkDiscovery();
+        discoveryDynamicSplits();
+        waitingReaders.add(subtaskId);
+        assignWaitingReaders();
+    }
+
+    /**
+     * Assigns a split to every waiting reader. The readers keep waiting while the files are still
+     * discovered, otherwise there are no more splits for them.
+     */
+    private void assignWaitingReaders() {
+        Iterator<Integer> readers = waitingReaders.iterator();
+        while (readers.hasNext()) {
+            int subtaskId = readers.next();
+            FileSourceSplit split = dynamicPendingSplit.poll();
+            if (split != null) {
+                context.assignSplit(subtaskId, Collections.singletonList(split));
+                assignedSplit.add(split);
+                log.info("SubTask {} is assigned to [{}]", subtaskId, split.splitId());
+            } else if (discoveringTables.isEmpty()) {
+                log.info("There is no more split for SubTask {}", subtaskId);
+                context.signalNoMoreSplits(subtaskId);
+            } else {
+                return;
+            }
+            readers.remove();
+        }
+    }
+
+    private void checkDiscovery() {
+        if (discoveryException != null) {
+            throw new FileConnectorException(
+                    FileConnectorErrorCode.FILE_LIST_GET_FAILED,
+                    "Discover the files to read failed",
+                    discoveryException);
+        }
+    }
 
     @Override
-    public void registerReader(int subtaskId) {
+    public synchronized void registerReader(int subtaskId) {
+        if (dynamicSplitAssignment) {
+            discoveryDynamicSplits();
+            return;
+        }
+        pendingSplit.addAll(discoverySplits());
+        assignSplit(subtaskId);
+    }
+
+    /** Queues the splits which are not assigned yet, the restored assigned splits are skipped. */
+    private void discoveryDynamicSplits() {
+        if (allSplit != null) {
+            return;
+        }
+        Set<String> assignedSplitIds =
+                assignedSplit.stream().map(FileSourceSplit::splitId).collect(Collectors.toSet());
+        discoverySplits().stream()
+                .filter(split -> !assignedSplitIds.contains(split.splitId()))
+                .forEach(dynamicPendingSplit::add);
+    }
+
+    private List<FileSourceSplit> discoverySplits() {
+        if (allSplit != null) {
+            return allSplit;
+        }
+        allSplit = new ArrayList<>();
         for (Map.Entry<String, List<String>> filePathEntry : filePathMap.entrySet()) {
             String tableId = filePathEntry.getKey();
-            List<String> filePaths = filePathEntry.getValue();
-            for (String filePath : filePaths) {
-                pendingSplit.add(new FileSourceSplit(tableId, filePath));
+            ReadStrategy readStrategy = readStrategyMap.get(tableId);
+            for (String filePath : filePathEntry.getValue()) {
+                try {
+                    allSplit.addAll(readStrategy.getFileSourceSplits(tableId, filePath));
+                } catch (IOException e) {
+                    String errorMsg = String.format("Split this file [%s] failed", filePath);
+                    throw new FileConnectorException(
+                            FileConnectorErrorCode.FILE_READ_FAILED, errorMsg, e);
+                }
             }
         }
-        assignSplit(subtaskId);
+        log.info("Discovered {} splits of {} tables", allSplit.size(), filePathMap.size());
+        return allSplit;
+    }
+
+    /** Discovers the files of the streaming tables, or reuses their restored listings. */
+    private void discoveryStreamingSplits(String tableId, String rootPath) {
+        ReadStrategy readStrategy = readStrategyMap.get(tableId);
+        List<String> cachedFiles;
+        synchronized (this) {
+            cachedFiles = discoveredFileMap.get(tableId);
+        }
+        try {
+            if (cachedFiles != null) {
+                log.info(
+                        "Restored the {} discovered files of table {}",
+                        cachedFiles.size(),
+                        tableId);
+                cachedFiles.forEach(filePath -> addStreamingSplits(tableId, filePath));
+            } else {
+                List<String> discoveredFiles = new ArrayList<>();
+                readStrategy.discoverFiles(
+                        rootPath,
+                        filePath -> {
+                            if (readStrategy.isCacheFileListing()) {
+                                discoveredFiles.add(filePath);
+                            }
+                            addStreamingSplits(tableId, filePath);
+                            return true;
+                        });
+                if (readStrategy.isCacheFileListing()) {
+                    synchronized (this) {
+                        discoveredFileMap.put(tableId, discoveredFiles);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Discover the files of table {} under [{}] failed", tableId, rootPath, e);
+            synchronized (this) {
+                // run() fails the enumerator, the waiting readers would wait forever otherwise
+                discoveryException = e;
+                notifyAll();
+            }
+            return;
+        }
+        synchronized (this) {
+            discoveringTables.remove(tableId);
+            log.info("Discovered the files of table {} under [{}]", tableId, rootPath);
+            assignWaitingReaders();
+            notifyAll();
+        }
+    }
+
+    private void addStreamingSplits(String tableId, String filePath) {
+        List<FileSourceSplit> splits;
+        try {
+            splits = readStrategyMap.get(tableId).getFileSourceSplits(tableId, filePath);
+        } catch (IOException e) {
+            String errorMsg = String.format("Split this file [%s] failed", filePath);
+            throw new FileConnectorException(FileConnectorErrorCode.FILE_READ_FAILED, errorMsg, e);
+        }
+        // get the sizes outside of the lock, the split requests don't wait for the file system
+        Map<FileSourceSplit, Long> splitSizes = new LinkedHashMap<>();
+        splits.stream()
+                .filter(split -> !restoredSplitIds.contains(split.splitId()))
+                .forEach(split -> splitSizes.put(split, dynamicPendingSplit.getSplitSize(split)));
+        synchronized (this) {
+            splitSizes.forEach(dynamicPendingSplit::add);
+            assignWaitingReaders();
+        }
     }
 
     @Override
-    public FileSourceState snapshotState(long checkpointId) {
-        return new FileSourceState(assignedSplit);
+    public synchronized FileSourceState snapshotState(long checkpointId) {
+        checkDiscovery();
+        return new FileSourceState(new HashSet<>(assignedSplit), new HashMap<>(discoveredFileMap));
     }
 
     @Override
@@ -145,17 +359,42 @@ public class MultipleTableFileSourceSplitEnumerator
     }
 
     @Override
-    public void open() {
-        // do nothing
+    public synchronized void open() {
+        if (streamingRootPathMap.isEmpty()) {
+            return;
+        }
+        restoredSplitIds =
+                assignedSplit.stream().map(FileSourceSplit::splitId).collect(Collectors.toSet());
+        discoveringTables.addAll(streamingRootPathMap.keySet());
+        discoveryExecutor =
+                Executors.newSingleThreadExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable);
+                            thread.setDaemon(true);
+                            thread.setName("file-source-split-discovery");
+                            return thread;
+                        });
+        streamingRootPathMap.forEach(
+                (tableId, rootPath) ->
+                        discoveryExecutor.execute(
+                                () -> discoveryStreamingSplits(tableId, rootPath)));
     }
 
+    /** Waits for the discovery of the streaming tables, so that a failed discovery fails it. */
     @Override
-    public void run() throws Exception {
-        // do nothing
+    public synchronized void run() throws Exception {
+        while (!discoveringTables.isEmpty() && discoveryException == null && !closed) {
+            wait();
+        }
+        checkDiscovery();
     }
 
     @Override
-    public void close() throws IOException {
-        // do nothing
+    public synchronized void close() throws IOException {
+        closed = true;
+        notifyAll();
+        if (discoveryExecutor != null) {
+            discoveryExecutor.shutdownNow();
+        }
     }
 }
@@ -20,17 +20,32 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.state;
 import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class FileSourceState implements Serializable {
     private static final long serialVersionUID = 9208369906513934611L;
     private final Set<FileSourceSplit> assignedSplit;
+    /** The cached file listing by table, null in the states written before it was added. */
+    private final Map<String, List<String>> discoveredFiles;
 
     public FileSourceState(Set<FileSourceSplit> assignedSplit) {
+        this(assignedSplit, Collections.emptyMap());
+    }
+
+    public FileSourceState(
+            Set<FileSourceSplit> assignedSplit, Map<String, List<String>> discoveredFiles) {
         this.assignedSplit = assignedSplit;
+        this.discoveredFiles = discoveredFiles;
     }
 
     public Set<FileSourceSplit> getAssignedSplit() {
         return assignedSplit;
     }
+
+    public Map<String, List<String>> getDiscoveredFiles() {
+        return discoveredFiles == null ? Collections.emptyMap() : discoveredFiles;
+    }
 }
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source;
+
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.MultipleTableFileSourceReader;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategyTestUtils;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.TextReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+@DisabledOnOs(OS.WINDOWS)
+public class FileSourceReaderTest {
+
+    private File file;
+
+    @BeforeEach
+    public void createFile() throws IOException {
+        file = File.createTempFile("file_source_reader", ".txt");
+        Files.write(file.toPath(), "a\nb\nc".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    public void deleteFile() {
+        file.delete();
+    }
+
+    @Test
+    public void testBaseFileSourceReaderRequestsSplits() throws Exception {
+        TestContext context = new TestContext();
+        TextReadStrategy readStrategy = new TextReadStrategy();
+        readStrategy.init(new ReadStrategyTestUtils.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        readStrategy.setPluginConfig(ConfigFactory.parseString("dynamic_split_assignment = true"));
+        readStrategy.getFileNamesByPath(file.getPath());
+        readStrategy.getSeaTunnelRowTypeInfo(file.getPath());
+        try (BaseFileSourceReader reader = new BaseFileSourceReader(readStrategy, context)) {
+            assertRequestsSplits(reader, context, new FileSourceSplit(file.getPath()));
+        }
+    }
+
+    @Test
+    public void testMultipleTableFileSourceReaderRequestsSplits() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put("path", file.getPath());
+        config.put("file_format_type", "text");
+        config.put("dynamic_split_assignment", true);
+        ReadStrategyTestUtils.LocalMultipleTableFileSourceConfig sourceConfig =
+                new ReadStrategyTestUtils.LocalMultipleTableFileSourceConfig(
+                        ReadonlyConfig.fromMap(config));
+        String tableId =
+                sourceConfig
+                        .getFileSourceConfigs()
+                        .get(0)
+                        .getCatalogTable()
+                        .getTableId()
+                        .toTablePath()
+                        .toString();
+        TestContext context = new TestContext();
+        try (MultipleTableFileSourceReader reader =
+                new MultipleTableFileSourceReader(context, sourceConfig)) {
+            assertRequestsSplits(reader, context, new FileSourceSplit(tableId, file.getPath()));
+        }
+    }
+
+    /** Polls the reader like the source task does while the enumerator answers the requests. */
+    private static void assertRequestsSplits(
+            SourceReader<SeaTunnelRow, FileSourceSplit> reader,
+            TestContext context,
+            FileSourceSplit split)
+            throws Exception {
+        ReadStrategyTestUtils.TestCollector collector = new ReadStrategyTestUtils.TestCollector();
+
+        // the reader requests a split and waits a while for it
+        long pollStart = System.currentTimeMillis();
+        reader.pollNext(collector);
+        Assertions.assertEquals(1, context.splitRequests.get());
+        Assertions.assertTrue(System.currentTimeMillis() - pollStart >= 100);
+
+        // the split is requested only once until it arrives
+        reader.pollNext(collector);
+        Assertions.assertEquals(1, context.splitRequests.get());
+
+        reader.addSplits(Collections.singletonList(split));
+        reader.pollNext(collector);
+        Assertions.assertEquals(3, collector.getRows().size());
+        Assertions.assertEquals(1, context.splitRequests.get());
+
+        // the next split is requested once the split is read
+        reader.pollNext(collector);
+        Assertions.assertEquals(2, context.splitRequests.get());
+
+        // the reader stops once there are no more splits
+        Assertions.assertFalse(context.noMoreElement);
+        reader.handleNoMoreSplits();
+        reader.pollNext(collector);
+        Assertions.assertTrue(context.noMoreElement);
+        Assertions.assertEquals(2, context.splitRequests.get());
+    }
+
+    private static class TestContext implements SourceReader.Context {
+
+        private final AtomicInteger splitRequests = new AtomicInteger();
+
+        private volatile boolean noMoreElement;
+
+        @Override
+        public int getIndexOfSubtask() {
+            return 0;
+        }
+
+        @Override
+        public Boundedness getBoundedness() {
+            return Boundedness.BOUNDED;
+        }
+
+        @Override
+        public void signalNoMoreElement() {
+            noMoreElement = true;
+        }
+
+        @Override
+        public void sendSplitRequest() {
+            splitRequests.incrementAndGet();
+        }
+
+        @Override
+        public void sendSourceEventToEnumerator(SourceEvent sourceEvent) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return null;
+        }
+    }
+}
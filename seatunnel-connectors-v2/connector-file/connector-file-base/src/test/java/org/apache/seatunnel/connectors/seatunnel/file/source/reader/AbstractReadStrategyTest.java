@@ -17,13 +17,14 @@
 
 package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
-import org.apache.seatunnel.connectors.seatunnel.file.writer.ParquetReadStrategyTest;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
 
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericArray;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
+import org.apache.commons.io.FileUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
 import org.apache.parquet.avro.AvroParquetWriter;
@@ -37,7 +38,11 @@ import org.junit.jupiter.api.condition.OS;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
 
@@ -48,8 +53,8 @@ public class AbstractReadStrategyTest {
     public void testReadDirectorySkipHiddenDirectories() throws Exception {
         AutoGenerateParquetData.generateTestData();
         try (ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy(); ) {
-            ParquetReadStrategyTest.LocalConf localConf =
-                    new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT);
+            ReadStrategyTestUtils.LocalConf localConf =
+                    new ReadStrategyTestUtils.LocalConf(FS_DEFAULT_NAME_DEFAULT);
             parquetReadStrategy.init(localConf);
             List<String> list =
                     parquetReadStrategy.getFileNamesByPath(AutoGenerateParquetData.DATA_FILE_PATH);
@@ -61,6 +66,75 @@ public class AbstractReadStrategyTest {
         }
     }
 
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testDiscoverFilesInParallelAndFlat() throws Exception {
+        File root = Files.createTempDirectory("file_discovery").toFile();
+        try {
+            List<String> expected = Arrays.asList("1.txt", "a/2.txt", "a/b/3.txt", "a/b/c/4.txt");
+            for (String file : expected) {
+                writeFile(root, file, "x");
+            }
+            writeFile(root, ".hive-staging/5.txt", "x");
+            writeFile(root, "a/b/.tmp/6.txt", "x");
+            writeFile(root, "a/_SUCCESS", "x");
+            writeFile(root, "a/empty.txt", "");
+
+            for (String config :
+                    Arrays.asList(
+                            "file_discovery_parallelism = 1",
+                            "file_discovery_parallelism = 4",
+                            "file_discovery_flat_listing = true")) {
+                try (TextReadStrategy textReadStrategy = new TextReadStrategy()) {
+                    textReadStrategy.init(
+                            new ReadStrategyTestUtils.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+                    textReadStrategy.setPluginConfig(ConfigFactory.parseString(config));
+                    List<String> fileNames =
+                            textReadStrategy.getFileNamesByPath(root.getPath()).stream()
+                                    .map(
+                                            fileName ->
+                                                    fileName.substring(
+                                                            fileName.indexOf(root.getPath())
+                                                                    + root.getPath().length()
+                                                                    + 1))
+                                    .sorted()
+                                    .collect(Collectors.toList());
+                    Assertions.assertEquals(expected, fileNames, config);
+                    Assertions.assertEquals(
+                            2, textReadStrategy.getFileNamesByPath(root.getPath(), 2).size());
+                }
+            }
+
+            // the limited listing stops at the same file whatever the discovery parallelism
+            List<String> firstFiles = null;
+            for (String config :
+                    Arrays.asList(
+                            "file_discovery_parallelism = 1", "file_discovery_parallelism = 4")) {
+                for (int i = 0; i < 5; i++) {
+                    try (TextReadStrategy textReadStrategy = new TextReadStrategy()) {
+                        textReadStrategy.init(
+                                new ReadStrategyTestUtils.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+                        textReadStrategy.setPluginConfig(ConfigFactory.parseString(config));
+                        List<String> fileNames =
+                                textReadStrategy.getFileNamesByPath(root.getPath(), 1);
+                        if (firstFiles == null) {
+                            firstFiles = fileNames;
+                        }
+                        Assertions.assertEquals(firstFiles, fileNames, config);
+                    }
+                }
+            }
+        } finally {
+            FileUtils.deleteDirectory(root);
+        }
+    }
+
+    private static void writeFile(File root, String path, String content) throws IOException {
+        File file = new File(root, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
     public static class AutoGenerateParquetData {
 
         public static final String DATA_FILE_PATH = "/tmp/tmp_1";
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class LineRangeInputStreamTest {
+
+    private static final String CONTENT = "header\na\nbb\n\nccc\ndddd\neeeee\nf\n\ngggggg\nh";
+
+    private File file;
+
+    @BeforeEach
+    public void createFile() throws IOException {
+        file = File.createTempFile("line_range", ".txt");
+        Files.write(file.toPath(), CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    public void deleteFile() {
+        file.delete();
+    }
+
+    @Test
+    public void testRangesReadEachLineOnce() throws IOException {
+        FileSystem fileSystem = FileSystem.getLocal(new Configuration());
+        for (int rangeSize = 1; rangeSize <= CONTENT.length(); rangeSize++) {
+            StringBuilder content = new StringBuilder();
+            for (long start = 0; start < CONTENT.length(); start += rangeSize) {
+                try (LineRangeInputStream in =
+                        new LineRangeInputStream(
+                                fileSystem.open(new Path(file.getPath())),
+                                start,
+                                start + rangeSize)) {
+                    content.append(IOUtils.toString(in, StandardCharsets.UTF_8));
+                }
+            }
+            Assertions.assertEquals(CONTENT, content.toString(), "range size " + rangeSize);
+        }
+    }
+
+    @Test
+    public void testTextSplitsSkipHeaderOnlyOnce() throws Exception {
+        // the header lines are longer than a split
+        String content = "header\nsecond header\na\nbb\nccc\ndddd\neeeee\nf\ngggggg\nh";
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        for (int headerLines = 0; headerLines <= 2; headerLines++) {
+            try (TextReadStrategy textReadStrategy = new TextReadStrategy()) {
+                textReadStrategy.init(new ReadStrategyTestUtils.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+                textReadStrategy.setPluginConfig(
+                        ConfigFactory.parseString(
+                                "enable_file_split = true\n"
+                                        + "file_split_size = 4\n"
+                                        + "skip_header_row_number = "
+                                        + headerLines));
+                textReadStrategy.getFileNamesByPath(file.getPath());
+                textReadStrategy.getSeaTunnelRowTypeInfo(file.getPath());
+                List<FileSourceSplit> splits =
+                        textReadStrategy.getFileSourceSplits("1", file.getPath());
+                Assertions.assertTrue(splits.size() > 1);
+
+                List<String> lines = new ArrayList<>();
+                for (FileSourceSplit split : splits) {
+                    ReadStrategyTestUtils.TestCollector collector =
+                            new ReadStrategyTestUtils.TestCollector();
+                    textReadStrategy.read(split, collector);
+                    for (SeaTunnelRow row : collector.getRows()) {
+                        lines.add((String) row.getField(0));
+                    }
+                }
+                List<String> expected =
+                        Arrays.stream(content.split("\n"))
+                                .skip(headerLines)
+                                .collect(Collectors.toList());
+                Assertions.assertEquals(expected, lines, "header lines " + headerLines);
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.common.metrics.MetricsContext;
 import org.apache.seatunnel.api.event.EventListener;
 import org.apache.seatunnel.api.source.SourceEvent;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.TextReadStrategy;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -28,10 +29,14 @@ import org.junit.jupiter.api.Test;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -50,38 +55,7 @@ public class FileSourceSplitEnumeratorTest {
         Map<Integer, List<FileSourceSplit>> assignSplitMap = new HashMap<>();
 
         SourceSplitEnumerator.Context<FileSourceSplit> context =
-                new SourceSplitEnumerator.Context<FileSourceSplit>() {
-                    @Override
-                    public int currentParallelism() {
-                        return parallelism;
-                    }
-
-                    @Override
-                    public Set<Integer> registeredReaders() {
-                        return null;
-                    }
-
-                    @Override
-                    public void assignSplit(int subtaskId, List<FileSourceSplit> splits) {
-                        assignSplitMap.put(subtaskId, splits);
-                    }
-
-                    @Override
-                    public void signalNoMoreSplits(int subtask) {}
-
-                    @Override
-                    public void sendEventToSourceReader(int subtaskId, SourceEvent event) {}
-
-                    @Override
-                    public MetricsContext getMetricsContext() {
-                        return null;
-                    }
-
-                    @Override
-                    public EventListener getEventListener() {
-                        return null;
-                    }
-                };
+                createContext(parallelism, assignSplitMap::put, subtask -> {});
 
         FileSourceSplitEnumerator fileSourceSplitEnumerator =
                 new FileSourceSplitEnumerator(context, filePaths);
@@ -105,4 +79,144 @@ public class FileSourceSplitEnumeratorTest {
                     "The number of files assigned to adjacent subtasks is more than 1.");
         }
     }
+
+    @Test
+    void assignFileSplitsTest() throws Exception {
+        List<String> filePaths = Arrays.asList("file0.txt", "file1.txt");
+        Map<Integer, List<FileSourceSplit>> assignSplitMap = new HashMap<>();
+        SourceSplitEnumerator.Context<FileSourceSplit> context =
+                createContext(2, assignSplitMap::put, subtask -> {});
+
+        try (TextReadStrategy readStrategy =
+                new TextReadStrategy() {
+                    @Override
+                    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path) {
+                        return Arrays.asList(
+                                new FileSourceSplit(tableId, path, 0, 10),
+                                new FileSourceSplit(tableId, path, 10, 5));
+                    }
+                }) {
+            FileSourceSplitEnumerator fileSourceSplitEnumerator =
+                    new FileSourceSplitEnumerator(context, filePaths, readStrategy);
+            fileSourceSplitEnumerator.open();
+            fileSourceSplitEnumerator.run();
+        }
+
+        // each file is assigned by its splits, the splits of a single table have no table id
+        List<String> assignedSplitIds =
+                assignSplitMap.values().stream()
+                        .flatMap(List::stream)
+                        .peek(split -> Assertions.assertNull(split.getTableId()))
+                        .map(FileSourceSplit::splitId)
+                        .sorted()
+                        .collect(Collectors.toList());
+        Assertions.assertEquals(
+                Arrays.asList(
+                        "file0.txt_0_10", "file0.txt_10_5", "file1.txt_0_10", "file1.txt_10_5"),
+                assignedSplitIds);
+        Assertions.assertEquals(2, assignSplitMap.get(0).size());
+        Assertions.assertEquals(2, assignSplitMap.get(1).size());
+    }
+
+    @Test
+    void dynamicAssignLargestSplitFirstTest() throws Exception {
+        Map<String, Long> fileSizes = new HashMap<>();
+        fileSizes.put("small.txt", 10L);
+        fileSizes.put("large.txt", 1000L);
+        fileSizes.put("medium.txt", 100L);
+        List<String> filePaths = new ArrayList<>(fileSizes.keySet());
+
+        List<String> assignedFiles = new ArrayList<>();
+        List<Integer> noMoreSplitsReaders = new ArrayList<>();
+        SourceSplitEnumerator.Context<FileSourceSplit> context =
+                createContext(
+                        2,
+                        (subtaskId, splits) -> {
+                            Assertions.assertEquals(1, splits.size());
+                            assignedFiles.add(splits.get(0).splitId());
+                        },
+                        noMoreSplitsReaders::add);
+
+        try (TextReadStrategy readStrategy =
+                new TextReadStrategy() {
+                    @Override
+                    public boolean isDynamicSplitAssignment() {
+                        return true;
+                    }
+
+                    @Override
+                    public long getSplitSize(FileSourceSplit split) {
+                        return fileSizes.get(split.splitId());
+                    }
+                }) {
+            FileSourceSplitEnumerator fileSourceSplitEnumerator =
+                    new FileSourceSplitEnumerator(context, filePaths, readStrategy);
+            fileSourceSplitEnumerator.open();
+            fileSourceSplitEnumerator.run();
+            fileSourceSplitEnumerator.registerReader(0);
+            fileSourceSplitEnumerator.registerReader(1);
+
+            // nothing is assigned before the readers request splits
+            Assertions.assertTrue(assignedFiles.isEmpty());
+            Assertions.assertEquals(3, fileSourceSplitEnumerator.currentUnassignedSplitSize());
+
+            fileSourceSplitEnumerator.handleSplitRequest(0);
+            fileSourceSplitEnumerator.handleSplitRequest(1);
+            fileSourceSplitEnumerator.handleSplitRequest(1);
+            Assertions.assertEquals(
+                    Arrays.asList("large.txt", "medium.txt", "small.txt"), assignedFiles);
+            Assertions.assertTrue(noMoreSplitsReaders.isEmpty());
+
+            // a split of a failed reader is assigned again
+            fileSourceSplitEnumerator.addSplitsBack(
+                    Collections.singletonList(new FileSourceSplit("medium.txt")), 1);
+            fileSourceSplitEnumerator.handleSplitRequest(0);
+            Assertions.assertEquals("medium.txt", assignedFiles.get(3));
+
+            fileSourceSplitEnumerator.handleSplitRequest(0);
+            fileSourceSplitEnumerator.handleSplitRequest(1);
+            Assertions.assertEquals(Arrays.asList(0, 1), noMoreSplitsReaders);
+            Assertions.assertEquals(0, fileSourceSplitEnumerator.currentUnassignedSplitSize());
+        }
+    }
+
+    static SourceSplitEnumerator.Context<FileSourceSplit> createContext(
+            int parallelism,
+            BiConsumer<Integer, List<FileSourceSplit>> assignSplit,
+            Consumer<Integer> signalNoMoreSplits) {
+        return new SourceSplitEnumerator.Context<FileSourceSplit>() {
+            @Override
+            public int currentParallelism() {
+                return parallelism;
+            }
+
+            @Override
+            public Set<Integer> registeredReaders() {
+                return null;
+            }
+
+            @Override
+            public void assignSplit(int subtaskId, List<FileSourceSplit> splits) {
+                assignSplit.accept(subtaskId, splits);
+            }
+
+            @Override
+            public void signalNoMoreSplits(int subtask) {
+                signalNoMoreSplits.accept(subtask);
+            }
+
+            @Override
+            public void sendEventToSourceReader(int subtaskId, SourceEvent event) {}
+
+            @Override
+            public MetricsContext getMetricsContext() {
+                return null;
+            }
+
+            @Override
+            public EventListener getEventListener() {
+                return null;
+            }
+        };
+    }
 }
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.split;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategyTestUtils;
+import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
+
+import org.apache.commons.io.FileUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+public class MultipleTableFileSourceSplitEnumeratorTest {
+
+    private final List<FileSourceSplit> assignedSplits =
+            Collections.synchronizedList(new ArrayList<>());
+    private final Set<Integer> noMoreSplitsReaders = ConcurrentHashMap.newKeySet();
+
+    private final SourceSplitEnumerator.Context<FileSourceSplit> context =
+            FileSourceSplitEnumeratorTest.createContext(
+                    1,
+                    (subtaskId, splits) -> assignedSplits.addAll(splits),
+                    noMoreSplitsReaders::add);
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    void streamingDiscoveryWithCachedListingTest() throws Exception {
+        File root = Files.createTempDirectory("streaming_discovery").toFile();
+        try {
+            writeFile(new File(root, "a.txt"), "a");
+            writeFile(new File(root, "b/b.txt"), "bbb");
+            writeFile(new File(root, "b/c/c.txt"), "cc");
+            Map<String, Object> config = new HashMap<>();
+            config.put("path", root.getPath());
+            config.put("file_format_type", "text");
+            config.put("streaming_file_discovery", true);
+            config.put("cache_file_listing", true);
+            ReadStrategyTestUtils.LocalMultipleTableFileSourceConfig sourceConfig =
+                    new ReadStrategyTestUtils.LocalMultipleTableFileSourceConfig(
+                            ReadonlyConfig.fromMap(config));
+            // the files are not listed before the job starts
+            Assertions.assertTrue(
+                    sourceConfig.getFileSourceConfigs().get(0).getFilePaths().isEmpty());
+
+            FileSourceState state;
+            try (MultipleTableFileSourceSplitEnumerator enumerator =
+                    new MultipleTableFileSourceSplitEnumerator(context, sourceConfig)) {
+                enumerator.open();
+                // returns once the files are discovered
+                enumerator.run();
+                readAllSplits(enumerator);
+                state = enumerator.snapshotState(1);
+            }
+            Assertions.assertEquals(
+                    Arrays.asList("a.txt", "b.txt", "c.txt"), assignedFileNames(assignedSplits));
+            Assertions.assertEquals(
+                    3, state.getDiscoveredFiles().values().iterator().next().size());
+
+            // the restored enumerator reads the cached listing and skips the assigned split
+            writeFile(new File(root, "d.txt"), "dddd");
+            FileSourceSplit restoredSplit = assignedSplits.get(0);
+            FileSourceState restoredState =
+                    new FileSourceState(
+                            Collections.singleton(restoredSplit), state.getDiscoveredFiles());
+            assignedSplits.clear();
+            noMoreSplitsReaders.clear();
+            try (MultipleTableFileSourceSplitEnumerator enumerator =
+                    new MultipleTableFileSourceSplitEnumerator(
+                            context, sourceConfig, restoredState)) {
+                enumerator.open();
+                readAllSplits(enumerator);
+            }
+            List<String> expected = new ArrayList<>(Arrays.asList("a.txt", "b.txt", "c.txt"));
+            expected.remove(new File(restoredSplit.getFilePath()).getName());
+            Assertions.assertEquals(expected, assignedFileNames(assignedSplits));
+        } finally {
+            FileUtils.deleteDirectory(root);
+        }
+    }
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    void streamingDiscoveryFailureTest() throws Exception {
+        File root = Files.createTempDirectory("streaming_discovery_failure").toFile();
+        try {
+            File data = new File(root, "data");
+            writeFile(new File(data, "a.txt"), "a");
+            Map<String, Object> config = new HashMap<>();
+            config.put("path", data.getPath());
+            config.put("file_format_type", "text");
+            config.put("streaming_file_discovery", true);
+            ReadStrategyTestUtils.LocalMultipleTableFileSourceConfig sourceConfig =
+                    new ReadStrategyTestUtils.LocalMultipleTableFileSourceConfig(
+                            ReadonlyConfig.fromMap(config));
+            // the files are gone when the job starts
+            FileUtils.deleteDirectory(data);
+            try (MultipleTableFileSourceSplitEnumerator enumerator =
+                    new MultipleTableFileSourceSplitEnumerator(context, sourceConfig)) {
+                enumerator.open();
+                // the enumerator fails instead of keeping the readers waiting
+                Assertions.assertTimeoutPreemptively(
+                        Duration.ofSeconds(30),
+                        () ->
+                                Assertions.assertThrows(
+                                        FileConnectorException.class, enumerator::run));
+            }
+        } finally {
+            FileUtils.deleteDirectory(root);
+        }
+    }
+
+    /** Requests the splits like a reader until there are no more splits. */
+    private void readAllSplits(MultipleTableFileSourceSplitEnumerator enumerator)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!noMoreSplitsReaders.contains(0)) {
+            int assigned = assignedSplits.size();
+            enumerator.handleSplitRequest(0);
+            while (assignedSplits.size() == assigned && !noMoreSplitsReaders.contains(0)) {
+                Assertions.assertTrue(System.currentTimeMillis() < deadline, "no split assigned");
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private static List<String> assignedFileNames(List<FileSourceSplit> splits) {
+        return splits.stream()
+                .map(split -> new File(split.getFilePath()).getName())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static void writeFile(File file, String content) throws IOException {
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ParquetReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericArray;
@@ -52,7 +53,9 @@ import java.net.URL;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.TimeZone;
 
 import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
@@ -190,6 +193,117 @@ public class ParquetReadStrategyTest {
         AutoGenerateParquetData.deleteFile();
     }
 
+    @Test
+    public void testParquetReadWithFilters() throws Exception {
+        AutoGenerateParquetData.generateTestData();
+        Config pluginConfig =
+                ConfigFactory.parseString(
+                        "read_columns = [name, id]\n"
+                                + "parquet_filters = [\"id > 1\", \"name != 'Alice'\"]");
+        ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        parquetReadStrategy.init(localConf);
+        parquetReadStrategy.setPluginConfig(pluginConfig);
+        SeaTunnelRowType seaTunnelRowTypeInfo =
+                parquetReadStrategy.getSeaTunnelRowTypeInfo(AutoGenerateParquetData.DATA_FILE_PATH);
+        Assertions.assertEquals(2, seaTunnelRowTypeInfo.getTotalFields());
+        TestCollector testCollector = new TestCollector();
+        parquetReadStrategy.read(AutoGenerateParquetData.DATA_FILE_PATH, "1", testCollector);
+        List<SeaTunnelRow> rows = testCollector.getRows();
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertEquals(2, rows.get(0).getArity());
+        Assertions.assertEquals("Bob", rows.get(0).getField(0));
+        Assertions.assertEquals(2, rows.get(0).getField(1));
+        AutoGenerateParquetData.deleteFile();
+    }
+
+    @Test
+    public void testParquetReadWithFiltersOnUnprojectedColumns() throws Exception {
+        AutoGenerateParquetData.generateTestData();
+        Config pluginConfig =
+                ConfigFactory.parseString(
+                        "read_columns = [name]\n" + "parquet_filters = [\"id > 1\"]");
+        ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        parquetReadStrategy.init(localConf);
+        parquetReadStrategy.setPluginConfig(pluginConfig);
+        SeaTunnelRowType seaTunnelRowTypeInfo =
+                parquetReadStrategy.getSeaTunnelRowTypeInfo(AutoGenerateParquetData.DATA_FILE_PATH);
+        Assertions.assertEquals(1, seaTunnelRowTypeInfo.getTotalFields());
+        TestCollector testCollector = new TestCollector();
+        parquetReadStrategy.read(AutoGenerateParquetData.DATA_FILE_PATH, "1", testCollector);
+        List<SeaTunnelRow> rows = testCollector.getRows();
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertEquals(1, rows.get(0).getArity());
+        Assertions.assertEquals("Bob", rows.get(0).getField(0));
+        AutoGenerateParquetData.deleteFile();
+    }
+
+    @Test
+    public void testParquetReadByRowGroupSplits() throws Exception {
+        String path = "/tmp/data_row_groups.parquet";
+        new File(path).delete();
+        Schema schema =
+                new Schema.Parser()
+                        .parse(
+                                "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"id\",\"type\":\"int\"},{\"name\":\"name\",\"type\":\"string\"}]}");
+        int rowCount = 20000;
+        try (ParquetWriter<GenericRecord> writer =
+                AvroParquetWriter.<GenericRecord>builder(new Path(path))
+                        .withSchema(schema)
+                        .withConf(new Configuration())
+                        .withRowGroupSize(16 * 1024)
+                        .build()) {
+            for (int i = 0; i < rowCount; i++) {
+                GenericRecord record = new GenericData.Record(schema);
+                record.put("id", i);
+                record.put("name", "name_" + i);
+                writer.write(record);
+            }
+        }
+        Config pluginConfig =
+                ConfigFactory.parseString("enable_file_split = true\nfile_split_size = 1");
+        ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        parquetReadStrategy.init(localConf);
+        parquetReadStrategy.setPluginConfig(pluginConfig);
+        parquetReadStrategy.getSeaTunnelRowTypeInfo(path);
+        List<FileSourceSplit> splits = parquetReadStrategy.getFileSourceSplits("1", path);
+        Assertions.assertTrue(splits.size() > 1);
+        Set<Object> ids = new HashSet<>();
+        for (FileSourceSplit split : splits) {
+            Assertions.assertFalse(split.isWholeFile());
+            TestCollector testCollector = new TestCollector();
+            parquetReadStrategy.read(split, testCollector);
+            Assertions.assertFalse(testCollector.getRows().isEmpty());
+            testCollector.getRows().forEach(row -> ids.add(row.getField(0)));
+        }
+        Assertions.assertEquals(rowCount, ids.size());
+        new File(path).delete();
+    }
+
+    @Test
+    public void testParquetReadWithIllegalFilter() throws Exception {
+        AutoGenerateParquetData.generateTestData();
+        Config pluginConfig = ConfigFactory.parseString("parquet_filters = [\"salary > abc\"]");
+        ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        parquetReadStrategy.init(localConf);
+        parquetReadStrategy.setPluginConfig(pluginConfig);
+        parquetReadStrategy.getSeaTunnelRowTypeInfo(AutoGenerateParquetData.DATA_FILE_PATH);
+        TestCollector testCollector = new TestCollector();
+        SeaTunnelRuntimeException exception =
+                Assertions.assertThrows(
+                        SeaTunnelRuntimeException.class,
+                        () ->
+                                parquetReadStrategy.read(
+                                        AutoGenerateParquetData.DATA_FILE_PATH,
+                                        "1",
+                                        testCollector));
+        Assertions.assertTrue(exception.getMessage().contains("salary > abc"));
+        AutoGenerateParquetData.deleteFile();
+    }
+
     @DisabledOnOs(OS.WINDOWS)
     @Test
     public void testParquetReadUnsupportedType() throws Exception {
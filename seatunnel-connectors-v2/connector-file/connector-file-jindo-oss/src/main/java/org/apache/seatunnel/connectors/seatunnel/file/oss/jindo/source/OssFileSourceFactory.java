@@ -70,6 +70,12 @@ public class OssFileSourceFactory implements TableSourceFactory {
                 .optional(BaseSourceConfigOptions.DATETIME_FORMAT)
                 .optional(BaseSourceConfigOptions.TIME_FORMAT)
                 .optional(BaseSourceConfigOptions.FILE_FILTER_PATTERN)
+                .optional(BaseSourceConfigOptions.PARQUET_FILTERS)
+                .optional(BaseSourceConfigOptions.ENABLE_FILE_SPLIT)
+                .optional(BaseSourceConfigOptions.FILE_SPLIT_SIZE)
+                .optional(BaseSourceConfigOptions.DYNAMIC_SPLIT_ASSIGNMENT)
+                .optional(BaseSourceConfigOptions.FILE_DISCOVERY_PARALLELISM)
+                .optional(BaseSourceConfigOptions.FILE_DISCOVERY_FLAT_LISTING)
                 .optional(BaseSourceConfigOptions.COMPRESS_CODEC)
                 .optional(BaseSourceConfigOptions.NULL_FORMAT)
                 .build();
@@ -77,6 +77,14 @@ public class LocalFileSourceFactory implements TableSourceFactory {
                 .optional(BaseSourceConfigOptions.DATETIME_FORMAT)
                 .optional(BaseSourceConfigOptions.TIME_FORMAT)
                 .optional(BaseSourceConfigOptions.FILE_FILTER_PATTERN)
+                .optional(BaseSourceConfigOptions.PARQUET_FILTERS)
+                .optional(BaseSourceConfigOptions.ENABLE_FILE_SPLIT)
+                .optional(BaseSourceConfigOptions.FILE_SPLIT_SIZE)
+                .optional(BaseSourceConfigOptions.DYNAMIC_SPLIT_ASSIGNMENT)
+                .optional(BaseSourceConfigOptions.FILE_DISCOVERY_PARALLELISM)
+                .optional(BaseSourceConfigOptions.FILE_DISCOVERY_FLAT_LISTING)
+                .optional(BaseSourceConfigOptions.STREAMING_FILE_DISCOVERY)
+                .optional(BaseSourceConfigOptions.CACHE_FILE_LISTING)
                 .optional(BaseSourceConfigOptions.ARCHIVE_COMPRESS_CODEC)
                 .optional(BaseSourceConfigOptions.NULL_FORMAT)
                 .build();
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.benchmarks;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.TransformSeaTunnelTask;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/** Rows, tables and tasks shared by the benchmarks. */
+final class BenchmarkUtils {
+
+    static final String TABLE_NAME = "benchmark";
+
+    static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "score", "amount", "created"},
+                    new SeaTunnelDataType[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(18, 2),
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE
+                    });
+
+    static final CatalogTable CATALOG_TABLE =
+            CatalogTableUtil.getCatalogTable(TABLE_NAME, ROW_TYPE);
+
+    static final String TABLE_ID = CATALOG_TABLE.getTableId().toTablePath().toString();
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private BenchmarkUtils() {}
+
+    static Object[] fields(long id) {
+        return new Object[] {
+            id,
+            "name-" + id,
+            (int) (id % 100),
+            id * 0.5,
+            BigDecimal.valueOf(id, 2),
+            CREATED.plusSeconds(id)
+        };
+    }
+
+    static SeaTunnelRow row(long id) {
+        SeaTunnelRow row = new SeaTunnelRow(fields(id));
+        row.setTableId(TABLE_ID);
+        return row;
+    }
+
+    static SeaTunnelRow[] rows(int count) {
+        SeaTunnelRow[] rows = new SeaTunnelRow[count];
+        for (int i = 0; i < count; i++) {
+            rows[i] = row(i);
+        }
+        return rows;
+    }
+
+    /** A task that is never initialized, with metrics so that the flow life cycles can use it. */
+    static SeaTunnelTask task() {
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        TaskLocation taskLocation = new TaskLocation(new TaskGroupLocation(1L, 1, 1L), 1L, 0);
+        return new TransformSeaTunnelTask(1L, taskLocation, 0, null) {
+            @Override
+            public SeaTunnelMetricsContext getMetricsContext() {
+                return metricsContext;
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.benchmarks;
+
+import org.apache.seatunnel.engine.checkpoint.storage.common.CheckpointDataCodec;
+import org.apache.seatunnel.engine.server.serializable.SeaTunnelRowCodec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Time to upload a 16 MB checkpoint through the {@link CheckpointDataCodec} to a store that accepts
+ * {@code bandwidth} MB/s, a stand-in for an object store such as S3 or MinIO. The state is made of
+ * encoded rows, the way sink writers keep their buffered data.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class CheckpointDataCodecBenchmark {
+
+    private static final int STATE_SIZE = 16 * 1024 * 1024;
+
+    @Param({"none", "deflate"})
+    private String compression;
+
+    @Param({"1", "4"})
+    private int parallelism;
+
+    @Param({"20", "100"})
+    private int bandwidth;
+
+    private CheckpointDataCodec codec;
+
+    private byte[] state;
+
+    @Setup
+    public void setup() throws IOException {
+        codec =
+                new CheckpointDataCodec(
+                        CheckpointDataCodec.Compression.fromName(compression),
+                        CheckpointDataCodec.DEFAULT_CHUNK_SIZE,
+                        parallelism);
+        SeaTunnelRowCodec rowCodec = new SeaTunnelRowCodec(BenchmarkUtils.ROW_TYPE);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(STATE_SIZE);
+        for (long id = 0; out.size() < STATE_SIZE; id++) {
+            out.write(rowCodec.encode(BenchmarkUtils.row(id)));
+        }
+        state = out.toByteArray();
+    }
+
+    @Benchmark
+    public long upload() throws IOException {
+        BandwidthLimitedStream out = new BandwidthLimitedStream(bandwidth);
+        codec.encode(state, out);
+        return out.written;
+    }
+
+    /** Discards the data after the time the store would need to receive it. */
+    private static class BandwidthLimitedStream extends OutputStream {
+        private final long nanosPerMegabyte;
+        private long written;
+
+        private BandwidthLimitedStream(int megabytesPerSecond) {
+            this.nanosPerMegabyte = TimeUnit.SECONDS.toNanos(1) / megabytesPerSecond;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written += len;
+            LockSupport.parkNanos(len * nanosPerMegabyte / (1024 * 1024));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.benchmarks;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.common.CheckpointSerializers;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+import org.apache.seatunnel.engine.server.checkpoint.ActionState;
+import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.CompletedCheckpoint;
+import org.apache.seatunnel.engine.server.checkpoint.CompletedCheckpointCodec;
+import org.apache.seatunnel.engine.server.checkpoint.PendingCheckpoint;
+import org.apache.seatunnel.engine.server.checkpoint.SubtaskStatus;
+import org.apache.seatunnel.engine.server.checkpoint.TaskStatistics;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.serializable.SeaTunnelRowCodec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to write and read the checkpoint of a source to sink pipeline in the {@code protostuff} and
+ * the {@code binary} format of the checkpoint storage. The checkpoint is acknowledged through a
+ * {@link PendingCheckpoint} like the tasks do, the sources keep a few splits and the sinks a buffer
+ * of encoded rows. The sizes of the written data are logged before the first iteration.
+ */
+@Slf4j
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class CheckpointSerializerBenchmark {
+
+    private static final long JOB_ID = 20170L;
+
+    private static final int SPLITS_PER_SOURCE = 4;
+
+    private static final int ROWS_PER_SINK = 8;
+
+    private static final ActionStateKey SOURCE = new ActionStateKey("ActionStateKey - source");
+
+    private static final ActionStateKey SINK = new ActionStateKey("ActionStateKey - sink");
+
+    @Param({"protostuff", "binary"})
+    private String format;
+
+    @Param({"4", "64"})
+    private int parallelism;
+
+    private Serializer checkpointSerializer;
+
+    private Serializer pipelineStateSerializer;
+
+    private CompletedCheckpoint checkpoint;
+
+    private byte[] data;
+
+    @Setup
+    public void setup() throws IOException {
+        Map<String, String> config = Collections.singletonMap("serializer", format);
+        checkpointSerializer = CompletedCheckpointCodec.createSerializer(config);
+        pipelineStateSerializer =
+                CheckpointSerializers.createPipelineStateSerializer(
+                        CheckpointSerializers.getFormat(config));
+        checkpoint = createCheckpoint(parallelism);
+        data = write();
+        log.info("{} checkpoint of parallelism {}: {} bytes", format, parallelism, data.length);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        PipelineState state =
+                PipelineState.builder()
+                        .jobId(String.valueOf(checkpoint.getJobId()))
+                        .pipelineId(checkpoint.getPipelineId())
+                        .checkpointId(checkpoint.getCheckpointId())
+                        .states(checkpointSerializer.serialize(checkpoint))
+                        .build();
+        return pipelineStateSerializer.serialize(state);
+    }
+
+    @Benchmark
+    public CompletedCheckpoint read() throws IOException {
+        PipelineState state = pipelineStateSerializer.deserialize(data, PipelineState.class);
+        return checkpointSerializer.deserialize(state.getStates(), CompletedCheckpoint.class);
+    }
+
+    private static CompletedCheckpoint createCheckpoint(int parallelism) throws IOException {
+        TaskGroupLocation group = new TaskGroupLocation(JOB_ID, 1, 1L);
+        Map<Long, TaskStatistics> taskStatistics = new HashMap<>();
+        Map<ActionStateKey, ActionState> actionStates = new HashMap<>();
+        Set<Long> notYetAcknowledgedTasks = new HashSet<>();
+        List<TaskLocation> sources = new ArrayList<>();
+        List<TaskLocation> sinks = new ArrayList<>();
+        for (int i = 0; i < parallelism; i++) {
+            sources.add(new TaskLocation(group, 1L, i));
+            sinks.add(new TaskLocation(group, 2L, i));
+        }
+        for (TaskLocation task : sources) {
+            notYetAcknowledgedTasks.add(task.getTaskID());
+        }
+        for (TaskLocation task : sinks) {
+            notYetAcknowledgedTasks.add(task.getTaskID());
+        }
+        long sourceVertexId = sources.get(0).getTaskVertexId();
+        long sinkVertexId = sinks.get(0).getTaskVertexId();
+        taskStatistics.put(sourceVertexId, new TaskStatistics(sourceVertexId, parallelism));
+        taskStatistics.put(sinkVertexId, new TaskStatistics(sinkVertexId, parallelism));
+        actionStates.put(SOURCE, new ActionState(SOURCE, parallelism));
+        actionStates.put(SINK, new ActionState(SINK, parallelism));
+
+        PendingCheckpoint pendingCheckpoint =
+                new PendingCheckpoint(
+                        JOB_ID,
+                        1,
+                        42L,
+                        System.currentTimeMillis(),
+                        CheckpointType.CHECKPOINT_TYPE,
+                        notYetAcknowledgedTasks,
+                        taskStatistics,
+                        actionStates);
+        SeaTunnelRowCodec rowCodec = new SeaTunnelRowCodec(BenchmarkUtils.ROW_TYPE);
+        for (int i = 0; i < parallelism; i++) {
+            List<byte[]> splits = new ArrayList<>(SPLITS_PER_SOURCE);
+            for (int split = 0; split < SPLITS_PER_SOURCE; split++) {
+                splits.add(
+                        String.format(
+                                        "%s-split-%s-%s:offset=%s",
+                                        BenchmarkUtils.TABLE_ID, i, split, 1_000_000L * split + i)
+                                .getBytes(StandardCharsets.UTF_8));
+            }
+            pendingCheckpoint.acknowledgeTask(
+                    sources.get(i),
+                    Collections.singletonList(new ActionSubtaskState(SOURCE, i, splits)),
+                    SubtaskStatus.RUNNING);
+
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            for (long id = 0; id < ROWS_PER_SINK; id++) {
+                buffer.write(rowCodec.encode(BenchmarkUtils.row(id + i * ROWS_PER_SINK)));
+            }
+            pendingCheckpoint.acknowledgeTask(
+                    sinks.get(i),
+                    Collections.singletonList(
+                            new ActionSubtaskState(
+                                    SINK, i, Collections.singletonList(buffer.toByteArray()))),
+                    SubtaskStatus.RUNNING);
+        }
+        return pendingCheckpoint.getCompletableFuture().join();
+    }
+}
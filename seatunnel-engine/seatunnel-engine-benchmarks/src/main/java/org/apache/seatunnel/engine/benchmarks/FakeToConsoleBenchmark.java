@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.benchmarks;
+
+import org.apache.seatunnel.engine.client.SeaTunnelClient;
+import org.apache.seatunnel.engine.client.job.ClientJobExecutionEnvironment;
+import org.apache.seatunnel.engine.common.config.ConfigProvider;
+import org.apache.seatunnel.engine.common.config.JobConfig;
+import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
+import org.apache.seatunnel.engine.core.job.JobResult;
+import org.apache.seatunnel.engine.core.job.JobStatus;
+import org.apache.seatunnel.engine.server.SeaTunnelServerStarter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.instance.impl.HazelcastInstanceImpl;
+
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time per row of a whole batch job reading from FakeSource and writing to Console without
+ * printing, on a local {@code SeaTunnelServer}. Every invocation submits one job, so the time
+ * includes scheduling the job, which is amortized over {@link #ROWS} rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FakeToConsoleBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    private static final String JOB_CONFIG = "/benchmarks/fake_to_console.conf";
+
+    @Param({"1", "2"})
+    private int parallelism;
+
+    private SeaTunnelConfig seaTunnelConfig;
+
+    private HazelcastInstanceImpl instance;
+
+    private SeaTunnelClient client;
+
+    private String jobConfigFile;
+
+    @Setup
+    public void setup() throws Exception {
+        String clusterName = "benchmark-" + System.nanoTime();
+        seaTunnelConfig = ConfigProvider.locateAndGetSeaTunnelConfig();
+        seaTunnelConfig.getHazelcastConfig().setClusterName(clusterName);
+        instance = SeaTunnelServerStarter.createHazelcastInstance(seaTunnelConfig);
+
+        ClientConfig clientConfig = ConfigProvider.locateAndGetClientConfig();
+        clientConfig.setClusterName(clusterName);
+        int port = instance.getCluster().getLocalMember().getSocketAddress().getPort();
+        clientConfig
+                .getNetworkConfig()
+                .setAddresses(Collections.singletonList("localhost:" + port));
+        client = new SeaTunnelClient(clientConfig);
+
+        URL resource = FakeToConsoleBenchmark.class.getResource(JOB_CONFIG);
+        if (resource == null) {
+            throw new IllegalStateException("Can't find job config " + JOB_CONFIG);
+        }
+        jobConfigFile = Paths.get(resource.toURI()).toString();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+        if (instance != null) {
+            instance.shutdown();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void fakeToConsole() throws Exception {
+        JobConfig jobConfig = new JobConfig();
+        jobConfig.setName("fake_to_console_benchmark");
+        List<String> variables =
+                Arrays.asList("parallelism=" + parallelism, "row_num=" + ROWS / parallelism);
+        ClientJobExecutionEnvironment jobExecutionEnv =
+                client.createExecutionContext(jobConfigFile, variables, jobConfig, seaTunnelConfig);
+        JobResult jobResult = jobExecutionEnv.execute().waitForJobCompleteV2();
+        if (jobResult.getStatus() != JobStatus.FINISHED) {
+            throw new IllegalStateException(
+                    "Benchmark job ended with "
+                            + jobResult.getStatus()
+                            + ": "
+                            + jobResult.getError());
+        }
+    }
+}
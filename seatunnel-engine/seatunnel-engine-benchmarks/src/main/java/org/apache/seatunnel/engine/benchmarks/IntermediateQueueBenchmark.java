@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.benchmarks;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.group.AbstractTaskGroupWithIntermediateQueue;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateBlockingQueue;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateDisruptor;
+import org.apache.seatunnel.engine.server.task.group.queue.AbstractIntermediateQueue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records per second handed from a producer task to a consumer task of the same task group, through
+ * {@code IntermediateBlockingQueue} or {@code IntermediateDisruptor}. The consumer runs on its own
+ * thread like the consumer task would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IntermediateQueueBenchmark {
+
+    private static final int RECORDS_PER_INVOCATION = 10000;
+
+    private static final long QUEUE_ID = 1L;
+
+    @Param({"BLOCKING_QUEUE", "DISRUPTOR"})
+    private String queueType;
+
+    private final AtomicLong consumed = new AtomicLong();
+
+    private Record<?>[] records;
+
+    private IntermediateQueueFlowLifeCycle<?> producer;
+
+    private AbstractIntermediateQueue<?> consumerQueue;
+
+    private volatile boolean running;
+
+    private Thread consumerThread;
+
+    private long produced;
+
+    @Setup
+    public void setup() throws Exception {
+        AbstractTaskGroupWithIntermediateQueue taskGroup = createTaskGroup();
+        taskGroup.init();
+        SeaTunnelTask producerTask = BenchmarkUtils.task();
+        SeaTunnelTask consumerTask = BenchmarkUtils.task();
+        producer =
+                new IntermediateQueueFlowLifeCycle<>(
+                        producerTask, new CompletableFuture<>(), taskGroup.getQueueCache(QUEUE_ID));
+        consumerQueue = taskGroup.getQueueCache(QUEUE_ID);
+        IntermediateQueueFlowLifeCycle<?> consumer =
+                new IntermediateQueueFlowLifeCycle<>(
+                        consumerTask, new CompletableFuture<>(), consumerQueue);
+
+        records = new Record<?>[1024];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new Record<>(BenchmarkUtils.row(i));
+        }
+
+        running = true;
+        Collector<Record<?>> collector =
+                new Collector<Record<?>>() {
+                    @Override
+                    public void collect(Record<?> record) {
+                        consumed.incrementAndGet();
+                    }
+
+                    @Override
+                    public void close() {}
+                };
+        // The first collect registers the disruptor handler, records published before that would
+        // be overwritten because the ring buffer has no gating sequence yet.
+        consumer.collect(collector);
+        consumerThread =
+                new Thread(
+                        () -> {
+                            try {
+                                while (running) {
+                                    consumer.collect(collector);
+                                }
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        },
+                        "intermediate-queue-consumer");
+        consumerThread.setDaemon(true);
+        consumerThread.start();
+    }
+
+    private AbstractTaskGroupWithIntermediateQueue createTaskGroup() {
+        TaskGroupLocation location = new TaskGroupLocation(1L, 1, 1L);
+        switch (queueType) {
+            case "BLOCKING_QUEUE":
+                return new TaskGroupWithIntermediateBlockingQueue(
+                        location, queueType, Collections.emptyList());
+            case "DISRUPTOR":
+                return new TaskGroupWithIntermediateDisruptor(
+                        location, queueType, Collections.emptyList());
+            default:
+                throw new IllegalArgumentException("Unknown queue type " + queueType);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        running = false;
+        consumerThread.join(TimeUnit.SECONDS.toMillis(10));
+        consumerQueue.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS_PER_INVOCATION)
+    public void transfer() {
+        for (int i = 0; i < RECORDS_PER_INVOCATION; i++) {
+            producer.received(records[i & (records.length - 1)]);
+        }
+        produced += RECORDS_PER_INVOCATION;
+        while (consumed.get() < produced) {
+            Thread.yield();
+        }
+    }
+}
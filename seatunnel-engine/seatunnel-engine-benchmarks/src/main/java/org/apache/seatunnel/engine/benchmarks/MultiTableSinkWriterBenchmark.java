@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.benchmarks;
+
+import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
+import org.apache.seatunnel.api.sink.multitablesink.MultiTableSinkWriter;
+import org.apache.seatunnel.api.sink.multitablesink.SinkIdentifier;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rows per second routed by {@link MultiTableSinkWriter} to the writers of their table, randomly or
+ * by primary key, with writers that only count the rows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultiTableSinkWriterBenchmark {
+
+    private static final int ROWS_PER_INVOCATION = 10000;
+
+    @Param({"1", "8"})
+    private int tableCount;
+
+    @Param({"1", "4"})
+    private int replicaNum;
+
+    @Param({"false", "true"})
+    private boolean keyed;
+
+    private final AtomicLong written = new AtomicLong();
+
+    private MultiTableSinkWriter sinkWriter;
+
+    private SeaTunnelRow[] rows;
+
+    private long produced;
+
+    @Setup
+    public void setup() {
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> writers = new HashMap<>();
+        Map<SinkIdentifier, SinkWriter.Context> writerContexts = new HashMap<>();
+        for (int i = 0; i < replicaNum; i++) {
+            for (int table = 0; table < tableCount; table++) {
+                writers.put(SinkIdentifier.of(tableId(table), i), new CountingSinkWriter());
+            }
+        }
+        sinkWriter = new MultiTableSinkWriter(writers, replicaNum, writerContexts);
+
+        rows = new SeaTunnelRow[1024];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = BenchmarkUtils.row(i);
+            rows[i].setTableId(tableId(i % tableCount));
+        }
+    }
+
+    private static String tableId(int table) {
+        return BenchmarkUtils.TABLE_ID + "_" + table;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        sinkWriter.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public void write() throws IOException {
+        for (int i = 0; i < ROWS_PER_INVOCATION; i++) {
+            sinkWriter.write(rows[i & (rows.length - 1)]);
+        }
+        produced += ROWS_PER_INVOCATION;
+        while (written.get() < produced) {
+            Thread.yield();
+        }
+    }
+
+    private class CountingSinkWriter
+            implements SinkWriter<SeaTunnelRow, Void, Void>, SupportMultiTableSinkWriter<Void> {
+
+        @Override
+        public void write(SeaTunnelRow element) {
+            written.incrementAndGet();
+        }
+
+        @Override
+        public Optional<Integer> primaryKey() {
+            return keyed ? Optional.of(0) : Optional.empty();
+        }
+
+        @Override
+        public Optional<Void> prepareCommit() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void abortPrepare() {}
+
+        @Override
+        public void close() {}
+    }
+}
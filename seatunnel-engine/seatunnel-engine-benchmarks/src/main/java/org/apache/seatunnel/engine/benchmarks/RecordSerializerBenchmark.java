@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.benchmarks;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.engine.server.serializable.RecordSerializer;
+import org.apache.seatunnel.engine.server.serializable.SeaTunnelRowCodec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip of a {@link Record} through the Hazelcast serialization service, which picks up the
+ * {@link RecordSerializer} like the engine does. Rows are measured both as plain {@link
+ * SeaTunnelRow}s and encoded by {@link SeaTunnelRowCodec} the way shuffles send them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordSerializerBenchmark {
+
+    private InternalSerializationService serializationService;
+
+    private SeaTunnelRowCodec rowCodec;
+
+    private Record<SeaTunnelRow> rowRecord;
+
+    private Data rowData;
+
+    private Data encodedRowData;
+
+    @Setup
+    public void setup() {
+        serializationService =
+                new DefaultSerializationServiceBuilder()
+                        .setClassLoader(RecordSerializerBenchmark.class.getClassLoader())
+                        .build();
+        rowCodec = new SeaTunnelRowCodec(BenchmarkUtils.ROW_TYPE);
+        rowRecord = new Record<>(BenchmarkUtils.row(42));
+        rowData = serializationService.toData(rowRecord);
+        encodedRowData =
+                serializationService.toData(new Record<>(rowCodec.encode(rowRecord.getData())));
+    }
+
+    @TearDown
+    public void tearDown() {
+        serializationService.dispose();
+    }
+
+    @Benchmark
+    public Data serializeRow() {
+        return serializationService.toData(rowRecord);
+    }
+
+    @Benchmark
+    public Record<?> deserializeRow() {
+        return serializationService.toObject(rowData);
+    }
+
+    @Benchmark
+    public Record<?> roundTripRow() {
+        return serializationService.toObject(serializationService.toData(rowRecord));
+    }
+
+    @Benchmark
+    public Data serializeEncodedRow() {
+        return serializationService.toData(new Record<>(rowCodec.encode(rowRecord.getData())));
+    }
+
+    @Benchmark
+    public SeaTunnelRow deserializeEncodedRow() {
+        Record<?> record = serializationService.toObject(encodedRowData);
+        return rowCodec.decode((byte[]) record.getData());
+    }
+
+    @Benchmark
+    public SeaTunnelRow roundTripEncodedRow() {
+        Data data = serializationService.toData(new Record<>(rowCodec.encode(rowRecord.getData())));
+        Record<?> record = serializationService.toObject(data);
+        return rowCodec.decode((byte[]) record.getData());
+    }
+}
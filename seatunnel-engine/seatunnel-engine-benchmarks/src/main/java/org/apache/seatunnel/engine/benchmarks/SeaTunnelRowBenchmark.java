@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.benchmarks;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowSizeEstimator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link SeaTunnelRow#getBytesSize()}, which the source and sink metrics call for every
+ * row, and of the {@link SeaTunnelRowSizeEstimator} the source collector uses instead. The size is
+ * cached in the row, so every invocation measures a new row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeaTunnelRowBenchmark {
+
+    private Object[] fields;
+
+    private SeaTunnelRowSizeEstimator estimator;
+
+    @Setup
+    public void setup() {
+        fields = BenchmarkUtils.fields(42);
+        estimator = new SeaTunnelRowSizeEstimator(BenchmarkUtils.ROW_TYPE);
+    }
+
+    @Benchmark
+    public int bytesSize() {
+        return new SeaTunnelRow(fields).getBytesSize();
+    }
+
+    @Benchmark
+    public int bytesSizeWithRowType() {
+        return new SeaTunnelRow(fields).getBytesSize(BenchmarkUtils.ROW_TYPE);
+    }
+
+    @Benchmark
+    public int bytesSizeEstimated() {
+        return estimator.estimate(new SeaTunnelRow(fields));
+    }
+}
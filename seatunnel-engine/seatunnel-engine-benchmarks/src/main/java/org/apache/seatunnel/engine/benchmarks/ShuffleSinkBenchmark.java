@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.benchmarks;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShufflePartitionStrategy;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleInputChannel;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleOutputChannel;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleTransport;
+import org.apache.seatunnel.engine.server.task.flow.ShuffleSinkFlowLifeCycle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link ShuffleSinkFlowLifeCycle} per record: partition selection, row encoding and
+ * buffering. The channels only count the flushed records, so the transport is not measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShuffleSinkBenchmark {
+
+    @Param({"1", "8"})
+    private int targetPartitions;
+
+    /** Rows go to a random target, or are partitioned by the hash of the id column. */
+    @Param({"false", "true"})
+    private boolean keyed;
+
+    private ShuffleSinkFlowLifeCycle shuffleSink;
+
+    private Record<?>[] records;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        ShuffleStrategy shuffleStrategy =
+                ShufflePartitionStrategy.builder()
+                        .jobId(1L)
+                        .shuffleId(1L)
+                        .inputPartitions(1)
+                        .targetPartitions(targetPartitions)
+                        .partitionKeys(keyed ? Collections.singletonList("id") : null)
+                        .catalogTables(Collections.singletonList(BenchmarkUtils.CATALOG_TABLE))
+                        .build();
+        ShuffleAction shuffleAction =
+                new ShuffleAction(
+                        1L,
+                        "shuffle",
+                        ShuffleConfig.builder().shuffleStrategy(shuffleStrategy).build());
+        shuffleSink =
+                new ShuffleSinkFlowLifeCycle(
+                        BenchmarkUtils.task(),
+                        0,
+                        shuffleAction,
+                        new CountingShuffleTransport(),
+                        new CompletableFuture<>());
+
+        records = new Record<?>[1024];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new Record<>(BenchmarkUtils.row(i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        shuffleSink.close();
+    }
+
+    @Benchmark
+    public void received() throws IOException {
+        shuffleSink.received(records[next++ & (records.length - 1)]);
+    }
+
+    private static class CountingShuffleTransport implements ShuffleTransport {
+
+        @Override
+        public ShuffleOutputChannel[] createOutputChannels(
+                ShuffleStrategy shuffleStrategy, int pipelineId, int inputIndex) {
+            List<String> names = shuffleStrategy.getOutputQueueNames(pipelineId, inputIndex);
+            ShuffleOutputChannel[] channels = new ShuffleOutputChannel[names.size()];
+            for (int i = 0; i < channels.length; i++) {
+                channels[i] = new CountingOutputChannel(names.get(i));
+            }
+            return channels;
+        }
+
+        @Override
+        public ShuffleInputChannel[] createInputChannels(
+                ShuffleStrategy shuffleStrategy, int pipelineId, int targetIndex) {
+            // the benchmark only writes to the shuffle
+            return new ShuffleInputChannel[0];
+        }
+    }
+
+    private static class CountingOutputChannel implements ShuffleOutputChannel {
+        private final String name;
+
+        private long records;
+
+        CountingOutputChannel(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void put(Record<?> record) {
+            records++;
+        }
+
+        @Override
+        public void putAll(Collection<Record<?>> records) {
+            this.records += records.size();
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -63,5 +63,7 @@ public class Constant {
 
     public static final String IMAP_CONNECTOR_JAR_REF_COUNTERS = "engine_connectorJarRefCounters";
 
+    public static final String IMAP_SHUFFLE_CHANNEL_ADDRESS = "engine_shuffleChannelAddress";
+
     public static final String PROP_FILE = "zeta.version.properties";
 }
@@ -17,13 +17,16 @@
 
 package org.apache.seatunnel.engine.common.config;
 
+import org.apache.seatunnel.engine.common.config.server.BlockingTaskThreadType;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.config.server.ConnectorJarStorageConfig;
 import org.apache.seatunnel.engine.common.config.server.CoordinatorServiceConfig;
+import org.apache.seatunnel.engine.common.config.server.FailoverStrategy;
 import org.apache.seatunnel.engine.common.config.server.HttpConfig;
 import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.common.config.server.ScheduleStrategy;
 import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
+import org.apache.seatunnel.engine.common.config.server.ShuffleTransportType;
 import org.apache.seatunnel.engine.common.config.server.SlotServiceConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryConfig;
 import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
@@ -68,6 +71,18 @@ public class EngineConfig {
             ServerConfigOptions.CLASSLOADER_CACHE_MODE.defaultValue();
 
     private QueueType queueType = ServerConfigOptions.QUEUE_TYPE.defaultValue();
+
+    private ShuffleTransportType shuffleTransport =
+            ServerConfigOptions.SHUFFLE_TRANSPORT.defaultValue();
+
+    private int shuffleTcpPort = ServerConfigOptions.SHUFFLE_TCP_PORT.defaultValue();
+
+    private BlockingTaskThreadType blockingTaskThreadType =
+            ServerConfigOptions.BLOCKING_TASK_THREAD_TYPE.defaultValue();
+
+    private FailoverStrategy failoverStrategy =
+            ServerConfigOptions.FAILOVER_STRATEGY.defaultValue();
+
     private int historyJobExpireMinutes =
             ServerConfigOptions.HISTORY_JOB_EXPIRE_MINUTES.defaultValue();
 
@@ -133,6 +148,24 @@ public class EngineConfig {
         return this;
     }
 
+    public EngineConfig setShuffleTransport(ShuffleTransportType shuffleTransport) {
+        checkNotNull(shuffleTransport);
+        this.shuffleTransport = shuffleTransport;
+        return this;
+    }
+
+    public EngineConfig setBlockingTaskThreadType(BlockingTaskThreadType blockingTaskThreadType) {
+        checkNotNull(blockingTaskThreadType);
+        this.blockingTaskThreadType = blockingTaskThreadType;
+        return this;
+    }
+
+    public EngineConfig setFailoverStrategy(FailoverStrategy failoverStrategy) {
+        checkNotNull(failoverStrategy);
+        this.failoverStrategy = failoverStrategy;
+        return this;
+    }
+
     public enum ClusterRole {
         MASTER_AND_WORKER,
         MASTER,
@@ -17,16 +17,19 @@
 
 package org.apache.seatunnel.engine.common.config;
 
+import org.apache.seatunnel.engine.common.config.server.BlockingTaskThreadType;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.config.server.CheckpointStorageConfig;
 import org.apache.seatunnel.engine.common.config.server.ConnectorJarHAStorageConfig;
 import org.apache.seatunnel.engine.common.config.server.ConnectorJarStorageConfig;
 import org.apache.seatunnel.engine.common.config.server.ConnectorJarStorageMode;
 import org.apache.seatunnel.engine.common.config.server.CoordinatorServiceConfig;
+import org.apache.seatunnel.engine.common.config.server.FailoverStrategy;
 import org.apache.seatunnel.engine.common.config.server.HttpConfig;
 import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.common.config.server.ScheduleStrategy;
 import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
+import org.apache.seatunnel.engine.common.config.server.ShuffleTransportType;
 import org.apache.seatunnel.engine.common.config.server.SlotServiceConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryLogsConfig;
@@ -54,6 +57,7 @@ import static com.hazelcast.internal.config.DomConfigHelper.childElements;
 import static com.hazelcast.internal.config.DomConfigHelper.cleanNodeName;
 import static com.hazelcast.internal.config.DomConfigHelper.getBooleanValue;
 import static com.hazelcast.internal.config.DomConfigHelper.getIntegerValue;
+import static com.hazelcast.internal.config.DomConfigHelper.getLongValue;
 
 public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor {
     private static final ILogger LOGGER = Logger.getLogger(YamlSeaTunnelDomConfigProcessor.class);
@@ -137,6 +141,21 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
             } else if (ServerConfigOptions.QUEUE_TYPE.key().equals(name)) {
                 engineConfig.setQueueType(
                         QueueType.valueOf(getTextContent(node).toUpperCase(Locale.ROOT)));
+            } else if (ServerConfigOptions.SHUFFLE_TRANSPORT.key().equals(name)) {
+                engineConfig.setShuffleTransport(
+                        ShuffleTransportType.valueOf(
+                                getTextContent(node).toUpperCase(Locale.ROOT)));
+            } else if (ServerConfigOptions.SHUFFLE_TCP_PORT.key().equals(name)) {
+                engineConfig.setShuffleTcpPort(
+                        getIntegerValue(
+                                ServerConfigOptions.SHUFFLE_TCP_PORT.key(), getTextContent(node)));
+            } else if (ServerConfigOptions.FAILOVER_STRATEGY.key().equals(name)) {
+                engineConfig.setFailoverStrategy(
+                        FailoverStrategy.valueOf(getTextContent(node).toUpperCase(Locale.ROOT)));
+            } else if (ServerConfigOptions.BLOCKING_TASK_THREAD_TYPE.key().equals(name)) {
+                engineConfig.setBlockingTaskThreadType(
+                        BlockingTaskThreadType.valueOf(
+                                getTextContent(node).toUpperCase(Locale.ROOT)));
             } else if (ServerConfigOptions.PRINT_EXECUTION_INFO_INTERVAL.key().equals(name)) {
                 engineConfig.setPrintExecutionInfoInterval(
                         getIntegerValue(
@@ -154,10 +173,10 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                                 getTextContent(node)));
             } else if (ServerConfigOptions.TASK_EXECUTION_THREAD_SHARE_MODE.key().equals(name)) {
                 String mode = getTextContent(node).toUpperCase(Locale.ROOT);
-                if (!Arrays.asList("ALL", "OFF", "PART").contains(mode)) {
+                if (!Arrays.asList("ALL", "OFF", "PART", "WORK_STEALING").contains(mode)) {
                     throw new IllegalArgumentException(
                             ServerConfigOptions.TASK_EXECUTION_THREAD_SHARE_MODE
-                                    + " must in [ALL, OFF, PART]");
+                                    + " must in [ALL, OFF, PART, WORK_STEALING]");
                 }
                 engineConfig.setTaskExecutionThreadShareMode(ThreadShareMode.valueOf(mode));
             } else if (ServerConfigOptions.SLOT_SERVICE.key().equals(name)) {
@@ -230,6 +249,22 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                         getIntegerValue(
                                 ServerConfigOptions.SCHEMA_CHANGE_CHECKPOINT_TIMEOUT.key(),
                                 getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_INCREMENTAL.key().equals(name)) {
+                checkpointConfig.setIncremental(getBooleanValue(getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_UNALIGNED.key().equals(name)) {
+                checkpointConfig.setUnaligned(getBooleanValue(getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_LOCAL_RECOVERY.key().equals(name)) {
+                checkpointConfig.setLocalRecovery(getBooleanValue(getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_STATE_UPLOAD_THRESHOLD.key().equals(name)) {
+                checkpointConfig.setStateUploadThreshold(
+                        getLongValue(
+                                ServerConfigOptions.CHECKPOINT_STATE_UPLOAD_THRESHOLD.key(),
+                                getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_STATS_HISTORY_SIZE.key().equals(name)) {
+                checkpointConfig.setStatsHistorySize(
+                        getIntegerValue(
+                                ServerConfigOptions.CHECKPOINT_STATS_HISTORY_SIZE.key(),
+                                getTextContent(node)));
             } else if (ServerConfigOptions.CHECKPOINT_STORAGE.key().equals(name)) {
                 checkpointConfig.setStorage(parseCheckpointStorageConfig(node));
             } else {
@@ -37,6 +37,17 @@ public class CheckpointConfig implements Serializable {
 
     private boolean checkpointEnable = true;
 
+    private boolean incremental = ServerConfigOptions.CHECKPOINT_INCREMENTAL.defaultValue();
+
+    private boolean unaligned = ServerConfigOptions.CHECKPOINT_UNALIGNED.defaultValue();
+
+    private boolean localRecovery = ServerConfigOptions.CHECKPOINT_LOCAL_RECOVERY.defaultValue();
+
+    private long stateUploadThreshold =
+            ServerConfigOptions.CHECKPOINT_STATE_UPLOAD_THRESHOLD.defaultValue();
+
+    private int statsHistorySize = ServerConfigOptions.CHECKPOINT_STATS_HISTORY_SIZE.defaultValue();
+
     public void setCheckpointInterval(long checkpointInterval) {
         checkArgument(
                 checkpointInterval >= MINIMAL_CHECKPOINT_TIME,
@@ -51,6 +62,11 @@ public class CheckpointConfig implements Serializable {
         this.checkpointTimeout = checkpointTimeout;
     }
 
+    public void setStatsHistorySize(int statsHistorySize) {
+        checkArgument(statsHistorySize >= 1, "The checkpoint stats history size must be >= 1.");
+        this.statsHistorySize = statsHistorySize;
+    }
+
     public void setSchemaChangeCheckpointTimeout(long checkpointTimeout) {
         checkArgument(
                 checkpointTimeout >= MINIMAL_CHECKPOINT_TIME,
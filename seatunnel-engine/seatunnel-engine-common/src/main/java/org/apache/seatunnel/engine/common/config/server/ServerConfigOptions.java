@@ -56,7 +56,7 @@ public class ServerConfigOptions {
                     .type(new TypeReference<ThreadShareMode>() {})
                     .defaultValue(ThreadShareMode.OFF)
                     .withDescription(
-                            "The thread sharing mode of TaskExecutionServer, including ALL, OFF, PART. Default is OFF");
+                            "The thread sharing mode of TaskExecutionServer, including ALL, OFF, PART, WORK_STEALING. Default is OFF");
 
     public static final Option<Boolean> DYNAMIC_SLOT =
             Options.key("dynamic-slot")
@@ -91,6 +91,41 @@ public class ServerConfigOptions {
                     .withDescription(
                             "The timeout (in milliseconds) for a schema change checkpoint.");
 
+    public static final Option<Boolean> CHECKPOINT_INCREMENTAL =
+            Options.key("incremental")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether a checkpoint only persists the subtask states that changed since the previous checkpoint.");
+
+    public static final Option<Boolean> CHECKPOINT_UNALIGNED =
+            Options.key("unaligned")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether checkpoint barriers overtake the records buffered on shuffle edges, which are then persisted as part of the checkpoint.");
+
+    public static final Option<Boolean> CHECKPOINT_LOCAL_RECOVERY =
+            Options.key("local-recovery")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether each worker keeps a copy of the checkpoint states its tasks acknowledged, so that a task redeployed on the same worker restores from it instead of receiving the states from the master.");
+
+    public static final Option<Long> CHECKPOINT_STATE_UPLOAD_THRESHOLD =
+            Options.key("state-upload-threshold")
+                    .longType()
+                    .defaultValue(-1L)
+                    .withDescription(
+                            "The size in bytes above which a task writes its checkpoint state to the checkpoint storage itself and acknowledges the checkpoint with a handle to it, a negative value sends all states to the master.");
+
+    public static final Option<Integer> CHECKPOINT_STATS_HISTORY_SIZE =
+            Options.key("stats-history-size")
+                    .intType()
+                    .defaultValue(10)
+                    .withDescription(
+                            "The number of recent checkpoints of each pipeline whose statistics the master keeps for the REST API and the metrics.");
+
     public static final Option<String> CHECKPOINT_STORAGE_TYPE =
             Options.key("type")
                     .stringType()
@@ -109,6 +144,38 @@ public class ServerConfigOptions {
                     .defaultValue(QueueType.BLOCKINGQUEUE)
                     .withDescription("The internal data cache queue type.");
 
+    public static final Option<ShuffleTransportType> SHUFFLE_TRANSPORT =
+            Options.key("shuffle-transport")
+                    .type(new TypeReference<ShuffleTransportType>() {})
+                    .defaultValue(ShuffleTransportType.HAZELCAST_QUEUE)
+                    .withDescription(
+                            "The transport of shuffled records between tasks, including HAZELCAST_QUEUE, TCP.");
+
+    public static final Option<Integer> SHUFFLE_TCP_PORT =
+            Options.key("shuffle-tcp-port")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The port the TCP shuffle server listens on, 0 means a random free port.");
+
+    public static final Option<BlockingTaskThreadType> BLOCKING_TASK_THREAD_TYPE =
+            Options.key("blocking-task-thread-type")
+                    .type(new TypeReference<BlockingTaskThreadType>() {})
+                    .defaultValue(BlockingTaskThreadType.PLATFORM)
+                    .withDescription(
+                            "The thread type of the tasks which don't share threads, including PLATFORM, VIRTUAL. "
+                                    + "VIRTUAL needs JDK 24 or later and falls back to PLATFORM on older JVMs, "
+                                    + "whose virtual threads pin their carrier thread while holding the checkpoint lock.");
+
+    public static final Option<FailoverStrategy> FAILOVER_STRATEGY =
+            Options.key("failover-strategy")
+                    .type(new TypeReference<FailoverStrategy>() {})
+                    .defaultValue(FailoverStrategy.PIPELINE)
+                    .withDescription(
+                            "The tasks restarted when a task of a streaming job fails, including PIPELINE, REGION. "
+                                    + "REGION only restarts the task groups connected to the failed one. "
+                                    + "Batch jobs always restart the whole pipeline.");
+
     public static final Option<CheckpointStorageConfig> CHECKPOINT_STORAGE =
             Options.key("storage")
                     .type(new TypeReference<CheckpointStorageConfig>() {})
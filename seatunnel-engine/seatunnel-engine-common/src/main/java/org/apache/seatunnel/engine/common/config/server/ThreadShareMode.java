@@ -20,5 +20,6 @@ package org.apache.seatunnel.engine.common.config.server;
 public enum ThreadShareMode {
     ALL,
     OFF,
-    PART
+    PART,
+    WORK_STEALING
 }
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.core.dag.actions;
 
+import org.apache.seatunnel.engine.common.config.server.ShuffleTransportType;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -37,6 +39,9 @@ public class ShuffleConfig implements Config {
     @Builder.Default private long batchFlushInterval = DEFAULT_BATCH_FLUSH_INTERVAL;
     private ShuffleStrategy shuffleStrategy;
 
+    @Builder.Default
+    private ShuffleTransportType transportType = ShuffleTransportType.HAZELCAST_QUEUE;
+
     @Tolerate
     public ShuffleConfig() {}
 }
@@ -31,10 +31,12 @@ import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -44,7 +46,7 @@ import java.util.stream.Stream;
 @Setter
 @ToString
 public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
-    private List<CatalogTable> catalogTables;
+    private final Map<String, Integer> tableQueueIndexes = new ConcurrentHashMap<>();
     private String targetTableId;
 
     @Tolerate
@@ -85,6 +87,29 @@ public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
         return generateQueueName(pipelineId, inputIndex, tableId);
     }
 
+    @Override
+    public int selectQueue(Record<?> record) {
+        String tableId;
+        if (record.getData() instanceof SeaTunnelRow) {
+            tableId = ((SeaTunnelRow) record.getData()).getTableId();
+        } else if (record.getData() instanceof SchemaChangeEvent) {
+            tableId = ((SchemaChangeEvent) record.getData()).tablePath().toString();
+        } else {
+            throw new UnsupportedOperationException("Unsupported record: " + record);
+        }
+        if (tableQueueIndexes.isEmpty()) {
+            for (int i = 0; i < catalogTables.size(); i++) {
+                tableQueueIndexes.put(
+                        catalogTables.get(i).getTableId().toTablePath().toString(), i);
+            }
+        }
+        Integer queueIndex = tableQueueIndexes.get(tableId);
+        if (queueIndex == null) {
+            throw new UnsupportedOperationException("Unsupported table: " + tableId);
+        }
+        return queueIndex;
+    }
+
     @Override
     public IQueue<Record<?>>[] getShuffles(
             HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
@@ -104,6 +129,26 @@ public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
         return queues;
     }
 
+    @Override
+    public List<String> getOutputQueueNames(int pipelineId, int inputIndex) {
+        List<String> queueNames = new ArrayList<>(catalogTables.size());
+        for (CatalogTable entry : catalogTables) {
+            String tableId = entry.getTableId().toTablePath().toString();
+            queueNames.add(generateQueueName(pipelineId, inputIndex, tableId));
+        }
+        return queueNames;
+    }
+
+    @Override
+    public String[] getInputQueueNames(int pipelineId, int targetIndex) {
+        Objects.requireNonNull(targetTableId);
+        String[] queueNames = new String[getInputPartitions()];
+        for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
+            queueNames[inputIndex] = generateQueueName(pipelineId, inputIndex, targetTableId);
+        }
+        return queueNames;
+    }
+
     private String generateQueueName(int pipelineId, int inputIndex, String tableId) {
         return "ShuffleMultipleRow-Queue_"
                 + getJobId()
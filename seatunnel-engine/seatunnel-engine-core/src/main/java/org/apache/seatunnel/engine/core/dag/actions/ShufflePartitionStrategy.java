@@ -17,7 +17,14 @@
 
 package org.apache.seatunnel.engine.core.dag.actions;
 
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.schema.handler.TableSchemaChangeEventDispatcher;
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
@@ -28,23 +35,45 @@ import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
 
+/**
+ * Distributes records of the inputs over {@code targetPartitions} targets. Without {@code
+ * partitionKeys} a row goes to a random target, otherwise rows are routed by the hash of their key
+ * so that all rows with the same key end up in the same target, in order.
+ */
 @Slf4j
 @SuperBuilder
 @Getter
 @Setter
 @ToString
 public class ShufflePartitionStrategy extends ShuffleStrategy {
+    private static final int[] WHOLE_ROW = new int[0];
+
     private final Map<Integer, String[]> inputQueueMapping = new HashMap<>();
+    private final Map<String, int[]> tableKeyIndexes = new ConcurrentHashMap<>();
+    /** Schemas of the tables changed by a schema change event since the job started. */
+    private final Map<String, TableSchema> changedTableSchemas = new ConcurrentHashMap<>();
+    /** Id of the shuffle action, keeps the queues of several shuffles in a pipeline apart. */
+    private long shuffleId;
+
     private int targetPartitions;
+    /**
+     * Columns the rows are hashed by. An empty list means the primary key of each table, {@code
+     * null} disables key partitioning.
+     */
+    private List<String> partitionKeys;
 
     @Tolerate
     public ShufflePartitionStrategy() {}
@@ -86,7 +115,125 @@ public class ShufflePartitionStrategy extends ShuffleStrategy {
                             }
                             return queueNames;
                         });
-        return inputQueueNames[ThreadLocalRandom.current().nextInt(targetPartitions)];
+        return inputQueueNames[selectQueue(record)];
+    }
+
+    @Override
+    public int selectQueue(Record<?> record) {
+        if (record.getData() instanceof SchemaChangeEvent) {
+            applySchemaChange((SchemaChangeEvent) record.getData());
+            // every target has to apply the schema change before the rows after it
+            return BROADCAST;
+        }
+        if (partitionKeys == null || !(record.getData() instanceof SeaTunnelRow)) {
+            return ThreadLocalRandom.current().nextInt(targetPartitions);
+        }
+        SeaTunnelRow row = (SeaTunnelRow) record.getData();
+        int[] keyIndexes = getKeyIndexes(row.getTableId());
+        int hash = 1;
+        if (keyIndexes == WHOLE_ROW) {
+            for (Object field : row.getFields()) {
+                hash = 31 * hash + hashField(field);
+            }
+        } else {
+            for (int keyIndex : keyIndexes) {
+                hash = 31 * hash + hashField(row.getField(keyIndex));
+            }
+        }
+        return Math.floorMod(mix(hash), targetPartitions);
+    }
+
+    /** The key columns may move with the schema change, so their indexes are resolved again. */
+    private void applySchemaChange(SchemaChangeEvent event) {
+        if (partitionKeys == null) {
+            return;
+        }
+        String tableId = normalizeTableId(event.tablePath().toString());
+        TableSchema schema = getTableSchema(tableId);
+        if (schema == null) {
+            return;
+        }
+        changedTableSchemas.put(
+                tableId, new TableSchemaChangeEventDispatcher().reset(schema).apply(event));
+        tableKeyIndexes.put(tableId, resolveKeyIndexes(tableId));
+    }
+
+    private String normalizeTableId(String tableId) {
+        if (catalogTables != null && catalogTables.size() == 1) {
+            // single table jobs don't always carry the table id on the rows
+            return catalogTables.get(0).getTableId().toTablePath().toString();
+        }
+        return tableId;
+    }
+
+    private TableSchema getTableSchema(String tableId) {
+        TableSchema schema = changedTableSchemas.get(tableId);
+        if (schema != null || catalogTables == null) {
+            return schema;
+        }
+        for (CatalogTable catalogTable : catalogTables) {
+            if (catalogTable.getTableId().toTablePath().toString().equals(tableId)) {
+                return catalogTable.getTableSchema();
+            }
+        }
+        return null;
+    }
+
+    private int[] getKeyIndexes(String tableId) {
+        tableId = normalizeTableId(tableId);
+        int[] keyIndexes = tableKeyIndexes.get(tableId);
+        if (keyIndexes == null) {
+            keyIndexes = resolveKeyIndexes(tableId);
+            tableKeyIndexes.put(tableId, keyIndexes);
+        }
+        return keyIndexes;
+    }
+
+    private int[] resolveKeyIndexes(String tableId) {
+        TableSchema schema = getTableSchema(tableId);
+        if (schema == null) {
+            return WHOLE_ROW;
+        }
+        List<String> keys = partitionKeys;
+        if (keys.isEmpty()) {
+            PrimaryKey primaryKey = schema.getPrimaryKey();
+            if (primaryKey == null || primaryKey.getColumnNames().isEmpty()) {
+                log.warn(
+                        "table {} has no primary key, shuffle by the hash of the whole row",
+                        tableId);
+                return WHOLE_ROW;
+            }
+            keys = primaryKey.getColumnNames();
+        }
+        SeaTunnelRowType rowType = schema.toPhysicalRowDataType();
+        int[] keyIndexes = new int[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            keyIndexes[i] = rowType.indexOf(keys.get(i));
+        }
+        return keyIndexes;
+    }
+
+    private static int hashField(Object field) {
+        if (field == null) {
+            return 0;
+        }
+        if (field instanceof byte[]) {
+            return Arrays.hashCode((byte[]) field);
+        }
+        if (field instanceof Object[]) {
+            return Arrays.deepHashCode((Object[]) field);
+        }
+        return field.hashCode();
+    }
+
+    /** Spreads the bits of the hash, the murmur3 finalizer. */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
     }
 
     @Override
@@ -108,9 +255,29 @@ public class ShufflePartitionStrategy extends ShuffleStrategy {
         return shuffles;
     }
 
+    @Override
+    public List<String> getOutputQueueNames(int pipelineId, int inputIndex) {
+        checkArgument(inputIndex >= 0 && inputIndex < getInputPartitions());
+        List<String> queueNames = new ArrayList<>(targetPartitions);
+        for (int targetIndex = 0; targetIndex < targetPartitions; targetIndex++) {
+            queueNames.add(generateQueueName(pipelineId, inputIndex, targetIndex));
+        }
+        return queueNames;
+    }
+
+    @Override
+    public String[] getInputQueueNames(int pipelineId, int targetIndex) {
+        checkArgument(targetIndex >= 0 && targetIndex < targetPartitions);
+        String[] queueNames = new String[getInputPartitions()];
+        for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
+            queueNames[inputIndex] = generateQueueName(pipelineId, inputIndex, targetIndex);
+        }
+        return queueNames;
+    }
+
     private String generateQueueName(int pipelineId, int inputIndex, int targetIndex) {
         return String.format(
-                "ShufflePartition-Queue_%s_%s_%s_%s",
-                getJobId(), pipelineId, inputIndex, targetIndex);
+                "ShufflePartition-Queue_%s_%s_%s_%s_%s",
+                getJobId(), shuffleId, pipelineId, inputIndex, targetIndex);
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.core.dag.actions;
 
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.Record;
 
 import com.hazelcast.collection.IQueue;
@@ -30,6 +31,7 @@ import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Map;
 
 @SuperBuilder(toBuilder = true)
@@ -40,6 +42,8 @@ public abstract class ShuffleStrategy implements Serializable {
     private static final int DEFAULT_QUEUE_SIZE = 2048;
     private static final int DEFAULT_QUEUE_BACKUP_COUNT = 0;
     private static final int DEFAULT_QUEUE_ASYNC_BACKUP_COUNT = 0;
+    /** Returned by {@link #selectQueue(Record)} when the record goes to every output queue. */
+    public static final int BROADCAST = -1;
 
     protected long jobId;
     protected int inputPartitions;
@@ -47,6 +51,8 @@ public abstract class ShuffleStrategy implements Serializable {
     @Builder.Default protected int queueBackupCount = DEFAULT_QUEUE_BACKUP_COUNT;
     @Builder.Default protected int queueAsyncBackupCount = DEFAULT_QUEUE_ASYNC_BACKUP_COUNT;
     protected int queueEmptyQueueTtl;
+    /** Tables flowing through the shuffle, used to build the schema-aware row codec. */
+    protected List<CatalogTable> catalogTables;
 
     @Tolerate
     public ShuffleStrategy() {}
@@ -56,9 +62,21 @@ public abstract class ShuffleStrategy implements Serializable {
 
     public abstract String createShuffleKey(Record<?> record, int pipelineId, int inputIndex);
 
+    /**
+     * Index of the output queue the record is routed to, matching the order of {@link
+     * #getOutputQueueNames(int, int)}, or {@link #BROADCAST}.
+     */
+    public abstract int selectQueue(Record<?> record);
+
     public abstract IQueue<Record<?>>[] getShuffles(
             HazelcastInstance hazelcast, int pipelineId, int targetIndex);
 
+    /** Names of the shuffle queues written by the given input, in the order of creation. */
+    public abstract List<String> getOutputQueueNames(int pipelineId, int inputIndex);
+
+    /** Names of the shuffle queues read by the given target, indexed by input. */
+    public abstract String[] getInputQueueNames(int pipelineId, int targetIndex);
+
     protected IQueue<Record<?>> getIQueue(HazelcastInstance hazelcast, String queueName) {
         QueueConfig targetQueueConfig = hazelcast.getConfig().getQueueConfig(queueName);
         targetQueueConfig.setMaxSize(queueMaxSize);
@@ -17,15 +17,31 @@
 
 package org.apache.seatunnel.engine.core.dag.actions;
 
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
 
 @Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class SinkConfig implements Config {
     private TablePath tablePath;
+    /**
+     * Columns the rows are shuffled by before they reach the writers, an empty list means the
+     * primary key. {@code null} when the sink isn't fed by a key partitioned shuffle.
+     */
+    private List<String> shuffleKeys;
+    /** The upstream tables written by the sink, used by the key partitioned shuffle. */
+    private List<CatalogTable> inputCatalogTables;
+
+    public SinkConfig(TablePath tablePath) {
+        this.tablePath = tablePath;
+    }
 }
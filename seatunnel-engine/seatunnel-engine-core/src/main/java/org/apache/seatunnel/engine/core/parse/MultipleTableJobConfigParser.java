@@ -29,6 +29,7 @@ import org.apache.seatunnel.api.sink.SaveModeExecuteLocation;
 import org.apache.seatunnel.api.sink.SaveModeExecuteWrapper;
 import org.apache.seatunnel.api.sink.SaveModeHandler;
 import org.apache.seatunnel.api.sink.SeaTunnelSink;
+import org.apache.seatunnel.api.sink.SinkCommonOptions;
 import org.apache.seatunnel.api.sink.SupportMultiTableSink;
 import org.apache.seatunnel.api.sink.SupportSaveMode;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
@@ -643,7 +644,8 @@ public class MultipleTableJobConfigParser {
                         sinkActions.get(0).getUpstream(),
                         sink,
                         jars,
-                        new HashSet<>());
+                        new HashSet<>(),
+                        createMultiTableSinkConfig(sinkActions));
         multiTableAction.setParallelism(sinkActions.get(0).getParallelism());
         return Optional.of(multiTableAction);
     }
@@ -676,6 +678,25 @@ public class MultipleTableJobConfigParser {
                         null);
         sink.setJobContext(jobConfig.getJobContext());
         SinkConfig actionConfig = new SinkConfig(catalogTable.getTableId().toTablePath());
+        if (readonlyConfig.get(SinkCommonOptions.SHUFFLE_BY_KEY)) {
+            List<String> shuffleKeys =
+                    new ArrayList<>(
+                            readonlyConfig
+                                    .getOptional(SinkCommonOptions.SHUFFLE_KEY_COLUMNS)
+                                    .orElse(Collections.emptyList()));
+            for (String shuffleKey : shuffleKeys) {
+                if (catalogTable.getSeaTunnelRowType().indexOf(shuffleKey, false) < 0) {
+                    throw new JobDefineCheckException(
+                            String.format(
+                                    "Shuffle key column [%s] doesn't exist in table [%s]",
+                                    shuffleKey, catalogTable.getTableId().toTablePath()));
+                }
+            }
+            actionConfig.setShuffleKeys(shuffleKeys);
+            actionConfig.setInputCatalogTables(Collections.singletonList(catalogTable));
+            // the shuffle decouples the writers from the upstream parallelism
+            parallelism = readonlyConfig.getOptional(CommonOptions.PARALLELISM).orElse(parallelism);
+        }
         long id = idGenerator.getNextId();
         String actionName =
                 JobConfigParser.createSinkActionName(
@@ -696,6 +717,18 @@ public class MultipleTableJobConfigParser {
         return sinkAction;
     }
 
+    private SinkConfig createMultiTableSinkConfig(List<SinkAction<?, ?, ?, ?>> sinkActions) {
+        SinkConfig sinkConfig = sinkActions.get(0).getConfig();
+        if (sinkConfig.getShuffleKeys() == null) {
+            return null;
+        }
+        List<CatalogTable> inputCatalogTables =
+                sinkActions.stream()
+                        .flatMap(action -> action.getConfig().getInputCatalogTables().stream())
+                        .collect(Collectors.toList());
+        return new SinkConfig(null, sinkConfig.getShuffleKeys(), inputCatalogTables);
+    }
+
     public void handleSaveMode(SeaTunnelSink<?, ?, ?, ?> sink) {
         if (SupportSaveMode.class.isAssignableFrom(sink.getClass())) {
             SupportSaveMode saveModeSink = (SupportSaveMode) sink;
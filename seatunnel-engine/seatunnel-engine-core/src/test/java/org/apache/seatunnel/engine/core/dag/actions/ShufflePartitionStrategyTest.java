@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.core.dag.actions;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.schema.event.AlterTableAddColumnEvent;
+import org.apache.seatunnel.api.table.schema.event.AlterTableDropColumnEvent;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class ShufflePartitionStrategyTest {
+
+    private static final TablePath TABLE_PATH = TablePath.of("db", "t");
+    private static final CatalogTable CATALOG_TABLE =
+            CatalogTable.of(
+                    TableIdentifier.of("test", TABLE_PATH),
+                    TableSchema.builder()
+                            .column(
+                                    PhysicalColumn.of(
+                                            "id", BasicType.LONG_TYPE, 0L, false, null, ""))
+                            .column(
+                                    PhysicalColumn.of(
+                                            "name", BasicType.STRING_TYPE, 0L, true, null, ""))
+                            .column(
+                                    PhysicalColumn.of(
+                                            "age", BasicType.INT_TYPE, 0L, true, null, ""))
+                            .primaryKey(PrimaryKey.of("pk", Collections.singletonList("id")))
+                            .build(),
+                    new HashMap<>(),
+                    Collections.emptyList(),
+                    "");
+
+    @Test
+    public void testRouteByPrimaryKey() {
+        ShufflePartitionStrategy strategy = createStrategy(Collections.emptyList());
+        Set<Integer> targets = new HashSet<>();
+        for (long id = 0; id < 1000; id++) {
+            int target = strategy.selectQueue(row(id, "a", 1));
+            // the other columns don't change the target
+            Assertions.assertEquals(target, strategy.selectQueue(row(id, "b", 2)));
+            targets.add(target);
+        }
+        Assertions.assertEquals(4, targets.size());
+    }
+
+    @Test
+    public void testRouteByColumns() {
+        ShufflePartitionStrategy strategy = createStrategy(Arrays.asList("name", "age"));
+        for (long id = 0; id < 100; id++) {
+            Assertions.assertEquals(
+                    strategy.selectQueue(row(0L, "name" + id, 1)),
+                    strategy.selectQueue(row(id, "name" + id, 1)));
+        }
+    }
+
+    @Test
+    public void testBroadcastSchemaChange() {
+        ShufflePartitionStrategy strategy = createStrategy(Collections.emptyList());
+        Record<?> schemaChange =
+                new Record<>(
+                        AlterTableAddColumnEvent.add(
+                                TableIdentifier.of("test", TABLE_PATH),
+                                PhysicalColumn.of(
+                                        "email", BasicType.STRING_TYPE, 0L, true, null, "")));
+        Assertions.assertEquals(ShuffleStrategy.BROADCAST, strategy.selectQueue(schemaChange));
+    }
+
+    @Test
+    public void testRouteByKeyAfterSchemaChange() {
+        ShufflePartitionStrategy strategy = createStrategy(Arrays.asList("name"));
+        int target = strategy.selectQueue(row(1L, "a", 1));
+
+        // a column added before the key moves the key to the next field
+        strategy.selectQueue(
+                new Record<>(
+                        AlterTableAddColumnEvent.addFirst(
+                                TableIdentifier.of("test", TABLE_PATH),
+                                PhysicalColumn.of(
+                                        "email", BasicType.STRING_TYPE, 0L, true, null, ""))));
+        for (long id = 0; id < 100; id++) {
+            Assertions.assertEquals(
+                    target,
+                    strategy.selectQueue(
+                            new Record<>(new SeaTunnelRow(new Object[] {"e" + id, id, "a", 1}))));
+        }
+
+        // dropping the columns before the key moves it back to the first field
+        strategy.selectQueue(
+                new Record<>(
+                        new AlterTableDropColumnEvent(
+                                TableIdentifier.of("test", TABLE_PATH), "email")));
+        strategy.selectQueue(
+                new Record<>(
+                        new AlterTableDropColumnEvent(
+                                TableIdentifier.of("test", TABLE_PATH), "id")));
+        for (int age = 0; age < 100; age++) {
+            Assertions.assertEquals(
+                    target,
+                    strategy.selectQueue(new Record<>(new SeaTunnelRow(new Object[] {"a", age}))));
+        }
+    }
+
+    private static ShufflePartitionStrategy createStrategy(List<String> partitionKeys) {
+        return ShufflePartitionStrategy.builder()
+                .jobId(1L)
+                .inputPartitions(2)
+                .targetPartitions(4)
+                .partitionKeys(partitionKeys)
+                .catalogTables(Collections.singletonList(CATALOG_TABLE))
+                .build();
+    }
+
+    private static Record<?> row(long id, String name, int age) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {id, name, age});
+        row.setTableId(TABLE_PATH.toString());
+        return new Record<>(row);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.serializer.binary;
+
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Serializes the registered classes with their {@link TypeCodec}, other classes with the fallback
+ * serializer.
+ *
+ * <p>The data starts with a header of the {@link #MAGIC} byte, the {@link #FORMAT_VERSION} and the
+ * id the class is registered with. Data without the header was written by the fallback serializer
+ * and is read by it, so that data written before the binary format was used stays readable. The
+ * fallback must not write data starting with the magic byte, which holds for protostuff, whose data
+ * starts with a field tag of at least 8.
+ */
+public class BinarySerializer implements Serializer {
+
+    public static final byte MAGIC = 0;
+
+    /**
+     * The version of the header and of the codecs, data of older versions is read by the codecs,
+     * data of newer versions is rejected.
+     */
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 3;
+
+    private final Serializer fallback;
+
+    private final boolean writeBinary;
+
+    private final Map<Class<?>, Registration<?>> registrationsByClass = new HashMap<>();
+
+    private final Map<Integer, Registration<?>> registrationsById = new HashMap<>();
+
+    /**
+     * @param fallback the serializer for the classes without codec and for the data without header
+     * @param writeBinary false to write all data with the fallback, it then only reads the binary
+     *     format
+     */
+    public BinarySerializer(Serializer fallback, boolean writeBinary) {
+        this.fallback = fallback;
+        this.writeBinary = writeBinary;
+    }
+
+    /** Registers the codec of a class, the id is written to the data and must never change. */
+    public <T> BinarySerializer register(int id, Class<T> clazz, TypeCodec<T> codec) {
+        if (id < 0 || id > 0xFF) {
+            throw new IllegalArgumentException("The id must be between 0 and 255, but is " + id);
+        }
+        Registration<T> registration = new Registration<>(id, clazz, codec);
+        if (registrationsById.putIfAbsent(id, registration) != null) {
+            throw new IllegalArgumentException("The id " + id + " is already registered");
+        }
+        registrationsByClass.put(clazz, registration);
+        return this;
+    }
+
+    /** Whether the data was written in the binary format rather than by the fallback. */
+    public static boolean isBinaryFormat(byte[] data) {
+        return data != null && data.length >= HEADER_SIZE && data[0] == MAGIC;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> byte[] serialize(T obj) throws IOException {
+        Registration<T> registration =
+                writeBinary ? (Registration<T>) registrationsByClass.get(obj.getClass()) : null;
+        if (registration == null) {
+            return fallback.serialize(obj);
+        }
+        BinaryOutput out = new BinaryOutput(256);
+        out.writeByte(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        out.writeByte(registration.id);
+        registration.codec.write(out, obj);
+        return out.toByteArray();
+    }
+
+    @Override
+    public <T> T deserialize(byte[] data, Class<T> clz) throws IOException {
+        if (!isBinaryFormat(data)) {
+            return fallback.deserialize(data, clz);
+        }
+        if (data[1] < 1 || data[1] > FORMAT_VERSION) {
+            throw new IOException(
+                    String.format(
+                            "Unsupported format version %s of the serialized %s, supported is %s",
+                            data[1], clz.getName(), FORMAT_VERSION));
+        }
+        Registration<?> registration = registrationsById.get(data[2] & 0xFF);
+        if (registration == null || !clz.isAssignableFrom(registration.clazz)) {
+            throw new IOException(
+                    String.format(
+                            "The data of type id %s can not be read as %s",
+                            data[2] & 0xFF, clz.getName()));
+        }
+        return clz.cast(registration.codec.read(new BinaryInput(data, HEADER_SIZE, data[1])));
+    }
+
+    private static class Registration<T> {
+        private final int id;
+        private final Class<T> clazz;
+        private final TypeCodec<T> codec;
+
+        private Registration(int id, Class<T> clazz, TypeCodec<T> codec) {
+            this.id = id;
+            this.clazz = clazz;
+            this.codec = codec;
+        }
+    }
+}
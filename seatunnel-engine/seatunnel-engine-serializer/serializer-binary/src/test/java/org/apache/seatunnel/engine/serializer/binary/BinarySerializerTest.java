@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.serializer.binary;
+
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+public class BinarySerializerTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        BinarySerializer serializer = createSerializer(true);
+        Point point = new Point(-1L, Integer.MAX_VALUE, "point", new byte[] {1, 2, 3});
+        byte[] data = serializer.serialize(point);
+        Assertions.assertTrue(BinarySerializer.isBinaryFormat(data));
+        Assertions.assertEquals(point, serializer.deserialize(data, Point.class));
+
+        Point empty = new Point(Long.MIN_VALUE, 0, null, null);
+        Assertions.assertEquals(
+                empty, serializer.deserialize(serializer.serialize(empty), Point.class));
+        Point unicode = new Point(Long.MAX_VALUE, -7, "数据", new byte[0]);
+        Assertions.assertEquals(
+                unicode, serializer.deserialize(serializer.serialize(unicode), Point.class));
+    }
+
+    @Test
+    public void testReadBothFormats() throws IOException {
+        Point point = new Point(42L, 7, "point", new byte[] {1});
+        byte[] fallbackData = createSerializer(false).serialize(point);
+        Assertions.assertFalse(BinarySerializer.isBinaryFormat(fallbackData));
+        byte[] binaryData = createSerializer(true).serialize(point);
+        Assertions.assertTrue(binaryData.length < fallbackData.length);
+
+        BinarySerializer serializer = createSerializer(true);
+        Assertions.assertEquals(point, serializer.deserialize(fallbackData, Point.class));
+        Assertions.assertEquals(
+                point, createSerializer(false).deserialize(binaryData, Point.class));
+
+        // the classes without codec are written by the fallback
+        byte[] stringData = serializer.serialize("value");
+        Assertions.assertFalse(BinarySerializer.isBinaryFormat(stringData));
+        Assertions.assertEquals("value", serializer.deserialize(stringData, String.class));
+    }
+
+    @Test
+    public void testRejectUnknownData() throws IOException {
+        BinarySerializer serializer = createSerializer(true);
+        byte[] data = serializer.serialize(new Point(1L, 1, "point", null));
+
+        byte[] newerVersion = data.clone();
+        newerVersion[1] = BinarySerializer.FORMAT_VERSION + 1;
+        Assertions.assertThrows(
+                IOException.class, () -> serializer.deserialize(newerVersion, Point.class));
+
+        byte[] unknownType = data.clone();
+        unknownType[2] = 9;
+        Assertions.assertThrows(
+                IOException.class, () -> serializer.deserialize(unknownType, Point.class));
+        Assertions.assertThrows(
+                IOException.class, () -> serializer.deserialize(data, String.class));
+
+        byte[] truncated = new byte[data.length - 2];
+        System.arraycopy(data, 0, truncated, 0, truncated.length);
+        Assertions.assertThrows(
+                IOException.class, () -> serializer.deserialize(truncated, Point.class));
+
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> serializer.register(1, Point.class, new PointCodec()));
+    }
+
+    private static BinarySerializer createSerializer(boolean writeBinary) {
+        return new BinarySerializer(new JavaSerializer(), writeBinary)
+                .register(1, Point.class, new PointCodec());
+    }
+
+    private static class PointCodec implements TypeCodec<Point> {
+
+        @Override
+        public void write(BinaryOutput out, Point value) {
+            out.writeSignedVarLong(value.id);
+            out.writeSignedVarInt(value.index);
+            if (out.writeNotNull(value.name)) {
+                out.writeString(value.name);
+            }
+            out.writeBytes(value.bytes);
+        }
+
+        @Override
+        public Point read(BinaryInput in) throws IOException {
+            return new Point(
+                    in.readSignedVarLong(), in.readSignedVarInt(), readName(in), in.readBytes());
+        }
+
+        private String readName(BinaryInput in) throws IOException {
+            return in.readNotNull() ? in.readString() : null;
+        }
+    }
+
+    private static class Point implements Serializable {
+        private final long id;
+        private final int index;
+        private final String name;
+        private final byte[] bytes;
+
+        private Point(long id, int index, String name, byte[] bytes) {
+            this.id = id;
+            this.index = index;
+            this.name = name;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Point)) {
+                return false;
+            }
+            Point other = (Point) o;
+            return id == other.id
+                    && index == other.index
+                    && Objects.equals(name, other.name)
+                    && Arrays.equals(bytes, other.bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(id);
+        }
+    }
+
+    /** A fallback whose data, like the data of protostuff, never starts with the magic byte. */
+    private static class JavaSerializer implements Serializer {
+
+        @Override
+        public <T> byte[] serialize(T obj) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(obj);
+            }
+            return bytes.toByteArray();
+        }
+
+        @Override
+        public <T> T deserialize(byte[] data, Class<T> clz) throws IOException {
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+                return clz.cast(in.readObject());
+            } catch (ClassNotFoundException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -20,15 +20,18 @@ package org.apache.seatunnel.engine.server;
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
 import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorageFactory;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.utils.FactoryUtil;
 import org.apache.seatunnel.engine.core.job.JobPipelineCheckpointData;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
-import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
 import org.apache.seatunnel.engine.server.checkpoint.ActionState;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CompletedCheckpoint;
+import org.apache.seatunnel.engine.server.checkpoint.CompletedCheckpointCodec;
+import org.apache.seatunnel.engine.server.checkpoint.IncrementalCheckpointTracker;
+import org.apache.seatunnel.engine.server.checkpoint.TaskStateOffloader;
 
 import lombok.SneakyThrows;
 
@@ -46,7 +49,7 @@ import java.util.stream.Collectors;
  */
 public class CheckpointService {
     private CheckpointStorage checkpointStorage;
-    private Serializer serializer = new ProtoStuffSerializer();
+    private final Serializer serializer;
 
     @SneakyThrows
     public CheckpointService(CheckpointConfig config) {
@@ -56,6 +59,9 @@ public class CheckpointService {
                                 CheckpointStorageFactory.class,
                                 config.getStorage().getStorage())
                         .create(config.getStorage().getStoragePluginConfig());
+        this.serializer =
+                CompletedCheckpointCodec.createSerializer(
+                        config.getStorage().getStoragePluginConfig());
     }
 
     @SneakyThrows
@@ -65,9 +71,17 @@ public class CheckpointService {
                 .map(
                         pipelineState -> {
                             try {
-                                return serializer.deserialize(
-                                        pipelineState.getStates(), CompletedCheckpoint.class);
-                            } catch (IOException e) {
+                                CompletedCheckpoint checkpoint =
+                                        deserialize(pipelineState.getStates());
+                                IncrementalCheckpointTracker.resolve(
+                                        checkpoint,
+                                        checkpointId ->
+                                                loadCheckpoint(
+                                                        jobId,
+                                                        pipelineState.getPipelineId(),
+                                                        checkpointId));
+                                return checkpoint;
+                            } catch (IOException | CheckpointStorageException e) {
                                 throw new RuntimeException(e);
                             }
                         })
@@ -75,6 +89,33 @@ public class CheckpointService {
                 .collect(Collectors.toList());
     }
 
+    private CompletedCheckpoint deserialize(byte[] states) throws IOException {
+        return serializer.deserialize(states, CompletedCheckpoint.class);
+    }
+
+    /** Loads a checkpoint that the states of an incremental checkpoint reference. */
+    private CompletedCheckpoint loadCheckpoint(String jobId, int pipelineId, long checkpointId)
+            throws CheckpointStorageException {
+        PipelineState state =
+                checkpointStorage.getCheckpoint(
+                        jobId, String.valueOf(pipelineId), String.valueOf(checkpointId));
+        try {
+            return deserialize(state.getStates());
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    "Failed to deserialize checkpoint " + checkpointId, e);
+        }
+    }
+
+    /** Reads the bytes of a state that the task stored in the checkpoint storage itself. */
+    @SneakyThrows
+    private ActionSubtaskState resolveState(ActionSubtaskState state) {
+        if (state == null || state.getState() != null || state.getStateHandle() == null) {
+            return state;
+        }
+        return TaskStateOffloader.resolve(checkpointStorage, state);
+    }
+
     /**
      * Get the latest checkpoint data of a job.
      *
@@ -102,11 +143,11 @@ public class CheckpointService {
                                                             return new JobPipelineCheckpointData
                                                                     .ActionSubtaskState(
                                                                     state.getIndex(),
-                                                                    state.getState());
+                                                                    resolveState(state).getState());
                                                         })
                                                 .collect(Collectors.toList());
                                 ActionSubtaskState coordinatorState =
-                                        taskState.getCoordinatorState();
+                                        resolveState(taskState.getCoordinatorState());
                                 JobPipelineCheckpointData.ActionState actionState =
                                         new JobPipelineCheckpointData.ActionState(
                                                 coordinatorState == null
@@ -382,6 +382,11 @@ public class CoordinatorService {
                 .orElse(runningJobMasterMap.get(jobId));
     }
 
+    /** Returns the job masters of the running jobs, by job id. */
+    public Map<Long, JobMaster> getRunningJobMasters() {
+        return Collections.unmodifiableMap(runningJobMasterMap);
+    }
+
     public EventProcessor getEventProcessor() {
         return eventProcessor;
     }
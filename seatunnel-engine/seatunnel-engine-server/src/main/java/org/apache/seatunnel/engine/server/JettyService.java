@@ -27,6 +27,7 @@ import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
 import org.apache.seatunnel.engine.server.rest.filter.ExceptionHandlingFilter;
 import org.apache.seatunnel.engine.server.rest.servlet.AllLogNameServlet;
 import org.apache.seatunnel.engine.server.rest.servlet.AllNodeLogServlet;
+import org.apache.seatunnel.engine.server.rest.servlet.CheckpointStatisticsServlet;
 import org.apache.seatunnel.engine.server.rest.servlet.CurrentNodeLogServlet;
 import org.apache.seatunnel.engine.server.rest.servlet.EncryptConfigServlet;
 import org.apache.seatunnel.engine.server.rest.servlet.FinishedJobsServlet;
@@ -56,6 +57,7 @@ import java.net.ServerSocket;
 import java.net.URL;
 import java.util.EnumSet;
 
+import static org.apache.seatunnel.engine.server.rest.RestConstant.REST_URL_CHECKPOINT_STATISTICS;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.REST_URL_ENCRYPT_CONFIG;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.REST_URL_FINISHED_JOBS;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.REST_URL_GET_ALL_LOG_NAME;
@@ -122,6 +124,8 @@ public class JettyService {
         ServletHolder systemMonitoringHolder =
                 new ServletHolder(new SystemMonitoringServlet(nodeEngine));
         ServletHolder jobInfoHolder = new ServletHolder(new JobInfoServlet(nodeEngine));
+        ServletHolder checkpointStatisticsHolder =
+                new ServletHolder(new CheckpointStatisticsServlet(nodeEngine));
         ServletHolder threadDumpHolder = new ServletHolder(new ThreadDumpServlet(nodeEngine));
 
         ServletHolder submitJobHolder = new ServletHolder(new SubmitJobServlet(nodeEngine));
@@ -152,6 +156,8 @@ public class JettyService {
                 systemMonitoringHolder, convertUrlToPath(REST_URL_SYSTEM_MONITORING_INFORMATION));
         context.addServlet(jobInfoHolder, convertUrlToPath(REST_URL_JOB_INFO));
         context.addServlet(jobInfoHolder, convertUrlToPath(REST_URL_RUNNING_JOB));
+        context.addServlet(
+                checkpointStatisticsHolder, convertUrlToPath(REST_URL_CHECKPOINT_STATISTICS));
         context.addServlet(threadDumpHolder, convertUrlToPath(REST_URL_THREAD_DUMP));
         MultipartConfigElement multipartConfigElement = new MultipartConfigElement("");
         submitJobByUploadFileHolder.getRegistration().setMultipartConfig(multipartConfigElement);
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.server;
 
 import org.apache.seatunnel.shade.com.google.common.collect.Lists;
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.apache.seatunnel.api.common.metrics.MetricTags;
 import org.apache.seatunnel.api.event.Event;
@@ -28,12 +29,17 @@ import org.apache.seatunnel.common.utils.StringFormatUtils;
 import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.common.config.ConfigProvider;
 import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
+import org.apache.seatunnel.engine.common.config.server.BlockingTaskThreadType;
+import org.apache.seatunnel.engine.common.config.server.ShuffleTransportType;
 import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
 import org.apache.seatunnel.engine.common.exception.JobNotFoundException;
+import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.classloader.ClassLoaderService;
 import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
+import org.apache.seatunnel.engine.server.checkpoint.LocalCheckpointStateStore;
+import org.apache.seatunnel.engine.server.checkpoint.TaskStateOffloader;
 import org.apache.seatunnel.engine.server.exception.TaskGroupContextNotFoundException;
 import org.apache.seatunnel.engine.server.execution.ExecutionState;
 import org.apache.seatunnel.engine.server.execution.ProgressState;
@@ -48,11 +54,17 @@ import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskGroupUtils;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.execution.TaskTracker;
+import org.apache.seatunnel.engine.server.execution.WorkStealingTaskScheduler;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 import org.apache.seatunnel.engine.server.service.jar.ServerConnectorPackageClient;
+import org.apache.seatunnel.engine.server.shuffle.HazelcastQueueShuffleTransport;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleTransport;
+import org.apache.seatunnel.engine.server.shuffle.TcpShuffleServer;
+import org.apache.seatunnel.engine.server.shuffle.TcpShuffleTransport;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.TaskGroupImmutableInformation;
 import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperation;
+import org.apache.seatunnel.engine.server.utils.VirtualThreadUtil;
 
 import org.apache.commons.collections4.CollectionUtils;
 
@@ -62,7 +74,10 @@ import com.hazelcast.internal.metrics.DynamicMetricsProvider;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.ProbeLevel;
+import com.hazelcast.internal.metrics.ProbeUnit;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.jet.impl.execution.init.CustomClassLoadedObject;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.IMap;
@@ -74,11 +89,14 @@ import lombok.SneakyThrows;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.BlockingQueue;
@@ -99,6 +117,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Stream;
 
 import static com.hazelcast.jet.impl.util.ExceptionUtil.withTryCatch;
@@ -147,6 +166,24 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     private final EventService eventService;
 
+    private volatile TcpShuffleServer tcpShuffleServer;
+
+    private final WorkStealingTaskScheduler workStealingTaskScheduler;
+
+    private final AtomicReferenceArray<WorkStealingTaskWorker> workStealingTaskWorkers;
+
+    private final ScheduledExecutorService workStealingMonitorService;
+
+    private final BlockingTaskThreadType blockingTaskThreadType;
+
+    private final ExecutorService blockingExecutorService;
+
+    private final AtomicInteger runningBlockingTaskCount = new AtomicInteger();
+
+    private final LocalCheckpointStateStore localCheckpointStateStore;
+
+    private final TaskStateOffloader taskStateOffloader;
+
     public TaskExecutionService(
             ClassLoaderService classLoaderService,
             NodeEngineImpl nodeEngine,
@@ -174,16 +211,138 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 new ServerConnectorPackageClient(nodeEngine, seaTunnelConfig);
 
         this.eventService = eventService;
+
+        this.localCheckpointStateStore =
+                new LocalCheckpointStateStore(
+                        seaTunnelConfig.getEngineConfig().getCheckpointConfig().isLocalRecovery());
+        this.taskStateOffloader =
+                new TaskStateOffloader(seaTunnelConfig.getEngineConfig().getCheckpointConfig());
+
+        ExecutorService virtualThreadExecutorService = null;
+        if (BlockingTaskThreadType.VIRTUAL.equals(
+                seaTunnelConfig.getEngineConfig().getBlockingTaskThreadType())) {
+            virtualThreadExecutorService =
+                    VirtualThreadUtil.newVirtualThreadPerTaskExecutor(
+                                    String.format(
+                                            "hz.%s.seaTunnel.task.virtual-thread-", hzInstanceName))
+                            .orElse(null);
+            if (virtualThreadExecutorService == null) {
+                logger.warning(
+                        "Virtual threads need JDK "
+                                + VirtualThreadUtil.MIN_JAVA_VERSION
+                                + " or later, blocking tasks run on platform threads");
+            }
+        }
+        if (virtualThreadExecutorService != null) {
+            blockingTaskThreadType = BlockingTaskThreadType.VIRTUAL;
+            blockingExecutorService = virtualThreadExecutorService;
+        } else {
+            blockingTaskThreadType = BlockingTaskThreadType.PLATFORM;
+            blockingExecutorService = executorService;
+        }
+
+        if (ThreadShareMode.WORK_STEALING.equals(
+                seaTunnelConfig.getEngineConfig().getTaskExecutionThreadShareMode())) {
+            // one run queue per core, but at least two so a single slow call can't hold up all
+            // the thread share tasks before it times out
+            workStealingTaskScheduler =
+                    new WorkStealingTaskScheduler(
+                            Math.max(2, Runtime.getRuntime().availableProcessors()));
+            workStealingTaskWorkers =
+                    new AtomicReferenceArray<>(workStealingTaskScheduler.getParallelism());
+            workStealingMonitorService =
+                    Executors.newSingleThreadScheduledExecutor(
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat(
+                                            "hz."
+                                                    + hzInstanceName
+                                                    + ".seaTunnel.work-stealing-monitor")
+                                    .setDaemon(true)
+                                    .build());
+        } else {
+            workStealingTaskScheduler = null;
+            workStealingTaskWorkers = null;
+            workStealingMonitorService = null;
+        }
     }
 
     public void start() {
-        runBusWorkSupplier.runNewBusWork(false);
+        if (workStealingTaskScheduler != null) {
+            for (int i = 0; i < workStealingTaskScheduler.getParallelism(); i++) {
+                runNewWorkStealingWorker(i);
+            }
+            workStealingMonitorService.scheduleWithFixedDelay(
+                    this::checkWorkStealingTimeouts,
+                    TaskCallTimer.DEFAULT_DELAY_MILLIS,
+                    TaskCallTimer.DEFAULT_DELAY_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            runBusWorkSupplier.runNewBusWork(false);
+        }
+    }
+
+    private void runNewWorkStealingWorker(int index) {
+        WorkStealingTaskWorker worker = new WorkStealingTaskWorker(index);
+        workStealingTaskWorkers.set(index, worker);
+        executorService.submit(worker);
+    }
+
+    private void checkWorkStealingTimeouts() {
+        if (!isRunning) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < workStealingTaskWorkers.length(); i++) {
+                if (workStealingTaskWorkers.get(i).checkTimeout(now)) {
+                    runNewWorkStealingWorker(i);
+                }
+            }
+        } catch (Throwable t) {
+            logger.warning("check work stealing worker timeout failed", t);
+        }
     }
 
     public void shutdown() {
         isRunning = false;
         executorService.shutdownNow();
+        if (blockingExecutorService != executorService) {
+            blockingExecutorService.shutdownNow();
+        }
         scheduledExecutorService.shutdown();
+        if (workStealingMonitorService != null) {
+            workStealingMonitorService.shutdownNow();
+        }
+        if (tcpShuffleServer != null) {
+            tcpShuffleServer.close();
+        }
+    }
+
+    public ShuffleTransport getShuffleTransport(ShuffleTransportType transportType) {
+        if (transportType == ShuffleTransportType.TCP) {
+            return new TcpShuffleTransport(
+                    getOrCreateTcpShuffleServer(),
+                    nodeEngine
+                            .getHazelcastInstance()
+                            .getMap(Constant.IMAP_SHUFFLE_CHANNEL_ADDRESS));
+        }
+        return new HazelcastQueueShuffleTransport(nodeEngine.getHazelcastInstance());
+    }
+
+    private synchronized TcpShuffleServer getOrCreateTcpShuffleServer() {
+        if (tcpShuffleServer == null) {
+            try {
+                tcpShuffleServer =
+                        new TcpShuffleServer(
+                                nodeEngine.getThisAddress().getHost(),
+                                seaTunnelConfig.getEngineConfig().getShuffleTcpPort(),
+                                (InternalSerializationService)
+                                        nodeEngine.getSerializationService());
+            } catch (IOException e) {
+                throw new SeaTunnelEngineException("Failed to start TCP shuffle server", e);
+            }
+        }
+        return tcpShuffleServer;
     }
 
     public TaskGroupContext getExecutionContext(TaskGroupLocation taskGroupLocation) {
@@ -209,6 +368,11 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         return taskGroupContext;
     }
 
+    /** Task groups running on this member. */
+    public Collection<TaskGroupContext> getActiveExecutionContexts() {
+        return Collections.unmodifiableCollection(executionContexts.values());
+    }
+
     private void submitThreadShareTask(
             TaskGroupExecutionTracker taskGroupExecutionTracker, List<Task> tasks) {
         Stream<TaskTracker> taskTrackerStream =
@@ -230,13 +394,19 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                     return null;
                                 });
         if (!taskGroupExecutionTracker.executionCompletedExceptionally()) {
-            taskTrackerStream.forEach(threadShareTaskQueue::add);
+            if (workStealingTaskScheduler != null) {
+                taskTrackerStream
+                        .filter(Objects::nonNull)
+                        .forEach(workStealingTaskScheduler::submit);
+            } else {
+                taskTrackerStream.forEach(threadShareTaskQueue::add);
+            }
         }
     }
 
     private void submitBlockingTask(
             TaskGroupExecutionTracker taskGroupExecutionTracker, List<Task> tasks) {
-        MDCExecutorService mdcExecutorService = MDCTracer.tracing(executorService);
+        MDCExecutorService mdcExecutorService = MDCTracer.tracing(blockingExecutorService);
 
         CountDownLatch startedLatch = new CountDownLatch(tasks.size());
         taskGroupExecutionTracker.blockingFutures =
@@ -388,7 +558,10 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                                         seaTunnelConfig
                                                                 .getEngineConfig()
                                                                 .getTaskExecutionThreadShareMode();
-                                                if (mode.equals(ThreadShareMode.ALL)) {
+                                                // the work stealing workers run all tasks
+                                                if (mode.equals(ThreadShareMode.ALL)
+                                                        || mode.equals(
+                                                                ThreadShareMode.WORK_STEALING)) {
                                                     return true;
                                                 }
                                                 if (mode.equals(ThreadShareMode.OFF)) {
@@ -525,6 +698,15 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     public void notifyCleanTaskGroupContext(TaskGroupLocation taskGroupLocation) {
         finishedExecutionContexts.remove(taskGroupLocation);
+        localCheckpointStateStore.remove(taskGroupLocation);
+    }
+
+    public LocalCheckpointStateStore getLocalCheckpointStateStore() {
+        return localCheckpointStateStore;
+    }
+
+    public TaskStateOffloader getTaskStateOffloader() {
+        return taskStateOffloader;
     }
 
     @Override
@@ -564,6 +746,26 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                             task.provideDynamicMetrics(copy3, context);
                                         });
                     });
+            if (workStealingTaskScheduler != null) {
+                context.collect(
+                        copy1.copy(),
+                        "workStealingQueueDepth",
+                        ProbeLevel.INFO,
+                        ProbeUnit.COUNT,
+                        workStealingTaskScheduler.getTotalQueueDepth());
+                context.collect(
+                        copy1.copy(),
+                        "workStealingStealCount",
+                        ProbeLevel.INFO,
+                        ProbeUnit.COUNT,
+                        workStealingTaskScheduler.getStealCount());
+                context.collect(
+                        copy1.copy(),
+                        "workStealingParkCount",
+                        ProbeLevel.INFO,
+                        ProbeUnit.COUNT,
+                        workStealingTaskScheduler.getParkCount());
+            }
         } catch (Throwable t) {
             logger.warning("Dynamic metric collection failed", t);
             throw t;
@@ -657,9 +859,33 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                             completedTaskCount,
                             "taskCount",
                             taskCount));
+            if (workStealingTaskScheduler != null) {
+                int[] queueDepths = new int[workStealingTaskScheduler.getParallelism()];
+                for (int i = 0; i < queueDepths.length; i++) {
+                    queueDepths[i] = workStealingTaskScheduler.getQueueDepth(i);
+                }
+                logger.fine(
+                        StringFormatUtils.formatTable(
+                                "TaskExecutionServer Work Stealing Scheduler Status",
+                                "runQueueDepths",
+                                Arrays.toString(queueDepths),
+                                "stealCount",
+                                workStealingTaskScheduler.getStealCount(),
+                                "parkCount",
+                                workStealingTaskScheduler.getParkCount()));
+            }
         }
     }
 
+    /** The thread type the blocking tasks actually run on, after the fallback for older JVMs */
+    public BlockingTaskThreadType getBlockingTaskThreadType() {
+        return blockingTaskThreadType;
+    }
+
+    public int getRunningBlockingTaskCount() {
+        return runningBlockingTaskCount.get();
+    }
+
     public void reportEvent(Event e) {
         eventService.reportEvent(e);
     }
@@ -687,6 +913,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
             Thread.currentThread().setContextClassLoader(classLoader);
             final Task t = tracker.task;
             ProgressState result = null;
+            runningBlockingTaskCount.incrementAndGet();
             try {
                 startedLatch.countDown();
                 t.init();
@@ -705,6 +932,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 logger.warning("Exception in " + t, e);
                 taskGroupExecutionTracker.exception(e);
             } finally {
+                runningBlockingTaskCount.decrementAndGet();
                 taskGroupExecutionTracker.taskDone(t);
                 if (result == null || !result.isDone()) {
                     try {
@@ -751,7 +979,9 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 BlockingQueue<Future<?>> futureBlockingQueue) {
             logger.info(String.format("Created new BusWork : %s", this.hashCode()));
             this.taskQueue = taskQueue;
-            this.timer = new TaskCallTimer(50, keep, runBusWorkSupplier, this);
+            this.timer =
+                    new TaskCallTimer(
+                            TaskCallTimer.DEFAULT_DELAY_MILLIS, keep, runBusWorkSupplier, this);
             this.futureBlockingQueue = futureBlockingQueue;
         }
 
@@ -866,6 +1096,138 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         }
     }
 
+    /**
+     * WorkStealingTaskWorker runs the tasks of one run queue of the {@link
+     * WorkStealingTaskScheduler}, a task which is not done is put back to the tail of the run queue
+     * after each call. When a call takes longer than the time slice of {@link TaskCallTimer}, the
+     * worker becomes exclusive to that task and a new worker takes over the run queue, the same as
+     * the timeout action of {@link TaskCallTimer}.
+     */
+    public final class WorkStealingTaskWorker implements Runnable {
+
+        private final int index;
+        private final AtomicBoolean exclusive = new AtomicBoolean(false);
+        private volatile TaskTracker runningTaskTracker;
+        private volatile long callStartTime;
+
+        public WorkStealingTaskWorker(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void run() {
+            Thread myThread = currentThread();
+            TaskTracker taskTracker = null;
+            while (isRunning) {
+                if (!exclusive.get()) {
+                    taskTracker = workStealingTaskScheduler.poll(index);
+                    if (taskTracker == null) {
+                        workStealingTaskScheduler.park(index);
+                        continue;
+                    }
+                }
+                TaskGroupExecutionTracker taskGroupExecutionTracker =
+                        taskTracker.taskGroupExecutionTracker;
+                if (taskGroupExecutionTracker.executionCompletedExceptionally()) {
+                    taskGroupExecutionTracker.taskDone(taskTracker.task);
+                    if (exclusive.get()) {
+                        break;
+                    }
+                    continue;
+                }
+                // the worker outlives the tasks it runs, so every call gets its own future to
+                // interrupt only this call on cancellation
+                taskGroupExecutionTracker.currRunningTaskFuture.put(
+                        taskTracker.task.getTaskID(),
+                        new WorkStealingCallFuture(this, myThread, taskTracker));
+                ProgressState call = null;
+                callStartTime = System.currentTimeMillis();
+                runningTaskTracker = taskTracker;
+                try {
+                    myThread.setContextClassLoader(
+                            executionContexts
+                                    .get(taskGroupExecutionTracker.taskGroup.getTaskGroupLocation())
+                                    .getClassLoaders()
+                                    .get(taskTracker.task.getTaskID()));
+                    call = taskTracker.task.call();
+                } catch (InterruptedException e) {
+                    if (taskGroupExecutionTracker.executionException.get() == null
+                            && !taskGroupExecutionTracker.isCancel.get()) {
+                        taskGroupExecutionTracker.exception(e);
+                    }
+                    taskGroupExecutionTracker.taskDone(taskTracker.task);
+                    logger.warning("Exception in " + taskTracker.task, e);
+                } catch (Throwable e) {
+                    taskGroupExecutionTracker.exception(e);
+                    taskGroupExecutionTracker.taskDone(taskTracker.task);
+                    logger.warning("Exception in " + taskTracker.task, e);
+                } finally {
+                    synchronized (this) {
+                        runningTaskTracker = null;
+                    }
+                    taskGroupExecutionTracker.currRunningTaskFuture.remove(
+                            taskTracker.task.getTaskID());
+                    // don't leak the interrupt of a cancelled call to the next call
+                    Thread.interrupted();
+                }
+                if (null == call || call.isDone()) {
+                    if (null != call) {
+                        taskGroupExecutionTracker.taskDone(taskTracker.task);
+                    }
+                    if (exclusive.get()) {
+                        break;
+                    }
+                } else if (!exclusive.get()) {
+                    workStealingTaskScheduler.requeue(index, taskTracker);
+                }
+            }
+        }
+
+        /**
+         * Make the worker exclusive to the running task if the running call timed out.
+         *
+         * @return true if the worker left its run queue and a new worker should take over
+         */
+        private boolean checkTimeout(long now) {
+            TaskTracker taskTracker = runningTaskTracker;
+            if (taskTracker != null
+                    && now - callStartTime > TaskCallTimer.DEFAULT_DELAY_MILLIS
+                    && exclusive.compareAndSet(false, true)) {
+                taskTracker.expiredTimes.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /** Interrupts the worker thread only while the worker is still running the given task. */
+    private static final class WorkStealingCallFuture extends CompletableFuture<Void> {
+
+        private final WorkStealingTaskWorker worker;
+        private final Thread thread;
+        private final TaskTracker taskTracker;
+
+        private WorkStealingCallFuture(
+                WorkStealingTaskWorker worker, Thread thread, TaskTracker taskTracker) {
+            this.worker = worker;
+            this.thread = thread;
+            this.taskTracker = taskTracker;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (mayInterruptIfRunning) {
+                synchronized (worker) {
+                    if (worker.runningTaskTracker == taskTracker) {
+                        thread.interrupt();
+                    }
+                }
+            }
+            return cancelled;
+        }
+    }
+
     /**
      * Internal utility class to track the overall state of tasklet execution. There's one instance
      * of this class per job.
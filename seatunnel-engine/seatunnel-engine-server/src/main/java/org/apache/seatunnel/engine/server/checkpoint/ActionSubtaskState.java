@@ -30,4 +30,25 @@ public class ActionSubtaskState implements Serializable {
     private final ActionStateKey stateKey;
     private final int index;
     private final List<byte[]> state;
+
+    /**
+     * The checkpoint that stores {@link #state} when this state is only referenced by an
+     * incremental checkpoint, otherwise null.
+     */
+    private Long referencedCheckpointId;
+
+    /**
+     * The handle of {@link #state} in the checkpoint storage when the task stored it itself,
+     * otherwise null. The master only receives the handle, {@link #state} is then null.
+     */
+    private String stateHandle;
+
+    /** The size in bytes of the state stored under {@link #stateHandle}. */
+    private long stateSize;
+
+    /**
+     * The SHA-256 digest of the state stored under {@link #stateHandle}, so that the master can
+     * tell whether the state changed without its bytes.
+     */
+    private byte[] stateDigest;
 }
@@ -40,6 +40,12 @@ public class CheckpointBarrier implements Barrier, Serializable {
     private final Set<TaskLocation> prepareCloseTasks;
     private final Set<TaskLocation> closedTasks;
 
+    /**
+     * Whether the barrier may overtake the records buffered on shuffle edges. The overtaken records
+     * are persisted as part of the checkpoint and replayed on restore.
+     */
+    private final boolean unaligned;
+
     public CheckpointBarrier(long id, long timestamp, CheckpointType checkpointType) {
         this(id, timestamp, checkpointType, Collections.emptySet(), Collections.emptySet());
     }
@@ -50,11 +56,22 @@ public class CheckpointBarrier implements Barrier, Serializable {
             CheckpointType checkpointType,
             Set<TaskLocation> prepareCloseTasks,
             Set<TaskLocation> closedTasks) {
+        this(id, timestamp, checkpointType, prepareCloseTasks, closedTasks, false);
+    }
+
+    public CheckpointBarrier(
+            long id,
+            long timestamp,
+            CheckpointType checkpointType,
+            Set<TaskLocation> prepareCloseTasks,
+            Set<TaskLocation> closedTasks,
+            boolean unaligned) {
         this.id = id;
         this.timestamp = timestamp;
         this.checkpointType = checkNotNull(checkpointType);
         this.prepareCloseTasks = prepareCloseTasks;
         this.closedTasks = closedTasks;
+        this.unaligned = unaligned;
         if (new HashSet(prepareCloseTasks).removeAll(closedTasks)) {
             throw new IllegalArgumentException(
                     "The prepareCloseTasks collection should not contain elements of the closedTasks collection");
@@ -106,8 +123,8 @@ public class CheckpointBarrier implements Barrier, Serializable {
     @Override
     public String toString() {
         return String.format(
-                "CheckpointBarrier %d @ %d type: %s, prepareClose: %s, closed: %s",
-                id, timestamp, checkpointType, prepareCloseTasks, closedTasks);
+                "CheckpointBarrier %d @ %d type: %s, prepareClose: %s, closed: %s, unaligned: %s",
+                id, timestamp, checkpointType, prepareCloseTasks, closedTasks, unaligned);
     }
 
     public boolean isAuto() {
@@ -27,7 +27,8 @@ public enum CheckpointCloseReason {
     CHECKPOINT_INSIDE_ERROR("CheckpointCoordinator inside have error."),
     AGGREGATE_COMMIT_ERROR("Aggregate commit error."),
     TASK_NOT_ALL_READY_WHEN_SAVEPOINT("Task not all ready, savepoint error"),
-    CHECKPOINT_NOTIFY_COMPLETE_FAILED("Checkpoint notify complete failed");
+    CHECKPOINT_NOTIFY_COMPLETE_FAILED("Checkpoint notify complete failed"),
+    REGION_FAILOVER("Task groups of a failover region restart.");
 
     private final String message;
 
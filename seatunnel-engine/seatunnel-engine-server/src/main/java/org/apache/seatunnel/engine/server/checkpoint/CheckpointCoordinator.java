@@ -25,6 +25,7 @@ import org.apache.seatunnel.common.utils.RetryUtils;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.utils.ExceptionUtil;
@@ -34,7 +35,7 @@ import org.apache.seatunnel.engine.core.checkpoint.Checkpoint;
 import org.apache.seatunnel.engine.core.checkpoint.CheckpointIDCounter;
 import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
-import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+import org.apache.seatunnel.engine.server.checkpoint.operation.CheckTaskLocalStateOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.CheckpointBarrierTriggerOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.CheckpointEndOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.CheckpointFinishedOperation;
@@ -42,6 +43,7 @@ import org.apache.seatunnel.engine.server.checkpoint.operation.NotifyTaskRestore
 import org.apache.seatunnel.engine.server.checkpoint.operation.NotifyTaskStartOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskAcknowledgeOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskReportStatusOperation;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 import org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTaskState;
@@ -55,10 +57,12 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -120,6 +124,11 @@ public class CheckpointCoordinator {
 
     private final ArrayDeque<String> completedCheckpointIds;
 
+    /** Only set when incremental checkpoints are enabled. */
+    private final IncrementalCheckpointTracker incrementalTracker;
+
+    @Getter private final CheckpointStatisticsTracker statisticsTracker;
+
     private volatile CompletedCheckpoint latestCompletedCheckpoint = null;
 
     private final CheckpointConfig coordinatorConfig;
@@ -139,6 +148,9 @@ public class CheckpointCoordinator {
 
     private volatile boolean isAllTaskReady = false;
 
+    /** The tasks of a restarting failover region, null when no region is restarting. */
+    private volatile Set<TaskLocation> restartingRegionTasks;
+
     private final ExecutorService executorService;
 
     private CompletableFuture<CheckpointCoordinatorState> checkpointCoordinatorFuture;
@@ -190,7 +202,13 @@ public class CheckpointCoordinator {
                         });
         ((ScheduledThreadPoolExecutor) this.scheduler).setRemoveOnCancelPolicy(true);
         this.scheduler = MDCTracer.tracing(scheduler);
-        this.serializer = new ProtoStuffSerializer();
+        this.serializer =
+                CompletedCheckpointCodec.createSerializer(
+                        checkpointConfig.getStorage().getStoragePluginConfig());
+        this.incrementalTracker =
+                checkpointConfig.isIncremental() ? new IncrementalCheckpointTracker() : null;
+        this.statisticsTracker =
+                new CheckpointStatisticsTracker(checkpointConfig.getStatsHistorySize());
         this.pipelineTasks = getPipelineTasks(plan.getPipelineSubtasks());
         this.pipelineTaskStatus = new ConcurrentHashMap<>();
         this.checkpointIdCounter = checkpointIdCounter;
@@ -206,6 +224,13 @@ public class CheckpointCoordinator {
         if (pipelineState != null) {
             this.latestCompletedCheckpoint =
                     serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+            // an incremental checkpoint may reference the states of earlier checkpoints
+            if (incrementalTracker != null) {
+                incrementalTracker.restore(latestCompletedCheckpoint, this::loadCheckpoint);
+            } else {
+                IncrementalCheckpointTracker.resolve(
+                        latestCompletedCheckpoint, this::loadCheckpoint);
+            }
             this.latestCompletedCheckpoint.setRestored(true);
             LOG.info(
                     "Restore job({}@{}) with checkpoint({}), data: {}",
@@ -327,12 +352,65 @@ public class CheckpointCoordinator {
                                     }
                                 }
                             });
+            if (coordinatorConfig.isLocalRecovery()
+                    && !states.isEmpty()
+                    && restoreTaskStateLocally(taskLocation, states)) {
+                return;
+            }
         }
         checkpointManager
                 .sendOperationToMemberNode(new NotifyTaskRestoreOperation(taskLocation, states))
                 .join();
     }
 
+    /**
+     * Ask the worker which states it still holds an identical local copy of, and only send it the
+     * others. Any failure falls back to sending all states.
+     */
+    private boolean restoreTaskStateLocally(
+            TaskLocation taskLocation, List<ActionSubtaskState> states) {
+        long checkpointId = latestCompletedCheckpoint.getCheckpointId();
+        try {
+            Map<LocalStateReference, ActionSubtaskState> references = new LinkedHashMap<>();
+            states.forEach(state -> references.put(LocalStateReference.of(state), state));
+            List<LocalStateReference> localStates =
+                    (List<LocalStateReference>)
+                            checkpointManager
+                                    .sendOperationToMemberNode(
+                                            new CheckTaskLocalStateOperation(
+                                                    taskLocation,
+                                                    checkpointId,
+                                                    new ArrayList<>(references.keySet())))
+                                    .join();
+            if (localStates.isEmpty()) {
+                return false;
+            }
+            localStates.forEach(references::remove);
+            LOG.info(
+                    "Restore task({}) with {} of {} states from the local copy of checkpoint {}",
+                    taskLocation,
+                    localStates.size(),
+                    states.size(),
+                    checkpointId);
+            checkpointManager
+                    .sendOperationToMemberNode(
+                            new NotifyTaskRestoreOperation(
+                                    taskLocation,
+                                    new ArrayList<>(references.values()),
+                                    checkpointId,
+                                    localStates))
+                    .join();
+            return true;
+        } catch (Exception e) {
+            LOG.warn(
+                    "Restore task({}) from the local copy of checkpoint {} failed, send all states instead",
+                    taskLocation,
+                    checkpointId,
+                    e);
+            return false;
+        }
+    }
+
     private void allTaskReady() {
         if (pipelineTaskStatus.size() != plan.getPipelineSubtasks().size()) {
             return;
@@ -342,6 +420,11 @@ public class CheckpointCoordinator {
                 return;
             }
         }
+        Set<TaskLocation> restartedRegionTasks = restartingRegionTasks;
+        if (restartedRegionTasks != null) {
+            regionReady(restartedRegionTasks);
+            return;
+        }
         isAllTaskReady = true;
         InvocationFuture<?>[] futures = notifyTaskStart();
         CompletableFuture.allOf(futures).join();
@@ -380,6 +463,104 @@ public class CheckpointCoordinator {
         }
     }
 
+    /**
+     * Only the tasks of the restarted region are started and told about the latest completed
+     * checkpoint, the other tasks never stopped.
+     */
+    private void regionReady(Set<TaskLocation> regionTasks) {
+        LOG.info(
+                "all tasks of the restarted region are ready, job id: {}, pipeline id: {}, tasks: {}",
+                jobId,
+                pipelineId,
+                regionTasks.size());
+        CompletableFuture.allOf(
+                        regionTasks.stream()
+                                .map(NotifyTaskStartOperation::new)
+                                .map(checkpointManager::sendOperationToMemberNode)
+                                .toArray(InvocationFuture[]::new))
+                .join();
+        if (latestCompletedCheckpoint != null) {
+            try {
+                CompletableFuture.allOf(
+                                regionTasks.stream()
+                                        .map(
+                                                taskLocation ->
+                                                        new CheckpointFinishedOperation(
+                                                                taskLocation,
+                                                                latestCompletedCheckpoint
+                                                                        .getCheckpointId(),
+                                                                true))
+                                        .map(checkpointManager::sendOperationToMemberNode)
+                                        .toArray(InvocationFuture[]::new))
+                        .join();
+            } catch (Throwable e) {
+                handleCoordinatorError(
+                        "notify checkpoint completed failed",
+                        e,
+                        CheckpointCloseReason.CHECKPOINT_NOTIFY_COMPLETE_FAILED);
+                return;
+            }
+        }
+        restartingRegionTasks = null;
+        isAllTaskReady = true;
+        scheduleTriggerPendingCheckpoint(coordinatorConfig.getCheckpointInterval());
+    }
+
+    /**
+     * Stops triggering checkpoints while the task groups of a failover region restart. The pending
+     * checkpoints are aborted because the restarting tasks will never acknowledge them, the tasks
+     * outside of the region keep running and checkpointing resumes once the restarted tasks are
+     * ready again.
+     *
+     * @return false if checkpointing is disabled or the coordinator is busy with a savepoint or a
+     *     schema change, then the region can not be restarted alone
+     */
+    protected boolean restartRegion(Set<TaskGroupLocation> taskGroups) {
+        synchronized (lock) {
+            if (!coordinatorConfig.isCheckpointEnable()
+                    || isShutdown()
+                    || isCompleted()
+                    || schemaChanging.get()
+                    || restartingRegionTasks != null
+                    || (savepointPendingCheckpoint != null
+                            && !savepointPendingCheckpoint.getCompletableFuture().isDone())) {
+                return false;
+            }
+            isAllTaskReady = false;
+            Set<TaskLocation> regionTasks =
+                    plan.getPipelineSubtasks().stream()
+                            .filter(task -> taskGroups.contains(task.getTaskGroupLocation()))
+                            .collect(Collectors.toSet());
+            LOG.info(
+                    "restart region of {} tasks, job id: {}, pipeline id: {}, abort {} pending checkpoints",
+                    regionTasks.size(),
+                    jobId,
+                    pipelineId,
+                    pendingCheckpoints.size());
+            List<String> abortedCheckpointIds = new ArrayList<>();
+            pendingCheckpoints
+                    .values()
+                    .forEach(
+                            pendingCheckpoint -> {
+                                if (pendingCheckpoint.abortCheckpoint(
+                                        CheckpointCloseReason.REGION_FAILOVER, null)) {
+                                    statisticsTracker.reportFailed(
+                                            pendingCheckpoint.getCheckpointId(),
+                                            CheckpointCloseReason.REGION_FAILOVER.message());
+                                    abortedCheckpointIds.add(
+                                            String.valueOf(pendingCheckpoint.getCheckpointId()));
+                                }
+                                pendingCheckpoint.abortCheckpointTimeoutFutureWhenIsCompleted();
+                            });
+            deleteTaskStates(abortedCheckpointIds);
+            pendingCheckpoints.clear();
+            pendingCounter.set(0);
+            regionTasks.forEach(task -> pipelineTaskStatus.remove(task.getTaskID()));
+            restartingRegionTasks = regionTasks;
+            return true;
+        }
+    }
+
     public InvocationFuture<?>[] notifyTaskStart() {
         return plan.getPipelineSubtasks().stream()
                 .map(NotifyTaskStartOperation::new)
@@ -630,9 +811,24 @@ public class CheckpointCoordinator {
                                                                     .getCheckpointTimestamp(),
                                                             pendingCheckpoint.getCheckpointType(),
                                                             new HashSet<>(readyToCloseIdleTask),
-                                                            new HashSet<>(closedIdleTask)),
+                                                            new HashSet<>(closedIdleTask),
+                                                            coordinatorConfig.isUnaligned()
+                                                                    && pendingCheckpoint
+                                                                                    .getCheckpointType()
+                                                                            == CHECKPOINT_TYPE),
                                             executorService)
                                     .thenApplyAsync(this::triggerCheckpoint, executorService);
+                    long checkpointId = pendingCheckpoint.getCheckpointId();
+                    completableFutureArray.thenAccept(
+                            futures ->
+                                    CompletableFuture.allOf(futures)
+                                            .thenRun(
+                                                    () ->
+                                                            statisticsTracker
+                                                                    .reportBarrierTriggered(
+                                                                            checkpointId,
+                                                                            System
+                                                                                    .currentTimeMillis())));
 
                     try {
                         CompletableFuture.allOf(completableFutureArray).get();
@@ -735,6 +931,10 @@ public class CheckpointCoordinator {
                         pendingCheckpoint -> {
                             pendingCheckpoints.put(
                                     pendingCheckpoint.getCheckpointId(), pendingCheckpoint);
+                            statisticsTracker.reportTriggered(
+                                    pendingCheckpoint.getCheckpointId(),
+                                    checkpointType,
+                                    triggerTimestamp);
                             return pendingCheckpoint;
                         },
                         executorService);
@@ -779,14 +979,25 @@ public class CheckpointCoordinator {
     protected void cleanPendingCheckpoint(CheckpointCloseReason closedReason) {
         shutdown = true;
         isAllTaskReady = false;
+        restartingRegionTasks = null;
         synchronized (lock) {
             LOG.info("start clean pending checkpoint cause {}", closedReason.message());
             if (!pendingCheckpoints.isEmpty()) {
+                List<String> abortedCheckpointIds = new ArrayList<>();
                 pendingCheckpoints
                         .values()
                         .forEach(
-                                pendingCheckpoint ->
-                                        pendingCheckpoint.abortCheckpoint(closedReason, null));
+                                pendingCheckpoint -> {
+                                    if (pendingCheckpoint.abortCheckpoint(closedReason, null)) {
+                                        statisticsTracker.reportFailed(
+                                                pendingCheckpoint.getCheckpointId(),
+                                                closedReason.message());
+                                        abortedCheckpointIds.add(
+                                                String.valueOf(
+                                                        pendingCheckpoint.getCheckpointId()));
+                                    }
+                                });
+                deleteTaskStates(abortedCheckpointIds);
                 // TODO: clear related future & scheduler task
                 pendingCheckpoints.clear();
             }
@@ -810,6 +1021,15 @@ public class CheckpointCoordinator {
         }
     }
 
+    /** Deletes the states the tasks stored themselves for checkpoints that will never complete. */
+    private void deleteTaskStates(List<String> checkpointIds) {
+        if (coordinatorConfig.getStateUploadThreshold() < 0 || checkpointIds.isEmpty()) {
+            return;
+        }
+        checkpointStorage.deleteTaskStates(
+                String.valueOf(jobId), String.valueOf(pipelineId), checkpointIds);
+    }
+
     protected void acknowledgeTask(TaskAcknowledgeOperation ackOperation) {
         final long checkpointId = ackOperation.getBarrier().getId();
         final PendingCheckpoint pendingCheckpoint = pendingCheckpoints.get(checkpointId);
@@ -825,6 +1045,12 @@ public class CheckpointCoordinator {
                 location.getJobId(),
                 ackOperation.getBarrier().toString());
 
+        statisticsTracker.reportAcknowledged(
+                checkpointId,
+                location,
+                ackOperation.getAlignmentDuration(),
+                ackOperation.getStates(),
+                System.currentTimeMillis());
         pendingCheckpoint.acknowledgeTask(
                 location,
                 ackOperation.getStates(),
@@ -838,6 +1064,24 @@ public class CheckpointCoordinator {
         }
     }
 
+    private CompletedCheckpoint loadCheckpoint(long checkpointId)
+            throws CheckpointStorageException {
+        PipelineState state =
+                checkpointStorage.getCheckpoint(
+                        String.valueOf(jobId),
+                        String.valueOf(pipelineId),
+                        String.valueOf(checkpointId));
+        if (state == null) {
+            throw new CheckpointStorageException("Checkpoint " + checkpointId + " is not found");
+        }
+        try {
+            return serializer.deserialize(state.getStates(), CompletedCheckpoint.class);
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    "Failed to deserialize checkpoint " + checkpointId, e);
+        }
+    }
+
     public synchronized void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint) {
         LOG.debug(
                 "pending checkpoint({}/{}@{}) completed! cost: {}, trigger: {}, completed: {}",
@@ -850,9 +1094,15 @@ public class CheckpointCoordinator {
                 completedCheckpoint.getCompletedTimestamp());
         final long checkpointId = completedCheckpoint.getCheckpointId();
         completedCheckpointIds.addLast(String.valueOf(completedCheckpoint.getCheckpointId()));
+        long storageDuration = 0;
         try {
             if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
-                byte[] states = serializer.serialize(completedCheckpoint);
+                long storageStartTime = System.currentTimeMillis();
+                CompletedCheckpoint storedCheckpoint =
+                        incrementalTracker == null
+                                ? completedCheckpoint
+                                : incrementalTracker.prepareForStorage(completedCheckpoint);
+                byte[] states = serializer.serialize(storedCheckpoint);
                 checkpointStorage.storeCheckPoint(
                         PipelineState.builder()
                                 .checkpointId(checkpointId)
@@ -860,6 +1110,10 @@ public class CheckpointCoordinator {
                                 .pipelineId(pipelineId)
                                 .states(states)
                                 .build());
+                if (incrementalTracker != null) {
+                    incrementalTracker.commit(completedCheckpoint, storedCheckpoint);
+                }
+                storageDuration = System.currentTimeMillis() - storageStartTime;
             }
             if (completedCheckpointIds.size()
                                     % coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
@@ -871,12 +1125,21 @@ public class CheckpointCoordinator {
                 for (int i = 0;
                         i < coordinatorConfig.getStorage().getMaxRetainedCheckpoints();
                         i++) {
-                    needDeleteCheckpointId.add(completedCheckpointIds.removeFirst());
+                    String expiredCheckpointId = completedCheckpointIds.removeFirst();
+                    if (incrementalTracker == null) {
+                        needDeleteCheckpointId.add(expiredCheckpointId);
+                    } else {
+                        // the data is kept while newer checkpoints still reference it
+                        needDeleteCheckpointId.addAll(
+                                incrementalTracker.release(expiredCheckpointId));
+                    }
+                }
+                if (!needDeleteCheckpointId.isEmpty()) {
+                    checkpointStorage.deleteCheckpoint(
+                            String.valueOf(completedCheckpoint.getJobId()),
+                            String.valueOf(completedCheckpoint.getPipelineId()),
+                            needDeleteCheckpointId);
                 }
-                checkpointStorage.deleteCheckpoint(
-                        String.valueOf(completedCheckpoint.getJobId()),
-                        String.valueOf(completedCheckpoint.getPipelineId()),
-                        needDeleteCheckpointId);
             }
         } catch (Throwable e) {
             LOG.error("store checkpoint states failed.", e);
@@ -888,6 +1151,8 @@ public class CheckpointCoordinator {
                 completedCheckpoint.getPipelineId(),
                 completedCheckpoint.getJobId());
         latestCompletedCheckpoint = completedCheckpoint;
+        statisticsTracker.reportCompleted(
+                completedCheckpoint, storageDuration, System.currentTimeMillis());
         notifyCompleted(completedCheckpoint);
         pendingCheckpoints.remove(checkpointId).abortCheckpointTimeoutFutureWhenIsCompleted();
         pendingCounter.decrementAndGet();
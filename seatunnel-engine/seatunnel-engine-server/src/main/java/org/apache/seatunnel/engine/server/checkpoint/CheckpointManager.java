@@ -42,6 +42,7 @@ import org.apache.seatunnel.engine.server.dag.execution.Pipeline;
 import org.apache.seatunnel.engine.server.dag.physical.PipelineLocation;
 import org.apache.seatunnel.engine.server.dag.physical.SubPlan;
 import org.apache.seatunnel.engine.server.execution.Task;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.master.JobMaster;
 import org.apache.seatunnel.engine.server.task.SourceSplitEnumeratorTask;
@@ -56,6 +57,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -170,6 +172,15 @@ public class CheckpointManager {
         getCheckpointCoordinator(pipelineId).restoreCoordinator(alreadyStarted);
     }
 
+    /**
+     * Called by the {@link SubPlan} before the task groups of a failover region are restarted.
+     *
+     * @return false if the region can not be restarted without restarting the whole pipeline
+     */
+    public boolean restartRegion(int pipelineId, Set<TaskGroupLocation> taskGroups) {
+        return getCheckpointCoordinator(pipelineId).restartRegion(taskGroups);
+    }
+
     protected void handleCheckpointError(int pipelineId, boolean neverRestore) {
         jobMaster.handleCheckpointError(pipelineId, neverRestore);
     }
@@ -192,6 +203,15 @@ public class CheckpointManager {
         return coordinator;
     }
 
+    /** Returns the checkpoint statistics of each pipeline, by pipeline id. */
+    public Map<Integer, CheckpointStatisticsTracker> getCheckpointStatistics() {
+        return coordinatorMap.entrySet().stream()
+                .collect(
+                        Collectors.toMap(
+                                Map.Entry::getKey,
+                                entry -> entry.getValue().getStatisticsTracker()));
+    }
+
     /**
      * Called by the {@link Task}. <br>
      * used by Task to report the {@link SeaTunnelTaskState} of the state machine.
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The statistics of one checkpoint of a pipeline, filled in by the {@link
+ * CheckpointStatisticsTracker} while the checkpoint runs. All durations are in milliseconds and -1
+ * until the phase has finished.
+ */
+@Getter
+@ToString
+public class CheckpointStatistics {
+
+    public enum Status {
+        IN_PROGRESS,
+        COMPLETED,
+        FAILED
+    }
+
+    private final long checkpointId;
+
+    private final CheckpointType checkpointType;
+
+    private final long triggerTimestamp;
+
+    private volatile Status status = Status.IN_PROGRESS;
+
+    /** The time until all starting tasks received the barrier. */
+    private volatile long triggerDuration = -1;
+
+    /** The time from the trigger until the last task acknowledged the checkpoint. */
+    private volatile long acknowledgeDuration = -1;
+
+    /** The longest time a task waited for the barriers of all its inputs. */
+    private volatile long maxAlignmentDuration = -1;
+
+    /** The time to serialize the completed checkpoint and write it to the checkpoint storage. */
+    private volatile long storageDuration = -1;
+
+    /** The time from the trigger until the checkpoint was stored. */
+    private volatile long endToEndDuration = -1;
+
+    /** The size in bytes of the states of all tasks. */
+    private volatile long stateSize;
+
+    /** The state size in bytes per action, known once the checkpoint completed. */
+    private volatile Map<String, Long> actionStateSizes = Collections.emptyMap();
+
+    /** The acknowledgement of each task, by task id. */
+    private final Map<Long, SubtaskCheckpointStatistics> subtasks = new ConcurrentHashMap<>();
+
+    private volatile String failureReason;
+
+    CheckpointStatistics(long checkpointId, CheckpointType checkpointType, long triggerTimestamp) {
+        this.checkpointId = checkpointId;
+        this.checkpointType = checkpointType;
+        this.triggerTimestamp = triggerTimestamp;
+    }
+
+    void triggered(long timestamp) {
+        triggerDuration = timestamp - triggerTimestamp;
+    }
+
+    void acknowledged(SubtaskCheckpointStatistics subtask) {
+        if (subtasks.putIfAbsent(subtask.getTaskId(), subtask) != null) {
+            return;
+        }
+        stateSize += subtask.getStateSize();
+        acknowledgeDuration = Math.max(acknowledgeDuration, subtask.getAckDuration());
+        maxAlignmentDuration = Math.max(maxAlignmentDuration, subtask.getAlignmentDuration());
+    }
+
+    void completed(Map<String, Long> actionStateSizes, long storageDuration, long timestamp) {
+        this.actionStateSizes = Collections.unmodifiableMap(actionStateSizes);
+        this.storageDuration = storageDuration;
+        this.endToEndDuration = timestamp - triggerTimestamp;
+        this.status = Status.COMPLETED;
+    }
+
+    void failed(String failureReason) {
+        this.failureReason = failureReason;
+        this.status = Status.FAILED;
+    }
+
+    /** The acknowledgement of one task. */
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class SubtaskCheckpointStatistics {
+
+        private final long taskId;
+
+        private final int taskIndex;
+
+        /** The time from the trigger until the task acknowledged the checkpoint. */
+        private final long ackDuration;
+
+        /** The time the task waited for the barriers of all its inputs, 0 for a single input. */
+        private final long alignmentDuration;
+
+        /** The size in bytes of the states the task acknowledged. */
+        private final long stateSize;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointStatistics.Status;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointStatistics.SubtaskCheckpointStatistics;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps the statistics of the recent checkpoints of a pipeline in a ring buffer of {@code
+ * historySize} entries, and counts the checkpoints since the coordinator was created.
+ */
+public class CheckpointStatisticsTracker {
+
+    private final int historySize;
+
+    /** The recent checkpoints, oldest first. */
+    private final ArrayDeque<CheckpointStatistics> history;
+
+    private long completedCount;
+
+    private long failedCount;
+
+    private CheckpointStatistics latestCompleted;
+
+    public CheckpointStatisticsTracker(int historySize) {
+        this.historySize = historySize;
+        this.history = new ArrayDeque<>(historySize);
+    }
+
+    public synchronized void reportTriggered(
+            long checkpointId, CheckpointType checkpointType, long triggerTimestamp) {
+        if (history.size() == historySize) {
+            history.removeFirst();
+        }
+        history.addLast(new CheckpointStatistics(checkpointId, checkpointType, triggerTimestamp));
+    }
+
+    /** Reports that all starting tasks received the barrier. */
+    public synchronized void reportBarrierTriggered(long checkpointId, long timestamp) {
+        CheckpointStatistics statistics = get(checkpointId);
+        if (statistics != null) {
+            statistics.triggered(timestamp);
+        }
+    }
+
+    public synchronized void reportAcknowledged(
+            long checkpointId,
+            TaskLocation taskLocation,
+            long alignmentDuration,
+            List<ActionSubtaskState> states,
+            long timestamp) {
+        CheckpointStatistics statistics = get(checkpointId);
+        if (statistics == null) {
+            return;
+        }
+        long stateSize = 0;
+        for (ActionSubtaskState state : states) {
+            stateSize += PendingCheckpoint.getStateSize(state);
+        }
+        statistics.acknowledged(
+                new SubtaskCheckpointStatistics(
+                        taskLocation.getTaskID(),
+                        taskLocation.getTaskIndex(),
+                        timestamp - statistics.getTriggerTimestamp(),
+                        alignmentDuration,
+                        stateSize));
+    }
+
+    public synchronized void reportCompleted(
+            CompletedCheckpoint checkpoint, long storageDuration, long timestamp) {
+        CheckpointStatistics statistics = get(checkpoint.getCheckpointId());
+        if (statistics == null || statistics.getStatus() != Status.IN_PROGRESS) {
+            return;
+        }
+        Map<String, Long> actionStateSizes = new TreeMap<>();
+        checkpoint
+                .getTaskStates()
+                .forEach(
+                        (key, actionState) -> {
+                            long size =
+                                    PendingCheckpoint.getStateSize(
+                                            actionState.getCoordinatorState());
+                            for (ActionSubtaskState state : actionState.getSubtaskStates()) {
+                                size += PendingCheckpoint.getStateSize(state);
+                            }
+                            actionStateSizes.put(key.getName(), size);
+                        });
+        statistics.completed(actionStateSizes, storageDuration, timestamp);
+        completedCount++;
+        latestCompleted = statistics;
+    }
+
+    public synchronized void reportFailed(long checkpointId, String failureReason) {
+        CheckpointStatistics statistics = get(checkpointId);
+        if (statistics == null || statistics.getStatus() != Status.IN_PROGRESS) {
+            return;
+        }
+        statistics.failed(failureReason);
+        failedCount++;
+    }
+
+    /** Returns the recent checkpoints, newest first. */
+    public synchronized List<CheckpointStatistics> getHistory() {
+        List<CheckpointStatistics> checkpoints = new ArrayList<>(history.size());
+        history.descendingIterator().forEachRemaining(checkpoints::add);
+        return checkpoints;
+    }
+
+    public synchronized long getCompletedCount() {
+        return completedCount;
+    }
+
+    public synchronized long getFailedCount() {
+        return failedCount;
+    }
+
+    public synchronized long getInProgressCount() {
+        return history.stream().filter(s -> s.getStatus() == Status.IN_PROGRESS).count();
+    }
+
+    /** Returns the latest completed checkpoint, even when it left the history, or null. */
+    public synchronized CheckpointStatistics getLatestCompleted() {
+        return latestCompleted;
+    }
+
+    private CheckpointStatistics get(long checkpointId) {
+        Iterator<CheckpointStatistics> iterator = history.descendingIterator();
+        while (iterator.hasNext()) {
+            CheckpointStatistics statistics = iterator.next();
+            if (statistics.getCheckpointId() == checkpointId) {
+                return statistics;
+            }
+        }
+        return null;
+    }
+}
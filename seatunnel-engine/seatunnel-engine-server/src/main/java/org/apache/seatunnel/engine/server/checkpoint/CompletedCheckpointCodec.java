@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.common.CheckpointSerializers;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+import org.apache.seatunnel.engine.serializer.binary.BinaryInput;
+import org.apache.seatunnel.engine.serializer.binary.BinaryOutput;
+import org.apache.seatunnel.engine.serializer.binary.TypeCodec;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.seatunnel.engine.checkpoint.storage.common.CheckpointSerializers.COMPLETED_CHECKPOINT_TYPE_ID;
+
+/**
+ * The binary codec of the {@link CompletedCheckpoint}, it writes the fields in a fixed order
+ * without the class and field names protostuff resolves by reflection.
+ */
+public class CompletedCheckpointCodec implements TypeCodec<CompletedCheckpoint> {
+
+    /**
+     * Creates the serializer of the {@link CompletedCheckpoint}s, it writes the format configured
+     * in the checkpoint storage configuration and reads both formats.
+     */
+    public static Serializer createSerializer(Map<String, String> storagePluginConfig) {
+        return CheckpointSerializers.create(CheckpointSerializers.getFormat(storagePluginConfig))
+                .register(
+                        COMPLETED_CHECKPOINT_TYPE_ID,
+                        CompletedCheckpoint.class,
+                        new CompletedCheckpointCodec());
+    }
+
+    @Override
+    public void write(BinaryOutput out, CompletedCheckpoint checkpoint) {
+        out.writeVarLong(checkpoint.getJobId());
+        out.writeVarInt(checkpoint.getPipelineId());
+        out.writeVarLong(checkpoint.getCheckpointId());
+        out.writeVarLong(checkpoint.getCheckpointTimestamp());
+        out.writeString(checkpoint.getCheckpointType().getName());
+        out.writeVarLong(checkpoint.getCompletedTimestamp());
+        out.writeBoolean(checkpoint.isRestored());
+
+        Map<ActionStateKey, ActionState> taskStates = checkpoint.getTaskStates();
+        out.writeVarInt(taskStates.size());
+        for (Map.Entry<ActionStateKey, ActionState> entry : taskStates.entrySet()) {
+            writeStateKey(out, entry.getKey());
+            ActionState actionState = entry.getValue();
+            if (out.writeNotNull(actionState)) {
+                writeStateKey(out, actionState.getStateKey());
+                out.writeVarInt(actionState.getParallelism());
+                writeSubtaskState(out, actionState.getCoordinatorState());
+                for (ActionSubtaskState subtaskState : actionState.getSubtaskStates()) {
+                    writeSubtaskState(out, subtaskState);
+                }
+            }
+        }
+
+        Map<Long, TaskStatistics> taskStatistics = checkpoint.getTaskStatistics();
+        out.writeVarInt(taskStatistics.size());
+        for (Map.Entry<Long, TaskStatistics> entry : taskStatistics.entrySet()) {
+            if (out.writeNotNull(entry.getKey())) {
+                out.writeSignedVarLong(entry.getKey());
+            }
+            TaskStatistics statistics = entry.getValue();
+            if (out.writeNotNull(statistics)) {
+                out.writeSignedVarLong(statistics.getJobVertexId());
+                List<SubtaskStatistics> subtaskStats = statistics.getSubtaskStats();
+                out.writeVarInt(subtaskStats.size());
+                for (int i = 0; i < subtaskStats.size(); i++) {
+                    SubtaskStatistics subtask = subtaskStats.get(i);
+                    if (out.writeNotNull(subtask)) {
+                        out.writeVarInt(subtask.getSubtaskIndex());
+                        out.writeVarLong(subtask.getAckTimestamp());
+                        out.writeVarLong(subtask.getStateSize());
+                        if (out.writeNotNull(subtask.getSubtaskStatus())) {
+                            out.writeString(subtask.getSubtaskStatus().name());
+                        }
+                    }
+                    out.writeBoolean(statistics.isCompleted(i));
+                }
+            }
+        }
+    }
+
+    @Override
+    public CompletedCheckpoint read(BinaryInput in) throws IOException {
+        long jobId = in.readVarLong();
+        int pipelineId = in.readVarInt();
+        long checkpointId = in.readVarLong();
+        long triggerTimestamp = in.readVarLong();
+        CheckpointType checkpointType = CheckpointType.fromName(in.readString());
+        long completedTimestamp = in.readVarLong();
+        boolean restored = in.readBoolean();
+
+        int taskStateCount = in.readVarInt();
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>(taskStateCount);
+        for (int i = 0; i < taskStateCount; i++) {
+            ActionStateKey key = readStateKey(in);
+            ActionState actionState = null;
+            if (in.readNotNull()) {
+                ActionStateKey stateKey = readStateKey(in);
+                int parallelism = in.readVarInt();
+                actionState = new ActionState(stateKey, parallelism);
+                actionState.reportState(-1, readSubtaskState(in));
+                for (int index = 0; index < parallelism; index++) {
+                    actionState.reportState(index, readSubtaskState(in));
+                }
+            }
+            taskStates.put(key, actionState);
+        }
+
+        int taskStatisticsCount = in.readVarInt();
+        Map<Long, TaskStatistics> taskStatistics = new HashMap<>(taskStatisticsCount);
+        for (int i = 0; i < taskStatisticsCount; i++) {
+            Long key = in.readNotNull() ? in.readSignedVarLong() : null;
+            TaskStatistics statistics = null;
+            if (in.readNotNull()) {
+                long jobVertexId = in.readSignedVarLong();
+                int parallelism = in.readVarInt();
+                statistics = new TaskStatistics(jobVertexId, parallelism);
+                for (int index = 0; index < parallelism; index++) {
+                    if (in.readNotNull()) {
+                        int subtaskIndex = in.readVarInt();
+                        long ackTimestamp = in.readVarLong();
+                        long stateSize = in.readVarLong();
+                        SubtaskStatus status =
+                                in.readNotNull() ? SubtaskStatus.valueOf(in.readString()) : null;
+                        statistics.reportSubtaskStatistics(
+                                new SubtaskStatistics(
+                                        subtaskIndex, ackTimestamp, stateSize, status));
+                    }
+                    if (in.readBoolean()) {
+                        statistics.completed(index);
+                    }
+                }
+            }
+            taskStatistics.put(key, statistics);
+        }
+
+        CompletedCheckpoint checkpoint =
+                new CompletedCheckpoint(
+                        jobId,
+                        pipelineId,
+                        checkpointId,
+                        triggerTimestamp,
+                        checkpointType,
+                        completedTimestamp,
+                        taskStates,
+                        taskStatistics);
+        checkpoint.setRestored(restored);
+        return checkpoint;
+    }
+
+    private static void writeStateKey(BinaryOutput out, ActionStateKey key) {
+        if (out.writeNotNull(key)) {
+            out.writeString(key.getName());
+        }
+    }
+
+    private static ActionStateKey readStateKey(BinaryInput in) throws IOException {
+        return in.readNotNull() ? new ActionStateKey(in.readString()) : null;
+    }
+
+    private static void writeSubtaskState(BinaryOutput out, ActionSubtaskState state) {
+        if (!out.writeNotNull(state)) {
+            return;
+        }
+        writeStateKey(out, state.getStateKey());
+        out.writeSignedVarInt(state.getIndex());
+        List<byte[]> bytes = state.getState();
+        if (out.writeNotNull(bytes)) {
+            out.writeVarInt(bytes.size());
+            for (byte[] element : bytes) {
+                out.writeBytes(element);
+            }
+        }
+        if (out.writeNotNull(state.getReferencedCheckpointId())) {
+            out.writeVarLong(state.getReferencedCheckpointId());
+        }
+        if (out.writeNotNull(state.getStateHandle())) {
+            out.writeString(state.getStateHandle());
+        }
+        out.writeVarLong(state.getStateSize());
+        if (out.writeNotNull(state.getStateDigest())) {
+            out.writeBytes(state.getStateDigest());
+        }
+    }
+
+    private static ActionSubtaskState readSubtaskState(BinaryInput in) throws IOException {
+        if (!in.readNotNull()) {
+            return null;
+        }
+        ActionStateKey stateKey = readStateKey(in);
+        int index = in.readSignedVarInt();
+        List<byte[]> bytes = null;
+        if (in.readNotNull()) {
+            int size = in.readVarInt();
+            bytes = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                bytes.add(in.readBytes());
+            }
+        }
+        ActionSubtaskState state = new ActionSubtaskState(stateKey, index, bytes);
+        if (in.readNotNull()) {
+            state.setReferencedCheckpointId(in.readVarLong());
+        }
+        if (in.readNotNull()) {
+            state.setStateHandle(in.readString());
+        }
+        state.setStateSize(in.readVarLong());
+        if (in.readNotNull()) {
+            state.setStateDigest(in.readBytes());
+        }
+        return state;
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Persists only the subtask states that changed since the previous checkpoint of a pipeline.
+ *
+ * <p>An unchanged subtask state is stored as a reference to the checkpoint that holds its bytes.
+ * References always point to the holder itself, never to another reference, so one lookup resolves
+ * them. Every stored checkpoint counts how many retained checkpoints use its data, and its data is
+ * only deleted when that count drops to zero.
+ */
+public class IncrementalCheckpointTracker {
+
+    private static final int COORDINATOR_INDEX = -1;
+
+    /** The latest stored checkpoint, with all states resolved. */
+    private CompletedCheckpoint previous;
+
+    /** The checkpoint holding the bytes of each subtask state of {@link #previous}. */
+    private Map<ActionStateKey, Map<Integer, Long>> previousHolders = new HashMap<>();
+
+    /** checkpoint id -> the checkpoints holding the data it uses, including itself. */
+    private final Map<Long, Set<Long>> usedCheckpoints = new HashMap<>();
+
+    /** checkpoint id -> the number of retained checkpoints using its data. */
+    private final Map<Long, Integer> referenceCounts = new HashMap<>();
+
+    /**
+     * Returns the copy of the checkpoint to persist, in which the states equal to the previous
+     * checkpoint are replaced by references. Savepoints are always persisted in full, so that they
+     * stay readable when the checkpoints before them are deleted. The tracker is not changed until
+     * the copy is {@link #commit committed}.
+     */
+    public CompletedCheckpoint prepareForStorage(CompletedCheckpoint checkpoint) {
+        long checkpointId = checkpoint.getCheckpointId();
+        boolean full = checkpoint.getCheckpointType().isSavepoint();
+        Map<ActionStateKey, ActionState> storedStates = new HashMap<>();
+        for (Map.Entry<ActionStateKey, ActionState> entry : checkpoint.getTaskStates().entrySet()) {
+            ActionState actionState = entry.getValue();
+            ActionState previousState =
+                    full || previous == null ? null : previous.getTaskStates().get(entry.getKey());
+            if (previousState != null
+                    && previousState.getParallelism() != actionState.getParallelism()) {
+                previousState = null;
+            }
+            ActionState storedState =
+                    new ActionState(actionState.getStateKey(), actionState.getParallelism());
+            for (int i = COORDINATOR_INDEX; i < actionState.getParallelism(); i++) {
+                ActionSubtaskState state = subtaskState(actionState, i);
+                if (state == null) {
+                    continue;
+                }
+                Long holder =
+                        previousState != null && sameState(subtaskState(previousState, i), state)
+                                ? previousHolders.get(entry.getKey()).get(i)
+                                : null;
+                if (holder == null) {
+                    storedState.reportState(i, state);
+                } else {
+                    ActionSubtaskState reference =
+                            new ActionSubtaskState(state.getStateKey(), state.getIndex(), null);
+                    reference.setReferencedCheckpointId(holder);
+                    storedState.reportState(i, reference);
+                }
+            }
+            storedStates.put(entry.getKey(), storedState);
+        }
+        return new CompletedCheckpoint(
+                checkpoint.getJobId(),
+                checkpoint.getPipelineId(),
+                checkpointId,
+                checkpoint.getCheckpointTimestamp(),
+                checkpoint.getCheckpointType(),
+                checkpoint.getCompletedTimestamp(),
+                storedStates,
+                checkpoint.getTaskStatistics());
+    }
+
+    /**
+     * Continues from a checkpoint once the copy returned by {@link #prepareForStorage} is stored,
+     * so a failed store leaves the tracker at the previous stored checkpoint.
+     */
+    public void commit(CompletedCheckpoint checkpoint, CompletedCheckpoint stored) {
+        Map<ActionStateKey, Map<Integer, Long>> holders = new HashMap<>();
+        for (Map.Entry<ActionStateKey, ActionState> entry : stored.getTaskStates().entrySet()) {
+            ActionState storedState = entry.getValue();
+            Map<Integer, Long> actionHolders = new HashMap<>();
+            for (int i = COORDINATOR_INDEX; i < storedState.getParallelism(); i++) {
+                ActionSubtaskState state = subtaskState(storedState, i);
+                if (state != null) {
+                    Long holder = state.getReferencedCheckpointId();
+                    actionHolders.put(i, holder == null ? stored.getCheckpointId() : holder);
+                }
+            }
+            holders.put(entry.getKey(), actionHolders);
+        }
+        track(checkpoint, holders);
+    }
+
+    /**
+     * Resolves the references of a checkpoint read from the storage and continues from it. The
+     * checkpoints it uses are never released, like the restored checkpoint itself.
+     */
+    public void restore(CompletedCheckpoint restored, CheckpointLoader loader)
+            throws CheckpointStorageException {
+        Map<ActionStateKey, Map<Integer, Long>> holders = resolve(restored, loader);
+        previous = restored;
+        previousHolders = holders;
+        for (Map<Integer, Long> actionHolders : holders.values()) {
+            for (Long holder : new HashSet<>(actionHolders.values())) {
+                referenceCounts.merge(holder, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Releases a checkpoint that is no longer retained.
+     *
+     * @return the checkpoints whose data is no longer used and can be deleted
+     */
+    public List<String> release(String checkpointId) {
+        Set<Long> used = usedCheckpoints.remove(Long.parseLong(checkpointId));
+        if (used == null) {
+            return new ArrayList<>(Arrays.asList(checkpointId));
+        }
+        List<String> deletable = new ArrayList<>();
+        for (Long id : used) {
+            Integer count = referenceCounts.merge(id, -1, Integer::sum);
+            if (count != null && count <= 0) {
+                referenceCounts.remove(id);
+                deletable.add(String.valueOf(id));
+            }
+        }
+        return deletable;
+    }
+
+    /**
+     * Replaces the references of a checkpoint read from the storage with the states they point to.
+     *
+     * @return the checkpoint holding the bytes of each subtask state
+     */
+    public static Map<ActionStateKey, Map<Integer, Long>> resolve(
+            CompletedCheckpoint checkpoint, CheckpointLoader loader)
+            throws CheckpointStorageException {
+        Map<Long, CompletedCheckpoint> loaded = new HashMap<>();
+        Map<ActionStateKey, Map<Integer, Long>> holders = new HashMap<>();
+        for (Map.Entry<ActionStateKey, ActionState> entry : checkpoint.getTaskStates().entrySet()) {
+            ActionState actionState = entry.getValue();
+            Map<Integer, Long> actionHolders = new HashMap<>();
+            for (int i = COORDINATOR_INDEX; i < actionState.getParallelism(); i++) {
+                ActionSubtaskState state = subtaskState(actionState, i);
+                if (state == null) {
+                    continue;
+                }
+                Long holder = state.getReferencedCheckpointId();
+                if (holder == null) {
+                    actionHolders.put(i, checkpoint.getCheckpointId());
+                    continue;
+                }
+                CompletedCheckpoint holderCheckpoint = loaded.get(holder);
+                if (holderCheckpoint == null) {
+                    holderCheckpoint = loader.load(holder);
+                    loaded.put(holder, holderCheckpoint);
+                }
+                ActionState holderState = holderCheckpoint.getTaskStates().get(entry.getKey());
+                ActionSubtaskState resolved =
+                        holderState == null ? null : subtaskState(holderState, i);
+                if (resolved == null || resolved.getReferencedCheckpointId() != null) {
+                    throw new CheckpointStorageException(
+                            String.format(
+                                    "The state of %s[%s] in checkpoint %s is not found in the referenced checkpoint %s",
+                                    entry.getKey().getName(),
+                                    i,
+                                    checkpoint.getCheckpointId(),
+                                    holder));
+                }
+                actionState.reportState(i, resolved);
+                actionHolders.put(i, holder);
+            }
+            holders.put(entry.getKey(), actionHolders);
+        }
+        return holders;
+    }
+
+    private void track(
+            CompletedCheckpoint checkpoint, Map<ActionStateKey, Map<Integer, Long>> holders) {
+        Set<Long> used = new HashSet<>();
+        used.add(checkpoint.getCheckpointId());
+        holders.values().forEach(actionHolders -> used.addAll(actionHolders.values()));
+        for (Long id : used) {
+            referenceCounts.merge(id, 1, Integer::sum);
+        }
+        usedCheckpoints.put(checkpoint.getCheckpointId(), used);
+        previous = checkpoint;
+        previousHolders = holders;
+    }
+
+    private static ActionSubtaskState subtaskState(ActionState actionState, int index) {
+        return index == COORDINATOR_INDEX
+                ? actionState.getCoordinatorState()
+                : actionState.getSubtaskStates().get(index);
+    }
+
+    private static boolean sameState(ActionSubtaskState previous, ActionSubtaskState current) {
+        if (previous == null) {
+            return false;
+        }
+        if (previous.getState() == null || current.getState() == null) {
+            return previous.getState() == null
+                    && current.getState() == null
+                    && sameStoredState(previous, current);
+        }
+        List<byte[]> previousBytes = previous.getState();
+        List<byte[]> currentBytes = current.getState();
+        if (previousBytes.size() != currentBytes.size()) {
+            return false;
+        }
+        for (int i = 0; i < currentBytes.size(); i++) {
+            if (!Arrays.equals(previousBytes.get(i), currentBytes.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares two states the tasks stored in the checkpoint storage themselves, by their handle
+     * or, as every checkpoint stores them under a new handle, by the digest of their bytes.
+     */
+    private static boolean sameStoredState(
+            ActionSubtaskState previous, ActionSubtaskState current) {
+        if (previous.getStateHandle() == null
+                || current.getStateHandle() == null
+                || previous.getStateSize() != current.getStateSize()) {
+            return false;
+        }
+        return previous.getStateHandle().equals(current.getStateHandle())
+                || (previous.getStateDigest() != null
+                        && Arrays.equals(previous.getStateDigest(), current.getStateDigest()));
+    }
+
+    /** Reads a stored checkpoint of the same pipeline. */
+    @FunctionalInterface
+    public interface CheckpointLoader {
+        CompletedCheckpoint load(long checkpointId) throws CheckpointStorageException;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Keeps a copy of the states the tasks of this worker acknowledged, keyed by checkpoint id. When a
+ * task is redeployed on the same worker, the states that match the latest completed checkpoint are
+ * restored from here and only the remaining ones are sent by the {@link CheckpointCoordinator}. The
+ * checkpoint storage stays the source of truth, this copy is only trusted when the checksum sent by
+ * the coordinator matches.
+ */
+@Slf4j
+public class LocalCheckpointStateStore {
+
+    /** At most this many acknowledged checkpoints are kept per task, the oldest is dropped. */
+    static final int MAX_RETAINED_CHECKPOINTS = 3;
+
+    private final boolean enabled;
+
+    private final Map<TaskLocation, ConcurrentNavigableMap<Long, List<ActionSubtaskState>>>
+            taskStates = new ConcurrentHashMap<>();
+
+    public LocalCheckpointStateStore(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void put(TaskLocation taskLocation, long checkpointId, List<ActionSubtaskState> states) {
+        if (!enabled) {
+            return;
+        }
+        ConcurrentNavigableMap<Long, List<ActionSubtaskState>> checkpoints =
+                taskStates.computeIfAbsent(taskLocation, location -> new ConcurrentSkipListMap<>());
+        checkpoints.put(checkpointId, states == null ? Collections.emptyList() : states);
+        while (checkpoints.size() > MAX_RETAINED_CHECKPOINTS) {
+            checkpoints.pollFirstEntry();
+        }
+    }
+
+    /** The checkpoint completed, the copies of older checkpoints are no longer needed. */
+    public void notifyCheckpointComplete(TaskLocation taskLocation, long checkpointId) {
+        ConcurrentNavigableMap<Long, List<ActionSubtaskState>> checkpoints =
+                taskStates.get(taskLocation);
+        if (checkpoints != null) {
+            checkpoints.headMap(checkpointId).clear();
+        }
+    }
+
+    public void notifyCheckpointAborted(TaskLocation taskLocation, long checkpointId) {
+        ConcurrentNavigableMap<Long, List<ActionSubtaskState>> checkpoints =
+                taskStates.get(taskLocation);
+        if (checkpoints != null) {
+            checkpoints.remove(checkpointId);
+        }
+    }
+
+    /** @return the references of which this worker holds an identical copy for the checkpoint */
+    public List<LocalStateReference> match(
+            TaskLocation taskLocation, long checkpointId, List<LocalStateReference> references) {
+        Map<LocalStateReference, ActionSubtaskState> localStates =
+                localStates(taskLocation, checkpointId);
+        List<LocalStateReference> matched = new ArrayList<>(references.size());
+        for (LocalStateReference reference : references) {
+            if (localStates.containsKey(reference)) {
+                matched.add(reference);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Get the local copies of the referenced states, and drop the copies of checkpoints after the
+     * restored one, they belong to the attempt that failed.
+     *
+     * @throws IllegalStateException if a referenced state is no longer held by this worker
+     */
+    public List<ActionSubtaskState> restore(
+            TaskLocation taskLocation, long checkpointId, List<LocalStateReference> references) {
+        Map<LocalStateReference, ActionSubtaskState> localStates =
+                localStates(taskLocation, checkpointId);
+        List<ActionSubtaskState> states = new ArrayList<>(references.size());
+        for (LocalStateReference reference : references) {
+            ActionSubtaskState state = localStates.get(reference);
+            if (state == null) {
+                throw new IllegalStateException(
+                        String.format(
+                                "The local state %s of task %s for checkpoint %s is missing",
+                                reference, taskLocation, checkpointId));
+            }
+            states.add(state);
+        }
+        ConcurrentNavigableMap<Long, List<ActionSubtaskState>> checkpoints =
+                taskStates.get(taskLocation);
+        if (checkpoints != null) {
+            checkpoints.tailMap(checkpointId, false).clear();
+        }
+        log.debug(
+                "Restore {} states of task {} from the local copy of checkpoint {}",
+                states.size(),
+                taskLocation,
+                checkpointId);
+        return states;
+    }
+
+    /** The pipeline of the task group ended and will not be restored any more. */
+    public void remove(TaskGroupLocation taskGroupLocation) {
+        taskStates.keySet().removeIf(task -> task.getTaskGroupLocation().equals(taskGroupLocation));
+    }
+
+    private Map<LocalStateReference, ActionSubtaskState> localStates(
+            TaskLocation taskLocation, long checkpointId) {
+        ConcurrentNavigableMap<Long, List<ActionSubtaskState>> checkpoints =
+                taskStates.get(taskLocation);
+        List<ActionSubtaskState> states =
+                checkpoints == null ? null : checkpoints.get(checkpointId);
+        if (states == null) {
+            return Collections.emptyMap();
+        }
+        Map<LocalStateReference, ActionSubtaskState> localStates = new HashMap<>(states.size());
+        for (ActionSubtaskState state : states) {
+            localStates.put(LocalStateReference.of(state), state);
+        }
+        return localStates;
+    }
+}
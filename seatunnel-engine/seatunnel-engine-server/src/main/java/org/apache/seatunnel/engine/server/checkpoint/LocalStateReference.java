@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import lombok.Data;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Identifies a subtask state of a completed checkpoint by its key, index and a checksum of its
+ * bytes, so that a worker can tell whether its local copy of the state is the same one without the
+ * state being sent. A state the task stored in the checkpoint storage itself is identified by its
+ * handle instead, which is unique per checkpoint.
+ */
+@Data
+public class LocalStateReference implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final ActionStateKey stateKey;
+    private final int index;
+    private final long checksum;
+
+    public static LocalStateReference of(ActionSubtaskState state) {
+        return new LocalStateReference(
+                state.getStateKey(),
+                state.getIndex(),
+                state.getStateHandle() == null
+                        ? checksum(state.getState())
+                        : checksum(state.getStateHandle()));
+    }
+
+    private static long checksum(String handle) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(handle.getBytes(StandardCharsets.UTF_8));
+        return crc32.getValue();
+    }
+
+    private static long checksum(List<byte[]> state) {
+        CRC32 crc32 = new CRC32();
+        if (state == null) {
+            return crc32.getValue();
+        }
+        byte[] length = new byte[Integer.BYTES];
+        for (byte[] bytes : state) {
+            int size = bytes == null ? -1 : bytes.length;
+            for (int i = 0; i < Integer.BYTES; i++) {
+                length[i] = (byte) (size >>> (i * Byte.SIZE));
+            }
+            crc32.update(length);
+            if (bytes != null) {
+                crc32.update(bytes);
+            }
+        }
+        return crc32.getValue();
+    }
+}
@@ -135,8 +135,7 @@ public class PendingCheckpoint implements Checkpoint {
             if (actionState == null) {
                 continue;
             }
-            stateSize +=
-                    state.getState().stream().filter(Objects::nonNull).map(s -> s.length).count();
+            stateSize += getStateSize(state);
             actionState.reportState(state.getIndex(), state);
         }
         statistics.reportSubtaskStatistics(
@@ -152,6 +151,19 @@ public class PendingCheckpoint implements Checkpoint {
         }
     }
 
+    /** The size in bytes of a state, of the stored state when the task only sent its handle. */
+    static long getStateSize(ActionSubtaskState state) {
+        if (state == null) {
+            return 0;
+        }
+        if (state.getStateHandle() != null) {
+            return state.getStateSize();
+        }
+        return state.getState() == null
+                ? 0
+                : state.getState().stream().filter(Objects::nonNull).mapToLong(s -> s.length).sum();
+    }
+
     protected boolean isFullyAcknowledged() {
         return notYetAcknowledgedTasks.isEmpty();
     }
@@ -168,13 +180,15 @@ public class PendingCheckpoint implements Checkpoint {
                 taskStatistics);
     }
 
-    public void abortCheckpoint(CheckpointCloseReason closedReason, @Nullable Throwable cause) {
+    /** @return false if the checkpoint was already completed or aborted */
+    public boolean abortCheckpoint(CheckpointCloseReason closedReason, @Nullable Throwable cause) {
         if (closedReason.equals(CheckpointCloseReason.CHECKPOINT_COORDINATOR_RESET)
-                || closedReason.equals(CheckpointCloseReason.PIPELINE_END)) {
-            completableFuture.complete(null);
+                || closedReason.equals(CheckpointCloseReason.PIPELINE_END)
+                || closedReason.equals(CheckpointCloseReason.REGION_FAILOVER)) {
+            return completableFuture.complete(null);
         } else {
             this.failureCause = new CheckpointException(closedReason, cause);
-            completableFuture.completeExceptionally(failureCause);
+            return completableFuture.completeExceptionally(failureCause);
         }
     }
 
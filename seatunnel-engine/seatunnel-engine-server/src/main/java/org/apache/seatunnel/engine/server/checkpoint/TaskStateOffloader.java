@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorageFactory;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
+import org.apache.seatunnel.engine.common.utils.FactoryUtil;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Stores the checkpoint states of the tasks of this worker that are larger than the configured
+ * threshold in the checkpoint storage, so that a task acknowledges a checkpoint with the handles of
+ * its states instead of their bytes. The {@link CheckpointCoordinator} then only collects the
+ * handles and its completed checkpoint is a manifest of them, the memory of the master does not
+ * grow with the size of the states.
+ */
+@Slf4j
+public class TaskStateOffloader {
+
+    private final long threshold;
+
+    private final CheckpointConfig config;
+
+    private volatile CheckpointStorage checkpointStorage;
+
+    public TaskStateOffloader(CheckpointConfig config) {
+        this.threshold = config.getStateUploadThreshold();
+        this.config = config;
+        if (threshold >= 0) {
+            getCheckpointStorage();
+        }
+    }
+
+    TaskStateOffloader(long threshold, CheckpointStorage checkpointStorage) {
+        this.threshold = threshold;
+        this.config = null;
+        this.checkpointStorage = checkpointStorage;
+    }
+
+    /**
+     * The storage is also created when the states of this worker are not stored, a task restored
+     * here may have been stored by another worker.
+     */
+    @SneakyThrows
+    private CheckpointStorage getCheckpointStorage() {
+        if (checkpointStorage == null) {
+            synchronized (this) {
+                if (checkpointStorage == null) {
+                    checkpointStorage =
+                            FactoryUtil.discoverFactory(
+                                            Thread.currentThread().getContextClassLoader(),
+                                            CheckpointStorageFactory.class,
+                                            config.getStorage().getStorage())
+                                    .create(
+                                            new HashMap<>(
+                                                    config.getStorage().getStoragePluginConfig()));
+                }
+            }
+        }
+        return checkpointStorage;
+    }
+
+    /**
+     * Stores the states larger than the threshold and sets their handles. A state that cannot be
+     * stored is acknowledged with its bytes.
+     *
+     * @return the states to acknowledge, the stored ones only with their handle and size
+     */
+    public List<ActionSubtaskState> offload(
+            TaskLocation taskLocation, long checkpointId, List<ActionSubtaskState> states) {
+        if (threshold < 0 || states == null) {
+            return states;
+        }
+        List<ActionSubtaskState> acknowledged = new ArrayList<>(states.size());
+        for (int i = 0; i < states.size(); i++) {
+            ActionSubtaskState state = states.get(i);
+            long size = state.getState() == null ? 0 : sizeOf(state.getState());
+            if (size <= threshold) {
+                acknowledged.add(state);
+                continue;
+            }
+            try {
+                byte[] data = encode(state.getState());
+                String handle =
+                        getCheckpointStorage()
+                                .storeTaskState(
+                                        String.valueOf(taskLocation.getJobId()),
+                                        String.valueOf(taskLocation.getPipelineId()),
+                                        String.valueOf(checkpointId),
+                                        taskLocation.getTaskGroupLocation().getTaskGroupId()
+                                                + "-"
+                                                + taskLocation.getTaskID()
+                                                + "-"
+                                                + i,
+                                        data);
+                byte[] digest = digest(data);
+                // the state keeps its bytes for the local copy of the worker
+                state.setStateHandle(handle);
+                state.setStateSize(size);
+                state.setStateDigest(digest);
+                ActionSubtaskState reference =
+                        new ActionSubtaskState(state.getStateKey(), state.getIndex(), null);
+                reference.setStateHandle(handle);
+                reference.setStateSize(size);
+                reference.setStateDigest(digest);
+                acknowledged.add(reference);
+            } catch (IOException | CheckpointStorageException e) {
+                log.warn(
+                        "Failed to store the state {} of task {} for checkpoint {}, send it to the master instead",
+                        state,
+                        taskLocation,
+                        checkpointId,
+                        e);
+                acknowledged.add(state);
+            }
+        }
+        return acknowledged;
+    }
+
+    /** Reads the bytes of the states that only have a handle. */
+    public List<ActionSubtaskState> resolve(List<ActionSubtaskState> states)
+            throws CheckpointStorageException {
+        List<ActionSubtaskState> resolved = new ArrayList<>(states.size());
+        for (ActionSubtaskState state : states) {
+            resolved.add(
+                    state == null || state.getState() != null || state.getStateHandle() == null
+                            ? state
+                            : resolve(getCheckpointStorage(), state));
+        }
+        return resolved;
+    }
+
+    /**
+     * Reads the bytes of a state that only has a handle.
+     *
+     * @throws CheckpointStorageException if the storage does not hold the state
+     */
+    public static ActionSubtaskState resolve(
+            CheckpointStorage checkpointStorage, ActionSubtaskState state)
+            throws CheckpointStorageException {
+        try {
+            return new ActionSubtaskState(
+                    state.getStateKey(),
+                    state.getIndex(),
+                    decode(checkpointStorage.getTaskState(state.getStateHandle())));
+        } catch (IOException e) {
+            throw new CheckpointStorageException("Failed to decode the state " + state, e);
+        }
+    }
+
+    private static long sizeOf(List<byte[]> state) {
+        long size = 0;
+        for (byte[] bytes : state) {
+            size += bytes == null ? 0 : bytes.length;
+        }
+        return size;
+    }
+
+    private static byte[] digest(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static byte[] encode(List<byte[]> state) throws IOException {
+        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytesOut)) {
+            out.writeInt(state.size());
+            for (byte[] bytes : state) {
+                if (bytes == null) {
+                    out.writeInt(-1);
+                    continue;
+                }
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+        return bytesOut.toByteArray();
+    }
+
+    static List<byte[]> decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int size = in.readInt();
+            List<byte[]> state = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int length = in.readInt();
+                if (length < 0) {
+                    state.add(null);
+                    continue;
+                }
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                state.add(bytes);
+            }
+            return state;
+        }
+    }
+}
@@ -40,7 +40,7 @@ public class TaskStatistics implements Serializable {
 
     private SubtaskStatistics latestAckedSubtaskStatistics;
 
-    TaskStatistics(Long jobVertexId, int parallelism) {
+    public TaskStatistics(Long jobVertexId, int parallelism) {
         this.jobVertexId = checkNotNull(jobVertexId, "JobVertexID");
         checkArgument(parallelism > 0, "the parallelism of task <= 0");
         this.subtaskStats = Arrays.asList(new SubtaskStatistics[parallelism]);
@@ -94,6 +94,10 @@ public class TaskStatistics implements Serializable {
         subtaskCompleted[subtaskIndex] = true;
     }
 
+    boolean isCompleted(int subtaskIndex) {
+        return subtaskCompleted[subtaskIndex];
+    }
+
     public boolean isCompleted() {
         for (boolean completed : subtaskCompleted) {
             if (!completed) {
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint.operation;
+
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.checkpoint.LocalStateReference;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.serializable.CheckpointDataSerializerHook;
+import org.apache.seatunnel.engine.server.task.operation.TaskOperation;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sent to the worker a task is redeployed on before {@link NotifyTaskRestoreOperation}, it answers
+ * which states of the checkpoint the worker still holds a local copy of.
+ */
+@NoArgsConstructor
+public class CheckTaskLocalStateOperation extends TaskOperation {
+
+    private long checkpointId;
+
+    private List<LocalStateReference> references;
+
+    private List<LocalStateReference> response;
+
+    public CheckTaskLocalStateOperation(
+            TaskLocation taskLocation, long checkpointId, List<LocalStateReference> references) {
+        super(taskLocation);
+        this.checkpointId = checkpointId;
+        this.references = references;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return CheckpointDataSerializerHook.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return CheckpointDataSerializerHook.CHECK_TASK_LOCAL_STATE_OPERATOR;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeLong(checkpointId);
+        out.writeInt(references.size());
+        for (LocalStateReference reference : references) {
+            out.writeObject(reference);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        checkpointId = in.readLong();
+        int size = in.readInt();
+        references = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            references.add(in.readObject());
+        }
+    }
+
+    @Override
+    public void runInternal() throws Exception {
+        SeaTunnelServer server = getService();
+        response =
+                server.getTaskExecutionService()
+                        .getLocalCheckpointStateStore()
+                        .match(taskLocation, checkpointId, references);
+    }
+
+    @Override
+    public Object getResponse() {
+        return response;
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.seatunnel.common.utils.SeaTunnelException;
 import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.server.SeaTunnelServer;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.LocalStateReference;
 import org.apache.seatunnel.engine.server.exception.TaskGroupContextNotFoundException;
 import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskGroupContext;
@@ -36,6 +37,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @NoArgsConstructor
@@ -44,10 +46,25 @@ public class NotifyTaskRestoreOperation extends TaskOperation {
 
     private List<ActionSubtaskState> restoredState;
 
+    private long checkpointId;
+
+    /** The states restored from the local copy of the worker instead of being sent. */
+    private List<LocalStateReference> localStates;
+
     public NotifyTaskRestoreOperation(
             TaskLocation taskLocation, List<ActionSubtaskState> restoredState) {
+        this(taskLocation, restoredState, -1L, Collections.emptyList());
+    }
+
+    public NotifyTaskRestoreOperation(
+            TaskLocation taskLocation,
+            List<ActionSubtaskState> restoredState,
+            long checkpointId,
+            List<LocalStateReference> localStates) {
         super(taskLocation);
         this.restoredState = restoredState;
+        this.checkpointId = checkpointId;
+        this.localStates = localStates;
     }
 
     @Override
@@ -67,6 +84,11 @@ public class NotifyTaskRestoreOperation extends TaskOperation {
         for (ActionSubtaskState state : restoredState) {
             out.writeObject(state);
         }
+        out.writeLong(checkpointId);
+        out.writeInt(localStates.size());
+        for (LocalStateReference reference : localStates) {
+            out.writeObject(reference);
+        }
     }
 
     @Override
@@ -77,6 +99,12 @@ public class NotifyTaskRestoreOperation extends TaskOperation {
         for (int i = 0; i < size; i++) {
             restoredState.add(in.readObject());
         }
+        this.checkpointId = in.readLong();
+        int localSize = in.readInt();
+        this.localStates = new ArrayList<>(localSize);
+        for (int i = 0; i < localSize; i++) {
+            localStates.add(in.readObject());
+        }
     }
 
     @Override
@@ -89,6 +117,19 @@ public class NotifyTaskRestoreOperation extends TaskOperation {
                             server.getTaskExecutionService()
                                     .getExecutionContext(taskLocation.getTaskGroupLocation());
                     Task task = groupContext.getTaskGroup().getTask(taskLocation.getTaskID());
+                    if (!localStates.isEmpty()) {
+                        List<ActionSubtaskState> states = new ArrayList<>(restoredState);
+                        states.addAll(
+                                server.getTaskExecutionService()
+                                        .getLocalCheckpointStateStore()
+                                        .restore(taskLocation, checkpointId, localStates));
+                        restoredState = states;
+                        localStates = Collections.emptyList();
+                    }
+                    restoredState =
+                            server.getTaskExecutionService()
+                                    .getTaskStateOffloader()
+                                    .resolve(restoredState);
                     try {
                         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
                         task.getExecutionContext()
@@ -46,8 +46,16 @@ public class TaskAcknowledgeOperation extends TracingOperation
 
     private List<ActionSubtaskState> states;
 
+    /** How long the task waited for the barrier on all of its inputs, in milliseconds. */
+    private long alignmentDuration;
+
     public TaskAcknowledgeOperation() {}
 
+    public TaskAcknowledgeOperation(
+            TaskLocation taskLocation, CheckpointBarrier barrier, List<ActionSubtaskState> states) {
+        this(taskLocation, barrier, states, 0);
+    }
+
     @Override
     public int getFactoryId() {
         return CheckpointDataSerializerHook.FACTORY_ID;
@@ -64,6 +72,7 @@ public class TaskAcknowledgeOperation extends TracingOperation
         out.writeObject(taskLocation);
         out.writeObject(barrier);
         out.writeObject(states);
+        out.writeLong(alignmentDuration);
     }
 
     @Override
@@ -72,6 +81,7 @@ public class TaskAcknowledgeOperation extends TracingOperation
         taskLocation = in.readObject();
         barrier = in.readObject();
         states = in.readObject();
+        alignmentDuration = in.readLong();
     }
 
     @Override
@@ -26,6 +26,7 @@ import org.apache.seatunnel.engine.core.dag.actions.Action;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleMultipleRowStrategy;
+import org.apache.seatunnel.engine.core.dag.actions.ShufflePartitionStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
 import org.apache.seatunnel.engine.core.dag.actions.SinkConfig;
@@ -81,6 +82,7 @@ public class ExecutionPlanGenerator {
         log.debug("Phase 1: generate execution edge list {}", executionEdges);
 
         executionEdges = generateShuffleEdges(executionEdges);
+        executionEdges = generateKeyedShuffleEdges(executionEdges);
         log.debug("Phase 2: generate shuffle edge list {}", executionEdges);
 
         executionEdges = generateTransformChainEdges(executionEdges);
@@ -260,7 +262,10 @@ public class ExecutionPlanGenerator {
                                                 * 3))
                         .build();
         ShuffleConfig shuffleConfig =
-                ShuffleConfig.builder().shuffleStrategy(shuffleStrategy).build();
+                ShuffleConfig.builder()
+                        .shuffleStrategy(shuffleStrategy)
+                        .transportType(engineConfig.getShuffleTransport())
+                        .build();
 
         long shuffleVertexId = idGenerator.getNextId();
         String shuffleActionName = String.format("Shuffle [%s]", sourceAction.getName());
@@ -281,6 +286,70 @@ public class ExecutionPlanGenerator {
         return newExecutionEdges;
     }
 
+    /** Puts a key partitioned shuffle in front of the sinks configured with shuffle keys. */
+    @SuppressWarnings("MagicNumber")
+    private Set<ExecutionEdge> generateKeyedShuffleEdges(Set<ExecutionEdge> executionEdges) {
+        Map<Long, Integer> sinkInputCount = new HashMap<>();
+        executionEdges.forEach(
+                edge -> sinkInputCount.merge(edge.getRightVertex().getVertexId(), 1, Integer::sum));
+
+        Set<ExecutionEdge> newExecutionEdges = new LinkedHashSet<>();
+        for (ExecutionEdge edge : executionEdges) {
+            ExecutionVertex inputVertex = edge.getLeftVertex();
+            ExecutionVertex sinkVertex = edge.getRightVertex();
+            if (!(sinkVertex.getAction() instanceof SinkAction)
+                    || inputVertex.getAction() instanceof ShuffleAction) {
+                newExecutionEdges.add(edge);
+                continue;
+            }
+            SinkConfig sinkConfig = ((SinkAction<?, ?, ?, ?>) sinkVertex.getAction()).getConfig();
+            if (sinkConfig == null || sinkConfig.getShuffleKeys() == null) {
+                newExecutionEdges.add(edge);
+                continue;
+            }
+            if (sinkInputCount.get(sinkVertex.getVertexId()) > 1) {
+                log.warn(
+                        "Sink {} has more than one input, shuffle by key is ignored",
+                        sinkVertex.getAction().getName());
+                newExecutionEdges.add(edge);
+                continue;
+            }
+
+            long shuffleVertexId = idGenerator.getNextId();
+            ShuffleStrategy shuffleStrategy =
+                    ShufflePartitionStrategy.builder()
+                            .jobId(jobImmutableInformation.getJobId())
+                            .shuffleId(shuffleVertexId)
+                            .inputPartitions(inputVertex.getParallelism())
+                            .targetPartitions(sinkVertex.getParallelism())
+                            .partitionKeys(sinkConfig.getShuffleKeys())
+                            .catalogTables(sinkConfig.getInputCatalogTables())
+                            .queueEmptyQueueTtl(
+                                    (int)
+                                            (engineConfig
+                                                            .getCheckpointConfig()
+                                                            .getCheckpointInterval()
+                                                    * 3))
+                            .build();
+            ShuffleConfig shuffleConfig =
+                    ShuffleConfig.builder()
+                            .shuffleStrategy(shuffleStrategy)
+                            .transportType(engineConfig.getShuffleTransport())
+                            .build();
+            String shuffleActionName =
+                    String.format("Shuffle By Key [%s]", sinkVertex.getAction().getName());
+            ShuffleAction shuffleAction =
+                    new ShuffleAction(shuffleVertexId, shuffleActionName, shuffleConfig);
+            shuffleAction.setParallelism(sinkVertex.getParallelism());
+            ExecutionVertex shuffleVertex =
+                    new ExecutionVertex(
+                            shuffleVertexId, shuffleAction, shuffleAction.getParallelism());
+            newExecutionEdges.add(new ExecutionEdge(inputVertex, shuffleVertex));
+            newExecutionEdges.add(new ExecutionEdge(shuffleVertex, sinkVertex));
+        }
+        return newExecutionEdges;
+    }
+
     private Set<ExecutionEdge> generateTransformChainEdges(Set<ExecutionEdge> executionEdges) {
         Map<Long, List<ExecutionVertex>> inputVerticesMap = new HashMap<>();
         Map<Long, List<ExecutionVertex>> targetVerticesMap = new HashMap<>();
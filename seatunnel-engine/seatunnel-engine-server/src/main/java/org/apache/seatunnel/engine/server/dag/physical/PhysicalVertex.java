@@ -39,6 +39,7 @@ import org.apache.seatunnel.engine.server.execution.TaskGroupDefaultImpl;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.master.JobMaster;
 import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.TaskGroupImmutableInformation;
 import org.apache.seatunnel.engine.server.task.operation.CancelTaskOperation;
 import org.apache.seatunnel.engine.server.task.operation.CheckTaskGroupIsExecutingOperation;
@@ -361,6 +362,22 @@ public class PhysicalVertex {
         return taskGroup;
     }
 
+    /** Whether the tasks of this task group exchange data with other task groups by shuffle. */
+    public boolean isShuffleConnected() {
+        return taskGroup.getTasks().stream()
+                .anyMatch(
+                        task ->
+                                task instanceof SeaTunnelTask
+                                        && ((SeaTunnelTask) task).containsShuffle());
+    }
+
+    /** Whether the worker owning the slot of this task group is still a cluster member. */
+    public boolean isExecutionWorkerAlive() {
+        Address executionAddress = getCurrentExecutionAddress();
+        return executionAddress != null
+                && nodeEngine.getClusterService().getMember(executionAddress) != null;
+    }
+
     public synchronized void updateTaskState(@NonNull ExecutionState targetState) {
         try {
             ExecutionState current = (ExecutionState) runningJobStateIMap.get(taskGroupLocation);
@@ -17,10 +17,13 @@
 
 package org.apache.seatunnel.engine.server.dag.physical;
 
+import org.apache.seatunnel.api.common.JobContext;
 import org.apache.seatunnel.api.env.EnvCommonOptions;
+import org.apache.seatunnel.common.constants.JobMode;
 import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.common.utils.RetryUtils;
 import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.common.config.server.FailoverStrategy;
 import org.apache.seatunnel.engine.common.utils.ExceptionUtil;
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
@@ -40,12 +43,18 @@ import lombok.Data;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 @Data
 @Slf4j
@@ -108,6 +117,22 @@ public class SubPlan {
 
     private Map<TaskGroupLocation, SlotProfile> slotProfiles;
 
+    /**
+     * The task groups restarted together with a failed task group when the failover strategy is
+     * {@link FailoverStrategy#REGION}, by the location of each task group.
+     */
+    private final Map<TaskGroupLocation, List<PhysicalVertex>> failoverRegions;
+
+    /** Only the pipelines of streaming jobs restart failover regions alone. */
+    private final boolean streamingJob;
+
+    /**
+     * The end states of the task groups of the region being restarted. Their ends are not counted
+     * as the end of the pipeline.
+     */
+    private final Map<TaskGroupLocation, CompletableFuture<TaskExecutionState>> restartingRegion =
+            new ConcurrentHashMap<>();
+
     public SubPlan(
             int pipelineId,
             int totalPipelineNum,
@@ -125,6 +150,9 @@ public class SubPlan {
         this.pipelineFuture = new CompletableFuture<>();
         this.physicalVertexList = physicalVertexList;
         this.coordinatorVertexList = coordinatorVertexList;
+        this.failoverRegions = buildFailoverRegions(physicalVertexList);
+        JobContext jobContext = jobImmutableInformation.getJobConfig().getJobContext();
+        this.streamingJob = jobContext != null && JobMode.STREAMING.equals(jobContext.getJobMode());
         pipelineRestoreNum = 0;
         pipelineMaxRestoreNum =
                 Integer.parseInt(
@@ -176,6 +204,30 @@ public class SubPlan {
         this.tags = tags;
     }
 
+    /**
+     * Task groups only exchange data through shuffles, and a restarted shuffle producer would send
+     * its records to every consumer again, so all task groups taking part in a shuffle form one
+     * region and every other task group is a region of its own.
+     */
+    private static Map<TaskGroupLocation, List<PhysicalVertex>> buildFailoverRegions(
+            List<PhysicalVertex> physicalVertexList) {
+        List<PhysicalVertex> shuffleRegion = new ArrayList<>();
+        Map<TaskGroupLocation, List<PhysicalVertex>> regions = new HashMap<>();
+        for (PhysicalVertex physicalVertex : physicalVertexList) {
+            if (physicalVertex.isShuffleConnected()) {
+                shuffleRegion.add(physicalVertex);
+                regions.put(
+                        physicalVertex.getTaskGroupLocation(),
+                        Collections.unmodifiableList(shuffleRegion));
+            } else {
+                regions.put(
+                        physicalVertex.getTaskGroupLocation(),
+                        Collections.singletonList(physicalVertex));
+            }
+        }
+        return regions;
+    }
+
     public synchronized PassiveCompletableFuture<PipelineExecutionState> initStateFuture() {
         // reset errorByPhysicalVertex when restore pipeline
         errorByPhysicalVertex = new AtomicReference<>();
@@ -202,31 +254,11 @@ public class SubPlan {
                                 "{} future complete with state {}",
                                 task.getTaskFullName(),
                                 executionState.getExecutionState());
-                        // We need not handle t, Because we will not return t from PhysicalVertex
-                        if (ExecutionState.CANCELED.equals(executionState.getExecutionState())) {
-                            canceledTaskNum.incrementAndGet();
-                        } else if (ExecutionState.FAILED.equals(
-                                executionState.getExecutionState())) {
-                            log.error(
-                                    String.format(
-                                            "Task %s Failed in %s, Begin to cancel other tasks in this pipeline.",
-                                            executionState.getTaskGroupLocation(),
-                                            this.getPipelineFullName()));
-                            failedTaskNum.incrementAndGet();
-                            errorByPhysicalVertex.compareAndSet(
-                                    null, executionState.getThrowableMsg());
-                            updatePipelineState(PipelineStatus.FAILING);
-                        }
-
-                        if (finishedTaskNum.incrementAndGet()
-                                == (physicalVertexList.size() + coordinatorVertexList.size())) {
-                            PipelineStatus pipelineEndState = getPipelineEndState();
-                            log.info(
-                                    String.format(
-                                            "%s will end with state %s",
-                                            this.pipelineFullName, pipelineEndState));
-                            updatePipelineState(pipelineEndState);
+                        if (completeRestartingRegionTask(executionState)
+                                || tryRestartRegion(task, executionState)) {
+                            return;
                         }
+                        taskEnded(executionState);
                     } catch (Throwable e) {
                         log.error(
                                 String.format(
@@ -239,6 +271,154 @@ public class SubPlan {
                 executorService);
     }
 
+    private void taskEnded(TaskExecutionState executionState) {
+        // We need not handle t, Because we will not return t from PhysicalVertex
+        if (ExecutionState.CANCELED.equals(executionState.getExecutionState())) {
+            canceledTaskNum.incrementAndGet();
+        } else if (ExecutionState.FAILED.equals(executionState.getExecutionState())) {
+            log.error(
+                    String.format(
+                            "Task %s Failed in %s, Begin to cancel other tasks in this pipeline.",
+                            executionState.getTaskGroupLocation(), this.getPipelineFullName()));
+            failedTaskNum.incrementAndGet();
+            errorByPhysicalVertex.compareAndSet(null, executionState.getThrowableMsg());
+            updatePipelineState(PipelineStatus.FAILING);
+        }
+
+        if (finishedTaskNum.incrementAndGet()
+                == (physicalVertexList.size() + coordinatorVertexList.size())) {
+            PipelineStatus pipelineEndState = getPipelineEndState();
+            log.info(
+                    String.format(
+                            "%s will end with state %s", this.pipelineFullName, pipelineEndState));
+            updatePipelineState(pipelineEndState);
+        }
+    }
+
+    private boolean completeRestartingRegionTask(TaskExecutionState executionState) {
+        synchronized (restartingRegion) {
+            CompletableFuture<TaskExecutionState> taskEnd =
+                    restartingRegion.get(executionState.getTaskGroupLocation());
+            if (taskEnd == null) {
+                return false;
+            }
+            taskEnd.complete(executionState);
+            return true;
+        }
+    }
+
+    /**
+     * Restart only the failover region of a failed task group of a streaming job when the failover
+     * strategy is {@link FailoverStrategy#REGION}. Falls back to the failover of the whole pipeline
+     * whenever the region can not be restarted alone, e.g. the task group is a coordinator, its
+     * worker is gone, checkpointing is disabled or another region is restarting.
+     */
+    private boolean tryRestartRegion(PhysicalVertex task, TaskExecutionState executionState) {
+        if (!streamingJob
+                || !ExecutionState.FAILED.equals(executionState.getExecutionState())
+                || !FailoverStrategy.REGION.equals(
+                        jobMaster.getEngineConfig().getFailoverStrategy())) {
+            return false;
+        }
+        List<PhysicalVertex> region = failoverRegions.get(task.getTaskGroupLocation());
+        synchronized (restartingRegion) {
+            if (region == null
+                    || region.size() == physicalVertexList.size()
+                    || !restartingRegion.isEmpty()
+                    || !PipelineStatus.RUNNING.equals(currPipelineStatus)
+                    || !canRestorePipeline()
+                    || jobMaster.getCheckpointManager() == null
+                    || coordinatorVertexList.stream()
+                            .anyMatch(
+                                    coordinator ->
+                                            !ExecutionState.RUNNING.equals(
+                                                    coordinator.getExecutionState()))
+                    || region.stream()
+                            .anyMatch(
+                                    physicalVertex ->
+                                            physicalVertex != task
+                                                    && !ExecutionState.RUNNING.equals(
+                                                            physicalVertex.getExecutionState()))
+                    || !region.stream().allMatch(PhysicalVertex::isExecutionWorkerAlive)) {
+                return false;
+            }
+            Set<TaskGroupLocation> taskGroups =
+                    region.stream()
+                            .map(PhysicalVertex::getTaskGroupLocation)
+                            .collect(Collectors.toSet());
+            if (!jobMaster.getCheckpointManager().restartRegion(pipelineId, taskGroups)) {
+                return false;
+            }
+            pipelineRestoreNum++;
+            log.warn(
+                    String.format(
+                            "Task %s Failed in %s, restart the %d task groups of its region, restore time %s. Exception: %s",
+                            executionState.getTaskGroupLocation(),
+                            pipelineFullName,
+                            region.size(),
+                            pipelineRestoreNum,
+                            executionState.getThrowableMsg()));
+            taskGroups.forEach(
+                    taskGroup -> restartingRegion.put(taskGroup, new CompletableFuture<>()));
+            restartingRegion.get(task.getTaskGroupLocation()).complete(executionState);
+        }
+        executorService.execute(() -> restartRegion(region));
+        return true;
+    }
+
+    private void restartRegion(List<PhysicalVertex> region) {
+        try {
+            region.forEach(PhysicalVertex::cancel);
+            CompletableFuture.allOf(restartingRegion.values().toArray(new CompletableFuture[0]))
+                    .join();
+            log.info(
+                    "Wait {}s and then restart the region of {} task groups in {}",
+                    pipelineRestoreIntervalSeconds,
+                    region.size(),
+                    pipelineFullName);
+            Thread.sleep(pipelineRestoreIntervalSeconds * 1000L);
+            synchronized (this) {
+                if (!PipelineStatus.RUNNING.equals(currPipelineStatus)) {
+                    log.info(
+                            "{} turned to {} while restarting a region, stop the restart",
+                            pipelineFullName,
+                            currPipelineStatus);
+                    abandonRegionRestart();
+                    return;
+                }
+                jobMaster.reapplyTaskGroupResource(pipelineLocation, region, tags);
+                for (PhysicalVertex physicalVertex : region) {
+                    physicalVertex.reset();
+                    restartingRegion.remove(physicalVertex.getTaskGroupLocation());
+                    addPhysicalVertexCallBack(physicalVertex.initStateFuture(), physicalVertex);
+                    physicalVertex.startPhysicalVertex();
+                    physicalVertex.makeTaskGroupDeploy();
+                }
+            }
+        } catch (Throwable e) {
+            log.error(String.format("Restart region in %s error", pipelineFullName), e);
+            makePipelineFailing(e);
+            abandonRegionRestart();
+        }
+    }
+
+    /** Count the task groups of the region which already ended as ends of the pipeline tasks. */
+    private void abandonRegionRestart() {
+        List<TaskExecutionState> endedTasks = new ArrayList<>();
+        synchronized (restartingRegion) {
+            restartingRegion
+                    .values()
+                    .forEach(
+                            taskEnd -> {
+                                if (taskEnd.isDone()) {
+                                    endedTasks.add(taskEnd.join());
+                                }
+                            });
+            restartingRegion.clear();
+        }
+        endedTasks.forEach(this::taskEnded);
+    }
+
     private PipelineStatus getPipelineEndState() {
         PipelineStatus pipelineStatus = null;
         if (failedTaskNum.get() > 0) {
@@ -27,6 +27,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 @Slf4j
 public class TaskCallTimer extends Thread {
 
+    /** The time slice of one task call before the task is considered to be timed out */
+    public static final long DEFAULT_DELAY_MILLIS = 50;
+
     long nextExecutionTime;
     long delay;
 
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Run queues used by the {@code WORK_STEALING} thread share mode. Every worker owns one deque, it
+ * takes work from the head of its own deque and steals from the tail of the other deques when its
+ * own deque is empty. Idle workers park until new work is submitted.
+ */
+public class WorkStealingTaskScheduler {
+
+    private static final long DEFAULT_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final ConcurrentLinkedDeque<TaskTracker>[] runQueues;
+    private final AtomicInteger[] queueDepths;
+    private final AtomicReferenceArray<Thread> parkedWorkers;
+    private final AtomicLong stealCount = new AtomicLong();
+    private final AtomicLong parkCount = new AtomicLong();
+    private final long parkNanos;
+
+    public WorkStealingTaskScheduler(int parallelism) {
+        this(parallelism, DEFAULT_PARK_NANOS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public WorkStealingTaskScheduler(int parallelism, long parkNanos) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.runQueues = new ConcurrentLinkedDeque[parallelism];
+        this.queueDepths = new AtomicInteger[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            runQueues[i] = new ConcurrentLinkedDeque<>();
+            queueDepths[i] = new AtomicInteger();
+        }
+        this.parkedWorkers = new AtomicReferenceArray<>(parallelism);
+        this.parkNanos = parkNanos;
+    }
+
+    public int getParallelism() {
+        return runQueues.length;
+    }
+
+    /** Submit a new task to the less loaded of two randomly chosen run queues. */
+    public void submit(TaskTracker taskTracker) {
+        int parallelism = runQueues.length;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(parallelism);
+        int second = random.nextInt(parallelism);
+        int target = queueDepths[first].get() <= queueDepths[second].get() ? first : second;
+        offer(target, taskTracker);
+        if (!unpark(target)) {
+            unparkAny();
+        }
+    }
+
+    /**
+     * Put a task which has used up its time slice back to the tail of the worker's own run queue,
+     * so the other tasks of this queue get their turn first.
+     */
+    public void requeue(int worker, TaskTracker taskTracker) {
+        offer(worker, taskTracker);
+        if (queueDepths[worker].get() > 1) {
+            unparkAny();
+        }
+    }
+
+    /**
+     * Poll the next task for the worker, from its own run queue first and stolen from another run
+     * queue otherwise.
+     *
+     * @return the next task, or null when all run queues are empty
+     */
+    public TaskTracker poll(int worker) {
+        TaskTracker taskTracker = runQueues[worker].pollFirst();
+        if (taskTracker != null) {
+            queueDepths[worker].decrementAndGet();
+            return taskTracker;
+        }
+        int parallelism = runQueues.length;
+        for (int i = 1; i < parallelism; i++) {
+            int victim = (worker + i) % parallelism;
+            taskTracker = runQueues[victim].pollLast();
+            if (taskTracker != null) {
+                queueDepths[victim].decrementAndGet();
+                stealCount.incrementAndGet();
+                return taskTracker;
+            }
+        }
+        return null;
+    }
+
+    /** Park the worker until new work is submitted or the park timeout elapses. */
+    public void park(int worker) {
+        parkedWorkers.set(worker, Thread.currentThread());
+        try {
+            // re-check after publishing the parked thread to not miss a concurrent submit
+            if (getTotalQueueDepth() == 0) {
+                parkCount.incrementAndGet();
+                LockSupport.parkNanos(this, parkNanos);
+            }
+        } finally {
+            parkedWorkers.set(worker, null);
+        }
+    }
+
+    public int getQueueDepth(int worker) {
+        return queueDepths[worker].get();
+    }
+
+    public int getTotalQueueDepth() {
+        int depth = 0;
+        for (AtomicInteger queueDepth : queueDepths) {
+            depth += queueDepth.get();
+        }
+        return depth;
+    }
+
+    public long getStealCount() {
+        return stealCount.get();
+    }
+
+    public long getParkCount() {
+        return parkCount.get();
+    }
+
+    private void offer(int worker, TaskTracker taskTracker) {
+        queueDepths[worker].incrementAndGet();
+        runQueues[worker].offerLast(taskTracker);
+    }
+
+    private boolean unpark(int worker) {
+        Thread thread = parkedWorkers.get(worker);
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            return true;
+        }
+        return false;
+    }
+
+    private void unparkAny() {
+        for (int i = 0; i < runQueues.length; i++) {
+            if (unpark(i)) {
+                return;
+            }
+        }
+    }
+}
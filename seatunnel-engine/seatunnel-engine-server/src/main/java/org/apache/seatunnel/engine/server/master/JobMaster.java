@@ -59,6 +59,7 @@ import org.apache.seatunnel.engine.server.checkpoint.CheckpointPlan;
 import org.apache.seatunnel.engine.server.checkpoint.CompletedCheckpoint;
 import org.apache.seatunnel.engine.server.dag.DAGUtils;
 import org.apache.seatunnel.engine.server.dag.physical.PhysicalPlan;
+import org.apache.seatunnel.engine.server.dag.physical.PhysicalVertex;
 import org.apache.seatunnel.engine.server.dag.physical.PipelineLocation;
 import org.apache.seatunnel.engine.server.dag.physical.PlanUtils;
 import org.apache.seatunnel.engine.server.dag.physical.ResourceUtils;
@@ -68,6 +69,7 @@ import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.metrics.JobMetricsUtil;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.resourcemanager.NoEnoughResourceException;
 import org.apache.seatunnel.engine.server.resourcemanager.ResourceManager;
 import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
 import org.apache.seatunnel.engine.server.task.operation.CleanTaskGroupContextOperation;
@@ -316,6 +318,12 @@ public class JobMaster {
         CheckpointConfig jobCheckpointConfig = new CheckpointConfig();
         jobCheckpointConfig.setCheckpointTimeout(defaultCheckpointConfig.getCheckpointTimeout());
         jobCheckpointConfig.setCheckpointInterval(defaultCheckpointConfig.getCheckpointInterval());
+        jobCheckpointConfig.setIncremental(defaultCheckpointConfig.isIncremental());
+        jobCheckpointConfig.setUnaligned(defaultCheckpointConfig.isUnaligned());
+        jobCheckpointConfig.setLocalRecovery(defaultCheckpointConfig.isLocalRecovery());
+        jobCheckpointConfig.setStateUploadThreshold(
+                defaultCheckpointConfig.getStateUploadThreshold());
+        jobCheckpointConfig.setStatsHistorySize(defaultCheckpointConfig.getStatsHistorySize());
 
         CheckpointStorageConfig jobCheckpointStorageConfig = new CheckpointStorageConfig();
         jobCheckpointStorageConfig.setStorage(defaultCheckpointConfig.getStorage().getStorage());
@@ -642,6 +650,37 @@ public class JobMaster {
         }
     }
 
+    /**
+     * Applies the slots again for the task groups of a restarted failover region, the slots of the
+     * task groups were released when they ended.
+     */
+    public void reapplyTaskGroupResource(
+            PipelineLocation pipelineLocation,
+            List<PhysicalVertex> taskGroups,
+            Map<String, String> tags) {
+        Map<TaskGroupLocation, SlotProfile> slotProfiles =
+                new HashMap<>(ownedSlotProfilesIMap.get(pipelineLocation));
+        List<SlotProfile> released =
+                releasedSlotWhenTaskGroupFinished.getOrDefault(
+                        pipelineLocation.getPipelineId(), Collections.emptyList());
+        for (PhysicalVertex taskGroup : taskGroups) {
+            TaskGroupLocation taskGroupLocation = taskGroup.getTaskGroupLocation();
+            SlotProfile slotProfile = slotProfiles.get(taskGroupLocation);
+            if (slotProfile != null && !released.contains(slotProfile)) {
+                continue;
+            }
+            CompletableFuture<SlotProfile> future =
+                    ResourceUtils.applyResourceForTask(resourceManager, taskGroup, tags);
+            if (future == null) {
+                throw new NoEnoughResourceException();
+            }
+            LOGGER.info(String.format("reapply the task group resource %s", taskGroupLocation));
+            released.remove(slotProfile);
+            slotProfiles.put(taskGroupLocation, future.join());
+        }
+        setOwnedSlotProfiles(pipelineLocation, slotProfiles);
+    }
+
     public void releasePipelineResource(SubPlan subPlan) {
         try {
             Map<TaskGroupLocation, SlotProfile> taskGroupLocationSlotProfileMap =
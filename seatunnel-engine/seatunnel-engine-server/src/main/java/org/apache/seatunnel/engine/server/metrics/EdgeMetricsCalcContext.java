@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.EDGE_BACK_PRESSURE_RATIO;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.EDGE_BLOCKED_TIME_MILLIS;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.EDGE_BUFFER_USAGE;
+
+/**
+ * Buffer metrics of one edge between two tasks (an intermediate queue or a shuffle channel). Metric
+ * names are suffixed with {@code @edgeName}, the values are sampled at most once per {@link
+ * #SAMPLE_INTERVAL_MILLIS}:
+ *
+ * <ul>
+ *   <li>{@code EdgeBufferUsage}: buffered records as a percentage of the edge capacity.
+ *   <li>{@code EdgeBlockedTimeMillis}: total time the producer has been blocked on this edge.
+ *   <li>{@code EdgeBackPressureRatio}: percentage of the last sample window the producer spent
+ *       blocked.
+ * </ul>
+ */
+public class EdgeMetricsCalcContext {
+
+    public static final String EDGE_NAME_SEPARATOR = "@";
+
+    public static final long SAMPLE_INTERVAL_MILLIS = 1000;
+
+    private static final long SAMPLE_INTERVAL_NANOS =
+            TimeUnit.MILLISECONDS.toNanos(SAMPLE_INTERVAL_MILLIS);
+
+    private final Counter bufferUsage;
+
+    private final Counter blockedTimeMillis;
+
+    private final Counter backPressureRatio;
+
+    private volatile long lastSampleNanos;
+
+    private long lastBlockedNanos;
+
+    public EdgeMetricsCalcContext(MetricsContext metricsContext, String edgeName) {
+        this.bufferUsage = metricsContext.counter(metricName(EDGE_BUFFER_USAGE, edgeName));
+        this.blockedTimeMillis =
+                metricsContext.counter(metricName(EDGE_BLOCKED_TIME_MILLIS, edgeName));
+        this.backPressureRatio =
+                metricsContext.counter(metricName(EDGE_BACK_PRESSURE_RATIO, edgeName));
+        this.lastSampleNanos = System.nanoTime();
+    }
+
+    public static String metricName(String metric, String edgeName) {
+        return metric + EDGE_NAME_SEPARATOR + edgeName;
+    }
+
+    /**
+     * @param bufferedRecords records currently held by the edge
+     * @param bufferCapacity capacity of the edge, non-positive if unbounded or unknown
+     * @param totalBlockedNanos cumulative time the producer has been blocked on the edge
+     */
+    public void updateMetrics(int bufferedRecords, int bufferCapacity, long totalBlockedNanos) {
+        long now = System.nanoTime();
+        if (now - lastSampleNanos < SAMPLE_INTERVAL_NANOS) {
+            return;
+        }
+        synchronized (this) {
+            long elapsed = now - lastSampleNanos;
+            if (elapsed < SAMPLE_INTERVAL_NANOS) {
+                return;
+            }
+            if (bufferCapacity > 0) {
+                bufferUsage.set(Math.min(100L, bufferedRecords * 100L / bufferCapacity));
+            }
+            blockedTimeMillis.set(TimeUnit.NANOSECONDS.toMillis(totalBlockedNanos));
+            long blocked = Math.max(0, totalBlockedNanos - lastBlockedNanos);
+            backPressureRatio.set(Math.min(100L, blocked * 100L / elapsed));
+            lastBlockedNanos = totalBlockedNanos;
+            lastSampleNanos = now;
+        }
+    }
+}
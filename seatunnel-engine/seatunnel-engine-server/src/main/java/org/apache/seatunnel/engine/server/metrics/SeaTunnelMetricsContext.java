@@ -19,7 +19,9 @@ package org.apache.seatunnel.engine.server.metrics;
 
 import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
 import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.Histogram;
 import org.apache.seatunnel.api.common.metrics.Meter;
+import org.apache.seatunnel.api.common.metrics.MetricTags;
 import org.apache.seatunnel.api.common.metrics.Unit;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
 
@@ -30,10 +32,19 @@ import com.hazelcast.internal.metrics.ProbeLevel;
 import com.hazelcast.internal.metrics.ProbeUnit;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Slf4j
 public class SeaTunnelMetricsContext extends AbstractMetricsContext
         implements DynamicMetricsProvider {
 
+    /** Quantiles of every {@link Histogram}, reported with the {@link MetricTags#QUANTILE} tag. */
+    public static final double[] REPORTED_QUANTILES = {0.5, 0.95, 0.99, 0.999};
+
+    /** Separates the metric from the operator it is measured for, as in {@code Metric@Operator}. */
+    public static final String OPERATOR_NAME_SEPARATOR = "@";
+
     @Override
     public void provideDynamicMetrics(MetricDescriptor tagger, MetricsCollectionContext context) {
         metrics.forEach(
@@ -52,6 +63,16 @@ public class SeaTunnelMetricsContext extends AbstractMetricsContext
                                 ProbeLevel.INFO,
                                 toProbeUnit(metric.unit()),
                                 ((Meter) metric).getRate());
+                    } else if (metric instanceof Histogram) {
+                        for (double quantile : REPORTED_QUANTILES) {
+                            context.collect(
+                                    tagger.copy()
+                                            .withTag(MetricTags.QUANTILE, String.valueOf(quantile)),
+                                    name,
+                                    ProbeLevel.INFO,
+                                    toProbeUnit(metric.unit()),
+                                    ((Histogram) metric).getQuantile(quantile));
+                        }
                     } else {
                         throw new SeaTunnelException(
                                 "The value of Metric does not support "
@@ -61,6 +82,17 @@ public class SeaTunnelMetricsContext extends AbstractMetricsContext
                 });
     }
 
+    public Map<String, Histogram> getHistograms() {
+        Map<String, Histogram> histograms = new HashMap<>();
+        metrics.forEach(
+                (name, metric) -> {
+                    if (metric instanceof Histogram) {
+                        histograms.put(name, (Histogram) metric);
+                    }
+                });
+        return histograms;
+    }
+
     private ProbeUnit toProbeUnit(Unit unit) {
         return ProbeUnit.valueOf(unit.name());
     }
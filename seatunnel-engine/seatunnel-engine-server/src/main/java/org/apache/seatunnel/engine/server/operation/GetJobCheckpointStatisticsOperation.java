@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.operation;
+
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointStatistics;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointStatistics.SubtaskCheckpointStatistics;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointStatisticsTracker;
+import org.apache.seatunnel.engine.server.master.JobMaster;
+import org.apache.seatunnel.engine.server.serializable.ClientToServerOperationDataSerializerHook;
+
+import com.hazelcast.internal.json.Json;
+import com.hazelcast.internal.json.JsonArray;
+import com.hazelcast.internal.json.JsonObject;
+import com.hazelcast.internal.json.JsonValue;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.AllowedDuringPassiveState;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.TreeMap;
+
+/**
+ * Returns the checkpoint statistics of a running job as a json string, or null when the job is not
+ * running on the master.
+ */
+public class GetJobCheckpointStatisticsOperation extends Operation
+        implements IdentifiedDataSerializable, AllowedDuringPassiveState {
+
+    private long jobId;
+
+    private String response;
+
+    public GetJobCheckpointStatisticsOperation() {}
+
+    public GetJobCheckpointStatisticsOperation(long jobId) {
+        this.jobId = jobId;
+    }
+
+    @Override
+    public final int getFactoryId() {
+        return ClientToServerOperationDataSerializerHook.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return ClientToServerOperationDataSerializerHook.GET_JOB_CHECKPOINT_STATISTICS_OPERATION;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeLong(jobId);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        jobId = in.readLong();
+    }
+
+    @Override
+    public void run() {
+        SeaTunnelServer service = getService();
+        response = getCheckpointStatistics(service, jobId);
+    }
+
+    @Override
+    public Object getResponse() {
+        return response;
+    }
+
+    public static String getCheckpointStatistics(SeaTunnelServer server, long jobId) {
+        JobMaster jobMaster = server.getCoordinatorService().getJobMaster(jobId);
+        if (jobMaster == null || jobMaster.getCheckpointManager() == null) {
+            return null;
+        }
+        JsonArray pipelines = new JsonArray();
+        new TreeMap<>(jobMaster.getCheckpointManager().getCheckpointStatistics())
+                .forEach((pipelineId, tracker) -> pipelines.add(toJson(pipelineId, tracker)));
+        return new JsonObject().add("pipelines", pipelines).toString();
+    }
+
+    private static JsonObject toJson(int pipelineId, CheckpointStatisticsTracker tracker) {
+        JsonObject counts =
+                new JsonObject()
+                        .add("completed", tracker.getCompletedCount())
+                        .add("failed", tracker.getFailedCount())
+                        .add("inProgress", tracker.getInProgressCount());
+        JsonArray history = new JsonArray();
+        tracker.getHistory().forEach(statistics -> history.add(toJson(statistics)));
+        CheckpointStatistics latestCompleted = tracker.getLatestCompleted();
+        return new JsonObject()
+                .add("pipelineId", pipelineId)
+                .add("counts", counts)
+                .add(
+                        "latestCompleted",
+                        latestCompleted == null ? Json.NULL : toJson(latestCompleted))
+                .add("history", history);
+    }
+
+    private static JsonValue toJson(CheckpointStatistics statistics) {
+        JsonObject actionStateSizes = new JsonObject();
+        statistics.getActionStateSizes().forEach(actionStateSizes::add);
+        JsonArray subtasks = new JsonArray();
+        statistics.getSubtasks().values().stream()
+                .sorted(Comparator.comparingLong(SubtaskCheckpointStatistics::getTaskId))
+                .forEach(
+                        subtask ->
+                                subtasks.add(
+                                        new JsonObject()
+                                                .add("taskId", subtask.getTaskId())
+                                                .add("taskIndex", subtask.getTaskIndex())
+                                                .add("ackDuration", subtask.getAckDuration())
+                                                .add(
+                                                        "alignmentDuration",
+                                                        subtask.getAlignmentDuration())
+                                                .add("stateSize", subtask.getStateSize())));
+        return new JsonObject()
+                .add("checkpointId", statistics.getCheckpointId())
+                .add("checkpointType", statistics.getCheckpointType().getName())
+                .add("status", statistics.getStatus().name())
+                .add("triggerTimestamp", statistics.getTriggerTimestamp())
+                .add("triggerDuration", statistics.getTriggerDuration())
+                .add("acknowledgeDuration", statistics.getAcknowledgeDuration())
+                .add("maxAlignmentDuration", statistics.getMaxAlignmentDuration())
+                .add("storageDuration", statistics.getStorageDuration())
+                .add("endToEndDuration", statistics.getEndToEndDuration())
+                .add("stateSize", statistics.getStateSize())
+                .add("actionStateSizes", actionStateSizes)
+                .add(
+                        "failureReason",
+                        statistics.getFailureReason() == null
+                                ? Json.NULL
+                                : Json.value(statistics.getFailureReason()))
+                .add("subtasks", subtasks);
+    }
+}
@@ -59,6 +59,8 @@ public class RestConstant {
             "TableSourceReceivedBytesPerSeconds";
     public static final String TABLE_SINK_WRITE_BYTES_PER_SECONDS = "TableSinkWriteBytesPerSeconds";
 
+    public static final String EDGE_METRICS = "EdgeMetrics";
+
     public static final String CONTEXT_PATH = "/hazelcast/rest/maps";
     public static final String INSTANCE_CONTEXT_PATH = "/hazelcast/rest/instance";
 
@@ -67,6 +69,7 @@ public class RestConstant {
     public static final String REST_URL_RUNNING_JOBS = "/running-jobs";
     @Deprecated public static final String REST_URL_RUNNING_JOB = "/running-job";
     public static final String REST_URL_JOB_INFO = "/job-info";
+    public static final String REST_URL_CHECKPOINT_STATISTICS = "/checkpoint-statistics";
     public static final String REST_URL_FINISHED_JOBS = "/finished-jobs";
     public static final String REST_URL_ENCRYPT_CONFIG = "/encrypt-config";
     public static final String REST_URL_THREAD_DUMP = "/thread-dump";
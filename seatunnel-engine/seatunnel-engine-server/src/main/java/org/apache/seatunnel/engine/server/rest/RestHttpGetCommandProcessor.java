@@ -23,6 +23,7 @@ import org.apache.seatunnel.common.utils.JsonUtils;
 import org.apache.seatunnel.engine.server.NodeExtension;
 import org.apache.seatunnel.engine.server.log.FormatType;
 import org.apache.seatunnel.engine.server.log.Log4j2HttpGetCommandProcessor;
+import org.apache.seatunnel.engine.server.rest.service.CheckpointStatisticsService;
 import org.apache.seatunnel.engine.server.rest.service.JobInfoService;
 import org.apache.seatunnel.engine.server.rest.service.LogService;
 import org.apache.seatunnel.engine.server.rest.service.OverviewService;
@@ -54,6 +55,7 @@ import static com.hazelcast.internal.ascii.rest.HttpStatusCode.SC_400;
 import static com.hazelcast.internal.ascii.rest.HttpStatusCode.SC_500;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.CONTEXT_PATH;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.INSTANCE_CONTEXT_PATH;
+import static org.apache.seatunnel.engine.server.rest.RestConstant.REST_URL_CHECKPOINT_STATISTICS;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.REST_URL_FINISHED_JOBS;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.REST_URL_GET_ALL_LOG_NAME;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.REST_URL_JOB_INFO;
@@ -75,6 +77,7 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
     private NodeEngineImpl nodeEngine;
     private OverviewService overviewService;
     private JobInfoService jobInfoService;
+    private CheckpointStatisticsService checkpointStatisticsService;
     private SystemMonitoringService systemMonitoringService;
     private ThreadDumpService threadDumpService;
     private RunningThreadService runningThreadService;
@@ -86,6 +89,7 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
         this.nodeEngine = this.textCommandService.getNode().getNodeEngine();
         this.overviewService = new OverviewService(nodeEngine);
         this.jobInfoService = new JobInfoService(nodeEngine);
+        this.checkpointStatisticsService = new CheckpointStatisticsService(nodeEngine);
         this.systemMonitoringService = new SystemMonitoringService(nodeEngine);
         this.threadDumpService = new ThreadDumpService(nodeEngine);
         this.runningThreadService = new RunningThreadService(nodeEngine);
@@ -102,6 +106,7 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
         this.nodeEngine = this.textCommandService.getNode().getNodeEngine();
         this.overviewService = new OverviewService(nodeEngine);
         this.jobInfoService = new JobInfoService(nodeEngine);
+        this.checkpointStatisticsService = new CheckpointStatisticsService(nodeEngine);
         this.systemMonitoringService = new SystemMonitoringService(nodeEngine);
         this.threadDumpService = new ThreadDumpService(nodeEngine);
         this.runningThreadService = new RunningThreadService(nodeEngine);
@@ -120,6 +125,8 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
             } else if (uri.startsWith(CONTEXT_PATH + REST_URL_RUNNING_JOB)
                     || uri.startsWith(CONTEXT_PATH + REST_URL_JOB_INFO)) {
                 handleJobInfoById(httpGetCommand, uri);
+            } else if (uri.startsWith(CONTEXT_PATH + REST_URL_CHECKPOINT_STATISTICS)) {
+                handleCheckpointStatisticsById(httpGetCommand, uri);
             } else if (uri.startsWith(CONTEXT_PATH + REST_URL_SYSTEM_MONITORING_INFORMATION)) {
                 getSystemMonitoringInformation(httpGetCommand);
             } else if (uri.startsWith(CONTEXT_PATH + REST_URL_RUNNING_THREADS)) {
@@ -216,6 +223,15 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
         this.prepareResponse(command, jobInfoService.getJobInfoJson(Long.valueOf(jobId)));
     }
 
+    private void handleCheckpointStatisticsById(HttpGetCommand command, String uri) {
+        uri = StringUtil.stripTrailingSlash(uri);
+        int indexEnd = uri.indexOf('/', URI_MAPS.length());
+        String jobId = uri.substring(indexEnd + 1);
+        this.prepareResponse(
+                command,
+                checkpointStatisticsService.getCheckpointStatisticsJson(Long.valueOf(jobId)));
+    }
+
     private void getRunningThread(HttpGetCommand command) {
         this.prepareResponse(command, runningThreadService.getRunningThread());
     }
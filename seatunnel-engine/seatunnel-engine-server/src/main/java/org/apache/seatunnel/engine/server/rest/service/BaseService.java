@@ -40,6 +40,7 @@ import org.apache.seatunnel.engine.server.CoordinatorService;
 import org.apache.seatunnel.engine.server.SeaTunnelServer;
 import org.apache.seatunnel.engine.server.dag.DAGUtils;
 import org.apache.seatunnel.engine.server.master.JobHistoryService;
+import org.apache.seatunnel.engine.server.metrics.EdgeMetricsCalcContext;
 import org.apache.seatunnel.engine.server.operation.CancelJobOperation;
 import org.apache.seatunnel.engine.server.operation.GetClusterHealthMetricsOperation;
 import org.apache.seatunnel.engine.server.operation.GetJobMetricsOperation;
@@ -73,11 +74,15 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static org.apache.seatunnel.api.common.metrics.MetricNames.EDGE_BACK_PRESSURE_RATIO;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.EDGE_BLOCKED_TIME_MILLIS;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.EDGE_BUFFER_USAGE;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES_PER_SECONDS;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_COUNT;
@@ -268,6 +273,8 @@ public abstract class BaseService {
                     new HashMap<>(), // Source Received Bytes Per Second
                     new HashMap<>() // Sink Write Bytes Per Second
                 };
+        // Used to store the buffer metrics of every edge between tasks
+        Map<String, Object> edgeMetricsMap = new TreeMap<>();
 
         try {
             JsonNode jobMetricsStr = new ObjectMapper().readTree(jobMetrics);
@@ -276,7 +283,12 @@ public abstract class BaseService {
                     .fieldNames()
                     .forEachRemaining(
                             metricName -> {
-                                if (metricName.contains("#")) {
+                                if (isEdgeMetric(metricName)) {
+                                    processEdgeMetric(
+                                            metricName,
+                                            jobMetricsStr.get(metricName),
+                                            edgeMetricsMap);
+                                } else if (metricName.contains("#")) {
                                     String tableName =
                                             TablePath.of(metricName.split("#")[1]).getFullName();
                                     JsonNode metricNode = jobMetricsStr.get(metricName);
@@ -307,10 +319,47 @@ public abstract class BaseService {
                         .toArray(Number[]::new),
                 ArrayUtils.addAll(countMetricsNames, rateMetricsNames),
                 metricsSums.length);
+        if (!edgeMetricsMap.isEmpty()) {
+            metricsMap.put(RestConstant.EDGE_METRICS, edgeMetricsMap);
+        }
 
         return metricsMap;
     }
 
+    private boolean isEdgeMetric(String metricName) {
+        return metricName.startsWith(EDGE_BUFFER_USAGE + EdgeMetricsCalcContext.EDGE_NAME_SEPARATOR)
+                || metricName.startsWith(
+                        EDGE_BLOCKED_TIME_MILLIS + EdgeMetricsCalcContext.EDGE_NAME_SEPARATOR)
+                || metricName.startsWith(
+                        EDGE_BACK_PRESSURE_RATIO + EdgeMetricsCalcContext.EDGE_NAME_SEPARATOR);
+    }
+
+    /**
+     * Blocked time is summed over all subtasks writing to the edge, buffer usage and backpressure
+     * ratio report the busiest subtask.
+     */
+    private void processEdgeMetric(
+            String metricName, JsonNode metricNode, Map<String, Object> edgeMetricsMap) {
+        if (metricNode == null || !metricNode.isArray()) {
+            return;
+        }
+        int separator = metricName.indexOf(EdgeMetricsCalcContext.EDGE_NAME_SEPARATOR);
+        String metric = metricName.substring(0, separator);
+        String edgeName = metricName.substring(separator + 1);
+        long value = 0;
+        for (JsonNode node : metricNode) {
+            long nodeValue = node.path("value").asLong();
+            value =
+                    EDGE_BLOCKED_TIME_MILLIS.equals(metric)
+                            ? value + nodeValue
+                            : Math.max(value, nodeValue);
+        }
+        Map<String, Object> edgeMetrics =
+                (Map<String, Object>)
+                        edgeMetricsMap.computeIfAbsent(edgeName, k -> new TreeMap<>());
+        edgeMetrics.put(metric, value);
+    }
+
     private void processMetric(
             String metricName,
             String tableName,
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.rest.service;
+
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.operation.GetJobCheckpointStatisticsOperation;
+import org.apache.seatunnel.engine.server.rest.RestConstant;
+import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
+
+import com.hazelcast.internal.json.Json;
+import com.hazelcast.internal.json.JsonArray;
+import com.hazelcast.internal.json.JsonObject;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+
+public class CheckpointStatisticsService extends BaseService {
+
+    public CheckpointStatisticsService(NodeEngineImpl nodeEngine) {
+        super(nodeEngine);
+    }
+
+    public JsonObject getCheckpointStatisticsJson(Long jobId) {
+        SeaTunnelServer seaTunnelServer = getSeaTunnelServer(true);
+        String statistics;
+        if (seaTunnelServer == null) {
+            statistics =
+                    (String)
+                            NodeEngineUtil.sendOperationToMasterNode(
+                                            nodeEngine,
+                                            new GetJobCheckpointStatisticsOperation(jobId))
+                                    .join();
+        } else {
+            statistics =
+                    GetJobCheckpointStatisticsOperation.getCheckpointStatistics(
+                            seaTunnelServer, jobId);
+        }
+        // the statistics only live in the job master, so a job that is not running has none
+        JsonObject jsonObject =
+                statistics == null
+                        ? new JsonObject().add("pipelines", new JsonArray())
+                        : Json.parse(statistics).asObject();
+        return new JsonObject().add(RestConstant.JOB_ID, jobId.toString()).merge(jsonObject);
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.server.serializable;
 
 import org.apache.seatunnel.engine.common.serializeable.SeaTunnelFactoryIdConstant;
+import org.apache.seatunnel.engine.server.checkpoint.operation.CheckTaskLocalStateOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.CheckpointBarrierTriggerOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.CheckpointEndOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.CheckpointErrorReportOperation;
@@ -50,6 +51,8 @@ public final class CheckpointDataSerializerHook implements DataSerializerHook {
 
     public static final int CHECKPOINT_END_OPERATOR = 10;
 
+    public static final int CHECK_TASK_LOCAL_STATE_OPERATOR = 11;
+
     public static final int FACTORY_ID =
             FactoryIdHelper.getFactoryId(
                     SeaTunnelFactoryIdConstant.SEATUNNEL_CHECKPOINT_DATA_SERIALIZER_FACTORY,
@@ -90,6 +93,8 @@ public final class CheckpointDataSerializerHook implements DataSerializerHook {
                     return new TriggerSchemaChangeAfterCheckpointOperation();
                 case CHECKPOINT_END_OPERATOR:
                     return new CheckpointEndOperation();
+                case CHECK_TASK_LOCAL_STATE_OPERATOR:
+                    return new CheckTaskLocalStateOperation();
                 default:
                     throw new IllegalArgumentException("Unknown type id " + typeId);
             }
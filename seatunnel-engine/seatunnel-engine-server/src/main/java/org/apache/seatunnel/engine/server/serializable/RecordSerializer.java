@@ -22,6 +22,7 @@ import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
 
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -33,7 +34,10 @@ import java.io.UnsupportedEncodingException;
 public class RecordSerializer implements StreamSerializer<Record> {
     enum RecordDataType {
         CHECKPOINT_BARRIER,
-        SEATUNNEL_ROW;
+        SEATUNNEL_ROW,
+        /** A {@link SeaTunnelRow} already encoded by {@link SeaTunnelRowCodec}. */
+        BINARY_ROW,
+        LATENCY_MARKER;
     }
 
     @Override
@@ -47,15 +51,22 @@ public class RecordSerializer implements StreamSerializer<Record> {
             out.writeString(checkpointBarrier.getCheckpointType().getName());
             out.writeObject(checkpointBarrier.getPrepareCloseTasks());
             out.writeObject(checkpointBarrier.getClosedTasks());
+            out.writeBoolean(checkpointBarrier.isUnaligned());
         } else if (data instanceof SeaTunnelRow) {
             SeaTunnelRow row = (SeaTunnelRow) data;
             out.writeByte(RecordDataType.SEATUNNEL_ROW.ordinal());
             out.writeString(row.getTableId());
             out.writeByte(row.getRowKind().toByteValue());
-            out.writeByte(row.getArity());
+            out.writeInt(row.getArity());
             for (Object field : row.getFields()) {
                 out.writeObject(field);
             }
+        } else if (data instanceof byte[]) {
+            out.writeByte(RecordDataType.BINARY_ROW.ordinal());
+            out.writeByteArray((byte[]) data);
+        } else if (data instanceof LatencyMarker) {
+            out.writeByte(RecordDataType.LATENCY_MARKER.ordinal());
+            out.writeLong(((LatencyMarker) data).getMarkedTime());
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported serialize class: " + data.getClass());
@@ -73,11 +84,12 @@ public class RecordSerializer implements StreamSerializer<Record> {
                             in.readLong(),
                             CheckpointType.fromName(in.readString()),
                             in.readObject(),
-                            in.readObject());
+                            in.readObject(),
+                            in.readBoolean());
         } else if (dataType == RecordDataType.SEATUNNEL_ROW.ordinal()) {
             String tableId = in.readString();
             byte rowKind = in.readByte();
-            byte arity = in.readByte();
+            int arity = in.readInt();
             SeaTunnelRow row = new SeaTunnelRow(arity);
             row.setTableId(tableId);
             row.setRowKind(RowKind.fromByteValue(rowKind));
@@ -85,6 +97,10 @@ public class RecordSerializer implements StreamSerializer<Record> {
                 row.setField(i, in.readObject());
             }
             data = row;
+        } else if (dataType == RecordDataType.BINARY_ROW.ordinal()) {
+            data = in.readByteArray();
+        } else if (dataType == RecordDataType.LATENCY_MARKER.ordinal()) {
+            data = new LatencyMarker(in.readLong());
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported deserialize data type: " + dataType);
@@ -0,0 +1,775 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.MultipleRowType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.utils.SerializationUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Schema-aware binary codec of {@link SeaTunnelRow}, used by the shuffle data plane.
+ *
+ * <p>The codec is built once per {@link SeaTunnelRowType} or {@link MultipleRowType}. Field codecs
+ * are resolved up front, table ids are written as an index into the table dictionary, null fields
+ * are tracked in a bitmap and fixed-width values are written inline. Rows that do not match the
+ * known schema (unknown table id or different arity, e.g. after a schema change) are written in a
+ * self-describing layout instead.
+ *
+ * <p>Layout: {@code varint tableIndex [string tableId]} | {@code byte rowKind} | {@code byte
+ * layout} | {@code varint arity} | {@code null bitmap} | {@code non-null fields}. A table index of
+ * 0 means the table id is written inline, otherwise it refers to {@code tableIds[index - 1]}.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public class SeaTunnelRowCodec {
+    private static final byte SCHEMA_LAYOUT = 0;
+    private static final byte SELF_DESCRIBING_LAYOUT = 1;
+
+    private final String[] tableIds;
+    private final Map<String, Integer> tableIndexes;
+    private final FieldCodec[][] tableFieldCodecs;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+    private final DataOutputStream bufferOutput = new DataOutputStream(buffer);
+
+    public SeaTunnelRowCodec(SeaTunnelRowType rowType) {
+        this(new String[0], new SeaTunnelRowType[0], rowType);
+    }
+
+    public SeaTunnelRowCodec(MultipleRowType multipleRowType) {
+        this(
+                multipleRowType.getTableIds(),
+                toRowTypes(multipleRowType, multipleRowType.getTableIds()),
+                null);
+    }
+
+    private SeaTunnelRowCodec(
+            String[] tableIds, SeaTunnelRowType[] rowTypes, SeaTunnelRowType defaultRowType) {
+        this.tableIds = tableIds;
+        this.tableIndexes = new HashMap<>(tableIds.length * 2);
+        this.tableFieldCodecs = new FieldCodec[tableIds.length + 1][];
+        this.tableFieldCodecs[0] = defaultRowType == null ? null : fieldCodecs(defaultRowType);
+        for (int i = 0; i < tableIds.length; i++) {
+            tableIndexes.put(tableIds[i], i + 1);
+            tableFieldCodecs[i + 1] = fieldCodecs(rowTypes[i]);
+        }
+    }
+
+    /**
+     * Create a codec for the tables flowing through a shuffle. Table ids are the table paths, the
+     * same value sources set with {@link SeaTunnelRow#setTableId(String)}.
+     */
+    public static SeaTunnelRowCodec of(List<CatalogTable> catalogTables) {
+        if (catalogTables == null || catalogTables.isEmpty()) {
+            return new SeaTunnelRowCodec(new String[0], new SeaTunnelRowType[0], null);
+        }
+        String[] tableIds = new String[catalogTables.size()];
+        SeaTunnelRowType[] rowTypes = new SeaTunnelRowType[catalogTables.size()];
+        for (int i = 0; i < catalogTables.size(); i++) {
+            CatalogTable catalogTable = catalogTables.get(i);
+            tableIds[i] = catalogTable.getTableId().toTablePath().toString();
+            rowTypes[i] = catalogTable.getSeaTunnelRowType();
+        }
+        return new SeaTunnelRowCodec(new MultipleRowType(tableIds, rowTypes));
+    }
+
+    public byte[] encode(SeaTunnelRow row) {
+        buffer.reset();
+        try {
+            try {
+                write(bufferOutput, row, false);
+            } catch (ClassCastException e) {
+                // the field values don't match the declared schema, keep them as they are
+                buffer.reset();
+                write(bufferOutput, row, true);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public SeaTunnelRow decode(byte[] bytes) {
+        try {
+            return read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void write(DataOutput out, SeaTunnelRow row) throws IOException {
+        write(out, row, false);
+    }
+
+    private void write(DataOutput out, SeaTunnelRow row, boolean selfDescribing)
+            throws IOException {
+        String tableId = row.getTableId();
+        Integer tableIndex = tableId == null ? null : tableIndexes.get(tableId);
+        FieldCodec[] fieldCodecs;
+        if (tableIndex == null) {
+            writeVarInt(out, 0);
+            writeString(out, tableId == null ? "" : tableId);
+            fieldCodecs = tableFieldCodecs[0];
+        } else {
+            writeVarInt(out, tableIndex);
+            fieldCodecs = tableFieldCodecs[tableIndex];
+        }
+        out.writeByte(row.getRowKind().toByteValue());
+
+        Object[] fields = row.getFields();
+        if (!selfDescribing && fieldCodecs != null && fieldCodecs.length == fields.length) {
+            out.writeByte(SCHEMA_LAYOUT);
+            writeFields(out, fields, fieldCodecs);
+        } else {
+            out.writeByte(SELF_DESCRIBING_LAYOUT);
+            writeFields(out, fields, null);
+        }
+    }
+
+    public SeaTunnelRow read(DataInput in) throws IOException {
+        int tableIndex = readVarInt(in);
+        String tableId = tableIndex == 0 ? readString(in) : tableIds[tableIndex - 1];
+        RowKind rowKind = RowKind.fromByteValue(in.readByte());
+        byte layout = in.readByte();
+        FieldCodec[] fieldCodecs = layout == SCHEMA_LAYOUT ? tableFieldCodecs[tableIndex] : null;
+
+        SeaTunnelRow row = new SeaTunnelRow(readFields(in, fieldCodecs));
+        row.setTableId(tableId);
+        row.setRowKind(rowKind);
+        return row;
+    }
+
+    private static void writeFields(DataOutput out, Object[] fields, FieldCodec[] fieldCodecs)
+            throws IOException {
+        writeVarInt(out, fields.length);
+        writeNullBitmap(out, fields);
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                if (fieldCodecs == null) {
+                    GENERIC.write(out, fields[i]);
+                } else {
+                    fieldCodecs[i].write(out, fields[i]);
+                }
+            }
+        }
+    }
+
+    private static Object[] readFields(DataInput in, FieldCodec[] fieldCodecs) throws IOException {
+        int arity = readVarInt(in);
+        byte[] nullBitmap = new byte[(arity + 7) >>> 3];
+        in.readFully(nullBitmap);
+        Object[] fields = new Object[arity];
+        for (int i = 0; i < arity; i++) {
+            if ((nullBitmap[i >>> 3] & (1 << (i & 7))) == 0) {
+                fields[i] = fieldCodecs == null ? GENERIC.read(in) : fieldCodecs[i].read(in);
+            }
+        }
+        return fields;
+    }
+
+    private static void writeNullBitmap(DataOutput out, Object[] fields) throws IOException {
+        for (int offset = 0; offset < fields.length; offset += 8) {
+            int bits = 0;
+            for (int bit = 0; bit < 8 && offset + bit < fields.length; bit++) {
+                if (fields[offset + bit] == null) {
+                    bits |= 1 << bit;
+                }
+            }
+            out.writeByte(bits);
+        }
+    }
+
+    private static SeaTunnelRowType[] toRowTypes(MultipleRowType rowType, String[] tableIds) {
+        SeaTunnelRowType[] rowTypes = new SeaTunnelRowType[tableIds.length];
+        for (int i = 0; i < tableIds.length; i++) {
+            rowTypes[i] = rowType.getRowType(tableIds[i]);
+        }
+        return rowTypes;
+    }
+
+    private static FieldCodec[] fieldCodecs(SeaTunnelRowType rowType) {
+        FieldCodec[] fieldCodecs = new FieldCodec[rowType.getTotalFields()];
+        for (int i = 0; i < fieldCodecs.length; i++) {
+            fieldCodecs[i] = fieldCodec(rowType.getFieldType(i));
+        }
+        return fieldCodecs;
+    }
+
+    private static FieldCodec fieldCodec(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case STRING:
+                return STRING;
+            case BOOLEAN:
+                return BOOLEAN;
+            case TINYINT:
+                return TINYINT;
+            case SMALLINT:
+                return SMALLINT;
+            case INT:
+                return INT;
+            case BIGINT:
+                return BIGINT;
+            case FLOAT:
+                return FLOAT;
+            case DOUBLE:
+                return DOUBLE;
+            case DECIMAL:
+                return DECIMAL;
+            case BYTES:
+                return BYTES;
+            case DATE:
+                return DATE;
+            case TIME:
+                return TIME;
+            case TIMESTAMP:
+                return TIMESTAMP;
+            case TIMESTAMP_TZ:
+                return TIMESTAMP_TZ;
+            case BINARY_VECTOR:
+            case FLOAT_VECTOR:
+            case FLOAT16_VECTOR:
+            case BFLOAT16_VECTOR:
+                return VECTOR;
+            case ARRAY:
+                return arrayCodec(((ArrayType<?, ?>) dataType).getElementType());
+            case MAP:
+                MapType<?, ?> mapType = (MapType<?, ?>) dataType;
+                return mapCodec(
+                        fieldCodec(mapType.getKeyType()), fieldCodec(mapType.getValueType()));
+            case ROW:
+                return rowCodec(fieldCodecs((SeaTunnelRowType) dataType));
+            default:
+                return GENERIC;
+        }
+    }
+
+    private static FieldCodec arrayCodec(SeaTunnelDataType<?> elementType) {
+        Class<?> componentType = elementType.getTypeClass();
+        FieldCodec elementCodec = fieldCodec(elementType);
+        return new FieldCodec() {
+            @Override
+            public void write(DataOutput out, Object value) throws IOException {
+                writeObjectArray(out, (Object[]) value, elementCodec);
+            }
+
+            @Override
+            public Object read(DataInput in) throws IOException {
+                return readObjectArray(in, componentType, elementCodec);
+            }
+        };
+    }
+
+    private static FieldCodec mapCodec(FieldCodec keyCodec, FieldCodec valueCodec) {
+        return new FieldCodec() {
+            @Override
+            public void write(DataOutput out, Object value) throws IOException {
+                writeMap(out, (Map<?, ?>) value, keyCodec, valueCodec);
+            }
+
+            @Override
+            public Object read(DataInput in) throws IOException {
+                return readMap(in, keyCodec, valueCodec);
+            }
+        };
+    }
+
+    private static FieldCodec rowCodec(FieldCodec[] fieldCodecs) {
+        return new FieldCodec() {
+            @Override
+            public void write(DataOutput out, Object value) throws IOException {
+                Object[] fields = ((SeaTunnelRow) value).getFields();
+                if (fields.length == fieldCodecs.length) {
+                    out.writeByte(SCHEMA_LAYOUT);
+                    writeFields(out, fields, fieldCodecs);
+                } else {
+                    out.writeByte(SELF_DESCRIBING_LAYOUT);
+                    writeFields(out, fields, null);
+                }
+            }
+
+            @Override
+            public Object read(DataInput in) throws IOException {
+                boolean schemaLayout = in.readByte() == SCHEMA_LAYOUT;
+                return new SeaTunnelRow(readFields(in, schemaLayout ? fieldCodecs : null));
+            }
+        };
+    }
+
+    private static void writeObjectArray(DataOutput out, Object[] array, FieldCodec elementCodec)
+            throws IOException {
+        writeVarInt(out, array.length);
+        writeNullBitmap(out, array);
+        for (Object element : array) {
+            if (element != null) {
+                elementCodec.write(out, element);
+            }
+        }
+    }
+
+    private static Object[] readObjectArray(
+            DataInput in, Class<?> componentType, FieldCodec elementCodec) throws IOException {
+        int length = readVarInt(in);
+        byte[] nullBitmap = new byte[(length + 7) >>> 3];
+        in.readFully(nullBitmap);
+        Object[] array = (Object[]) Array.newInstance(componentType, length);
+        for (int i = 0; i < length; i++) {
+            if ((nullBitmap[i >>> 3] & (1 << (i & 7))) == 0) {
+                array[i] = elementCodec.read(in);
+            }
+        }
+        return array;
+    }
+
+    private static void writeMap(
+            DataOutput out, Map<?, ?> map, FieldCodec keyCodec, FieldCodec valueCodec)
+            throws IOException {
+        writeVarInt(out, map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            writeNullable(out, entry.getKey(), keyCodec);
+            writeNullable(out, entry.getValue(), valueCodec);
+        }
+    }
+
+    private static Map<Object, Object> readMap(
+            DataInput in, FieldCodec keyCodec, FieldCodec valueCodec) throws IOException {
+        int size = readVarInt(in);
+        Map<Object, Object> map = new LinkedHashMap<>(Math.max(16, size * 2));
+        for (int i = 0; i < size; i++) {
+            map.put(readNullable(in, keyCodec), readNullable(in, valueCodec));
+        }
+        return map;
+    }
+
+    private static void writeNullable(DataOutput out, Object value, FieldCodec codec)
+            throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            codec.write(out, value);
+        }
+    }
+
+    private static Object readNullable(DataInput in, FieldCodec codec) throws IOException {
+        return in.readBoolean() ? codec.read(in) : null;
+    }
+
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer");
+    }
+
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    /** Writes and reads a single non-null value. */
+    private interface FieldCodec {
+        void write(DataOutput out, Object value) throws IOException;
+
+        Object read(DataInput in) throws IOException;
+    }
+
+    private static final FieldCodec STRING =
+            new FieldCodec() {
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    writeString(out, (String) value);
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    return readString(in);
+                }
+            };
+
+    private static final FieldCodec BOOLEAN =
+            new FieldCodec() {
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    out.writeBoolean((Boolean) value);
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    return in.readBoolean();
+                }
+            };
+
+    private static final FieldCodec TINYINT =
+            new FieldCodec() {
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    out.writeByte((Byte) value);
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    return in.readByte();
+                }
+            };
+
+    private static final FieldCodec SMALLINT =
+            new FieldCodec() {
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    out.writeShort((Short) value);
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    return in.readShort();
+                }
+            };
+
+    private static final FieldCodec INT =
+            new FieldCodec() {
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    out.writeInt((Integer) value);
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    return in.readInt();
+                }
+            };
+
+    private static final FieldCodec BIGINT =
+            new FieldCodec() {
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    out.writeLong((Long) value);
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    return in.readLong();
+                }
+            };
+
+    private static final FieldCodec FLOAT =
+            new FieldCodec() {
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    out.writeFloat((Float) value);
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    return in.readFloat();
+                }
+            };
+
+    private static final FieldCodec DOUBLE =
+            new FieldCodec() {
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    out.writeDouble((Double) value);
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    return in.readDouble();
+                }
+            };
+
+    private static final FieldCodec DECIMAL =
+            new FieldCodec() {
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    BigDecimal decimal = (BigDecimal) value;
+                    out.writeInt(decimal.scale());
+                    writeBytes(out, decimal.unscaledValue().toByteArray());
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    int scale = in.readInt();
+                    return new BigDecimal(new BigInteger(readBytes(in)), scale);
+                }
+            };
+
+    private static final FieldCodec BYTES =
+            new FieldCodec() {
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    writeBytes(out, (byte[]) value);
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    return readBytes(in);
+                }
+            };
+
+    private static final FieldCodec DATE =
+            new FieldCodec() {
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    out.writeLong(((LocalDate) value).toEpochDay());
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    return LocalDate.ofEpochDay(in.readLong());
+                }
+            };
+
+    private static final FieldCodec TIME =
+            new FieldCodec() {
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    out.writeLong(((LocalTime) value).toNanoOfDay());
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    return LocalTime.ofNanoOfDay(in.readLong());
+                }
+            };
+
+    private static final FieldCodec TIMESTAMP =
+            new FieldCodec() {
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    LocalDateTime dateTime = (LocalDateTime) value;
+                    out.writeLong(dateTime.toLocalDate().toEpochDay());
+                    out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    LocalDate date = LocalDate.ofEpochDay(in.readLong());
+                    return LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong()));
+                }
+            };
+
+    private static final FieldCodec TIMESTAMP_TZ =
+            new FieldCodec() {
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    OffsetDateTime dateTime = (OffsetDateTime) value;
+                    TIMESTAMP.write(out, dateTime.toLocalDateTime());
+                    out.writeInt(dateTime.getOffset().getTotalSeconds());
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    LocalDateTime dateTime = (LocalDateTime) TIMESTAMP.read(in);
+                    return OffsetDateTime.of(dateTime, ZoneOffset.ofTotalSeconds(in.readInt()));
+                }
+            };
+
+    private static final FieldCodec VECTOR =
+            new FieldCodec() {
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    ByteBuffer vector = ((ByteBuffer) value).duplicate();
+                    vector.rewind();
+                    byte[] bytes = new byte[vector.remaining()];
+                    vector.get(bytes);
+                    writeBytes(out, bytes);
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    return ByteBuffer.wrap(readBytes(in));
+                }
+            };
+
+    /**
+     * Self-describing codec used when no schema is available. Every value is prefixed with a type
+     * tag, values of unknown classes go through java serialization.
+     */
+    private static final FieldCodec GENERIC =
+            new FieldCodec() {
+                private final FieldCodec[] codecs = {
+                    STRING,
+                    BOOLEAN,
+                    TINYINT,
+                    SMALLINT,
+                    INT,
+                    BIGINT,
+                    FLOAT,
+                    DOUBLE,
+                    DECIMAL,
+                    BYTES,
+                    DATE,
+                    TIME,
+                    TIMESTAMP,
+                    TIMESTAMP_TZ,
+                    VECTOR
+                };
+                private final int tagRow = codecs.length;
+                private final int tagMap = tagRow + 1;
+                private final int tagArray = tagRow + 2;
+                private final int tagSerializable = tagRow + 3;
+
+                @Override
+                public void write(DataOutput out, Object value) throws IOException {
+                    int tag = tagOf(value);
+                    out.writeByte(tag);
+                    if (tag < codecs.length) {
+                        codecs[tag].write(out, value);
+                    } else if (tag == tagRow) {
+                        writeFields(out, ((SeaTunnelRow) value).getFields(), null);
+                    } else if (tag == tagMap) {
+                        writeMap(out, (Map<?, ?>) value, this, this);
+                    } else if (tag == tagArray) {
+                        writeString(out, value.getClass().getComponentType().getName());
+                        writeObjectArray(out, (Object[]) value, this);
+                    } else if (value instanceof Serializable) {
+                        writeBytes(out, SerializationUtils.serialize((Serializable) value));
+                    } else {
+                        throw new UnsupportedEncodingException(
+                                "Unsupported serialize class: " + value.getClass());
+                    }
+                }
+
+                @Override
+                public Object read(DataInput in) throws IOException {
+                    int tag = in.readByte();
+                    if (tag < codecs.length) {
+                        return codecs[tag].read(in);
+                    } else if (tag == tagRow) {
+                        return new SeaTunnelRow(readFields(in, null));
+                    } else if (tag == tagMap) {
+                        return readMap(in, this, this);
+                    } else if (tag == tagArray) {
+                        String componentType = readString(in);
+                        try {
+                            return readObjectArray(
+                                    in,
+                                    Class.forName(
+                                            componentType,
+                                            false,
+                                            Thread.currentThread().getContextClassLoader()),
+                                    this);
+                        } catch (ClassNotFoundException e) {
+                            throw new IOException(e);
+                        }
+                    } else if (tag == tagSerializable) {
+                        return SerializationUtils.deserialize(
+                                readBytes(in), Thread.currentThread().getContextClassLoader());
+                    }
+                    throw new UnsupportedEncodingException(
+                            "Unsupported deserialize data type: " + tag);
+                }
+
+                private int tagOf(Object value) {
+                    if (value instanceof String) {
+                        return 0;
+                    } else if (value instanceof Boolean) {
+                        return 1;
+                    } else if (value instanceof Byte) {
+                        return 2;
+                    } else if (value instanceof Short) {
+                        return 3;
+                    } else if (value instanceof Integer) {
+                        return 4;
+                    } else if (value instanceof Long) {
+                        return 5;
+                    } else if (value instanceof Float) {
+                        return 6;
+                    } else if (value instanceof Double) {
+                        return 7;
+                    } else if (value instanceof BigDecimal) {
+                        return 8;
+                    } else if (value instanceof byte[]) {
+                        return 9;
+                    } else if (value instanceof LocalDate) {
+                        return 10;
+                    } else if (value instanceof LocalTime) {
+                        return 11;
+                    } else if (value instanceof LocalDateTime) {
+                        return 12;
+                    } else if (value instanceof OffsetDateTime) {
+                        return 13;
+                    } else if (value instanceof ByteBuffer) {
+                        return 14;
+                    } else if (value instanceof SeaTunnelRow) {
+                        return tagRow;
+                    } else if (value instanceof Map) {
+                        return tagMap;
+                    } else if (value instanceof Object[]) {
+                        return tagArray;
+                    }
+                    return tagSerializable;
+                }
+            };
+}
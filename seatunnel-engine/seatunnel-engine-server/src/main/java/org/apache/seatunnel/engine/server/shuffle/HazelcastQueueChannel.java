@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import com.hazelcast.collection.IQueue;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+
+/** A shuffle channel backed by a Hazelcast {@link IQueue}. */
+@Slf4j
+public class HazelcastQueueChannel implements ShuffleOutputChannel, ShuffleInputChannel {
+    private final IQueue<Record<?>> queue;
+    private final int capacity;
+
+    private int remainingCapacity;
+    private long blockedNanos;
+
+    public HazelcastQueueChannel(IQueue<Record<?>> queue) {
+        this(queue, -1);
+    }
+
+    public HazelcastQueueChannel(IQueue<Record<?>> queue, int capacity) {
+        this.queue = queue;
+        this.capacity = capacity;
+        this.remainingCapacity = capacity;
+    }
+
+    @Override
+    public String getName() {
+        return queue.getName();
+    }
+
+    @Override
+    public void put(Record<?> record) throws InterruptedException {
+        long start = System.nanoTime();
+        queue.put(record);
+        blockedNanos += System.nanoTime() - start;
+    }
+
+    @Override
+    public void putAll(Collection<Record<?>> records) throws InterruptedException {
+        remainingCapacity = queue.remainingCapacity();
+        if (remainingCapacity <= 0 || !queue.addAll(records)) {
+            long start = System.nanoTime();
+            for (Record<?> record : records) {
+                queue.put(record);
+            }
+            blockedNanos += System.nanoTime() - start;
+            remainingCapacity = 0;
+        } else {
+            remainingCapacity -= records.size();
+        }
+    }
+
+    @Override
+    public int getBufferedRecords() {
+        return capacity > 0 ? capacity - Math.max(0, remainingCapacity) : -1;
+    }
+
+    @Override
+    public int getBufferCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public long getBlockedNanos() {
+        return blockedNanos;
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public Record<?> take() throws InterruptedException {
+        return queue.take();
+    }
+
+    @Override
+    public int drainTo(Collection<Record<?>> records, int maxElements) {
+        return queue.drainTo(records, maxElements);
+    }
+
+    @Override
+    public void close() {
+        log.info("destroy shuffle queue: {}", queue.getName());
+        queue.destroy();
+    }
+}
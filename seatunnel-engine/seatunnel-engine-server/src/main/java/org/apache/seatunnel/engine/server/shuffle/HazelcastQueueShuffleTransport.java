@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.core.HazelcastInstance;
+
+import java.util.List;
+import java.util.Map;
+
+/** Exchanges shuffled records through Hazelcast {@link IQueue}s. */
+public class HazelcastQueueShuffleTransport implements ShuffleTransport {
+    private final HazelcastInstance hazelcast;
+
+    public HazelcastQueueShuffleTransport(HazelcastInstance hazelcast) {
+        this.hazelcast = hazelcast;
+    }
+
+    @Override
+    public ShuffleOutputChannel[] createOutputChannels(
+            ShuffleStrategy shuffleStrategy, int pipelineId, int inputIndex) {
+        Map<String, IQueue<Record<?>>> queues =
+                shuffleStrategy.createShuffles(hazelcast, pipelineId, inputIndex);
+        List<String> names = shuffleStrategy.getOutputQueueNames(pipelineId, inputIndex);
+        ShuffleOutputChannel[] channels = new ShuffleOutputChannel[names.size()];
+        for (int i = 0; i < channels.length; i++) {
+            channels[i] =
+                    new HazelcastQueueChannel(
+                            queues.get(names.get(i)), shuffleStrategy.getQueueMaxSize());
+        }
+        return channels;
+    }
+
+    @Override
+    public ShuffleInputChannel[] createInputChannels(
+            ShuffleStrategy shuffleStrategy, int pipelineId, int targetIndex) {
+        IQueue<Record<?>>[] queues =
+                shuffleStrategy.getShuffles(hazelcast, pipelineId, targetIndex);
+        ShuffleInputChannel[] channels = new ShuffleInputChannel[queues.length];
+        for (int i = 0; i < queues.length; i++) {
+            channels[i] = new HazelcastQueueChannel(queues[i]);
+        }
+        return channels;
+    }
+}
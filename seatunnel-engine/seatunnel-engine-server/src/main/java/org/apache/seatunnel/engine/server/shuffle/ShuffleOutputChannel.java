@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import java.io.Closeable;
+import java.util.Collection;
+
+/** The sending end of a shuffle edge, records put into it are delivered in order. */
+public interface ShuffleOutputChannel extends Closeable {
+
+    String getName();
+
+    /** Send a record, blocks while the receiving side has no free buffer. */
+    void put(Record<?> record) throws InterruptedException;
+
+    /** Send a batch of records, blocks while the receiving side has no free buffer. */
+    void putAll(Collection<Record<?>> records) throws InterruptedException;
+
+    /** Records sent but not yet consumed by the receiving side, negative if unknown. */
+    default int getBufferedRecords() {
+        return -1;
+    }
+
+    /** Capacity of the receiving buffer, non-positive if unbounded or unknown. */
+    default int getBufferCapacity() {
+        return -1;
+    }
+
+    /** Total time spent blocked because the receiving side had no free buffer. */
+    default long getBlockedNanos() {
+        return 0;
+    }
+}
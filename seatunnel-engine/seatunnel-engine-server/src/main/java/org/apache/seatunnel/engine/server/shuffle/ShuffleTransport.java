@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+
+/**
+ * Creates the channels a shuffle edge is made of. The channel names are the queue names generated
+ * by the {@link ShuffleStrategy}, so every transport uses the same routing.
+ */
+public interface ShuffleTransport {
+
+    /**
+     * The channels written by one input of the shuffle, in the order of {@link
+     * ShuffleStrategy#getOutputQueueNames(int, int)}.
+     */
+    ShuffleOutputChannel[] createOutputChannels(
+            ShuffleStrategy shuffleStrategy, int pipelineId, int inputIndex);
+
+    /** The channels read by one target of the shuffle, indexed by input. */
+    ShuffleInputChannel[] createInputChannels(
+            ShuffleStrategy shuffleStrategy, int pipelineId, int targetIndex);
+}
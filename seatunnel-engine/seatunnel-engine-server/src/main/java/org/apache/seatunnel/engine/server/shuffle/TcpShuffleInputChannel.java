@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
+
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The receiving end of a TCP shuffle edge. Received records are buffered locally, the sender is
+ * granted one credit per free buffer slot so the buffer never overflows.
+ */
+@Slf4j
+public class TcpShuffleInputChannel implements ShuffleInputChannel {
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final String name;
+    private final int capacity;
+    private final TcpShuffleServer server;
+    private final Runnable closeHook;
+    private final BlockingQueue<Record<?>> buffer;
+
+    private Socket socket;
+    private DataOutputStream creditOutput;
+    private volatile Throwable failure;
+    private volatile boolean finished;
+    private volatile boolean closed;
+
+    TcpShuffleInputChannel(String name, int capacity, TcpShuffleServer server, Runnable closeHook) {
+        this.name = name;
+        this.capacity = capacity;
+        this.server = server;
+        this.closeHook = closeHook;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        server.register(this);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Accepts the connection of a sender. A sender restarted after a failover replaces the previous
+     * connection, it gets the credits of the free buffer space and starts a new stream.
+     */
+    synchronized boolean connect(Socket socket, DataOutputStream out) throws IOException {
+        if (closed) {
+            return false;
+        }
+        if (this.socket != null) {
+            log.info(
+                    "shuffle channel {} replaces the connection from {}",
+                    name,
+                    this.socket.getRemoteSocketAddress());
+            TcpShuffleServer.closeQuietly(this.socket);
+        }
+        this.socket = socket;
+        this.creditOutput = out;
+        this.finished = false;
+        this.failure = null;
+        out.writeInt(capacity - buffer.size());
+        out.flush();
+        log.info("shuffle channel {} connected from {}", name, socket.getRemoteSocketAddress());
+        return true;
+    }
+
+    private synchronized boolean isConnectedTo(Socket socket) {
+        return this.socket == socket;
+    }
+
+    void receive(Socket socket, DataInputStream in) throws IOException, InterruptedException {
+        while (!closed && isConnectedTo(socket)) {
+            int recordCount = in.readInt();
+            if (recordCount == TcpShuffleServer.END_OF_STREAM) {
+                log.info("shuffle channel {} reached end of stream", name);
+                finished = true;
+                return;
+            }
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            BufferObjectDataInput input =
+                    server.getSerializationService().createObjectDataInput(bytes);
+            for (int i = 0; i < recordCount; i++) {
+                // never blocks as long as the sender respects its credits
+                buffer.put(input.readObject());
+            }
+        }
+    }
+
+    void fail(Socket socket, Throwable cause) {
+        if (!isConnectedTo(socket)) {
+            // the connection was replaced by a restarted sender
+            log.info("replaced connection of shuffle channel {} closed", name);
+            return;
+        }
+        failOpenChannel(cause);
+    }
+
+    private void failOpenChannel(Throwable cause) {
+        if (!closed && !finished) {
+            log.error("shuffle channel {} failed", name, cause);
+            failure = cause;
+        }
+    }
+
+    @Override
+    public int size() {
+        checkFailure();
+        return buffer.size();
+    }
+
+    @Override
+    public Record<?> take() throws InterruptedException {
+        for (; ; ) {
+            checkFailure();
+            Record<?> record = buffer.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            if (record != null) {
+                grant(1);
+                return record;
+            }
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<Record<?>> records, int maxElements) {
+        checkFailure();
+        int count = buffer.drainTo(records, maxElements);
+        if (count > 0) {
+            grant(count);
+        }
+        return count;
+    }
+
+    private synchronized void grant(int credits) {
+        if (closed || finished || creditOutput == null) {
+            // the initial credits of the sender are computed from the free buffer space
+            return;
+        }
+        try {
+            creditOutput.writeInt(credits);
+            creditOutput.flush();
+        } catch (IOException e) {
+            failOpenChannel(e);
+        }
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new SeaTunnelEngineException(
+                    String.format("shuffle channel %s failed", name), failure);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            TcpShuffleServer.closeQuietly(socket);
+        }
+        server.unregister(this);
+        closeHook.run();
+        log.info("close shuffle channel: {}", name);
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
+
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The sending end of a TCP shuffle edge. The address of the receiver is looked up by channel name
+ * in the shared channel directory, the connection is established lazily on the first record.
+ */
+@Slf4j
+public class TcpShuffleOutputChannel implements ShuffleOutputChannel {
+    private static final long CONNECT_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final long CONNECT_RETRY_INTERVAL_MILLIS = 100;
+    private static final int SOCKET_CONNECT_TIMEOUT_MILLIS = 10000;
+    private static final int CREDIT_READ_TIMEOUT_MILLIS = 1000;
+
+    private final String name;
+    private final Map<String, String> channelDirectory;
+    private final BufferObjectDataOutput frameBuffer;
+
+    private Socket socket;
+    private DataInputStream creditInput;
+    private DataOutputStream output;
+    private int credits;
+    private int initialCredits = -1;
+    private long blockedNanos;
+
+    TcpShuffleOutputChannel(
+            String name, Map<String, String> channelDirectory, TcpShuffleServer server) {
+        this.name = name;
+        this.channelDirectory = channelDirectory;
+        this.frameBuffer =
+                server.getSerializationService()
+                        .createObjectDataOutput(TcpShuffleServer.SOCKET_BUFFER_SIZE);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void put(Record<?> record) throws InterruptedException {
+        putAll(Collections.singletonList(record));
+    }
+
+    @Override
+    public void putAll(Collection<Record<?>> records) throws InterruptedException {
+        try {
+            if (socket == null) {
+                connect();
+            }
+            Iterator<Record<?>> iterator = records.iterator();
+            int remaining = records.size();
+            while (remaining > 0) {
+                awaitCredits();
+                int frameSize = Math.min(credits, remaining);
+                frameBuffer.clear();
+                for (int i = 0; i < frameSize; i++) {
+                    frameBuffer.writeObject(iterator.next());
+                }
+                output.writeInt(frameSize);
+                output.writeInt(frameBuffer.position());
+                output.write(frameBuffer.toByteArray());
+                output.flush();
+                credits -= frameSize;
+                remaining -= frameSize;
+            }
+        } catch (IOException e) {
+            throw new SeaTunnelEngineException(
+                    String.format("failed to send records to shuffle channel %s", name), e);
+        }
+    }
+
+    private void awaitCredits() throws IOException, InterruptedException {
+        while (creditInput.available() >= Integer.BYTES) {
+            credits += creditInput.readInt();
+        }
+        if (credits > 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            while (credits <= 0) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                try {
+                    credits += creditInput.readInt();
+                } catch (SocketTimeoutException e) {
+                    // check interruption and wait again
+                }
+            }
+        } finally {
+            blockedNanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public int getBufferedRecords() {
+        return initialCredits > 0 ? Math.max(0, initialCredits - credits) : -1;
+    }
+
+    @Override
+    public int getBufferCapacity() {
+        return initialCredits;
+    }
+
+    @Override
+    public long getBlockedNanos() {
+        return blockedNanos;
+    }
+
+    private void connect() throws IOException, InterruptedException {
+        long deadline = System.currentTimeMillis() + CONNECT_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            String address = channelDirectory.get(name);
+            if (address != null && tryConnect(address)) {
+                log.info("shuffle channel {} connected to {}", name, address);
+                return;
+            }
+            Thread.sleep(CONNECT_RETRY_INTERVAL_MILLIS);
+        }
+        throw new IOException(
+                String.format(
+                        "shuffle channel %s can't connect to receiver in %s ms",
+                        name, CONNECT_TIMEOUT_MILLIS));
+    }
+
+    private boolean tryConnect(String address) throws IOException {
+        int separator = address.lastIndexOf(':');
+        Socket candidate = new Socket();
+        try {
+            candidate.setTcpNoDelay(true);
+            candidate.setSendBufferSize(TcpShuffleServer.SOCKET_BUFFER_SIZE);
+            candidate.connect(
+                    new InetSocketAddress(
+                            address.substring(0, separator),
+                            Integer.parseInt(address.substring(separator + 1))),
+                    SOCKET_CONNECT_TIMEOUT_MILLIS);
+            candidate.setSoTimeout(CREDIT_READ_TIMEOUT_MILLIS);
+            DataOutputStream candidateOutput =
+                    new DataOutputStream(
+                            new BufferedOutputStream(
+                                    candidate.getOutputStream(),
+                                    TcpShuffleServer.SOCKET_BUFFER_SIZE));
+            DataInputStream candidateInput = new DataInputStream(candidate.getInputStream());
+            candidateOutput.writeUTF(name);
+            candidateOutput.flush();
+            int initialCredits = readInitialCredits(candidateInput);
+            if (initialCredits == TcpShuffleServer.REJECTED) {
+                candidate.close();
+                return false;
+            }
+            this.socket = candidate;
+            this.output = candidateOutput;
+            this.creditInput = candidateInput;
+            this.credits = initialCredits;
+            this.initialCredits = initialCredits;
+            return true;
+        } catch (IOException e) {
+            log.debug("shuffle channel {} failed to connect to {}", name, address, e);
+            candidate.close();
+            return false;
+        }
+    }
+
+    /**
+     * Wait until the receiver has read the end of stream and closed its side, closing first could
+     * reset the connection before the receiver has read all records.
+     */
+    private void awaitReceiverClosed() throws IOException {
+        long deadline = System.currentTimeMillis() + SOCKET_CONNECT_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                if (creditInput.read() < 0) {
+                    return;
+                }
+            } catch (SocketTimeoutException e) {
+                // wait again
+            }
+        }
+    }
+
+    private int readInitialCredits(DataInputStream input) throws IOException {
+        long deadline = System.currentTimeMillis() + SOCKET_CONNECT_TIMEOUT_MILLIS;
+        for (; ; ) {
+            try {
+                return input.readInt();
+            } catch (SocketTimeoutException e) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (socket != null) {
+            try {
+                output.writeInt(TcpShuffleServer.END_OF_STREAM);
+                output.flush();
+                socket.shutdownOutput();
+                awaitReceiverClosed();
+            } catch (IOException e) {
+                log.warn("failed to close shuffle channel {}", name, e);
+            }
+            TcpShuffleServer.closeQuietly(socket);
+        }
+        log.info("close shuffle channel: {}", name);
+    }
+}
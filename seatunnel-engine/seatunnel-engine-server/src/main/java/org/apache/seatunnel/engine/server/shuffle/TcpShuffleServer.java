@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Accepts shuffle connections of remote {@link TcpShuffleOutputChannel}s and hands them to the
+ * registered {@link TcpShuffleInputChannel} of the same name.
+ *
+ * <p>Protocol, all integers are big endian:
+ *
+ * <ul>
+ *   <li>sender: {@code UTF channelName}, receiver: {@code int initialCredits} or {@link #REJECTED}
+ *       if the channel is not registered (yet).
+ *   <li>sender: {@code int recordCount | int byteLength | records}, one frame per batch, at most as
+ *       many records as the sender has credits. {@link #END_OF_STREAM} as record count closes the
+ *       channel.
+ *   <li>receiver: {@code int credits} whenever records were consumed from its buffer.
+ * </ul>
+ */
+@Slf4j
+public class TcpShuffleServer implements Closeable {
+    static final int REJECTED = -1;
+    static final int END_OF_STREAM = -1;
+    static final int SOCKET_BUFFER_SIZE = 64 * 1024;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executorService;
+    private final Map<String, TcpShuffleInputChannel> channels = new ConcurrentHashMap<>();
+    @Getter private final InternalSerializationService serializationService;
+    /** The address other workers connect to, in {@code host:port} form. */
+    @Getter private final String address;
+
+    private volatile boolean running = true;
+
+    public TcpShuffleServer(
+            String host, int port, InternalSerializationService serializationService)
+            throws IOException {
+        this.serializationService = serializationService;
+        this.serverSocket = new ServerSocket();
+        this.serverSocket.setReuseAddress(true);
+        this.serverSocket.bind(new InetSocketAddress(host, port));
+        this.address = host + ":" + serverSocket.getLocalPort();
+        this.executorService =
+                Executors.newCachedThreadPool(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("shuffle-tcp-server-%d")
+                                .setDaemon(true)
+                                .build());
+        this.executorService.submit(this::accept);
+        log.info("TCP shuffle server started on {}", address);
+    }
+
+    void register(TcpShuffleInputChannel channel) {
+        channels.put(channel.getName(), channel);
+    }
+
+    void unregister(TcpShuffleInputChannel channel) {
+        channels.remove(channel.getName(), channel);
+    }
+
+    private void accept() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                executorService.submit(() -> handle(socket));
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("Failed to accept shuffle connection", e);
+                }
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        TcpShuffleInputChannel channel = null;
+        try {
+            socket.setTcpNoDelay(true);
+            DataInputStream in =
+                    new DataInputStream(
+                            new BufferedInputStream(socket.getInputStream(), SOCKET_BUFFER_SIZE));
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            String channelName = in.readUTF();
+            channel = channels.get(channelName);
+            if (channel == null || !channel.connect(socket, out)) {
+                log.debug("Reject shuffle connection of unknown channel {}", channelName);
+                out.writeInt(REJECTED);
+                out.flush();
+                socket.close();
+                return;
+            }
+            channel.receive(socket, in);
+            closeQuietly(socket);
+        } catch (Throwable e) {
+            if (channel != null) {
+                channel.fail(socket, e);
+            } else if (running) {
+                log.warn("Failed to handle shuffle connection", e);
+            }
+            closeQuietly(socket);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        closeQuietly(serverSocket);
+        executorService.shutdownNow();
+        log.info("TCP shuffle server on {} closed", address);
+    }
+
+    static void closeQuietly(Closeable closeable) {
+        try {
+            if (closeable != null) {
+                closeable.close();
+            }
+        } catch (IOException e) {
+            log.debug("Failed to close {}", closeable, e);
+        }
+    }
+}
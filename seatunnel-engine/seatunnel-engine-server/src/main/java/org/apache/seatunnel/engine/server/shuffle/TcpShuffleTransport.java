@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams shuffled records over dedicated TCP connections between workers. Hazelcast is only used
+ * for the channel directory, which maps every channel name to the address of its receiver.
+ */
+public class TcpShuffleTransport implements ShuffleTransport {
+    private final TcpShuffleServer server;
+    private final Map<String, String> channelDirectory;
+
+    public TcpShuffleTransport(TcpShuffleServer server, Map<String, String> channelDirectory) {
+        this.server = server;
+        this.channelDirectory = channelDirectory;
+    }
+
+    @Override
+    public ShuffleOutputChannel[] createOutputChannels(
+            ShuffleStrategy shuffleStrategy, int pipelineId, int inputIndex) {
+        List<String> names = shuffleStrategy.getOutputQueueNames(pipelineId, inputIndex);
+        ShuffleOutputChannel[] channels = new ShuffleOutputChannel[names.size()];
+        for (int i = 0; i < channels.length; i++) {
+            channels[i] = new TcpShuffleOutputChannel(names.get(i), channelDirectory, server);
+        }
+        return channels;
+    }
+
+    @Override
+    public ShuffleInputChannel[] createInputChannels(
+            ShuffleStrategy shuffleStrategy, int pipelineId, int targetIndex) {
+        String[] names = shuffleStrategy.getInputQueueNames(pipelineId, targetIndex);
+        ShuffleInputChannel[] channels = new ShuffleInputChannel[names.length];
+        String address = server.getAddress();
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            channels[i] =
+                    new TcpShuffleInputChannel(
+                            name,
+                            shuffleStrategy.getQueueMaxSize(),
+                            server,
+                            () -> channelDirectory.remove(name, address));
+            channelDirectory.put(name, address);
+        }
+        return channels;
+    }
+}
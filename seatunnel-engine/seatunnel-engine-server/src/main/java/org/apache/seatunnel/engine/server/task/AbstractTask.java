@@ -20,6 +20,8 @@ package org.apache.seatunnel.engine.server.task;
 import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.TaskStateOffloader;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskReportStatusOperation;
 import org.apache.seatunnel.engine.server.execution.ProgressState;
 import org.apache.seatunnel.engine.server.execution.Task;
@@ -111,6 +113,19 @@ public abstract class AbstractTask implements Task {
                 .join();
     }
 
+    /**
+     * Stores the large checkpoint states in the checkpoint storage.
+     *
+     * @return the states to acknowledge, see {@link TaskStateOffloader}
+     */
+    protected List<ActionSubtaskState> offloadStates(
+            long checkpointId, List<ActionSubtaskState> states) {
+        return getExecutionContext()
+                .getTaskExecutionService()
+                .getTaskStateOffloader()
+                .offload(taskLocation, checkpointId, states);
+    }
+
     public static <T> List<byte[]> serializeStates(Serializer<T> serializer, List<T> states) {
         return states.stream()
                 .map(state -> sneaky(() -> serializer.serialize(state)))
@@ -27,6 +27,7 @@ import org.apache.seatunnel.api.table.type.MultipleRowType;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowSizeEstimator;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.core.starter.flowcontrol.FlowControlGate;
@@ -40,6 +41,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -65,7 +67,11 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
             new DataTypeChangeEventDispatcher();
     private Map<String, SeaTunnelRowType> rowTypeMap = new HashMap<>();
     private SeaTunnelDataType rowType;
+    private SeaTunnelRowSizeEstimator rowSizeEstimator;
+    private final Map<String, SeaTunnelRowSizeEstimator> rowSizeEstimatorMap = new HashMap<>();
     private FlowControlGate flowControlGate;
+    private final int batchSize;
+    private List<Object> batch;
 
     public SeaTunnelSourceCollector(
             Object checkpointLock,
@@ -73,15 +79,26 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
             MetricsContext metricsContext,
             FlowControlStrategy flowControlStrategy,
             SeaTunnelDataType rowType,
-            List<TablePath> tablePaths) {
+            List<TablePath> tablePaths,
+            int batchSize) {
         this.checkpointLock = checkpointLock;
+        this.batchSize = batchSize;
+        this.batch = new ArrayList<>(batchSize);
         this.outputs = outputs;
         this.rowType = rowType;
         this.metricsContext = metricsContext;
-        if (rowType instanceof MultipleRowType) {
+        if (rowType instanceof SeaTunnelRowType) {
+            rowSizeEstimator = new SeaTunnelRowSizeEstimator((SeaTunnelRowType) rowType);
+        } else if (rowType instanceof MultipleRowType) {
             ((MultipleRowType) rowType)
                     .iterator()
-                    .forEachRemaining(type -> this.rowTypeMap.put(type.getKey(), type.getValue()));
+                    .forEachRemaining(
+                            type -> {
+                                this.rowTypeMap.put(type.getKey(), type.getValue());
+                                this.rowSizeEstimatorMap.put(
+                                        type.getKey(),
+                                        new SeaTunnelRowSizeEstimator(type.getValue()));
+                            });
         }
         this.taskMetricsCalcContext =
                 new TaskMetricsCalcContext(
@@ -97,11 +114,11 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
         try {
             if (row instanceof SeaTunnelRow) {
                 String tableId = ((SeaTunnelRow) row).getTableId();
-                int size;
+                // the estimate is cached in the row for the flow control and the metrics below
                 if (rowType instanceof SeaTunnelRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize((SeaTunnelRowType) rowType);
+                    rowSizeEstimator.estimate((SeaTunnelRow) row);
                 } else if (rowType instanceof MultipleRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize(rowTypeMap.get(tableId));
+                    rowSizeEstimatorMap.get(tableId).estimate((SeaTunnelRow) row);
                 } else {
                     throw new SeaTunnelEngineException(
                             "Unsupported row type: " + rowType.getClass().getName());
@@ -109,7 +126,11 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
                 flowControlGate.audit((SeaTunnelRow) row);
                 taskMetricsCalcContext.updateMetrics(row, tableId);
             }
-            sendRecordToNext(new Record<>(row));
+            if (batchSize > 1) {
+                addToBatch(row);
+            } else {
+                sendRecordToNext(new Record<>(row));
+            }
             emptyThisPollNext = false;
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -121,11 +142,13 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
         try {
             if (rowType instanceof SeaTunnelRowType) {
                 rowType = dataTypeChangeEventHandler.reset((SeaTunnelRowType) rowType).apply(event);
+                rowSizeEstimator = new SeaTunnelRowSizeEstimator((SeaTunnelRowType) rowType);
             } else if (rowType instanceof MultipleRowType) {
                 String tableId = event.tablePath().toString();
-                rowTypeMap.put(
-                        tableId,
-                        dataTypeChangeEventHandler.reset(rowTypeMap.get(tableId)).apply(event));
+                SeaTunnelRowType newRowType =
+                        dataTypeChangeEventHandler.reset(rowTypeMap.get(tableId)).apply(event);
+                rowTypeMap.put(tableId, newRowType);
+                rowSizeEstimatorMap.put(tableId, new SeaTunnelRowSizeEstimator(newRowType));
             } else {
                 throw new SeaTunnelEngineException(
                         "Unsupported row type: " + rowType.getClass().getName());
@@ -189,8 +212,34 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
         this.emptyThisPollNext = true;
     }
 
+    private void addToBatch(Object row) throws IOException {
+        // some readers collect rows without holding the checkpoint lock
+        synchronized (checkpointLock) {
+            batch.add(row);
+            if (batch.size() >= batchSize) {
+                flushBatch();
+            }
+        }
+    }
+
+    /** Passes the collected rows to the outputs, called at least once per poll of the reader. */
+    public void flushBatch() throws IOException {
+        synchronized (checkpointLock) {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<Object> rows = batch;
+            batch = new ArrayList<>(batchSize);
+            for (OneInputFlowLifeCycle<Record<?>> output : outputs) {
+                output.receivedBatch(rows);
+            }
+        }
+    }
+
     public void sendRecordToNext(Record<?> record) throws IOException {
         synchronized (checkpointLock) {
+            // barriers and schema change events must stay behind the rows collected before them
+            flushBatch();
             for (OneInputFlowLifeCycle<Record<?>> output : outputs) {
                 output.received(record);
             }
@@ -35,6 +35,7 @@ import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.checkpoint.LocalCheckpointStateStore;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskAcknowledgeOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TriggerSchemaChangeAfterCheckpointOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TriggerSchemaChangeBeforeCheckpointOperation;
@@ -48,6 +49,7 @@ import org.apache.seatunnel.engine.server.dag.physical.flow.UnknownFlowException
 import org.apache.seatunnel.engine.server.execution.TaskGroup;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleTransport;
 import org.apache.seatunnel.engine.server.task.flow.ActionFlowLifeCycle;
 import org.apache.seatunnel.engine.server.task.flow.FlowLifeCycle;
 import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
@@ -61,7 +63,6 @@ import org.apache.seatunnel.engine.server.task.group.AbstractTaskGroupWithInterm
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 import org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTaskState;
 
-import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
@@ -110,6 +111,9 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     private final Map<Long, Integer> cycleAcks = new ConcurrentHashMap<>();
 
+    /** The longest barrier alignment of the flows of this task, by checkpoint id. */
+    private final Map<Long, Long> alignmentDurations = new ConcurrentHashMap<>();
+
     protected int indexID;
 
     private TaskGroup taskBelongGroup;
@@ -240,14 +244,17 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                 completableFuture);
             } else if (f.getAction() instanceof ShuffleAction) {
                 ShuffleAction shuffleAction = (ShuffleAction) f.getAction();
-                HazelcastInstance hazelcastInstance = getExecutionContext().getInstance();
+                ShuffleTransport shuffleTransport =
+                        getExecutionContext()
+                                .getTaskExecutionService()
+                                .getShuffleTransport(shuffleAction.getConfig().getTransportType());
                 if (flow.getNext().isEmpty()) {
                     lifeCycle =
                             new ShuffleSinkFlowLifeCycle(
                                     this,
                                     indexID,
                                     shuffleAction,
-                                    hazelcastInstance,
+                                    shuffleTransport,
                                     completableFuture);
                 } else {
                     lifeCycle =
@@ -255,7 +262,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                     this,
                                     indexID,
                                     shuffleAction,
-                                    hazelcastInstance,
+                                    shuffleTransport,
                                     completableFuture);
                 }
                 outputs = flowLifeCycles;
@@ -301,6 +308,17 @@ public abstract class SeaTunnelTask extends AbstractTask {
         return getFlowInfo((action, set) -> set.add(ActionStateKey.of(action)));
     }
 
+    /** Whether this task reads from or writes to a shuffle shared with other task groups. */
+    public boolean containsShuffle() {
+        return !getFlowInfo(
+                        (action, set) -> {
+                            if (action instanceof ShuffleAction) {
+                                set.add(action);
+                            }
+                        })
+                .isEmpty();
+    }
+
     private <T> Set<T> getFlowInfo(BiConsumer<Action, Set<T>> function) {
         List<Flow> now = new ArrayList<>();
         now.add(executionFlow);
@@ -345,12 +363,17 @@ public abstract class SeaTunnelTask extends AbstractTask {
                 this.prepareCloseBarrierId.set(barrier.getId());
             }
             if (barrier.snapshot()) {
+                List<ActionSubtaskState> states = checkpointStates.remove(barrier.getId());
+                List<ActionSubtaskState> acknowledged = offloadStates(barrier.getId(), states);
+                getLocalCheckpointStateStore().put(taskLocation, barrier.getId(), states);
+                Long alignmentDuration = alignmentDurations.remove(barrier.getId());
                 this.getExecutionContext()
                         .sendToMaster(
                                 new TaskAcknowledgeOperation(
                                         this.taskLocation,
                                         (CheckpointBarrier) barrier,
-                                        checkpointStates.remove(barrier.getId())))
+                                        acknowledged,
+                                        alignmentDuration == null ? 0 : alignmentDuration))
                         .join();
             }
         }
@@ -374,6 +397,11 @@ public abstract class SeaTunnelTask extends AbstractTask {
                 .sendToMaster(new TriggerSchemaChangeAfterCheckpointOperation(taskLocation));
     }
 
+    /** Reports how long a flow of this task waited for the barrier on all of its inputs. */
+    public void reportAlignment(Barrier barrier, long durationMillis) {
+        alignmentDurations.merge(barrier.getId(), durationMillis, Math::max);
+    }
+
     public void addState(Barrier barrier, ActionStateKey stateKey, List<byte[]> state) {
         List<ActionSubtaskState> states =
                 checkpointStates.computeIfAbsent(barrier.getId(), id -> new ArrayList<>());
@@ -383,12 +411,15 @@ public abstract class SeaTunnelTask extends AbstractTask {
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {
         notifyAllAction(listener -> listener.notifyCheckpointComplete(checkpointId));
+        getLocalCheckpointStateStore().notifyCheckpointComplete(taskLocation, checkpointId);
         tryClose(checkpointId);
     }
 
     @Override
     public void notifyCheckpointAborted(long checkpointId) throws Exception {
         notifyAllAction(listener -> listener.notifyCheckpointAborted(checkpointId));
+        getLocalCheckpointStateStore().notifyCheckpointAborted(taskLocation, checkpointId);
+        alignmentDurations.remove(checkpointId);
         tryClose(checkpointId);
     }
 
@@ -398,6 +429,10 @@ public abstract class SeaTunnelTask extends AbstractTask {
         tryClose(checkpointId);
     }
 
+    private LocalCheckpointStateStore getLocalCheckpointStateStore() {
+        return getExecutionContext().getTaskExecutionService().getLocalCheckpointStateStore();
+    }
+
     public void notifyAllAction(ConsumerWithException<InternalCheckpointListener> consumer) {
         allCycles.stream()
                 .filter(cycle -> cycle instanceof InternalCheckpointListener)
@@ -43,6 +43,17 @@ public class SeaTunnelTransformCollector implements Collector<Record<?>> {
         }
     }
 
+    /** Passes rows produced together to the outputs, see {@link OneInputFlowLifeCycle}. */
+    public void collectBatch(List<?> rows) {
+        for (OneInputFlowLifeCycle<Record<?>> output : outputs) {
+            try {
+                output.receivedBatch(rows);
+            } catch (IOException e) {
+                throw new TaskRuntimeException(e);
+            }
+        }
+    }
+
     @Override
     public void close() {}
 }
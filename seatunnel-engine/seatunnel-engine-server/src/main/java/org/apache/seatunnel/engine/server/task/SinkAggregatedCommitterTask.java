@@ -243,9 +243,11 @@ public class SinkAggregatedCommitterTask<CommandInfoT, AggregatedCommitInfoT>
                             new TaskAcknowledgeOperation(
                                     this.taskLocation,
                                     (CheckpointBarrier) barrier,
-                                    Collections.singletonList(
-                                            new ActionSubtaskState(
-                                                    ActionStateKey.of(sink), -1, states))))
+                                    offloadStates(
+                                            barrier.getId(),
+                                            Collections.singletonList(
+                                                    new ActionSubtaskState(
+                                                            ActionStateKey.of(sink), -1, states)))))
                     .join();
         }
 
@@ -18,6 +18,8 @@
 package org.apache.seatunnel.engine.server.task;
 
 import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.env.EnvCommonOptions;
 import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
@@ -94,6 +96,7 @@ public class SourceSeaTunnelTask<T, SplitT extends SourceSplit> extends SeaTunne
                 // TODO remove it when all connector use `getProducedCatalogTables`
                 sourceProducedType = sourceFlow.getAction().getSource().getProducedType();
             }
+            ReadonlyConfig envConfig = ReadonlyConfig.fromMap(envOption);
             this.collector =
                     new SeaTunnelSourceCollector<>(
                             checkpointLock,
@@ -101,8 +104,12 @@ public class SourceSeaTunnelTask<T, SplitT extends SourceSplit> extends SeaTunne
                             this.getMetricsContext(),
                             FlowControlStrategy.fromMap(envOption),
                             sourceProducedType,
-                            tablePaths);
+                            tablePaths,
+                            envConfig.get(EnvCommonOptions.RECORD_BATCH_SIZE));
             ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).setCollector(collector);
+            ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle)
+                    .setLatencyMarkerInterval(
+                            envConfig.get(EnvCommonOptions.LATENCY_MARKER_INTERVAL));
         }
     }
 
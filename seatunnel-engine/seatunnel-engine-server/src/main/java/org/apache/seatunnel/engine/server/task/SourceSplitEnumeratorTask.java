@@ -88,6 +88,7 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
     private Map<TaskLocation, Address> taskMemberMapping;
     private Map<Long, TaskLocation> taskIDToTaskLocationMapping;
     private Map<Integer, TaskLocation> taskIndexToTaskLocationMapping;
+    private SplitAssignmentTracker<SplitT> splitAssignmentTracker;
 
     private volatile SeaTunnelTaskState currState;
 
@@ -116,6 +117,7 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
         taskIndexToTaskLocationMapping = new ConcurrentHashMap<>();
         maxReaderSize = source.getParallelism();
         unfinishedReaders = new CopyOnWriteArraySet<>();
+        splitAssignmentTracker = new SplitAssignmentTracker<>();
     }
 
     @Override
@@ -159,6 +161,7 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
             if (barrier.snapshot()) {
                 snapshotState = enumerator.snapshotState(barrierId);
                 serialize = enumeratorStateSerializer.serialize(snapshotState);
+                splitAssignmentTracker.snapshotState(barrierId);
             }
             log.debug("source split enumerator send state [{}] to master", snapshotState);
             sendToActiveReader(barrier);
@@ -169,11 +172,14 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
                             new TaskAcknowledgeOperation(
                                     this.taskLocation,
                                     (CheckpointBarrier) barrier,
-                                    Collections.singletonList(
-                                            new ActionSubtaskState(
-                                                    ActionStateKey.of(source),
-                                                    -1,
-                                                    Collections.singletonList(serialize)))))
+                                    offloadStates(
+                                            barrierId,
+                                            Collections.singletonList(
+                                                    new ActionSubtaskState(
+                                                            ActionStateKey.of(source),
+                                                            -1,
+                                                            Collections.singletonList(
+                                                                    serialize))))))
                     .join();
         }
 
@@ -204,6 +210,10 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
         log.debug("restoreState split enumerator [{}] finished", actionStateList);
     }
 
+    public void recordAssignedSplits(int subtaskIndex, List<SplitT> splits) {
+        splitAssignmentTracker.recordAssignment(subtaskIndex, splits);
+    }
+
     public Serializer<SplitT> getSplitSerializer() throws ExecutionException, InterruptedException {
         // Because the splitSerializer is initialized in the init method, it's necessary to wait for
         // the Enumerator to finish initializing.
@@ -221,8 +231,21 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
         log.info("received reader register, readerID: " + readerId);
 
         SourceSplitEnumerator<SplitT, Serializable> enumerator = getEnumerator();
+        boolean restartedReader = taskMemberMapping.containsKey(readerId);
         this.addTaskMemberMapping(readerId, memberAddr);
         enumerator.registerReader(readerId.getTaskIndex());
+        if (restartedReader) {
+            // the reader restarted alone, its checkpointed splits were added back on restore
+            List<SplitT> uncheckpointedSplits =
+                    splitAssignmentTracker.removeUncheckpointedSplits(readerId.getTaskIndex());
+            if (!uncheckpointedSplits.isEmpty()) {
+                log.info(
+                        "add back {} splits assigned after the last checkpoint to restarted reader {}",
+                        uncheckpointedSplits.size(),
+                        readerId);
+                addSplitsBack(uncheckpointedSplits, readerId.getTaskIndex());
+            }
+        }
         int taskSize = taskMemberMapping.size();
         if (maxReaderSize == taskSize) {
             readerRegisterComplete = true;
@@ -393,6 +416,7 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {
         getEnumerator().notifyCheckpointComplete(checkpointId);
+        splitAssignmentTracker.notifyCheckpointComplete(checkpointId);
         if (prepareCloseBarrierId.get() == checkpointId) {
             closeCall();
         }
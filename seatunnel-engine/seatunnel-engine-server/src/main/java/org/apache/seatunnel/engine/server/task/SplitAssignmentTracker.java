@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Tracks the splits the enumerator assigned to each reader which are not covered by a completed
+ * checkpoint yet. A reader restarted alone is restored from the latest completed checkpoint, so
+ * these splits must be given back to the enumerator or they are lost.
+ */
+public class SplitAssignmentTracker<SplitT> {
+
+    /** The splits assigned since the last snapshot, by reader index. */
+    private Map<Integer, List<SplitT>> uncheckpointedAssignments = new HashMap<>();
+
+    /** The splits assigned before each snapshot which is not completed yet, by checkpoint id. */
+    private final NavigableMap<Long, Map<Integer, List<SplitT>>> assignmentsPerCheckpoint =
+            new TreeMap<>();
+
+    public synchronized void recordAssignment(int subtaskIndex, List<SplitT> splits) {
+        if (splits.isEmpty()) {
+            return;
+        }
+        uncheckpointedAssignments
+                .computeIfAbsent(subtaskIndex, index -> new ArrayList<>())
+                .addAll(splits);
+    }
+
+    /** The splits assigned until now are part of the reader states of this checkpoint. */
+    public synchronized void snapshotState(long checkpointId) {
+        if (uncheckpointedAssignments.isEmpty()) {
+            return;
+        }
+        assignmentsPerCheckpoint.put(checkpointId, uncheckpointedAssignments);
+        uncheckpointedAssignments = new HashMap<>();
+    }
+
+    public synchronized void notifyCheckpointComplete(long checkpointId) {
+        assignmentsPerCheckpoint.headMap(checkpointId, true).clear();
+    }
+
+    /**
+     * Removes and returns the splits assigned to the reader after the last completed checkpoint.
+     */
+    public synchronized List<SplitT> removeUncheckpointedSplits(int subtaskIndex) {
+        List<SplitT> splits = new ArrayList<>();
+        assignmentsPerCheckpoint
+                .values()
+                .forEach(
+                        assignments -> {
+                            List<SplitT> assigned = assignments.remove(subtaskIndex);
+                            if (assigned != null) {
+                                splits.addAll(assigned);
+                            }
+                        });
+        List<SplitT> assigned = uncheckpointedAssignments.remove(subtaskIndex);
+        if (assigned != null) {
+            splits.addAll(assigned);
+        }
+        return splits;
+    }
+}
@@ -78,6 +78,7 @@ public class SeaTunnelSplitEnumeratorContext<SplitT extends SourceSplit>
                 splits.stream()
                         .map(split -> sneaky(() -> task.getSplitSerializer().serialize(split)))
                         .collect(Collectors.toList());
+        task.recordAssignedSplits(subtaskIndex, splits);
         task.getExecutionContext()
                 .sendToMember(
                         new AssignSplitOperation<>(
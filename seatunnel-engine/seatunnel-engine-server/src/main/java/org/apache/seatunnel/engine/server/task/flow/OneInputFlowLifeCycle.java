@@ -17,7 +17,10 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.table.type.Record;
+
 import java.io.IOException;
+import java.util.List;
 
 /**
  * A processing component that gets one piece of data at one time from other components inside the
@@ -29,4 +32,15 @@ import java.io.IOException;
 public interface OneInputFlowLifeCycle<T> extends FlowLifeCycle {
 
     void received(T record) throws IOException;
+
+    /**
+     * Receives data rows collected together, in order. Barriers and schema change events are never
+     * part of a batch, they are passed to {@link #received(Object)} between two batches.
+     */
+    @SuppressWarnings("unchecked")
+    default void receivedBatch(List<?> rows) throws IOException {
+        for (Object row : rows) {
+            received((T) new Record<>(row));
+        }
+    }
 }
@@ -19,36 +19,40 @@ package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleMultipleRowStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.metrics.EdgeMetricsCalcContext;
+import org.apache.seatunnel.engine.server.serializable.SeaTunnelRowCodec;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleOutputChannel;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleTransport;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
 
-import com.hazelcast.collection.IQueue;
-import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
+import java.util.List;
 
 @SuppressWarnings("MagicNumber")
 @Slf4j
 public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         implements OneInputFlowLifeCycle<Record<?>> {
-    private final int pipelineId;
-    private final int taskIndex;
     private final ShuffleAction shuffleAction;
-    private final Map<String, IQueue<Record<?>>> shuffles;
+    private final ShuffleOutputChannel[] shuffles;
     private final int shuffleBatchSize;
     private final long shuffleBatchFlushInterval;
-    private final Map<String, Queue<Record<?>>> shuffleBuffer;
+    private final List<Record<?>>[] shuffleBuffer;
     private final ShuffleStrategy shuffleStrategy;
+    private final SeaTunnelRowCodec rowCodec;
+    private final EdgeMetricsCalcContext[] edgeMetrics;
     private int shuffleBufferSize;
     private long lastModify;
 
@@ -56,17 +60,25 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             SeaTunnelTask runningTask,
             int taskIndex,
             ShuffleAction shuffleAction,
-            HazelcastInstance hazelcastInstance,
+            ShuffleTransport shuffleTransport,
             CompletableFuture<Void> completableFuture) {
         super(runningTask, completableFuture);
-        this.pipelineId = runningTask.getTaskLocation().getTaskGroupLocation().getPipelineId();
-        this.taskIndex = taskIndex;
+        int pipelineId = runningTask.getTaskLocation().getTaskGroupLocation().getPipelineId();
         this.shuffleAction = shuffleAction;
         this.shuffleStrategy = shuffleAction.getConfig().getShuffleStrategy();
-        this.shuffles = shuffleStrategy.createShuffles(hazelcastInstance, pipelineId, taskIndex);
+        this.shuffles =
+                shuffleTransport.createOutputChannels(shuffleStrategy, pipelineId, taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
         this.shuffleBatchFlushInterval = shuffleAction.getConfig().getBatchFlushInterval();
-        this.shuffleBuffer = new HashMap<>();
+        this.shuffleBuffer = new List[shuffles.length];
+        this.edgeMetrics = new EdgeMetricsCalcContext[shuffles.length];
+        for (int i = 0; i < shuffles.length; i++) {
+            shuffleBuffer[i] = new ArrayList<>();
+            edgeMetrics[i] =
+                    new EdgeMetricsCalcContext(
+                            runningTask.getMetricsContext(), shuffles[i].getName());
+        }
+        this.rowCodec = SeaTunnelRowCodec.of(shuffleStrategy.getCatalogTables());
     }
 
     @Override
@@ -81,17 +93,18 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             if (barrier.prepareClose(runningTask.getTaskLocation())) {
                 prepareClose = true;
             }
-            if (barrier.snapshot()) {
+            // with an unaligned barrier the downstream side of the shuffle owns the state of the
+            // action, it persists the records buffered in front of the barrier
+            if (barrier.snapshot() && !isUnaligned(barrier)) {
                 runningTask.addState(
                         barrier, ActionStateKey.of(shuffleAction), Collections.emptyList());
             }
             runningTask.ack(barrier);
 
             // The barrier needs to be replicated to all channels
-            for (Map.Entry<String, IQueue<Record<?>>> shuffle : shuffles.entrySet()) {
-                IQueue<Record<?>> shuffleQueue = shuffle.getValue();
+            for (ShuffleOutputChannel shuffleChannel : shuffles) {
                 try {
-                    shuffleQueue.put(record);
+                    shuffleChannel.put(record);
                 } catch (InterruptedException e) {
                     throw new RuntimeException(e);
                 }
@@ -108,6 +121,13 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             }
 
             shuffleItem(record);
+        } else if (record.getData() instanceof LatencyMarker) {
+            if (prepareClose) {
+                return;
+            }
+
+            // every downstream sink records the latency
+            shuffleItem(record, ShuffleStrategy.BROADCAST);
         } else {
             if (prepareClose) {
                 return;
@@ -120,16 +140,34 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     @Override
     public void close() throws IOException {
         super.close();
-        for (Map.Entry<String, IQueue<Record<?>>> shuffleItem : shuffles.entrySet()) {
-            log.info("destroy shuffle queue: {}", shuffleItem.getKey());
-            shuffleItem.getValue().destroy();
+        for (ShuffleOutputChannel shuffleChannel : shuffles) {
+            shuffleChannel.close();
         }
     }
 
-    private synchronized void shuffleItem(Record<?> record) {
-        String shuffleKey = shuffleStrategy.createShuffleKey(record, pipelineId, taskIndex);
-        shuffleBuffer.computeIfAbsent(shuffleKey, key -> new LinkedList<>()).add(record);
-        shuffleBufferSize++;
+    private boolean isUnaligned(Barrier barrier) {
+        return !(shuffleStrategy instanceof ShuffleMultipleRowStrategy)
+                && barrier instanceof CheckpointBarrier
+                && ((CheckpointBarrier) barrier).isUnaligned();
+    }
+
+    private void shuffleItem(Record<?> record) {
+        shuffleItem(record, shuffleStrategy.selectQueue(record));
+    }
+
+    private synchronized void shuffleItem(Record<?> record, int shuffleIndex) {
+        if (record.getData() instanceof SeaTunnelRow) {
+            record = new Record<>(rowCodec.encode((SeaTunnelRow) record.getData()));
+        }
+        if (shuffleIndex == ShuffleStrategy.BROADCAST) {
+            for (List<Record<?>> shuffleBatch : shuffleBuffer) {
+                shuffleBatch.add(record);
+            }
+            shuffleBufferSize += shuffleBuffer.length;
+        } else {
+            shuffleBuffer[shuffleIndex].add(record);
+            shuffleBufferSize++;
+        }
 
         if (shuffleBufferSize >= shuffleBatchSize
                 || (shuffleBufferSize > 1
@@ -139,24 +177,21 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     }
 
     private synchronized void shuffleFlush() {
-        for (Map.Entry<String, Queue<Record<?>>> shuffleBatch : shuffleBuffer.entrySet()) {
-            IQueue<Record<?>> shuffleQueue = shuffles.get(shuffleBatch.getKey());
-            Queue<Record<?>> shuffleQueueBatch = shuffleBatch.getValue();
-            if (shuffleQueue.remainingCapacity() <= 0
-                    || !shuffleQueue.addAll(shuffleBatch.getValue())) {
-                for (; ; ) {
-                    Record<?> shuffleItem = shuffleQueueBatch.poll();
-                    if (shuffleItem == null) {
-                        break;
-                    }
-                    try {
-                        shuffleQueue.put(shuffleItem);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
+        for (int i = 0; i < shuffles.length; i++) {
+            List<Record<?>> shuffleBatch = shuffleBuffer[i];
+            if (shuffleBatch.isEmpty()) {
+                continue;
+            }
+            try {
+                shuffles[i].putAll(shuffleBatch);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
             }
-            shuffleQueueBatch.clear();
+            shuffleBatch.clear();
+            edgeMetrics[i].updateMetrics(
+                    shuffles[i].getBufferedRecords(),
+                    shuffles[i].getBufferCapacity(),
+                    shuffles[i].getBlockedNanos());
         }
         shuffleBufferSize = 0;
         lastModify = System.currentTimeMillis();
@@ -17,19 +17,29 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.serialization.DefaultSerializer;
+import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleMultipleRowStrategy;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.serializable.SeaTunnelRowCodec;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleInputChannel;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleTransport;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
 
-import com.hazelcast.collection.IQueue;
-import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -38,73 +48,162 @@ import java.util.Map;
 
 @Slf4j
 @SuppressWarnings("MagicNumber")
-public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
+public class ShuffleSourceFlowLifeCycle<T> extends ActionFlowLifeCycle
         implements OneOutputFlowLifeCycle<Record<?>> {
     private final ShuffleAction shuffleAction;
     private final int shuffleBatchSize;
-    private final IQueue<Record<?>>[] shuffles;
+    private final ShuffleInputChannel[] shuffles;
+    private final SeaTunnelRowCodec rowCodec;
+    private final boolean unalignedSupported;
+    private final Serializer<Serializable> inFlightSerializer = new DefaultSerializer<>();
     private Map<Integer, List<Record<?>>> unsentBufferMap = new HashMap<>();
     private final Map<Integer, Barrier> alignedBarriers = new HashMap<>();
     private long currentCheckpointId = Long.MAX_VALUE;
     private int alignedBarriersCounter = 0;
 
+    /** When the first channel delivered the barrier that is being aligned. */
+    private long alignmentStartTime;
+
+    /** The barrier that overtook the buffered records, until all channels have delivered it. */
+    private Barrier unalignedBarrier;
+
+    /** Records read ahead of the unaligned barrier, persisted when the barrier completes. */
+    private final List<Record<?>> inFlightRecords = new ArrayList<>();
+
+    /** Records restored from an unaligned checkpoint, emitted before any new record. */
+    private final List<Record<?>> replayBuffer = new ArrayList<>();
+
     public ShuffleSourceFlowLifeCycle(
             SeaTunnelTask runningTask,
             int taskIndex,
             ShuffleAction shuffleAction,
-            HazelcastInstance hazelcastInstance,
+            ShuffleTransport shuffleTransport,
             CompletableFuture<Void> completableFuture) {
-        super(runningTask, completableFuture);
+        super(shuffleAction, runningTask, completableFuture);
         int pipelineId = runningTask.getTaskLocation().getPipelineId();
         this.shuffleAction = shuffleAction;
+        ShuffleStrategy shuffleStrategy = shuffleAction.getConfig().getShuffleStrategy();
         this.shuffles =
-                shuffleAction
-                        .getConfig()
-                        .getShuffleStrategy()
-                        .getShuffles(hazelcastInstance, pipelineId, taskIndex);
+                shuffleTransport.createInputChannels(shuffleStrategy, pipelineId, taskIndex);
+        this.rowCodec = SeaTunnelRowCodec.of(shuffleStrategy.getCatalogTables());
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
+        // the per-sink shuffle actions of a multiple row shuffle are not part of the checkpoint
+        // plan, so the records they would persist could not be restored
+        this.unalignedSupported = !(shuffleStrategy instanceof ShuffleMultipleRowStrategy);
+    }
+
+    @Override
+    public void restoreState(List<ActionSubtaskState> actionStateList) throws Exception {
+        for (ActionSubtaskState state : actionStateList) {
+            for (byte[] bytes : state.getState()) {
+                replayBuffer.add(new Record<>(inFlightSerializer.deserialize(bytes)));
+            }
+        }
+        if (!replayBuffer.isEmpty()) {
+            log.info(
+                    "replay {} in-flight records of unaligned checkpoint. taskLocation: [{}]",
+                    replayBuffer.size(),
+                    runningTask.getTaskLocation());
+        }
     }
 
     @Override
     public void collect(Collector<Record<?>> collector) throws Exception {
+        if (!replayBuffer.isEmpty()) {
+            for (Record<?> record : replayBuffer) {
+                emit(record, collector);
+            }
+            replayBuffer.clear();
+        }
+        if (unalignedBarrier != null) {
+            readAheadInFlightRecords();
+        }
+
         int emptyShuffleQueueCount = 0;
 
         for (int i = 0; i < shuffles.length; i++) {
-            IQueue<Record<?>> shuffleQueue = shuffles[i];
+            ShuffleInputChannel shuffleQueue = shuffles[i];
             List<Record<?>> unsentBuffer =
                     unsentBufferMap.computeIfAbsent(i, k -> new LinkedList<>());
-            if (shuffleQueue.size() == 0) {
+            if (shuffleQueue.size() == 0 && unsentBuffer.isEmpty()) {
                 emptyShuffleQueueCount++;
                 continue;
             }
-            // aligned barrier
-            if (alignedBarriers.get(i) != null
-                    && alignedBarriers.get(i).getId() == currentCheckpointId) {
-                continue;
-            }
+            boolean barrierReceived =
+                    alignedBarriers.get(i) != null
+                            && alignedBarriers.get(i).getId() == currentCheckpointId;
 
             List<Record<?>> shuffleBatch = new LinkedList<>();
-            if (alignedBarriersCounter > 0) {
-                shuffleBatch.add(shuffleQueue.take());
-            } else if (!unsentBuffer.isEmpty()) {
+            if (unalignedBarrier != null) {
+                // channels still in front of the barrier are read ahead into the unsent buffer
                 shuffleBatch.addAll(unsentBuffer);
                 unsentBuffer.clear();
+                if (barrierReceived) {
+                    shuffleQueue.drainTo(shuffleBatch, shuffleBatchSize);
+                }
+            } else {
+                // aligned barrier
+                if (barrierReceived) {
+                    continue;
+                }
+                if (alignedBarriersCounter > 0) {
+                    if (shuffleQueue.size() == 0) {
+                        emptyShuffleQueueCount++;
+                        continue;
+                    }
+                    shuffleBatch.add(shuffleQueue.take());
+                } else if (!unsentBuffer.isEmpty()) {
+                    shuffleBatch.addAll(unsentBuffer);
+                    unsentBuffer.clear();
+                }
+                shuffleQueue.drainTo(shuffleBatch, shuffleBatchSize);
             }
 
-            shuffleQueue.drainTo(shuffleBatch, shuffleBatchSize);
-
             for (int recordIndex = 0; recordIndex < shuffleBatch.size(); recordIndex++) {
                 Record<?> record = shuffleBatch.get(recordIndex);
                 if (record.getData() instanceof Barrier) {
+                    if (unalignedBarrier != null) {
+                        // a later barrier waits until the unaligned one has completed
+                        unsentBuffer.addAll(shuffleBatch.subList(recordIndex, shuffleBatch.size()));
+                        break;
+                    }
                     long startTime = System.currentTimeMillis();
 
                     Barrier barrier = (Barrier) record.getData();
 
                     // mark queue barrier
+                    if (alignedBarriersCounter == 0) {
+                        alignmentStartTime = startTime;
+                    }
                     alignedBarriers.put(i, barrier);
                     alignedBarriersCounter++;
                     currentCheckpointId = barrier.getId();
 
+                    if (recordIndex + 1 < shuffleBatch.size()) {
+                        unsentBuffer.addAll(
+                                shuffleBatch.subList(recordIndex + 1, shuffleBatch.size()));
+                    }
+
+                    if (isUnaligned(barrier)) {
+                        // the barrier overtakes everything still buffered in front of it
+                        unalignedBarrier = barrier;
+                        for (int j = 0; j < shuffles.length; j++) {
+                            if (j != i) {
+                                inFlightRecords.addAll(
+                                        unsentBufferMap.getOrDefault(j, Collections.emptyList()));
+                            }
+                        }
+                        inFlightRecords.removeIf(r -> r.getData() instanceof LatencyMarker);
+                        collector.collect(record);
+                        readAheadInFlightRecords();
+                        log.debug(
+                                "trigger unaligned barrier [{}] finished, cost: {}ms. taskLocation: [{}]",
+                                barrier.getId(),
+                                System.currentTimeMillis() - startTime,
+                                runningTask.getTaskLocation());
+                        break;
+                    }
+
                     // publish barrier
                     if (alignedBarriersCounter == shuffles.length) {
                         if (barrier.prepareClose(runningTask.getTaskLocation())) {
@@ -115,6 +214,8 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                                     barrier,
                                     ActionStateKey.of(shuffleAction),
                                     Collections.emptyList());
+                            runningTask.reportAlignment(
+                                    barrier, System.currentTimeMillis() - alignmentStartTime);
                         }
                         runningTask.ack(barrier);
 
@@ -128,17 +229,12 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                         alignedBarriersCounter = 0;
                         alignedBarriers.clear();
                     }
-
-                    if (recordIndex + 1 < shuffleBatch.size()) {
-                        unsentBuffer.addAll(
-                                shuffleBatch.subList(recordIndex + 1, shuffleBatch.size()));
-                    }
                     break;
                 } else {
                     if (prepareClose) {
                         return;
                     }
-                    collector.collect(record);
+                    emit(record, collector);
                 }
             }
         }
@@ -148,12 +244,77 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         }
     }
 
+    private boolean isUnaligned(Barrier barrier) {
+        return unalignedSupported
+                && barrier instanceof CheckpointBarrier
+                && ((CheckpointBarrier) barrier).isUnaligned()
+                && !barrier.prepareClose(runningTask.getTaskLocation());
+    }
+
+    /**
+     * Reads the channels that have not delivered the unaligned barrier yet, without waiting for the
+     * downstream. Everything in front of the barrier is kept as in-flight state, and the checkpoint
+     * of this action completes once every channel has delivered the barrier.
+     */
+    private void readAheadInFlightRecords() throws IOException {
+        for (int i = 0; i < shuffles.length; i++) {
+            if (alignedBarriers.containsKey(i)) {
+                continue;
+            }
+            List<Record<?>> unsentBuffer =
+                    unsentBufferMap.computeIfAbsent(i, k -> new LinkedList<>());
+            List<Record<?>> readAhead = new ArrayList<>();
+            shuffles[i].drainTo(readAhead, Integer.MAX_VALUE);
+            for (int recordIndex = 0; recordIndex < readAhead.size(); recordIndex++) {
+                Record<?> record = readAhead.get(recordIndex);
+                if (record.getData() instanceof Barrier) {
+                    alignedBarriers.put(i, (Barrier) record.getData());
+                    alignedBarriersCounter++;
+                    unsentBuffer.addAll(readAhead.subList(recordIndex + 1, readAhead.size()));
+                    break;
+                }
+                if (!(record.getData() instanceof LatencyMarker)) {
+                    inFlightRecords.add(record);
+                }
+                unsentBuffer.add(record);
+            }
+        }
+
+        if (alignedBarriersCounter == shuffles.length) {
+            List<byte[]> state = new ArrayList<>(inFlightRecords.size());
+            for (Record<?> record : inFlightRecords) {
+                state.add(inFlightSerializer.serialize((Serializable) record.getData()));
+            }
+            runningTask.addState(unalignedBarrier, ActionStateKey.of(shuffleAction), state);
+            // the records are not blocked meanwhile, the time is spent reading ahead
+            runningTask.reportAlignment(
+                    unalignedBarrier, System.currentTimeMillis() - alignmentStartTime);
+            runningTask.ack(unalignedBarrier);
+            log.debug(
+                    "unaligned barrier [{}] completed with {} in-flight records. taskLocation: [{}]",
+                    unalignedBarrier.getId(),
+                    inFlightRecords.size(),
+                    runningTask.getTaskLocation());
+
+            inFlightRecords.clear();
+            unalignedBarrier = null;
+            alignedBarriersCounter = 0;
+            alignedBarriers.clear();
+        }
+    }
+
+    private void emit(Record<?> record, Collector<Record<?>> collector) {
+        if (record.getData() instanceof byte[]) {
+            record = new Record<>(rowCodec.decode((byte[]) record.getData()));
+        }
+        collector.collect(record);
+    }
+
     @Override
     public void close() throws IOException {
         super.close();
-        for (IQueue<Record<?>> shuffleQueue : shuffles) {
-            log.info("destroy shuffle queue: {}", shuffleQueue.getName());
-            shuffleQueue.destroy();
+        for (ShuffleInputChannel shuffleChannel : shuffles) {
+            shuffleChannel.close();
         }
     }
 }
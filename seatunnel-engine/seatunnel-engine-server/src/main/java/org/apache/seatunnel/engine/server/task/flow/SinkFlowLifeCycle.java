@@ -17,7 +17,9 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.common.metrics.Histogram;
 import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.common.metrics.Unit;
 import org.apache.seatunnel.api.event.EventListener;
 import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.sink.SinkCommitter;
@@ -47,6 +49,7 @@ import org.apache.seatunnel.engine.server.task.operation.checkpoint.BarrierFlowO
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkPrepareCommitOperation;
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkRegisterOperation;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
 
 import com.hazelcast.cluster.Address;
 import lombok.extern.slf4j.Slf4j;
@@ -64,6 +67,8 @@ import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
+import static org.apache.seatunnel.api.common.metrics.MetricNames.END_TO_END_LATENCY_MILLIS;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_LATENCY_NANOS;
 import static org.apache.seatunnel.engine.common.utils.ExceptionUtil.sneaky;
 import static org.apache.seatunnel.engine.server.task.AbstractTask.serializeStates;
 
@@ -95,6 +100,10 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
 
     private TaskMetricsCalcContext taskMetricsCalcContext;
 
+    private final Histogram writeLatency;
+
+    private final Histogram endToEndLatency;
+
     private final boolean containAggCommitter;
 
     private EventListener eventListener;
@@ -141,6 +150,10 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
         }
         this.taskMetricsCalcContext =
                 new TaskMetricsCalcContext(metricsContext, PluginType.SINK, isMulti, sinkTables);
+        this.writeLatency =
+                runningTask.getMetricsContext().histogram(SINK_WRITE_LATENCY_NANOS, Unit.NS);
+        this.endToEndLatency =
+                runningTask.getMetricsContext().histogram(END_TO_END_LATENCY_MILLIS, Unit.MS);
     }
 
     @Override
@@ -260,49 +273,79 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
                     // todo remove deprecated method
                     writer.applySchemaChange(event);
                 }
+            } else if (record.getData() instanceof LatencyMarker) {
+                if (prepareClose) {
+                    return;
+                }
+                // the clocks of the source and sink members may differ
+                endToEndLatency.update(
+                        System.currentTimeMillis()
+                                - ((LatencyMarker) record.getData()).getMarkedTime());
             } else {
                 if (prepareClose) {
                     return;
                 }
-                String tableId = "";
+                long startTime = System.nanoTime();
                 writer.write((T) record.getData());
-                if (record.getData() instanceof SeaTunnelRow) {
-                    if (this.sinkAction.getSink() instanceof MultiTableSink) {
-                        if (((SeaTunnelRow) record.getData()).getTableId() == null
-                                || ((SeaTunnelRow) record.getData()).getTableId().isEmpty()) {
-                            tableId = ((SeaTunnelRow) record.getData()).getTableId();
-                        } else {
-
-                            TablePath tablePath =
-                                    tablesMaps.get(
-                                            TablePath.of(
-                                                    ((SeaTunnelRow) record.getData())
-                                                            .getTableId()));
-                            tableId =
-                                    tablePath != null
-                                            ? tablePath.getFullName()
-                                            : TablePath.DEFAULT.getFullName();
-                        }
-
-                    } else {
-                        Optional<CatalogTable> writeCatalogTable =
-                                this.sinkAction.getSink().getWriteCatalogTable();
-                        tableId =
-                                writeCatalogTable
-                                        .map(
-                                                catalogTable ->
-                                                        catalogTable.getTablePath().getFullName())
-                                        .orElseGet(TablePath.DEFAULT::getFullName);
-                    }
-
-                    taskMetricsCalcContext.updateMetrics(record.getData(), tableId);
-                }
+                writeLatency.update(System.nanoTime() - startTime);
+                updateWriteMetrics(record.getData());
             }
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
+    @Override
+    public void receivedBatch(List<?> rows) {
+        if (prepareClose) {
+            return;
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            long startTime = System.nanoTime();
+            writer.writeBatch((List<T>) rows);
+            writeLatency.update((System.nanoTime() - startTime) / rows.size(), rows.size());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        for (Object row : rows) {
+            updateWriteMetrics(row);
+        }
+    }
+
+    private void updateWriteMetrics(Object data) {
+        if (!(data instanceof SeaTunnelRow)) {
+            return;
+        }
+        String tableId;
+        if (this.sinkAction.getSink() instanceof MultiTableSink) {
+            if (((SeaTunnelRow) data).getTableId() == null
+                    || ((SeaTunnelRow) data).getTableId().isEmpty()) {
+                tableId = ((SeaTunnelRow) data).getTableId();
+            } else {
+
+                TablePath tablePath =
+                        tablesMaps.get(TablePath.of(((SeaTunnelRow) data).getTableId()));
+                tableId =
+                        tablePath != null
+                                ? tablePath.getFullName()
+                                : TablePath.DEFAULT.getFullName();
+            }
+
+        } else {
+            Optional<CatalogTable> writeCatalogTable =
+                    this.sinkAction.getSink().getWriteCatalogTable();
+            tableId =
+                    writeCatalogTable
+                            .map(catalogTable -> catalogTable.getTablePath().getFullName())
+                            .orElseGet(TablePath.DEFAULT::getFullName);
+        }
+
+        taskMetricsCalcContext.updateMetrics(data, tableId);
+    }
+
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {
         if (committer.isPresent() && lastCommitInfo.isPresent()) {
@@ -45,6 +45,7 @@ import org.apache.seatunnel.engine.server.task.operation.source.SourceNoMoreElem
 import org.apache.seatunnel.engine.server.task.operation.source.SourceReaderEventOperation;
 import org.apache.seatunnel.engine.server.task.operation.source.SourceRegisterOperation;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
 
 import com.hazelcast.cluster.Address;
 import lombok.AccessLevel;
@@ -89,6 +90,10 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
 
     private final AtomicReference<SchemaChangePhase> schemaChangePhase = new AtomicReference<>();
 
+    private long latencyMarkerInterval;
+
+    private long lastLatencyMarkerTime;
+
     public SourceFlowLifeCycle(
             SourceAction<T, SplitT, ?> sourceAction,
             int indexID,
@@ -111,6 +116,10 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
         this.collector = collector;
     }
 
+    public void setLatencyMarkerInterval(long latencyMarkerInterval) {
+        this.latencyMarkerInterval = latencyMarkerInterval;
+    }
+
     @Override
     public void init() throws Exception {
         this.splitSerializer = sourceAction.getSource().getSplitSerializer();
@@ -157,6 +166,8 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
             }
 
             reader.pollNext(collector);
+            collector.flushBatch();
+            emitLatencyMarker();
             if (collector.isEmptyThisPollNext()) {
                 Thread.sleep(100);
             } else {
@@ -195,6 +206,17 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
         }
     }
 
+    private void emitLatencyMarker() throws IOException {
+        if (latencyMarkerInterval <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now - lastLatencyMarkerTime >= latencyMarkerInterval) {
+            lastLatencyMarkerTime = now;
+            collector.sendRecordToNext(new Record<>(new LatencyMarker(now)));
+        }
+    }
+
     public void signalNoMoreElement() {
         // ready close this reader
         try {
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.common.metrics.Histogram;
+import org.apache.seatunnel.api.common.metrics.Unit;
 import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
@@ -28,8 +30,11 @@ import org.apache.seatunnel.engine.core.dag.actions.TransformChainAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTransformCollector;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.LatencyMarker;
 
 import org.apache.commons.collections4.CollectionUtils;
 
@@ -40,6 +45,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import static org.apache.seatunnel.api.common.metrics.MetricNames.TRANSFORM_LATENCY_NANOS;
+
 @Slf4j
 public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         implements OneInputFlowLifeCycle<Record<?>> {
@@ -50,6 +57,8 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
 
     private final Collector<Record<?>> collector;
 
+    private final Histogram[] transformLatency;
+
     public TransformFlowLifeCycle(
             TransformChainAction<T> action,
             SeaTunnelTask runningTask,
@@ -59,6 +68,24 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         this.action = action;
         this.transform = action.getTransforms();
         this.collector = collector;
+        this.transformLatency = new Histogram[transform.size()];
+        SeaTunnelMetricsContext metricsContext = runningTask.getMetricsContext();
+        for (int i = 0; i < transform.size(); i++) {
+            transformLatency[i] =
+                    metricsContext.histogram(
+                            TRANSFORM_LATENCY_NANOS
+                                    + SeaTunnelMetricsContext.OPERATOR_NAME_SEPARATOR
+                                    + transformMetricName(i),
+                            Unit.NS);
+        }
+    }
+
+    /** The plugin name, with the position in the chain if the plugin is chained more than once. */
+    private String transformMetricName(int index) {
+        String pluginName = transform.get(index).getPluginName();
+        long samePlugin =
+                transform.stream().filter(t -> pluginName.equals(t.getPluginName())).count();
+        return samePlugin > 1 ? pluginName + "-" + index : pluginName;
     }
 
     @Override
@@ -114,6 +141,11 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
             if (event != null) {
                 collector.collect(new Record<>(event));
             }
+        } else if (record.getData() instanceof LatencyMarker) {
+            if (prepareClose) {
+                return;
+            }
+            collector.collect(record);
         } else {
             if (prepareClose) {
                 return;
@@ -129,6 +161,24 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         }
     }
 
+    @Override
+    public void receivedBatch(List<?> rows) {
+        if (prepareClose) {
+            return;
+        }
+        List<T> outputDataList = transformBatch((List<T>) rows);
+        if (outputDataList.isEmpty()) {
+            return;
+        }
+        if (collector instanceof SeaTunnelTransformCollector) {
+            ((SeaTunnelTransformCollector) collector).collectBatch(outputDataList);
+        } else {
+            for (T outputData : outputDataList) {
+                collector.collect(new Record<>(outputData));
+            }
+        }
+    }
+
     public List<T> transform(T inputData) {
         if (transform.isEmpty()) {
             return Collections.singletonList(inputData);
@@ -136,9 +186,17 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
 
         List<T> dataList = new ArrayList<>();
         dataList.add(inputData);
+        return transformBatch(dataList);
+    }
 
-        for (SeaTunnelTransform<T> transformer : transform) {
-            List<T> nextInputDataList = new ArrayList<>();
+    public List<T> transformBatch(List<T> dataList) {
+        for (int index = 0; index < transform.size(); index++) {
+            SeaTunnelTransform<T> transformer = transform.get(index);
+            if (dataList.isEmpty()) {
+                break;
+            }
+            long startTime = System.nanoTime();
+            List<T> nextInputDataList = new ArrayList<>(dataList.size());
             if (transformer instanceof SeaTunnelFlatMapTransform) {
                 SeaTunnelFlatMapTransform<T> transformDecorator =
                         (SeaTunnelFlatMapTransform<T>) transformer;
@@ -170,6 +228,9 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
                     nextInputDataList.add(outputData);
                 }
             }
+            // rows transformed together share the time of the call
+            transformLatency[index].update(
+                    (System.nanoTime() - startTime) / dataList.size(), dataList.size());
 
             dataList = nextInputDataList;
         }
@@ -31,4 +31,8 @@ public abstract class AbstractTaskGroupWithIntermediateQueue extends TaskGroupDe
     }
 
     public abstract AbstractIntermediateQueue<?> getQueueCache(long id);
+
+    protected String getEdgeName(long queueId) {
+        return "IntermediateQueue-" + queueId;
+    }
 }
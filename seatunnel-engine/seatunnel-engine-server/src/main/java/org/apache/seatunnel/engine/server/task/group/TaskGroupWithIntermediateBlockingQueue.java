@@ -23,6 +23,7 @@ import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskGroupType;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.group.queue.AbstractIntermediateQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.CreditBasedFlowController;
 import org.apache.seatunnel.engine.server.task.group.queue.IntermediateBlockingQueue;
 
 import java.util.Collection;
@@ -42,9 +43,12 @@ public class TaskGroupWithIntermediateBlockingQueue extends AbstractTaskGroupWit
 
     private Map<Long, BlockingQueue<Record<?>>> blockingQueueCache = null;
 
+    private Map<Long, CreditBasedFlowController> flowControllerCache = null;
+
     @Override
     public void init() {
         blockingQueueCache = new ConcurrentHashMap<>();
+        flowControllerCache = new ConcurrentHashMap<>();
         getTasks().stream()
                 .filter(SeaTunnelTask.class::isInstance)
                 .map(s -> (SeaTunnelTask) s)
@@ -54,7 +58,10 @@ public class TaskGroupWithIntermediateBlockingQueue extends AbstractTaskGroupWit
     @Override
     public AbstractIntermediateQueue<?> getQueueCache(long id) {
         blockingQueueCache.computeIfAbsent(id, i -> new ArrayBlockingQueue<>(QUEUE_SIZE));
-        return new IntermediateBlockingQueue(blockingQueueCache.get(id));
+        CreditBasedFlowController flowController =
+                flowControllerCache.computeIfAbsent(
+                        id, i -> new CreditBasedFlowController(getEdgeName(i), QUEUE_SIZE));
+        return new IntermediateBlockingQueue(blockingQueueCache.get(id), flowController);
     }
 
     @Override
@@ -22,6 +22,7 @@ import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskGroupType;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.group.queue.AbstractIntermediateQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.CreditBasedFlowController;
 import org.apache.seatunnel.engine.server.task.group.queue.IntermediateDisruptor;
 import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEvent;
 import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEventFactory;
@@ -47,9 +48,12 @@ public class TaskGroupWithIntermediateDisruptor extends AbstractTaskGroupWithInt
 
     private Map<Long, Disruptor<RecordEvent>> disruptor = null;
 
+    private Map<Long, CreditBasedFlowController> flowControllerCache = null;
+
     @Override
     public void init() {
         disruptor = new ConcurrentHashMap<>();
+        flowControllerCache = new ConcurrentHashMap<>();
         getTasks().stream()
                 .filter(SeaTunnelTask.class::isInstance)
                 .map(s -> (SeaTunnelTask) s)
@@ -68,7 +72,10 @@ public class TaskGroupWithIntermediateDisruptor extends AbstractTaskGroupWithInt
                         new YieldingWaitStrategy());
 
         this.disruptor.putIfAbsent(id, disruptor);
-        return new IntermediateDisruptor(this.disruptor.get(id));
+        CreditBasedFlowController flowController =
+                flowControllerCache.computeIfAbsent(
+                        id, i -> new CreditBasedFlowController(getEdgeName(i), RING_BUFFER_SIZE));
+        return new IntermediateDisruptor(this.disruptor.get(id), flowController);
     }
 
     @Override
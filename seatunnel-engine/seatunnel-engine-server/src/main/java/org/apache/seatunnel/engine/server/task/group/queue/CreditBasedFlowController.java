@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.engine.server.metrics.EdgeMetricsCalcContext;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Credit based flow control of an intermediate queue. The producer must hold one credit for every
+ * record it puts into the queue, the consumer gives the credit back once the record has been
+ * handled. When no credit is left the producer blocks, the time it spends blocked is accounted into
+ * the edge metrics so that backpressure becomes visible per edge.
+ */
+public class CreditBasedFlowController {
+
+    private static final long WAIT_SLICE_MILLIS = 100;
+
+    private final String edgeName;
+
+    private final int capacity;
+
+    private final Semaphore credits;
+
+    private final AtomicLong blockedNanos = new AtomicLong();
+
+    private volatile EdgeMetricsCalcContext edgeMetrics;
+
+    public CreditBasedFlowController(String edgeName, int capacity) {
+        this.edgeName = edgeName;
+        this.capacity = capacity;
+        this.credits = new Semaphore(capacity);
+    }
+
+    /** Binds the edge metrics to the producer task, only the first call takes effect. */
+    public void registerMetrics(MetricsContext metricsContext) {
+        if (edgeMetrics == null && metricsContext != null) {
+            synchronized (this) {
+                if (edgeMetrics == null) {
+                    edgeMetrics = new EdgeMetricsCalcContext(metricsContext, edgeName);
+                }
+            }
+        }
+    }
+
+    public void acquire() throws InterruptedException {
+        if (!credits.tryAcquire()) {
+            long start = System.nanoTime();
+            boolean acquired = false;
+            while (!acquired) {
+                acquired = credits.tryAcquire(WAIT_SLICE_MILLIS, TimeUnit.MILLISECONDS);
+                long now = System.nanoTime();
+                blockedNanos.addAndGet(now - start);
+                start = now;
+                updateMetrics();
+            }
+        }
+    }
+
+    public void release() {
+        release(1);
+    }
+
+    public void release(int count) {
+        if (count > 0) {
+            credits.release(count);
+            updateMetrics();
+        }
+    }
+
+    public String getEdgeName() {
+        return edgeName;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getBufferedRecords() {
+        return capacity - credits.availablePermits();
+    }
+
+    public long getBlockedNanos() {
+        return blockedNanos.get();
+    }
+
+    private void updateMetrics() {
+        EdgeMetricsCalcContext metrics = edgeMetrics;
+        if (metrics != null) {
+            metrics.updateMetrics(getBufferedRecords(), capacity, blockedNanos.get());
+        }
+    }
+}
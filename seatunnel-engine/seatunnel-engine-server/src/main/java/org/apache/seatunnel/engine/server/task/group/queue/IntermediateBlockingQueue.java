@@ -24,19 +24,31 @@ import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 public class IntermediateBlockingQueue extends AbstractIntermediateQueue<BlockingQueue<Record<?>>> {
 
-    public IntermediateBlockingQueue(BlockingQueue<Record<?>> queue) {
+    private final CreditBasedFlowController flowController;
+
+    public IntermediateBlockingQueue(
+            BlockingQueue<Record<?>> queue, CreditBasedFlowController flowController) {
         super(queue);
+        this.flowController = flowController;
     }
 
     @Override
     public void received(Record<?> record) {
+        flowController.registerMetrics(getRunningTask().getMetricsContext());
         try {
-            handleRecord(record, getIntermediateQueue()::put);
+            handleRecord(
+                    record,
+                    r -> {
+                        flowController.acquire();
+                        getIntermediateQueue().put(r);
+                    });
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -47,7 +59,11 @@ public class IntermediateBlockingQueue extends AbstractIntermediateQueue<Blockin
         while (true) {
             Record<?> record = getIntermediateQueue().poll(100, TimeUnit.MILLISECONDS);
             if (record != null) {
-                handleRecord(record, collector::collect);
+                try {
+                    handleRecord(record, collector::collect);
+                } finally {
+                    flowController.release();
+                }
             } else {
                 break;
             }
@@ -56,7 +72,9 @@ public class IntermediateBlockingQueue extends AbstractIntermediateQueue<Blockin
 
     @Override
     public void close() throws IOException {
-        getIntermediateQueue().clear();
+        List<Record<?>> discarded = new ArrayList<>();
+        getIntermediateQueue().drainTo(discarded);
+        flowController.release(discarded.size());
     }
 
     private void handleRecord(Record<?> record, ConsumerWithException<Record<?>> consumer)
@@ -29,19 +29,29 @@ import java.io.IOException;
 
 public class IntermediateDisruptor extends AbstractIntermediateQueue<Disruptor<RecordEvent>> {
 
-    public IntermediateDisruptor(Disruptor<RecordEvent> queue) {
+    private final CreditBasedFlowController flowController;
+
+    public IntermediateDisruptor(
+            Disruptor<RecordEvent> queue, CreditBasedFlowController flowController) {
         super(queue);
+        this.flowController = flowController;
     }
 
     private volatile boolean isExecuted;
 
     @Override
     public void received(Record<?> record) {
-        getIntermediateQueue().getRingBuffer();
-        RecordEventProducer.onData(
-                record,
-                getIntermediateQueue().getRingBuffer(),
-                getIntermediateQueueFlowLifeCycle());
+        flowController.registerMetrics(getRunningTask().getMetricsContext());
+        try {
+            RecordEventProducer.onData(
+                    record,
+                    getIntermediateQueue().getRingBuffer(),
+                    getIntermediateQueueFlowLifeCycle(),
+                    flowController);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
     }
 
     @Override
@@ -52,7 +62,8 @@ public class IntermediateDisruptor extends AbstractIntermediateQueue<Disruptor<R
                             new RecordEventHandler(
                                     getRunningTask(),
                                     collector,
-                                    getIntermediateQueueFlowLifeCycle()));
+                                    getIntermediateQueueFlowLifeCycle(),
+                                    flowController));
             getIntermediateQueue().start();
             isExecuted = true;
         } else {
@@ -22,6 +22,7 @@ import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.group.queue.CreditBasedFlowController;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
 import com.lmax.disruptor.EventHandler;
@@ -34,19 +35,27 @@ public class RecordEventHandler implements EventHandler<RecordEvent> {
 
     private final IntermediateQueueFlowLifeCycle intermediateQueueFlowLifeCycle;
 
+    private final CreditBasedFlowController flowController;
+
     public RecordEventHandler(
             SeaTunnelTask runningTask,
             Collector<Record<?>> collector,
-            IntermediateQueueFlowLifeCycle intermediateQueueFlowLifeCycle) {
+            IntermediateQueueFlowLifeCycle intermediateQueueFlowLifeCycle,
+            CreditBasedFlowController flowController) {
         this.runningTask = runningTask;
         this.collector = collector;
         this.intermediateQueueFlowLifeCycle = intermediateQueueFlowLifeCycle;
+        this.flowController = flowController;
     }
 
     @Override
     public void onEvent(RecordEvent recordEvent, long sequence, boolean endOfBatch)
             throws Exception {
-        handleRecord(recordEvent.getRecord(), collector);
+        try {
+            handleRecord(recordEvent.getRecord(), collector);
+        } finally {
+            flowController.release();
+        }
     }
 
     private void handleRecord(Record<?> record, Collector<Record<?>> collector) throws Exception {
@@ -20,6 +20,7 @@ package org.apache.seatunnel.engine.server.task.group.queue.disruptor;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.group.queue.CreditBasedFlowController;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
 import com.lmax.disruptor.RingBuffer;
@@ -29,7 +30,9 @@ public class RecordEventProducer {
     public static void onData(
             Record<?> record,
             RingBuffer<RecordEvent> ringBuffer,
-            IntermediateQueueFlowLifeCycle intermediateQueueFlowLifeCycle) {
+            IntermediateQueueFlowLifeCycle intermediateQueueFlowLifeCycle,
+            CreditBasedFlowController flowController)
+            throws InterruptedException {
 
         if (record.getData() instanceof Barrier) {
             CheckpointBarrier barrier = (CheckpointBarrier) record.getData();
@@ -44,6 +47,7 @@ public class RecordEventProducer {
             }
         }
 
+        flowController.acquire();
         long sequence = ringBuffer.next();
         try {
             RecordEvent recordEvent = ringBuffer.get(sequence);
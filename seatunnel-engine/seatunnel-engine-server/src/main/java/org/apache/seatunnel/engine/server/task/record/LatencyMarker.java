@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.task.record;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * Inserted by every source subtask every {@code latency.marker.interval} milliseconds. It flows
+ * through the transforms, queues and shuffles like a row, and the sinks record the time it took to
+ * reach them as the end-to-end latency of the pipeline.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class LatencyMarker implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Wall clock time in milliseconds at which the source emitted the marker. */
+    private final long markedTime;
+}
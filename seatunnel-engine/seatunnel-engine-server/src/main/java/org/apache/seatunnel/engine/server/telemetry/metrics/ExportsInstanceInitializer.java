@@ -18,6 +18,8 @@
 package org.apache.seatunnel.engine.server.telemetry.metrics;
 
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.ClusterMetricExports;
+import org.apache.seatunnel.engine.server.telemetry.metrics.exports.JobCheckpointMetricExports;
+import org.apache.seatunnel.engine.server.telemetry.metrics.exports.JobLatencyMetricExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.JobMetricExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.JobThreadPoolStatusExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.NodeMetricExports;
@@ -41,6 +43,10 @@ public final class ExportsInstanceInitializer {
             CollectorRegistry collectorRegistry = CollectorRegistry.defaultRegistry;
             // Job info detail
             new JobMetricExports(node).register(collectorRegistry);
+            // Job latency histograms
+            new JobLatencyMetricExports(node).register(collectorRegistry);
+            // Job checkpoint statistics
+            new JobCheckpointMetricExports(node).register(collectorRegistry);
             // Thread pool status
             new JobThreadPoolStatusExports(node).register(collectorRegistry);
             // Node metrics
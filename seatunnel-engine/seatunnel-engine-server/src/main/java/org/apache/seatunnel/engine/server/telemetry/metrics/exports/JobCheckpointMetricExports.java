@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.telemetry.metrics.exports;
+
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointManager;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointStatistics;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointStatisticsTracker;
+import org.apache.seatunnel.engine.server.master.JobMaster;
+import org.apache.seatunnel.engine.server.telemetry.metrics.AbstractCollector;
+
+import com.hazelcast.instance.impl.Node;
+import io.prometheus.client.GaugeMetricFamily;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/** Checkpoint statistics of the running jobs, exported by the master. */
+public class JobCheckpointMetricExports extends AbstractCollector {
+
+    public JobCheckpointMetricExports(Node node) {
+        super(node);
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> mfs = new ArrayList<>();
+        // Only the master tracks the checkpoints of the jobs
+        if (!isMaster()) {
+            return mfs;
+        }
+        GaugeMetricFamily countFamily =
+                new GaugeMetricFamily(
+                        "job_checkpoint_count",
+                        "The checkpoint counts of the pipelines of the seatunnel job",
+                        clusterLabelNames("job_id", "pipeline_id", "status"));
+        GaugeMetricFamily durationFamily =
+                new GaugeMetricFamily(
+                        "job_checkpoint_duration_milliseconds",
+                        "The time each phase of the latest completed checkpoint took",
+                        clusterLabelNames("job_id", "pipeline_id", "phase"));
+        GaugeMetricFamily stateSizeFamily =
+                new GaugeMetricFamily(
+                        "job_checkpoint_state_size_bytes",
+                        "The state size of each action in the latest completed checkpoint",
+                        clusterLabelNames("job_id", "pipeline_id", "action"));
+
+        for (Map.Entry<Long, JobMaster> entry :
+                getCoordinatorService().getRunningJobMasters().entrySet()) {
+            CheckpointManager checkpointManager = entry.getValue().getCheckpointManager();
+            if (checkpointManager == null) {
+                continue;
+            }
+            String jobId = String.valueOf(entry.getKey());
+            checkpointManager
+                    .getCheckpointStatistics()
+                    .forEach(
+                            (pipelineId, tracker) -> {
+                                String pipeline = String.valueOf(pipelineId);
+                                addCounts(countFamily, jobId, pipeline, tracker);
+                                CheckpointStatistics latest = tracker.getLatestCompleted();
+                                if (latest == null) {
+                                    return;
+                                }
+                                addDurations(durationFamily, jobId, pipeline, latest);
+                                latest.getActionStateSizes()
+                                        .forEach(
+                                                (action, size) ->
+                                                        longMetric(
+                                                                stateSizeFamily,
+                                                                size,
+                                                                labelValues(
+                                                                        jobId, pipeline, action)));
+                            });
+        }
+        mfs.add(countFamily);
+        mfs.add(durationFamily);
+        mfs.add(stateSizeFamily);
+        return mfs;
+    }
+
+    private void addCounts(
+            GaugeMetricFamily family,
+            String jobId,
+            String pipelineId,
+            CheckpointStatisticsTracker tracker) {
+        longMetric(
+                family, tracker.getCompletedCount(), labelValues(jobId, pipelineId, "completed"));
+        longMetric(family, tracker.getFailedCount(), labelValues(jobId, pipelineId, "failed"));
+        longMetric(
+                family,
+                tracker.getInProgressCount(),
+                labelValues(jobId, pipelineId, "in_progress"));
+    }
+
+    private void addDurations(
+            GaugeMetricFamily family,
+            String jobId,
+            String pipelineId,
+            CheckpointStatistics statistics) {
+        longMetric(
+                family, statistics.getTriggerDuration(), labelValues(jobId, pipelineId, "trigger"));
+        longMetric(
+                family,
+                statistics.getMaxAlignmentDuration(),
+                labelValues(jobId, pipelineId, "alignment"));
+        longMetric(
+                family,
+                statistics.getAcknowledgeDuration(),
+                labelValues(jobId, pipelineId, "acknowledge"));
+        longMetric(
+                family, statistics.getStorageDuration(), labelValues(jobId, pipelineId, "storage"));
+        longMetric(
+                family,
+                statistics.getEndToEndDuration(),
+                labelValues(jobId, pipelineId, "end_to_end"));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.telemetry.metrics.exports;
+
+import org.apache.seatunnel.api.common.metrics.Histogram;
+import org.apache.seatunnel.engine.server.TaskExecutionService;
+import org.apache.seatunnel.engine.server.execution.Task;
+import org.apache.seatunnel.engine.server.execution.TaskGroupContext;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.telemetry.metrics.AbstractCollector;
+
+import com.hazelcast.instance.impl.Node;
+import io.prometheus.client.SummaryMetricFamily;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.END_TO_END_LATENCY_MILLIS;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_LATENCY_NANOS;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.TRANSFORM_LATENCY_NANOS;
+
+/** Latency histograms of the tasks running on this member, exported as summaries. */
+public class JobLatencyMetricExports extends AbstractCollector {
+
+    private enum LatencyFamily {
+        TRANSFORM(
+                TRANSFORM_LATENCY_NANOS,
+                "job_transform_latency_nanoseconds",
+                "The time a transform of the seatunnel job takes for one row"),
+        SINK_WRITE(
+                SINK_WRITE_LATENCY_NANOS,
+                "job_sink_write_latency_nanoseconds",
+                "The time a sink writer of the seatunnel job takes to write one row"),
+        END_TO_END(
+                END_TO_END_LATENCY_MILLIS,
+                "job_end_to_end_latency_milliseconds",
+                "The time a latency marker of the seatunnel job takes from the source to the sink");
+
+        private final String metric;
+        private final String name;
+        private final String help;
+
+        LatencyFamily(String metric, String name, String help) {
+            this.metric = metric;
+            this.name = name;
+            this.help = help;
+        }
+    }
+
+    public JobLatencyMetricExports(Node node) {
+        super(node);
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> mfs = new ArrayList<>();
+        TaskExecutionService taskExecutionService = getServer().getTaskExecutionService();
+        if (taskExecutionService == null) {
+            return mfs;
+        }
+        List<Double> quantiles = new ArrayList<>();
+        for (double quantile : SeaTunnelMetricsContext.REPORTED_QUANTILES) {
+            quantiles.add(quantile);
+        }
+        List<String> labelNames =
+                clusterLabelNames(
+                        ADDRESS, "job_id", "pipeline_id", "task_group_id", "task_id", "operator");
+        Map<String, SummaryMetricFamily> families = new LinkedHashMap<>();
+        for (LatencyFamily family : LatencyFamily.values()) {
+            families.put(
+                    family.metric,
+                    new SummaryMetricFamily(family.name, family.help, labelNames, quantiles));
+        }
+
+        for (TaskGroupContext taskGroupContext :
+                taskExecutionService.getActiveExecutionContexts()) {
+            for (Task task : taskGroupContext.getTaskGroup().getTasks()) {
+                if (!(task instanceof SeaTunnelTask)
+                        || ((SeaTunnelTask) task).getMetricsContext() == null) {
+                    continue;
+                }
+                TaskLocation taskLocation = ((SeaTunnelTask) task).getTaskLocation();
+                ((SeaTunnelTask) task)
+                        .getMetricsContext()
+                        .getHistograms()
+                        .forEach(
+                                (name, histogram) -> {
+                                    int separator =
+                                            name.indexOf(
+                                                    SeaTunnelMetricsContext
+                                                            .OPERATOR_NAME_SEPARATOR);
+                                    String metric =
+                                            separator < 0 ? name : name.substring(0, separator);
+                                    SummaryMetricFamily family = families.get(metric);
+                                    if (family == null) {
+                                        return;
+                                    }
+                                    family.addMetric(
+                                            labelValues(
+                                                    localAddress(),
+                                                    taskLocation,
+                                                    separator < 0
+                                                            ? ""
+                                                            : name.substring(separator + 1)),
+                                            histogram.getCount(),
+                                            histogram.getSum(),
+                                            quantileValues(histogram));
+                                });
+            }
+        }
+        mfs.addAll(families.values());
+        return mfs;
+    }
+
+    private List<String> labelValues(String address, TaskLocation taskLocation, String operator) {
+        TaskGroupLocation taskGroupLocation = taskLocation.getTaskGroupLocation();
+        return labelValues(
+                address,
+                String.valueOf(taskGroupLocation.getJobId()),
+                String.valueOf(taskGroupLocation.getPipelineId()),
+                String.valueOf(taskGroupLocation.getTaskGroupId()),
+                String.valueOf(taskLocation.getTaskID()),
+                operator);
+    }
+
+    private List<Double> quantileValues(Histogram histogram) {
+        List<Double> values = new ArrayList<>();
+        for (double quantile : SeaTunnelMetricsContext.REPORTED_QUANTILES) {
+            values.add((double) histogram.getQuantile(quantile));
+        }
+        return values;
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.server.telemetry.metrics.exports;
 
+import org.apache.seatunnel.engine.server.TaskExecutionService;
 import org.apache.seatunnel.engine.server.telemetry.metrics.AbstractCollector;
 import org.apache.seatunnel.engine.server.telemetry.metrics.entity.ThreadPoolStatus;
 
@@ -120,6 +121,20 @@ public class JobThreadPoolStatusExports extends AbstractCollector {
                     threadPoolStatusMetrics.getRejectionCount());
             mfs.add(rejectedTaskCount);
         }
+        TaskExecutionService taskExecutionService = getServer().getTaskExecutionService();
+        if (taskExecutionService != null) {
+            GaugeMetricFamily blockingTaskCount =
+                    new GaugeMetricFamily(
+                            "job_thread_pool_blockingTaskCount",
+                            "The running blocking tasks of seatunnel task execution service, labeled by the thread type they run on",
+                            clusterLabelNames(ADDRESS, "type"));
+            blockingTaskCount.addMetric(
+                    labelValues(
+                            localAddress(),
+                            taskExecutionService.getBlockingTaskThreadType().name()),
+                    taskExecutionService.getRunningBlockingTaskCount());
+            mfs.add(blockingTaskCount);
+        }
         return mfs;
     }
 }
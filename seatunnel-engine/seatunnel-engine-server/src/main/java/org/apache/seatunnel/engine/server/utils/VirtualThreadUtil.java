@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates virtual thread executors through reflection, so the engine can still be built for and run
+ * on JVMs without virtual threads.
+ *
+ * <p>Virtual threads are only used from JDK 24 on. Before, a virtual thread pins its carrier thread
+ * while it is inside a {@code synchronized} block, and the tasks do their sink and JDBC I/O while
+ * holding the checkpoint lock, so a few blocked tasks could starve the carrier pool.
+ */
+@Slf4j
+public final class VirtualThreadUtil {
+
+    /** The first JDK whose virtual threads don't pin their carrier in synchronized blocks. */
+    public static final int MIN_JAVA_VERSION = 24;
+
+    private VirtualThreadUtil() {}
+
+    /** Returns the feature version of the running JVM, e.g. 8 for "1.8" and 24 for "24". */
+    static int javaVersion(String specificationVersion) {
+        String version =
+                specificationVersion.startsWith("1.")
+                        ? specificationVersion.substring(2)
+                        : specificationVersion;
+        int separator = version.indexOf('.');
+        return Integer.parseInt(separator < 0 ? version : version.substring(0, separator));
+    }
+
+    /**
+     * Create an executor which starts a new virtual thread for each task.
+     *
+     * @param namePrefix the name prefix of the virtual threads, followed by a sequence number
+     * @return the executor, or empty if the JVM is older than {@link #MIN_JAVA_VERSION}
+     */
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor(String namePrefix) {
+        try {
+            if (javaVersion(System.getProperty("java.specification.version")) < MIN_JAVA_VERSION) {
+                log.debug(
+                        "Virtual threads pin their carrier in synchronized blocks before JDK {}",
+                        MIN_JAVA_VERSION);
+                return Optional.empty();
+            }
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder =
+                    builderClass
+                            .getMethod("name", String.class, long.class)
+                            .invoke(builder, namePrefix, 0L);
+            ThreadFactory threadFactory =
+                    (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return Optional.of(
+                    (ExecutorService)
+                            Executors.class
+                                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                                    .invoke(null, threadFactory));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // the methods don't exist before JDK 19 and fail while preview features are disabled
+            log.debug("Virtual threads are not supported by the current JVM", e);
+            return Optional.empty();
+        }
+    }
+}
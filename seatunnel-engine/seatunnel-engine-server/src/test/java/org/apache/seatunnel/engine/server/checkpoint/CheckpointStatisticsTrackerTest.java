@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointStatistics.Status;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class CheckpointStatisticsTrackerTest {
+
+    private static final ActionStateKey SOURCE = new ActionStateKey("source");
+
+    private static final ActionStateKey SINK = new ActionStateKey("sink");
+
+    private static final TaskGroupLocation TASK_GROUP = new TaskGroupLocation(1L, 1, 1L);
+
+    @Test
+    public void testHistoryKeepsRecentCheckpoints() {
+        CheckpointStatisticsTracker tracker = new CheckpointStatisticsTracker(2);
+        tracker.reportTriggered(1, CheckpointType.CHECKPOINT_TYPE, 1000);
+        tracker.reportTriggered(2, CheckpointType.CHECKPOINT_TYPE, 2000);
+        tracker.reportTriggered(3, CheckpointType.SAVEPOINT_TYPE, 3000);
+
+        List<Long> checkpointIds =
+                tracker.getHistory().stream()
+                        .map(CheckpointStatistics::getCheckpointId)
+                        .collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(3L, 2L), checkpointIds);
+        Assertions.assertEquals(2, tracker.getInProgressCount());
+
+        // the evicted checkpoint is no longer tracked
+        tracker.reportFailed(1, "timeout");
+        Assertions.assertEquals(0, tracker.getFailedCount());
+    }
+
+    @Test
+    public void testAcknowledgementsAreAggregated() {
+        CheckpointStatisticsTracker tracker = new CheckpointStatisticsTracker(10);
+        tracker.reportTriggered(1, CheckpointType.CHECKPOINT_TYPE, 1000);
+        tracker.reportBarrierTriggered(1, 1010);
+        tracker.reportAcknowledged(
+                1, task(1, 0), 0, Collections.singletonList(state(SOURCE, 0, 10)), 1050);
+        tracker.reportAcknowledged(
+                1, task(2, 0), 30, Collections.singletonList(state(SINK, 0, 5)), 1100);
+        // a task that acknowledges twice is only counted once
+        tracker.reportAcknowledged(
+                1, task(2, 0), 60, Collections.singletonList(state(SINK, 0, 5)), 1200);
+
+        CheckpointStatistics statistics = tracker.getHistory().get(0);
+        Assertions.assertEquals(Status.IN_PROGRESS, statistics.getStatus());
+        Assertions.assertEquals(10, statistics.getTriggerDuration());
+        Assertions.assertEquals(100, statistics.getAcknowledgeDuration());
+        Assertions.assertEquals(30, statistics.getMaxAlignmentDuration());
+        Assertions.assertEquals(15, statistics.getStateSize());
+        Assertions.assertEquals(2, statistics.getSubtasks().size());
+    }
+
+    @Test
+    public void testCompletedCheckpointHasStateSizePerAction() {
+        CheckpointStatisticsTracker tracker = new CheckpointStatisticsTracker(10);
+        tracker.reportTriggered(1, CheckpointType.CHECKPOINT_TYPE, 1000);
+
+        ActionState source = new ActionState(SOURCE, 2);
+        source.reportState(-1, state(SOURCE, -1, 3));
+        source.reportState(0, state(SOURCE, 0, 10));
+        source.reportState(1, handle(SOURCE, 1, 100));
+        ActionState sink = new ActionState(SINK, 1);
+        sink.reportState(0, state(SINK, 0, 5));
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        taskStates.put(SOURCE, source);
+        taskStates.put(SINK, sink);
+        tracker.reportCompleted(
+                new CompletedCheckpoint(
+                        1L,
+                        1,
+                        1,
+                        1000,
+                        CheckpointType.CHECKPOINT_TYPE,
+                        1200,
+                        taskStates,
+                        new HashMap<>()),
+                40,
+                1250);
+
+        CheckpointStatistics statistics = tracker.getLatestCompleted();
+        Assertions.assertEquals(Status.COMPLETED, statistics.getStatus());
+        Assertions.assertEquals(40, statistics.getStorageDuration());
+        Assertions.assertEquals(250, statistics.getEndToEndDuration());
+        Assertions.assertEquals(113L, statistics.getActionStateSizes().get("source"));
+        Assertions.assertEquals(5L, statistics.getActionStateSizes().get("sink"));
+        Assertions.assertEquals(1, tracker.getCompletedCount());
+        Assertions.assertEquals(0, tracker.getInProgressCount());
+    }
+
+    @Test
+    public void testFailedCheckpointIsCountedOnce() {
+        CheckpointStatisticsTracker tracker = new CheckpointStatisticsTracker(10);
+        tracker.reportTriggered(1, CheckpointType.CHECKPOINT_TYPE, 1000);
+        tracker.reportFailed(1, "timeout");
+        tracker.reportFailed(1, "job failed");
+
+        CheckpointStatistics statistics = tracker.getHistory().get(0);
+        Assertions.assertEquals(Status.FAILED, statistics.getStatus());
+        Assertions.assertEquals("timeout", statistics.getFailureReason());
+        Assertions.assertEquals(1, tracker.getFailedCount());
+        Assertions.assertNull(tracker.getLatestCompleted());
+    }
+
+    private static TaskLocation task(long idPrefix, int index) {
+        return new TaskLocation(TASK_GROUP, idPrefix, index);
+    }
+
+    private static ActionSubtaskState state(ActionStateKey key, int index, int size) {
+        return new ActionSubtaskState(key, index, Collections.singletonList(new byte[size]));
+    }
+
+    private static ActionSubtaskState handle(ActionStateKey key, int index, long size) {
+        ActionSubtaskState state = new ActionSubtaskState(key, index, null);
+        state.setStateHandle("handle-" + index);
+        state.setStateSize(size);
+        return state;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+import org.apache.seatunnel.engine.serializer.binary.BinarySerializer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class CompletedCheckpointCodecTest {
+
+    private static final ActionStateKey SOURCE = new ActionStateKey("ActionStateKey - source");
+
+    private static final ActionStateKey SINK = new ActionStateKey("ActionStateKey - sink");
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Serializer serializer =
+                CompletedCheckpointCodec.createSerializer(
+                        Collections.singletonMap(StorageConstants.SERIALIZER, "binary"));
+        CompletedCheckpoint checkpoint = createCheckpoint();
+        byte[] data = serializer.serialize(checkpoint);
+        Assertions.assertTrue(BinarySerializer.isBinaryFormat(data));
+
+        CompletedCheckpoint restored = serializer.deserialize(data, CompletedCheckpoint.class);
+        assertCheckpointEquals(checkpoint, restored);
+        Assertions.assertTrue(restored.isRestored());
+        Assertions.assertEquals(2, restored.getTaskStatistics().get(2L).getSubtaskStats().size());
+        Assertions.assertTrue(restored.getTaskStatistics().get(2L).isCompleted(0));
+        Assertions.assertFalse(restored.getTaskStatistics().get(2L).isCompleted(1));
+    }
+
+    @Test
+    public void testReadBothFormats() throws IOException {
+        Serializer protostuff = CompletedCheckpointCodec.createSerializer(Collections.emptyMap());
+        Serializer binary =
+                CompletedCheckpointCodec.createSerializer(
+                        Collections.singletonMap(StorageConstants.SERIALIZER, "BINARY"));
+        CompletedCheckpoint checkpoint = createCheckpoint();
+
+        byte[] protostuffData = protostuff.serialize(checkpoint);
+        Assertions.assertFalse(BinarySerializer.isBinaryFormat(protostuffData));
+        byte[] binaryData = binary.serialize(checkpoint);
+        Assertions.assertTrue(binaryData.length < protostuffData.length);
+
+        assertCheckpointEquals(
+                checkpoint, binary.deserialize(protostuffData, CompletedCheckpoint.class));
+        assertCheckpointEquals(
+                checkpoint, protostuff.deserialize(binaryData, CompletedCheckpoint.class));
+    }
+
+    private static CompletedCheckpoint createCheckpoint() {
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        ActionState source = new ActionState(SOURCE, 2);
+        source.reportState(
+                -1, new ActionSubtaskState(SOURCE, -1, Collections.singletonList(new byte[] {9})));
+        source.reportState(
+                0,
+                new ActionSubtaskState(
+                        SOURCE, 0, Arrays.asList(new byte[] {1, 2}, null, new byte[0])));
+        ActionSubtaskState offloaded = new ActionSubtaskState(SOURCE, 1, null);
+        offloaded.setStateHandle("1/state/1-3/task-1.state");
+        offloaded.setStateSize(1 << 20);
+        offloaded.setStateDigest(new byte[] {7, 8, 9});
+        offloaded.setReferencedCheckpointId(2L);
+        source.reportState(1, offloaded);
+        taskStates.put(SOURCE, source);
+        // an action that was not acknowledged has no subtask states
+        taskStates.put(SINK, new ActionState(SINK, 1));
+
+        Map<Long, TaskStatistics> taskStatistics = new HashMap<>();
+        TaskStatistics statistics = new TaskStatistics(2L, 2);
+        statistics.reportSubtaskStatistics(
+                new SubtaskStatistics(0, 1700000000000L, 3, SubtaskStatus.RUNNING));
+        statistics.completed(0);
+        taskStatistics.put(2L, statistics);
+
+        CompletedCheckpoint checkpoint =
+                new CompletedCheckpoint(
+                        1L,
+                        1,
+                        3L,
+                        1700000000000L,
+                        CheckpointType.CHECKPOINT_TYPE,
+                        1700000000100L,
+                        taskStates,
+                        taskStatistics);
+        checkpoint.setRestored(true);
+        return checkpoint;
+    }
+
+    private static void assertCheckpointEquals(
+            CompletedCheckpoint expected, CompletedCheckpoint actual) {
+        // the states are excluded from the string of the subtask states
+        Assertions.assertEquals(expected.toString(), actual.toString());
+        for (Map.Entry<ActionStateKey, ActionState> entry : expected.getTaskStates().entrySet()) {
+            ActionState actualState = actual.getTaskStates().get(entry.getKey());
+            assertStateEquals(
+                    entry.getValue().getCoordinatorState(), actualState.getCoordinatorState());
+            for (int i = 0; i < entry.getValue().getParallelism(); i++) {
+                assertStateEquals(
+                        entry.getValue().getSubtaskStates().get(i),
+                        actualState.getSubtaskStates().get(i));
+            }
+        }
+    }
+
+    private static void assertStateEquals(ActionSubtaskState expected, ActionSubtaskState actual) {
+        if (expected == null || expected.getState() == null) {
+            Assertions.assertTrue(actual == null || actual.getState() == null);
+            return;
+        }
+        Assertions.assertEquals(expected.getState().size(), actual.getState().size());
+        for (int i = 0; i < expected.getState().size(); i++) {
+            Assertions.assertArrayEquals(expected.getState().get(i), actual.getState().get(i));
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+public class IncrementalCheckpointTrackerTest {
+
+    private static final ActionStateKey SOURCE = new ActionStateKey("source");
+
+    private final ProtoStuffSerializer serializer = new ProtoStuffSerializer();
+
+    /** checkpoint id -> the serialized checkpoint as it would be written to the storage. */
+    private final Map<Long, byte[]> storage = new HashMap<>();
+
+    @Test
+    public void testUnchangedStatesAreReferenced() throws Exception {
+        IncrementalCheckpointTracker tracker = new IncrementalCheckpointTracker();
+        store(tracker, checkpoint(1, CheckpointType.CHECKPOINT_TYPE, "enumerator", "a1", "b1"));
+        CompletedCheckpoint stored =
+                store(
+                        tracker,
+                        checkpoint(2, CheckpointType.CHECKPOINT_TYPE, "enumerator", "a1", "b2"));
+
+        ActionState actionState = stored.getTaskStates().get(SOURCE);
+        Assertions.assertEquals(1L, actionState.getCoordinatorState().getReferencedCheckpointId());
+        Assertions.assertNull(actionState.getCoordinatorState().getState());
+        Assertions.assertEquals(
+                1L, actionState.getSubtaskStates().get(0).getReferencedCheckpointId());
+        Assertions.assertNull(actionState.getSubtaskStates().get(1).getReferencedCheckpointId());
+
+        // the third checkpoint references the holder of the bytes, not the second checkpoint
+        stored =
+                store(
+                        tracker,
+                        checkpoint(3, CheckpointType.CHECKPOINT_TYPE, "enumerator", "a1", "b2"));
+        actionState = stored.getTaskStates().get(SOURCE);
+        Assertions.assertEquals(1L, actionState.getCoordinatorState().getReferencedCheckpointId());
+        Assertions.assertEquals(
+                2L, actionState.getSubtaskStates().get(1).getReferencedCheckpointId());
+
+        CompletedCheckpoint restored = load(3);
+        IncrementalCheckpointTracker.resolve(restored, this::load);
+        ActionState restoredState = restored.getTaskStates().get(SOURCE);
+        Assertions.assertEquals("enumerator", text(restoredState.getCoordinatorState()));
+        Assertions.assertEquals("a1", text(restoredState.getSubtaskStates().get(0)));
+        Assertions.assertEquals("b2", text(restoredState.getSubtaskStates().get(1)));
+    }
+
+    @Test
+    public void testReleaseKeepsReferencedCheckpoints() {
+        IncrementalCheckpointTracker tracker = new IncrementalCheckpointTracker();
+        store(tracker, checkpoint(1, CheckpointType.CHECKPOINT_TYPE, "enumerator", "a1", "b1"));
+        store(tracker, checkpoint(2, CheckpointType.CHECKPOINT_TYPE, "enumerator", "a2", "b2"));
+        store(tracker, checkpoint(3, CheckpointType.CHECKPOINT_TYPE, "enumerator", "a3", "b3"));
+
+        // checkpoint 2 and 3 still reference the coordinator state of checkpoint 1
+        Assertions.assertEquals(Collections.emptyList(), tracker.release("1"));
+        Assertions.assertEquals(Collections.singletonList("2"), tracker.release("2"));
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList("1", "3")), new HashSet<>(tracker.release("3")));
+        // checkpoints the tracker does not know are deleted as before
+        Assertions.assertEquals(Collections.singletonList("10"), tracker.release("10"));
+    }
+
+    @Test
+    public void testSavepointIsStoredInFull() {
+        IncrementalCheckpointTracker tracker = new IncrementalCheckpointTracker();
+        store(tracker, checkpoint(1, CheckpointType.CHECKPOINT_TYPE, "enumerator", "a1", "b1"));
+        CompletedCheckpoint stored =
+                store(
+                        tracker,
+                        checkpoint(2, CheckpointType.SAVEPOINT_TYPE, "enumerator", "a1", "b1"));
+
+        ActionState actionState = stored.getTaskStates().get(SOURCE);
+        Assertions.assertNull(actionState.getCoordinatorState().getReferencedCheckpointId());
+        Assertions.assertNull(actionState.getSubtaskStates().get(0).getReferencedCheckpointId());
+        Assertions.assertEquals(Collections.singletonList("1"), tracker.release("1"));
+    }
+
+    @Test
+    public void testRestoredCheckpointsAreNeverReleased() throws Exception {
+        IncrementalCheckpointTracker tracker = new IncrementalCheckpointTracker();
+        store(tracker, checkpoint(1, CheckpointType.CHECKPOINT_TYPE, "enumerator", "a1", "b1"));
+        store(tracker, checkpoint(2, CheckpointType.CHECKPOINT_TYPE, "enumerator", "a1", "b2"));
+
+        IncrementalCheckpointTracker restoredTracker = new IncrementalCheckpointTracker();
+        restoredTracker.restore(load(2), this::load);
+        CompletedCheckpoint stored =
+                store(
+                        restoredTracker,
+                        checkpoint(3, CheckpointType.CHECKPOINT_TYPE, "enumerator", "a3", "b2"));
+        Assertions.assertEquals(
+                2L,
+                stored.getTaskStates()
+                        .get(SOURCE)
+                        .getSubtaskStates()
+                        .get(1)
+                        .getReferencedCheckpointId());
+        Assertions.assertEquals(Collections.singletonList("3"), restoredTracker.release("3"));
+    }
+
+    @Test
+    public void testUnchangedStoredStatesAreReferenced() {
+        IncrementalCheckpointTracker tracker = new IncrementalCheckpointTracker();
+        store(tracker, storedCheckpoint(1, "1/a", "a1", "1/b", "b1"));
+        CompletedCheckpoint stored = store(tracker, storedCheckpoint(2, "2/a", "a1", "2/b", "b2"));
+
+        // the tasks store every checkpoint under a new handle, the digest tells the same state
+        ActionState actionState = stored.getTaskStates().get(SOURCE);
+        Assertions.assertEquals(
+                1L, actionState.getSubtaskStates().get(0).getReferencedCheckpointId());
+        Assertions.assertNull(actionState.getSubtaskStates().get(0).getStateHandle());
+        Assertions.assertNull(actionState.getSubtaskStates().get(1).getReferencedCheckpointId());
+        Assertions.assertEquals("2/b", actionState.getSubtaskStates().get(1).getStateHandle());
+
+        // the same handle is the same state
+        stored = store(tracker, storedCheckpoint(3, "2/a", null, "2/b", null));
+        actionState = stored.getTaskStates().get(SOURCE);
+        Assertions.assertEquals(
+                1L, actionState.getSubtaskStates().get(0).getReferencedCheckpointId());
+        Assertions.assertEquals(
+                2L, actionState.getSubtaskStates().get(1).getReferencedCheckpointId());
+    }
+
+    @Test
+    public void testFailedStoreDoesNotChangeTheTracker() throws Exception {
+        IncrementalCheckpointTracker tracker = new IncrementalCheckpointTracker();
+        store(tracker, checkpoint(1, CheckpointType.CHECKPOINT_TYPE, "enumerator", "a1", "b1"));
+
+        // the storage fails once, so checkpoint 2 is never stored
+        Assertions.assertThrows(
+                CheckpointStorageException.class,
+                () ->
+                        store(
+                                tracker,
+                                checkpoint(
+                                        2,
+                                        CheckpointType.CHECKPOINT_TYPE,
+                                        "enumerator",
+                                        "a1",
+                                        "b2"),
+                                true));
+        Assertions.assertFalse(storage.containsKey(2L));
+
+        // checkpoint 3 must not reference the bytes of the checkpoint that failed to store
+        CompletedCheckpoint stored =
+                store(
+                        tracker,
+                        checkpoint(3, CheckpointType.CHECKPOINT_TYPE, "enumerator", "a1", "b2"));
+        ActionState actionState = stored.getTaskStates().get(SOURCE);
+        Assertions.assertEquals(
+                1L, actionState.getSubtaskStates().get(0).getReferencedCheckpointId());
+        Assertions.assertNull(actionState.getSubtaskStates().get(1).getReferencedCheckpointId());
+
+        CompletedCheckpoint restored = load(3);
+        IncrementalCheckpointTracker.resolve(restored, this::load);
+        Assertions.assertEquals(
+                "b2", text(restored.getTaskStates().get(SOURCE).getSubtaskStates().get(1)));
+        Assertions.assertEquals(Collections.singletonList("2"), tracker.release("2"));
+        Assertions.assertEquals(Collections.emptyList(), tracker.release("1"));
+    }
+
+    private CompletedCheckpoint store(
+            IncrementalCheckpointTracker tracker, CompletedCheckpoint checkpoint) {
+        try {
+            return store(tracker, checkpoint, false);
+        } catch (CheckpointStorageException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Stores the checkpoint like the coordinator does, committing it only once it is stored. */
+    private CompletedCheckpoint store(
+            IncrementalCheckpointTracker tracker, CompletedCheckpoint checkpoint, boolean fail)
+            throws CheckpointStorageException {
+        CompletedCheckpoint stored = tracker.prepareForStorage(checkpoint);
+        if (fail) {
+            throw new CheckpointStorageException(
+                    "Failed to store checkpoint " + checkpoint.getCheckpointId());
+        }
+        storage.put(checkpoint.getCheckpointId(), serializer.serialize(stored));
+        tracker.commit(checkpoint, stored);
+        return stored;
+    }
+
+    private CompletedCheckpoint load(long checkpointId) throws CheckpointStorageException {
+        byte[] bytes = storage.get(checkpointId);
+        if (bytes == null) {
+            throw new CheckpointStorageException("Checkpoint " + checkpointId + " is not found");
+        }
+        return serializer.deserialize(bytes, CompletedCheckpoint.class);
+    }
+
+    private static CompletedCheckpoint checkpoint(
+            long checkpointId, CheckpointType type, String coordinator, String... subtasks) {
+        ActionState actionState = new ActionState(SOURCE, subtasks.length);
+        actionState.reportState(-1, state(-1, coordinator));
+        for (int i = 0; i < subtasks.length; i++) {
+            actionState.reportState(i, state(i, subtasks[i]));
+        }
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        taskStates.put(SOURCE, actionState);
+        return new CompletedCheckpoint(
+                1L, 1, checkpointId, checkpointId, type, checkpointId, taskStates, new HashMap<>());
+    }
+
+    /** A checkpoint of the states the tasks stored themselves, acknowledged with their handles. */
+    private static CompletedCheckpoint storedCheckpoint(
+            long checkpointId, String... handlesAndDigests) {
+        int parallelism = handlesAndDigests.length / 2;
+        ActionState actionState = new ActionState(SOURCE, parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            ActionSubtaskState state = new ActionSubtaskState(SOURCE, i, null);
+            state.setStateHandle(handlesAndDigests[2 * i]);
+            state.setStateSize(1024);
+            String digest = handlesAndDigests[2 * i + 1];
+            state.setStateDigest(digest == null ? null : digest.getBytes(StandardCharsets.UTF_8));
+            actionState.reportState(i, state);
+        }
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        taskStates.put(SOURCE, actionState);
+        return new CompletedCheckpoint(
+                1L,
+                1,
+                checkpointId,
+                checkpointId,
+                CheckpointType.CHECKPOINT_TYPE,
+                checkpointId,
+                taskStates,
+                new HashMap<>());
+    }
+
+    private static ActionSubtaskState state(int index, String value) {
+        return new ActionSubtaskState(
+                SOURCE, index, Collections.singletonList(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String text(ActionSubtaskState state) {
+        return new String(state.getState().get(0), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class LocalCheckpointStateStoreTest {
+
+    private static final ActionStateKey SOURCE = new ActionStateKey("source");
+
+    private static final ActionStateKey SINK = new ActionStateKey("sink");
+
+    private static final TaskGroupLocation TASK_GROUP = new TaskGroupLocation(1L, 1, 1L);
+
+    private static final TaskLocation TASK = new TaskLocation(TASK_GROUP, 1L, 0);
+
+    @Test
+    public void testMatchAndRestore() {
+        LocalCheckpointStateStore store = new LocalCheckpointStateStore(true);
+        store.put(TASK, 1L, Arrays.asList(state(SOURCE, "s1"), state(SINK, "k1")));
+        store.put(TASK, 2L, Arrays.asList(state(SOURCE, "s2"), state(SINK, "k2")));
+        store.put(TASK, 3L, Collections.singletonList(state(SOURCE, "s3")));
+        store.notifyCheckpointComplete(TASK, 2L);
+
+        // the copy of the sink state differs from the completed checkpoint, it must be sent
+        LocalStateReference source = LocalStateReference.of(state(SOURCE, "s2"));
+        LocalStateReference sink = LocalStateReference.of(state(SINK, "other"));
+        List<LocalStateReference> matched = store.match(TASK, 2L, Arrays.asList(source, sink));
+        Assertions.assertEquals(Collections.singletonList(source), matched);
+        Assertions.assertTrue(store.match(TASK, 1L, Collections.singletonList(source)).isEmpty());
+
+        List<ActionSubtaskState> restored = store.restore(TASK, 2L, matched);
+        Assertions.assertEquals(1, restored.size());
+        Assertions.assertEquals(
+                "s2", new String(restored.get(0).getState().get(0), StandardCharsets.UTF_8));
+        // the third checkpoint belongs to the failed attempt and is dropped on restore
+        Assertions.assertTrue(
+                store.match(
+                                TASK,
+                                3L,
+                                Collections.singletonList(
+                                        LocalStateReference.of(state(SOURCE, "s3"))))
+                        .isEmpty());
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> store.restore(TASK, 2L, Collections.singletonList(sink)));
+    }
+
+    @Test
+    public void testRetentionAndCleanup() {
+        LocalCheckpointStateStore store = new LocalCheckpointStateStore(true);
+        for (long id = 1; id <= LocalCheckpointStateStore.MAX_RETAINED_CHECKPOINTS + 1; id++) {
+            store.put(TASK, id, Collections.singletonList(state(SOURCE, "s" + id)));
+        }
+        Assertions.assertTrue(store.match(TASK, 1L, references(state(SOURCE, "s1"))).isEmpty());
+        Assertions.assertEquals(1, store.match(TASK, 2L, references(state(SOURCE, "s2"))).size());
+
+        store.notifyCheckpointAborted(TASK, 2L);
+        Assertions.assertTrue(store.match(TASK, 2L, references(state(SOURCE, "s2"))).isEmpty());
+
+        store.remove(TASK_GROUP);
+        Assertions.assertTrue(store.match(TASK, 3L, references(state(SOURCE, "s3"))).isEmpty());
+
+        LocalCheckpointStateStore disabled = new LocalCheckpointStateStore(false);
+        disabled.put(TASK, 1L, Collections.singletonList(state(SOURCE, "s1")));
+        Assertions.assertTrue(disabled.match(TASK, 1L, references(state(SOURCE, "s1"))).isEmpty());
+    }
+
+    private static List<LocalStateReference> references(ActionSubtaskState state) {
+        return Collections.singletonList(LocalStateReference.of(state));
+    }
+
+    private static ActionSubtaskState state(ActionStateKey key, String value) {
+        return new ActionSubtaskState(
+                key, 0, Collections.singletonList(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+import org.apache.seatunnel.engine.checkpoint.storage.localfile.LocalFileStorage;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.condition.OS.LINUX;
+import static org.junit.jupiter.api.condition.OS.MAC;
+
+@EnabledOnOs({LINUX, MAC})
+public class TaskStateOffloaderTest {
+
+    private static final ActionStateKey SOURCE = new ActionStateKey("source");
+
+    private static final TaskLocation TASK =
+            new TaskLocation(new TaskGroupLocation(20170L, 1, 1L), 1L, 0);
+
+    private final LocalFileStorage storage = new LocalFileStorage(null);
+
+    @AfterEach
+    public void cleanup() {
+        storage.deleteCheckpoint(String.valueOf(TASK.getJobId()));
+    }
+
+    @Test
+    public void testOffloadAndResolve() throws CheckpointStorageException {
+        TaskStateOffloader offloader = new TaskStateOffloader(4, storage);
+        ActionSubtaskState small = new ActionSubtaskState(SOURCE, 0, bytes(4));
+        ActionSubtaskState large =
+                new ActionSubtaskState(
+                        SOURCE, 1, Arrays.asList(new byte[] {1, 2, 3}, null, new byte[] {4, 5}));
+        List<ActionSubtaskState> states = Arrays.asList(small, large);
+
+        List<ActionSubtaskState> acknowledged = offloader.offload(TASK, 1L, states);
+        Assertions.assertSame(small, acknowledged.get(0));
+        ActionSubtaskState reference = acknowledged.get(1);
+        Assertions.assertNull(reference.getState());
+        Assertions.assertEquals(5, reference.getStateSize());
+        // the worker keeps the bytes together with the handle for its local copy
+        Assertions.assertEquals(reference.getStateHandle(), large.getStateHandle());
+        Assertions.assertNotNull(large.getState());
+        Assertions.assertEquals(LocalStateReference.of(large), LocalStateReference.of(reference));
+        Assertions.assertEquals(32, reference.getStateDigest().length);
+
+        // the same bytes stored by the next checkpoint have a new handle but the same digest
+        ActionSubtaskState same =
+                new ActionSubtaskState(
+                        SOURCE, 1, Arrays.asList(new byte[] {1, 2, 3}, null, new byte[] {4, 5}));
+        ActionSubtaskState sameReference =
+                offloader.offload(TASK, 2L, Collections.singletonList(same)).get(0);
+        Assertions.assertNotEquals(reference.getStateHandle(), sameReference.getStateHandle());
+        Assertions.assertArrayEquals(reference.getStateDigest(), sameReference.getStateDigest());
+
+        // another worker without threshold resolves the handle
+        List<ActionSubtaskState> resolved =
+                new TaskStateOffloader(-1, storage).resolve(Arrays.asList(null, small, reference));
+        Assertions.assertNull(resolved.get(0));
+        Assertions.assertSame(small, resolved.get(1));
+        List<byte[]> bytes = resolved.get(2).getState();
+        Assertions.assertEquals(3, bytes.size());
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3}, bytes.get(0));
+        Assertions.assertNull(bytes.get(1));
+        Assertions.assertArrayEquals(new byte[] {4, 5}, bytes.get(2));
+
+        // the states are deleted together with their checkpoint
+        storage.deleteTaskStates(
+                String.valueOf(TASK.getJobId()),
+                String.valueOf(TASK.getPipelineId()),
+                Collections.singletonList("1"));
+        Assertions.assertThrows(
+                CheckpointStorageException.class,
+                () -> offloader.resolve(Collections.singletonList(reference)));
+    }
+
+    @Test
+    public void testDisabled() {
+        TaskStateOffloader offloader = new TaskStateOffloader(-1, storage);
+        List<ActionSubtaskState> states =
+                Collections.singletonList(new ActionSubtaskState(SOURCE, 0, bytes(1024)));
+        Assertions.assertSame(states, offloader.offload(TASK, 1L, states));
+        Assertions.assertNull(states.get(0).getStateHandle());
+    }
+
+    private static List<byte[]> bytes(int size) {
+        return Collections.singletonList(new byte[size]);
+    }
+}
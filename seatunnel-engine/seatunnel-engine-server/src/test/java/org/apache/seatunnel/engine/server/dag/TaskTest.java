@@ -42,6 +42,7 @@ import org.apache.seatunnel.engine.common.utils.IdGenerator;
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.Action;
 import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
+import org.apache.seatunnel.engine.core.dag.actions.SinkConfig;
 import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
 import org.apache.seatunnel.engine.core.dag.logical.LogicalDag;
 import org.apache.seatunnel.engine.core.dag.logical.LogicalEdge;
@@ -51,6 +52,7 @@ import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
 import org.apache.seatunnel.engine.server.TestUtils;
 import org.apache.seatunnel.engine.server.dag.physical.PhysicalPlan;
 import org.apache.seatunnel.engine.server.dag.physical.PlanUtils;
+import org.apache.seatunnel.engine.server.dag.physical.SubPlan;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -214,6 +216,111 @@ public class TaskTest extends AbstractSeaTunnelServerTest {
                         .getJars()
                         .get(1),
                 Sets.newHashSet(new URL("file:///console.jar")));
+        // task groups without shuffle fail over alone
+        SubPlan subPlan = physicalPlan.getPipelineList().get(0);
+        subPlan.getPhysicalVertexList()
+                .forEach(
+                        vertex ->
+                                Assertions.assertEquals(
+                                        Collections.singletonList(vertex),
+                                        subPlan.getFailoverRegions()
+                                                .get(vertex.getTaskGroupLocation())));
+        subPlan.getCoordinatorVertexList()
+                .forEach(
+                        coordinator ->
+                                Assertions.assertNull(
+                                        subPlan.getFailoverRegions()
+                                                .get(coordinator.getTaskGroupLocation())));
+    }
+
+    @Test
+    public void testKeyedShuffleLogicalToPhysical() throws MalformedURLException {
+        IdGenerator idGenerator = new IdGenerator();
+
+        Action fake =
+                new SourceAction<>(
+                        idGenerator.getNextId(),
+                        "fake",
+                        createFakeSource(),
+                        Sets.newHashSet(new URL("file:///fake.jar")),
+                        Collections.emptySet());
+        LogicalVertex fakeVertex = new LogicalVertex(fake.getId(), fake, 1);
+
+        List<Column> columns = new ArrayList<>();
+        columns.add(PhysicalColumn.of("id", BasicType.INT_TYPE, 11L, 0, true, 111, ""));
+        CatalogTable catalogTable =
+                CatalogTable.of(
+                        TableIdentifier.of("default", TablePath.DEFAULT),
+                        TableSchema.builder().columns(columns).build(),
+                        new HashMap<>(),
+                        Collections.emptyList(),
+                        "fake");
+
+        Action console =
+                new SinkAction<>(
+                        idGenerator.getNextId(),
+                        "console",
+                        new ArrayList<>(),
+                        new ConsoleSink(catalogTable, ReadonlyConfig.fromMap(new HashMap<>())),
+                        Sets.newHashSet(new URL("file:///console.jar")),
+                        Collections.emptySet(),
+                        new SinkConfig(
+                                TablePath.DEFAULT,
+                                Collections.singletonList("id"),
+                                Collections.singletonList(catalogTable)));
+        LogicalVertex consoleVertex = new LogicalVertex(console.getId(), console, 3);
+
+        LogicalDag logicalDag = new LogicalDag();
+        logicalDag.addLogicalVertex(fakeVertex);
+        logicalDag.addLogicalVertex(consoleVertex);
+        logicalDag.addEdge(new LogicalEdge(fakeVertex, consoleVertex));
+
+        JobConfig config = new JobConfig();
+        config.setName("test");
+
+        JobImmutableInformation jobImmutableInformation =
+                new JobImmutableInformation(
+                        1,
+                        "Test",
+                        nodeEngine.getSerializationService().toData(logicalDag),
+                        config,
+                        Collections.emptyList(),
+                        Collections.emptyList());
+
+        PhysicalPlan physicalPlan =
+                PlanUtils.fromLogicalDAG(
+                                logicalDag,
+                                nodeEngine,
+                                jobImmutableInformation,
+                                System.currentTimeMillis(),
+                                Executors.newCachedThreadPool(),
+                                instance.getFlakeIdGenerator(Constant.SEATUNNEL_ID_GENERATOR_NAME),
+                                nodeEngine.getHazelcastInstance().getMap("testRunningJobState"),
+                                nodeEngine
+                                        .getHazelcastInstance()
+                                        .getMap("testRunningJobStateTimestamp"),
+                                QueueType.BLOCKINGQUEUE,
+                                new EngineConfig())
+                        .f0();
+
+        Assertions.assertEquals(1, physicalPlan.getPipelineList().size());
+        // one source task and a shuffle task for each of the three sink writers
+        Assertions.assertEquals(
+                4, physicalPlan.getPipelineList().get(0).getPhysicalVertexList().size());
+        Assertions.assertEquals(
+                3,
+                physicalPlan.getPipelineList().get(0).getPhysicalVertexList().stream()
+                        .filter(vertex -> vertex.getTaskFullName().contains("ShuffleTask"))
+                        .count());
+        // the shuffle connects all task groups into one failover region
+        SubPlan subPlan = physicalPlan.getPipelineList().get(0);
+        subPlan.getPhysicalVertexList()
+                .forEach(
+                        vertex ->
+                                Assertions.assertEquals(
+                                        subPlan.getPhysicalVertexList(),
+                                        subPlan.getFailoverRegions()
+                                                .get(vertex.getTaskGroupLocation())));
     }
 
     private static FakeSource createFakeSource() {
@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.dag.physical;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.configuration.util.OptionRule;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SeaTunnelSource;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.table.connector.TableSource;
+import org.apache.seatunnel.api.table.factory.Factory;
+import org.apache.seatunnel.api.table.factory.TableSourceFactory;
+import org.apache.seatunnel.api.table.factory.TableSourceFactoryContext;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.fake.source.FakeSource;
+import org.apache.seatunnel.connectors.seatunnel.fake.source.FakeSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.fake.state.FakeSourceState;
+import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
+import org.apache.seatunnel.engine.common.config.server.FailoverStrategy;
+import org.apache.seatunnel.engine.core.job.JobStatus;
+import org.apache.seatunnel.engine.core.job.PipelineStatus;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.execution.ExecutionState;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import com.google.auto.service.AutoService;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+
+@DisabledOnOs(OS.WINDOWS)
+public class RegionFailoverTest extends AbstractSeaTunnelServerTest<RegionFailoverTest> {
+
+    private static final String CONF_PATH = "stream_fake_to_console_region_failover.conf";
+
+    /** The readers created for each subtask index. */
+    private static final Map<Integer, AtomicInteger> CREATED_READERS = new ConcurrentHashMap<>();
+
+    /** The splits handed back to the enumerator, by the subtask index they were assigned to. */
+    private static final Map<Integer, List<FakeSourceSplit>> SPLITS_ADDED_BACK =
+            new ConcurrentHashMap<>();
+
+    private static final AtomicBoolean FAILED = new AtomicBoolean(false);
+
+    @Override
+    public SeaTunnelConfig loadSeaTunnelConfig() {
+        SeaTunnelConfig seaTunnelConfig = super.loadSeaTunnelConfig();
+        seaTunnelConfig.getEngineConfig().setFailoverStrategy(FailoverStrategy.REGION);
+        return seaTunnelConfig;
+    }
+
+    @Test
+    public void testRestartOnlyTheRegionOfTheFailedTask() {
+        long jobId = System.currentTimeMillis();
+        startJob(jobId, CONF_PATH, false);
+
+        // the failed reader is created again, the other reader is never restarted
+        await().atMost(120000, TimeUnit.MILLISECONDS)
+                .untilAsserted(
+                        () -> {
+                            Assertions.assertTrue(FAILED.get());
+                            Assertions.assertEquals(2, CREATED_READERS.get(0).get());
+                        });
+        SubPlan subPlan =
+                server.getCoordinatorService()
+                        .getJobMaster(jobId)
+                        .getPhysicalPlan()
+                        .getPipelineList()
+                        .get(0);
+        await().atMost(120000, TimeUnit.MILLISECONDS)
+                .untilAsserted(
+                        () ->
+                                subPlan.getPhysicalVertexList()
+                                        .forEach(
+                                                vertex ->
+                                                        Assertions.assertEquals(
+                                                                ExecutionState.RUNNING,
+                                                                vertex.getExecutionState())));
+        // no checkpoint completed before the failure, so the splits of the failed reader are
+        // handed back to the enumerator once the restarted reader registers
+        await().atMost(120000, TimeUnit.MILLISECONDS)
+                .untilAsserted(() -> Assertions.assertNotNull(SPLITS_ADDED_BACK.get(0)));
+        Assertions.assertEquals(1, CREATED_READERS.get(1).get());
+        Assertions.assertEquals(1, subPlan.getPipelineRestoreNum());
+        Assertions.assertEquals(PipelineStatus.RUNNING, subPlan.getPipelineState());
+        Assertions.assertEquals(
+                JobStatus.RUNNING, server.getCoordinatorService().getJobStatus(jobId));
+
+        List<FakeSourceSplit> splitsAddedBack = SPLITS_ADDED_BACK.get(0);
+        Assertions.assertFalse(splitsAddedBack.isEmpty());
+        splitsAddedBack.forEach(split -> Assertions.assertEquals(0, split.getSplitId() % 2));
+        Assertions.assertNull(SPLITS_ADDED_BACK.get(1));
+
+        server.getCoordinatorService().cancelJob(jobId).join();
+        await().atMost(120000, TimeUnit.MILLISECONDS)
+                .untilAsserted(
+                        () ->
+                                Assertions.assertEquals(
+                                        JobStatus.CANCELED,
+                                        server.getCoordinatorService().getJobStatus(jobId)));
+    }
+
+    /** A {@link FakeSource} whose reader of the first subtask fails once after getting splits. */
+    public static class FailOnceFakeSource extends FakeSource {
+
+        public FailOnceFakeSource(ReadonlyConfig readonlyConfig) {
+            super(readonlyConfig);
+        }
+
+        @Override
+        public SourceSplitEnumerator<FakeSourceSplit, FakeSourceState> createEnumerator(
+                SourceSplitEnumerator.Context<FakeSourceSplit> enumeratorContext) {
+            return new RecordingEnumerator(super.createEnumerator(enumeratorContext));
+        }
+
+        @Override
+        public SourceSplitEnumerator<FakeSourceSplit, FakeSourceState> restoreEnumerator(
+                SourceSplitEnumerator.Context<FakeSourceSplit> enumeratorContext,
+                FakeSourceState checkpointState) {
+            return new RecordingEnumerator(
+                    super.restoreEnumerator(enumeratorContext, checkpointState));
+        }
+
+        @Override
+        public SourceReader<SeaTunnelRow, FakeSourceSplit> createReader(
+                SourceReader.Context readerContext) {
+            int subtaskIndex = readerContext.getIndexOfSubtask();
+            CREATED_READERS
+                    .computeIfAbsent(subtaskIndex, index -> new AtomicInteger())
+                    .incrementAndGet();
+            SourceReader<SeaTunnelRow, FakeSourceSplit> reader = super.createReader(readerContext);
+            return subtaskIndex == 0 ? new FailOnceReader(reader) : reader;
+        }
+
+        @Override
+        public String getPluginName() {
+            return "FailOnceFakeSource";
+        }
+    }
+
+    @AutoService(Factory.class)
+    public static class FailOnceFakeSourceFactory implements TableSourceFactory {
+
+        @Override
+        public String factoryIdentifier() {
+            return "FailOnceFakeSource";
+        }
+
+        @Override
+        public OptionRule optionRule() {
+            return OptionRule.builder().build();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T, SplitT extends SourceSplit, StateT extends Serializable>
+                TableSource<T, SplitT, StateT> createSource(TableSourceFactoryContext context) {
+            return () ->
+                    (SeaTunnelSource<T, SplitT, StateT>)
+                            new FailOnceFakeSource(context.getOptions());
+        }
+
+        @Override
+        public Class<? extends SeaTunnelSource> getSourceClass() {
+            return FailOnceFakeSource.class;
+        }
+    }
+
+    private static class RecordingEnumerator
+            implements SourceSplitEnumerator<FakeSourceSplit, FakeSourceState> {
+
+        private final SourceSplitEnumerator<FakeSourceSplit, FakeSourceState> enumerator;
+
+        RecordingEnumerator(SourceSplitEnumerator<FakeSourceSplit, FakeSourceState> enumerator) {
+            this.enumerator = enumerator;
+        }
+
+        @Override
+        public void open() {
+            enumerator.open();
+        }
+
+        @Override
+        public void run() throws Exception {
+            enumerator.run();
+        }
+
+        @Override
+        public void close() throws IOException {
+            enumerator.close();
+        }
+
+        @Override
+        public void addSplitsBack(List<FakeSourceSplit> splits, int subtaskId) {
+            SPLITS_ADDED_BACK
+                    .computeIfAbsent(subtaskId, index -> new CopyOnWriteArrayList<>())
+                    .addAll(splits);
+            enumerator.addSplitsBack(splits, subtaskId);
+        }
+
+        @Override
+        public int currentUnassignedSplitSize() {
+            return enumerator.currentUnassignedSplitSize();
+        }
+
+        @Override
+        public void handleSplitRequest(int subtaskId) {
+            enumerator.handleSplitRequest(subtaskId);
+        }
+
+        @Override
+        public void registerReader(int subtaskId) {
+            enumerator.registerReader(subtaskId);
+        }
+
+        @Override
+        public FakeSourceState snapshotState(long checkpointId) throws Exception {
+            return enumerator.snapshotState(checkpointId);
+        }
+
+        @Override
+        public void notifyCheckpointComplete(long checkpointId) throws Exception {
+            enumerator.notifyCheckpointComplete(checkpointId);
+        }
+    }
+
+    /** Fails a while after getting its splits, so that the pipeline is running by then. */
+    private static class FailOnceReader implements SourceReader<SeaTunnelRow, FakeSourceSplit> {
+
+        private static final long FAIL_DELAY_MILLIS = 1000;
+
+        private final SourceReader<SeaTunnelRow, FakeSourceSplit> reader;
+
+        private volatile long splitsReceivedAt;
+
+        FailOnceReader(SourceReader<SeaTunnelRow, FakeSourceSplit> reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public void open() throws Exception {
+            reader.open();
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        @Override
+        public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
+            if (splitsReceivedAt > 0
+                    && System.currentTimeMillis() - splitsReceivedAt > FAIL_DELAY_MILLIS
+                    && FAILED.compareAndSet(false, true)) {
+                throw new IllegalStateException("reader of the first subtask fails once");
+            }
+            reader.pollNext(output);
+        }
+
+        @Override
+        public List<FakeSourceSplit> snapshotState(long checkpointId) throws Exception {
+            return reader.snapshotState(checkpointId);
+        }
+
+        @Override
+        public void addSplits(List<FakeSourceSplit> splits) {
+            reader.addSplits(splits);
+            if (!splits.isEmpty() && splitsReceivedAt == 0) {
+                splitsReceivedAt = System.currentTimeMillis();
+            }
+        }
+
+        @Override
+        public void handleNoMoreSplits() {
+            reader.handleNoMoreSplits();
+        }
+
+        @Override
+        public void notifyCheckpointComplete(long checkpointId) throws Exception {
+            reader.notifyCheckpointComplete(checkpointId);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class WorkStealingTaskSchedulerTest {
+
+    @Test
+    public void testPollOwnQueueBeforeSteal() {
+        WorkStealingTaskScheduler scheduler = new WorkStealingTaskScheduler(2);
+        TaskTracker first = new TaskTracker(null, null);
+        TaskTracker second = new TaskTracker(null, null);
+        TaskTracker third = new TaskTracker(null, null);
+        scheduler.requeue(0, first);
+        scheduler.requeue(0, second);
+        scheduler.requeue(0, third);
+        Assertions.assertEquals(3, scheduler.getQueueDepth(0));
+
+        // the owner takes from the head, the thief from the tail
+        Assertions.assertSame(first, scheduler.poll(0));
+        Assertions.assertSame(third, scheduler.poll(1));
+        Assertions.assertEquals(1, scheduler.getStealCount());
+        Assertions.assertSame(second, scheduler.poll(0));
+        Assertions.assertNull(scheduler.poll(0));
+        Assertions.assertNull(scheduler.poll(1));
+        Assertions.assertEquals(0, scheduler.getTotalQueueDepth());
+        Assertions.assertEquals(1, scheduler.getStealCount());
+    }
+
+    @Test
+    public void testSubmitBalancesQueues() {
+        WorkStealingTaskScheduler scheduler = new WorkStealingTaskScheduler(4);
+        for (int i = 0; i < 400; i++) {
+            scheduler.submit(new TaskTracker(null, null));
+        }
+        Assertions.assertEquals(400, scheduler.getTotalQueueDepth());
+        for (int i = 0; i < scheduler.getParallelism(); i++) {
+            Assertions.assertTrue(scheduler.getQueueDepth(i) > 0);
+        }
+    }
+
+    @Test
+    public void testSubmitWakesParkedWorker() throws InterruptedException {
+        WorkStealingTaskScheduler scheduler =
+                new WorkStealingTaskScheduler(1, TimeUnit.MINUTES.toNanos(1));
+        CountDownLatch woken = new CountDownLatch(1);
+        Thread worker =
+                new Thread(
+                        () -> {
+                            while (scheduler.poll(0) == null) {
+                                scheduler.park(0);
+                            }
+                            woken.countDown();
+                        });
+        worker.start();
+        while (scheduler.getParkCount() == 0) {
+            Thread.sleep(10);
+        }
+        scheduler.submit(new TaskTracker(null, null));
+        Assertions.assertTrue(woken.await(10, TimeUnit.SECONDS));
+        worker.join();
+    }
+}
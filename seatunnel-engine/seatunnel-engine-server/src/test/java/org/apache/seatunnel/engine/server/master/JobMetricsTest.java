@@ -18,6 +18,8 @@
 package org.apache.seatunnel.engine.server.master;
 
 import org.apache.seatunnel.api.common.metrics.JobMetrics;
+import org.apache.seatunnel.api.common.metrics.Measurement;
+import org.apache.seatunnel.api.common.metrics.MetricTags;
 import org.apache.seatunnel.engine.core.job.JobStatus;
 import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
 import org.apache.seatunnel.engine.server.CoordinatorService;
@@ -30,9 +32,12 @@ import org.junit.jupiter.api.condition.OS;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static org.apache.seatunnel.api.common.metrics.MetricNames.END_TO_END_LATENCY_MILLIS;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_COUNT;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_LATENCY_NANOS;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_QPS;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_COUNT;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_QPS;
@@ -156,4 +161,34 @@ class JobMetricsTest extends AbstractSeaTunnelServerTest {
                         });
         server.getCoordinatorService().cancelJob(jobId3);
     }
+
+    @Test
+    public void testLatencyMetrics() {
+        long jobId = System.currentTimeMillis() + 423479L;
+
+        startJob(jobId, "stream_fake_to_console_latency_marker.conf", false);
+
+        await().atMost(120000, TimeUnit.MILLISECONDS)
+                .untilAsserted(
+                        () -> {
+                            JobMetrics jobMetrics =
+                                    server.getCoordinatorService().getJobMetrics(jobId);
+                            List<Measurement> endToEndLatency =
+                                    jobMetrics.get(END_TO_END_LATENCY_MILLIS);
+                            assertEquals(4, endToEndLatency.size());
+                            assertTrue(
+                                    endToEndLatency.stream()
+                                            .anyMatch(
+                                                    m ->
+                                                            "0.99"
+                                                                    .equals(
+                                                                            m.tag(
+                                                                                    MetricTags
+                                                                                            .QUANTILE))));
+                            assertTrue(
+                                    jobMetrics.get(SINK_WRITE_LATENCY_NANOS).stream()
+                                            .anyMatch(m -> (Long) m.value() > 0));
+                        });
+        server.getCoordinatorService().cancelJob(jobId);
+    }
 }
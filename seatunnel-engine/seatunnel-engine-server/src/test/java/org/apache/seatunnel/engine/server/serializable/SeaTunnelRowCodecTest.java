@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.MultipleRowType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+public class SeaTunnelRowCodecTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "string", "boolean", "tinyint", "smallint", "int", "bigint", "float",
+                        "double", "decimal", "bytes", "date", "time", "timestamp", "timestamp_tz",
+                        "array", "map", "row", "null"
+                    },
+                    new SeaTunnelDataType[] {
+                        BasicType.STRING_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.BYTE_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.LONG_TYPE,
+                        BasicType.FLOAT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(20, 4),
+                        PrimitiveByteArrayType.INSTANCE,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        LocalTimeType.OFFSET_DATE_TIME_TYPE,
+                        ArrayType.STRING_ARRAY_TYPE,
+                        new MapType<>(BasicType.STRING_TYPE, BasicType.INT_TYPE),
+                        new SeaTunnelRowType(
+                                new String[] {"id", "name"},
+                                new SeaTunnelDataType[] {
+                                    BasicType.LONG_TYPE, BasicType.STRING_TYPE
+                                }),
+                        BasicType.VOID_TYPE
+                    });
+
+    @Test
+    public void testRoundTripWithSchema() {
+        SeaTunnelRowCodec codec =
+                new SeaTunnelRowCodec(
+                        new MultipleRowType(
+                                new String[] {"db.t1", "db.t2"},
+                                new SeaTunnelRowType[] {ROW_TYPE, ROW_TYPE}));
+
+        SeaTunnelRow row = createRow();
+        row.setTableId("db.t2");
+        row.setRowKind(RowKind.UPDATE_AFTER);
+        assertRowEquals(row, codec.decode(codec.encode(row)));
+
+        SeaTunnelRow nullRow = new SeaTunnelRow(ROW_TYPE.getTotalFields());
+        nullRow.setTableId("db.t1");
+        assertRowEquals(nullRow, codec.decode(codec.encode(nullRow)));
+    }
+
+    @Test
+    public void testRoundTripWithoutSchema() {
+        SeaTunnelRowCodec codec =
+                new SeaTunnelRowCodec(
+                        new MultipleRowType(
+                                new String[] {"db.t1"}, new SeaTunnelRowType[] {ROW_TYPE}));
+
+        // unknown table
+        SeaTunnelRow row = createRow();
+        row.setTableId("db.unknown");
+        assertRowEquals(row, codec.decode(codec.encode(row)));
+
+        // arity changed by a schema change event
+        SeaTunnelRow widerRow = new SeaTunnelRow(new Object[] {1L, "a", null, 2.0D});
+        widerRow.setTableId("db.t1");
+        assertRowEquals(widerRow, codec.decode(codec.encode(widerRow)));
+
+        // value does not match the declared type
+        SeaTunnelRow mismatchRow = createRow();
+        mismatchRow.setField(2, 1);
+        mismatchRow.setTableId("db.t1");
+        assertRowEquals(mismatchRow, codec.decode(codec.encode(mismatchRow)));
+    }
+
+    @Test
+    public void testWideRow() {
+        int arity = 300;
+        String[] fieldNames = new String[arity];
+        SeaTunnelDataType<?>[] fieldTypes = new SeaTunnelDataType[arity];
+        Object[] fields = new Object[arity];
+        for (int i = 0; i < arity; i++) {
+            fieldNames[i] = "f" + i;
+            fieldTypes[i] = BasicType.INT_TYPE;
+            fields[i] = i % 7 == 0 ? null : i;
+        }
+        SeaTunnelRowCodec codec =
+                new SeaTunnelRowCodec(new SeaTunnelRowType(fieldNames, fieldTypes));
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setTableId("db.wide");
+        assertRowEquals(row, codec.decode(codec.encode(row)));
+    }
+
+    private static SeaTunnelRow createRow() {
+        Map<String, Integer> map = new HashMap<>();
+        map.put("k", 1);
+        map.put("nullValue", null);
+        return new SeaTunnelRow(
+                new Object[] {
+                    "string",
+                    true,
+                    (byte) 1,
+                    (short) 2,
+                    3,
+                    4L,
+                    5.5F,
+                    6.6D,
+                    new BigDecimal("12345.6789"),
+                    new byte[] {1, 2, 3},
+                    LocalDate.of(2024, 1, 1),
+                    LocalTime.of(12, 30, 1, 123456789),
+                    LocalDateTime.of(2024, 1, 1, 12, 30, 1, 123456789),
+                    OffsetDateTime.of(2024, 1, 1, 12, 30, 1, 0, ZoneOffset.ofHours(8)),
+                    new String[] {"a", null, "c"},
+                    map,
+                    new SeaTunnelRow(new Object[] {1L, "name"}),
+                    null
+                });
+    }
+
+    private static void assertRowEquals(SeaTunnelRow expected, SeaTunnelRow actual) {
+        Assertions.assertEquals(expected.getTableId(), actual.getTableId());
+        Assertions.assertEquals(expected.getRowKind(), actual.getRowKind());
+        Assertions.assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.core.dag.actions.ShufflePartitionStrategy;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class ShuffleTransportTest extends AbstractSeaTunnelServerTest<ShuffleTransportTest> {
+    private static final int BATCH_SIZE = 1024;
+    private static final int RECORD_SIZE = 128;
+
+    @Test
+    public void testTcpTransportKeepsOrderUnderBackpressure() throws Exception {
+        try (TcpShuffleServer shuffleServer = createShuffleServer()) {
+            Map<String, String> directory = new ConcurrentHashMap<>();
+            ShuffleTransport transport = new TcpShuffleTransport(shuffleServer, directory);
+            // a small queue forces the sender to wait for credits most of the time
+            ShuffleStrategy strategy = createStrategy(1, 8);
+
+            // the sender starts before the receiver has registered its channel
+            CompletableFuture<Void> sender =
+                    CompletableFuture.runAsync(() -> send(transport, strategy, 1, 10000, 7, true));
+            TimeUnit.MILLISECONDS.sleep(500);
+            ShuffleInputChannel[] inputChannels = transport.createInputChannels(strategy, 1, 0);
+            try {
+                List<Record<?>> received = receive(inputChannels[0], 10000);
+                sender.get(1, TimeUnit.MINUTES);
+                Assertions.assertEquals(10000, received.size());
+                assertInOrder(received, 0);
+            } finally {
+                inputChannels[0].close();
+            }
+            Assertions.assertTrue(directory.isEmpty());
+        }
+    }
+
+    @Test
+    public void testRestartedSenderReplacesConnection() throws Exception {
+        try (TcpShuffleServer shuffleServer = createShuffleServer()) {
+            ShuffleTransport transport =
+                    new TcpShuffleTransport(shuffleServer, new ConcurrentHashMap<>());
+            ShuffleStrategy strategy = createStrategy(3, 64);
+            ShuffleInputChannel[] inputChannels = transport.createInputChannels(strategy, 1, 0);
+            // the first sender fails without closing its channel
+            ShuffleOutputChannel failedSender = transport.createOutputChannels(strategy, 1, 0)[0];
+            try {
+                failedSender.putAll(createRecords(0, 32));
+                List<Record<?>> received = receive(inputChannels[0], 32);
+
+                // the restarted sender connects to the same channel and sends the rest
+                CompletableFuture<Void> sender =
+                        CompletableFuture.runAsync(
+                                () -> {
+                                    try (ShuffleOutputChannel restartedSender =
+                                            transport.createOutputChannels(strategy, 1, 0)[0]) {
+                                        restartedSender.putAll(createRecords(32, 1000));
+                                    } catch (Exception e) {
+                                        throw new RuntimeException(e);
+                                    }
+                                });
+                received.addAll(receive(inputChannels[0], 1000));
+                sender.get(1, TimeUnit.MINUTES);
+                Assertions.assertEquals(1032, received.size());
+                assertInOrder(received, 0);
+            } finally {
+                failedSender.close();
+                inputChannels[0].close();
+            }
+        }
+    }
+
+    @Test
+    public void testTransportsDeliverAllRecords() throws Exception {
+        int recordCount = 200000;
+        ShuffleStrategy strategy = createStrategy(2, 2048);
+        deliver(new HazelcastQueueShuffleTransport(instance), strategy, recordCount, false);
+        try (TcpShuffleServer shuffleServer = createShuffleServer()) {
+            deliver(
+                    new TcpShuffleTransport(shuffleServer, new ConcurrentHashMap<>()),
+                    strategy,
+                    recordCount,
+                    true);
+        }
+    }
+
+    /**
+     * Sends the records through a pipeline of the transport and checks that all of them are
+     * received in order. The output channels of a hazelcast queue are not closed, destroying the
+     * queue drops the records not yet read.
+     */
+    private void deliver(
+            ShuffleTransport transport,
+            ShuffleStrategy strategy,
+            int recordCount,
+            boolean closeOutputChannels)
+            throws Exception {
+        ShuffleInputChannel[] inputChannels = transport.createInputChannels(strategy, 2, 0);
+        try {
+            CompletableFuture<Void> sender =
+                    CompletableFuture.runAsync(
+                            () ->
+                                    send(
+                                            transport,
+                                            strategy,
+                                            2,
+                                            recordCount,
+                                            BATCH_SIZE,
+                                            closeOutputChannels));
+            List<Record<?>> received = receive(inputChannels[0], recordCount);
+            sender.get(1, TimeUnit.MINUTES);
+            Assertions.assertEquals(recordCount, received.size());
+            assertInOrder(received, 0);
+        } finally {
+            for (ShuffleInputChannel inputChannel : inputChannels) {
+                inputChannel.close();
+            }
+        }
+    }
+
+    private static List<Record<?>> createRecords(int from, int count) {
+        List<Record<?>> records = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            records.add(new Record<>(ByteBuffer.allocate(RECORD_SIZE).putInt(i).array()));
+        }
+        return records;
+    }
+
+    private static void assertInOrder(List<Record<?>> records, int from) {
+        for (int i = 0; i < records.size(); i++) {
+            Assertions.assertEquals(
+                    from + i, ByteBuffer.wrap((byte[]) records.get(i).getData()).getInt());
+        }
+    }
+
+    private void send(
+            ShuffleTransport transport,
+            ShuffleStrategy strategy,
+            int pipelineId,
+            int recordCount,
+            int batchSize,
+            boolean closeChannels) {
+        ShuffleOutputChannel[] outputChannels =
+                transport.createOutputChannels(strategy, pipelineId, 0);
+        ShuffleOutputChannel outputChannel = outputChannels[0];
+        try {
+            List<Record<?>> batch = new ArrayList<>(batchSize);
+            for (int i = 0; i < recordCount; i++) {
+                batch.add(new Record<>(ByteBuffer.allocate(RECORD_SIZE).putInt(i).array()));
+                if (batch.size() == batchSize || i == recordCount - 1) {
+                    outputChannel.putAll(batch);
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        } finally {
+            if (closeChannels) {
+                for (ShuffleOutputChannel channel : outputChannels) {
+                    try {
+                        channel.close();
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            }
+        }
+    }
+
+    private List<Record<?>> receive(ShuffleInputChannel inputChannel, int recordCount)
+            throws InterruptedException {
+        List<Record<?>> received = new ArrayList<>(recordCount);
+        long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1);
+        while (received.size() < recordCount && System.currentTimeMillis() < deadline) {
+            if (inputChannel.drainTo(received, BATCH_SIZE) == 0) {
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+        }
+        return received;
+    }
+
+    private TcpShuffleServer createShuffleServer() throws Exception {
+        return new TcpShuffleServer(
+                "127.0.0.1",
+                0,
+                (InternalSerializationService) nodeEngine.getSerializationService());
+    }
+
+    private ShuffleStrategy createStrategy(long jobId, int queueMaxSize) {
+        return ShufflePartitionStrategy.builder()
+                .jobId(jobId)
+                .inputPartitions(1)
+                .targetPartitions(1)
+                .queueMaxSize(queueMaxSize)
+                .build();
+    }
+}
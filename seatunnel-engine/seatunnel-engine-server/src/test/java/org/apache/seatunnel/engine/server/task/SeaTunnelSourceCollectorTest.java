@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.task.flow.OneInputFlowLifeCycle;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class SeaTunnelSourceCollectorTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(new String[] {"id"}, new SeaTunnelDataType[] {BasicType.INT_TYPE});
+
+    @Test
+    public void testCollectInBatches() throws Exception {
+        RecordingOutput output = new RecordingOutput();
+        SeaTunnelSourceCollector<SeaTunnelRow> collector = createCollector(output, 3);
+
+        for (int i = 0; i < 4; i++) {
+            collector.collect(new SeaTunnelRow(new Object[] {i}));
+        }
+        Assertions.assertEquals(Collections.singletonList("batch[0, 1, 2]"), output.events);
+
+        // the pending rows are passed on before the barrier
+        collector.sendRecordToNext(new Record<>("barrier"));
+        collector.flushBatch();
+        Assertions.assertEquals(
+                Arrays.asList("batch[0, 1, 2]", "batch[3]", "record barrier"), output.events);
+    }
+
+    @Test
+    public void testCollectOneByOne() throws Exception {
+        RecordingOutput output = new RecordingOutput();
+        SeaTunnelSourceCollector<SeaTunnelRow> collector = createCollector(output, 1);
+
+        collector.collect(new SeaTunnelRow(new Object[] {0}));
+        collector.collect(new SeaTunnelRow(new Object[] {1}));
+        collector.flushBatch();
+        Assertions.assertEquals(Arrays.asList("record 0", "record 1"), output.events);
+    }
+
+    private static SeaTunnelSourceCollector<SeaTunnelRow> createCollector(
+            RecordingOutput output, int batchSize) {
+        return new SeaTunnelSourceCollector<>(
+                new Object(),
+                Collections.singletonList(output),
+                new SeaTunnelMetricsContext(),
+                FlowControlStrategy.fromMap(null),
+                ROW_TYPE,
+                Collections.emptyList(),
+                batchSize);
+    }
+
+    private static class RecordingOutput implements OneInputFlowLifeCycle<Record<?>> {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void received(Record<?> record) {
+            events.add("record " + toString(record.getData()));
+        }
+
+        @Override
+        public void receivedBatch(List<?> rows) {
+            List<String> values = new ArrayList<>();
+            for (Object row : rows) {
+                values.add(toString(row));
+            }
+            events.add("batch" + values);
+        }
+
+        private static String toString(Object data) {
+            return data instanceof SeaTunnelRow
+                    ? String.valueOf(((SeaTunnelRow) data).getField(0))
+                    : String.valueOf(data);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class SplitAssignmentTrackerTest {
+
+    @Test
+    public void testSplitsCoveredByCompletedCheckpointAreDropped() {
+        SplitAssignmentTracker<String> tracker = new SplitAssignmentTracker<>();
+        tracker.recordAssignment(0, Arrays.asList("a", "b"));
+        tracker.snapshotState(1);
+        tracker.recordAssignment(0, Collections.singletonList("c"));
+        tracker.snapshotState(2);
+        tracker.recordAssignment(0, Collections.singletonList("d"));
+
+        tracker.notifyCheckpointComplete(1);
+
+        Assertions.assertEquals(Arrays.asList("c", "d"), tracker.removeUncheckpointedSplits(0));
+        Assertions.assertTrue(tracker.removeUncheckpointedSplits(0).isEmpty());
+    }
+
+    @Test
+    public void testSplitsOfAbortedCheckpointAreKept() {
+        SplitAssignmentTracker<String> tracker = new SplitAssignmentTracker<>();
+        tracker.recordAssignment(0, Collections.singletonList("a"));
+        tracker.snapshotState(1);
+        tracker.recordAssignment(0, Collections.singletonList("b"));
+        tracker.snapshotState(2);
+
+        // checkpoint 1 is aborted and only checkpoint 2 completes later
+        tracker.notifyCheckpointComplete(2);
+        Assertions.assertTrue(tracker.removeUncheckpointedSplits(0).isEmpty());
+
+        tracker.recordAssignment(0, Collections.singletonList("c"));
+        tracker.snapshotState(3);
+        Assertions.assertEquals(
+                Collections.singletonList("c"), tracker.removeUncheckpointedSplits(0));
+    }
+
+    @Test
+    public void testSplitsAreTrackedPerReader() {
+        SplitAssignmentTracker<String> tracker = new SplitAssignmentTracker<>();
+        tracker.recordAssignment(0, Collections.singletonList("a"));
+        tracker.recordAssignment(1, Collections.singletonList("b"));
+        tracker.snapshotState(1);
+        tracker.recordAssignment(1, Collections.singletonList("c"));
+
+        Assertions.assertEquals(Arrays.asList("b", "c"), tracker.removeUncheckpointedSplits(1));
+        Assertions.assertEquals(
+                Collections.singletonList("a"), tracker.removeUncheckpointedSplits(0));
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShufflePartitionStrategy;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleInputChannel;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleOutputChannel;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleTransport;
+import org.apache.seatunnel.engine.server.task.TransformSeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.record.Barrier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ShuffleSourceFlowLifeCycleTest {
+
+    @Test
+    public void testAlignedBarrierWaitsForAllChannels() throws Exception {
+        TestChannel[] channels = {new TestChannel(), new TestChannel()};
+        RecordingTask task = new RecordingTask();
+        ShuffleSourceFlowLifeCycle<?> lifeCycle = createLifeCycle(task, channels);
+        RecordingCollector collector = new RecordingCollector();
+
+        channels[0].add(row(1), barrier(false), row(2));
+        channels[1].add(row(3));
+        // the channel that delivered the barrier is blocked until the other one delivers it too
+        lifeCycle.collect(collector);
+        Assertions.assertEquals(Arrays.asList("1", "3"), collector.values());
+        Assertions.assertTrue(task.acked.isEmpty());
+
+        channels[1].add(barrier(false));
+        lifeCycle.collect(collector);
+        lifeCycle.collect(collector);
+        Assertions.assertEquals(Arrays.asList("1", "3", "barrier", "2"), collector.values());
+        Assertions.assertEquals(1, task.acked.size());
+        Assertions.assertTrue(task.states.get(0).getState().isEmpty());
+    }
+
+    @Test
+    public void testUnalignedBarrierOvertakesBufferedRecords() throws Exception {
+        TestChannel[] channels = {new TestChannel(), new TestChannel()};
+        RecordingTask task = new RecordingTask();
+        ShuffleSourceFlowLifeCycle<?> lifeCycle = createLifeCycle(task, channels);
+        RecordingCollector collector = new RecordingCollector();
+
+        channels[0].add(barrier(true), row(1));
+        channels[1].add(row(2), row(3));
+        lifeCycle.collect(collector);
+        // the barrier is published before the records buffered on the other channel
+        Assertions.assertEquals("barrier", collector.values().get(0));
+        Assertions.assertTrue(task.acked.isEmpty());
+
+        channels[1].add(row(4), barrier(true), row(5));
+        lifeCycle.collect(collector);
+        Assertions.assertEquals(1, task.acked.size());
+        List<byte[]> inFlight = task.states.get(0).getState();
+        Assertions.assertEquals(3, inFlight.size());
+
+        while (channels[0].size() > 0 || channels[1].size() > 0 || collector.values().size() < 6) {
+            lifeCycle.collect(collector);
+        }
+        Assertions.assertEquals(
+                Arrays.asList("1", "2", "3", "4", "5"),
+                collector.values().subList(1, 6).stream().sorted().collect(Collectors.toList()));
+
+        // a restored task replays the persisted records before anything else
+        TestChannel[] restoredChannels = {new TestChannel(), new TestChannel()};
+        ShuffleSourceFlowLifeCycle<?> restored =
+                createLifeCycle(new RecordingTask(), restoredChannels);
+        restored.restoreState(task.states);
+        restoredChannels[0].add(row(6));
+        RecordingCollector restoredCollector = new RecordingCollector();
+        restored.collect(restoredCollector);
+        Assertions.assertEquals(Arrays.asList("2", "3", "4", "6"), restoredCollector.values());
+    }
+
+    private static ShuffleSourceFlowLifeCycle<?> createLifeCycle(
+            RecordingTask task, TestChannel[] channels) {
+        ShuffleStrategy strategy = ShufflePartitionStrategy.builder().build();
+        ShuffleAction action =
+                new ShuffleAction(
+                        1, "shuffle", ShuffleConfig.builder().shuffleStrategy(strategy).build());
+        ShuffleTransport transport =
+                new ShuffleTransport() {
+                    @Override
+                    public ShuffleOutputChannel[] createOutputChannels(
+                            ShuffleStrategy shuffleStrategy, int pipelineId, int inputIndex) {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public ShuffleInputChannel[] createInputChannels(
+                            ShuffleStrategy shuffleStrategy, int pipelineId, int targetIndex) {
+                        return channels;
+                    }
+                };
+        return new ShuffleSourceFlowLifeCycle<>(
+                task, 0, action, transport, new CompletableFuture<>());
+    }
+
+    private static Record<?> row(int id) {
+        return new Record<>(new SeaTunnelRow(new Object[] {String.valueOf(id)}));
+    }
+
+    private static Record<?> barrier(boolean unaligned) {
+        return new Record<>(
+                new CheckpointBarrier(
+                        1,
+                        System.currentTimeMillis(),
+                        CheckpointType.CHECKPOINT_TYPE,
+                        Collections.emptySet(),
+                        Collections.emptySet(),
+                        unaligned));
+    }
+
+    private static class RecordingTask extends TransformSeaTunnelTask {
+        private final List<Barrier> acked = new ArrayList<>();
+        private final List<ActionSubtaskState> states = new ArrayList<>();
+
+        RecordingTask() {
+            super(1, new TaskLocation(new TaskGroupLocation(1, 1, 1), 1, 0), 0, null);
+        }
+
+        @Override
+        public void ack(Barrier barrier) {
+            acked.add(barrier);
+        }
+
+        @Override
+        public void addState(Barrier barrier, ActionStateKey stateKey, List<byte[]> state) {
+            states.add(new ActionSubtaskState(stateKey, 0, state));
+        }
+    }
+
+    private static class RecordingCollector implements Collector<Record<?>> {
+        private final List<Object> records = new ArrayList<>();
+
+        @Override
+        public void collect(Record<?> record) {
+            records.add(record.getData());
+        }
+
+        @Override
+        public void close() {}
+
+        List<String> values() {
+            return records.stream()
+                    .map(
+                            data ->
+                                    data instanceof SeaTunnelRow
+                                            ? (String) ((SeaTunnelRow) data).getField(0)
+                                            : "barrier")
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static class TestChannel implements ShuffleInputChannel {
+        private final LinkedList<Record<?>> queue = new LinkedList<>();
+
+        void add(Record<?>... records) {
+            Collections.addAll(queue, records);
+        }
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public int size() {
+            return queue.size();
+        }
+
+        @Override
+        public Record<?> take() {
+            return queue.poll();
+        }
+
+        @Override
+        public int drainTo(Collection<Record<?>> records, int maxElements) {
+            int count = 0;
+            while (!queue.isEmpty() && count < maxElements) {
+                records.add(queue.poll());
+                count++;
+            }
+            return count;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue;
+
+import org.apache.seatunnel.engine.server.metrics.EdgeMetricsCalcContext;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.EDGE_BACK_PRESSURE_RATIO;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.EDGE_BLOCKED_TIME_MILLIS;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.EDGE_BUFFER_USAGE;
+
+public class CreditBasedFlowControllerTest {
+
+    @Test
+    public void testBlockWithoutCredits() throws Exception {
+        CreditBasedFlowController flowController = new CreditBasedFlowController("edge", 2);
+        flowController.acquire();
+        flowController.acquire();
+        Assertions.assertEquals(2, flowController.getBufferedRecords());
+        Assertions.assertEquals(0, flowController.getBlockedNanos());
+
+        CompletableFuture<Void> producer =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                flowController.acquire();
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        Thread.sleep(200);
+        Assertions.assertFalse(producer.isDone());
+
+        flowController.release();
+        producer.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(2, flowController.getBufferedRecords());
+        Assertions.assertTrue(
+                flowController.getBlockedNanos() >= TimeUnit.MILLISECONDS.toNanos(100));
+
+        flowController.release(2);
+        Assertions.assertEquals(0, flowController.getBufferedRecords());
+    }
+
+    @Test
+    public void testEdgeMetrics() throws Exception {
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        CreditBasedFlowController flowController = new CreditBasedFlowController("edge", 4);
+        flowController.registerMetrics(metricsContext);
+        flowController.acquire();
+        flowController.acquire();
+        flowController.acquire();
+
+        Thread.sleep(EdgeMetricsCalcContext.SAMPLE_INTERVAL_MILLIS + 100);
+        flowController.release();
+
+        Assertions.assertEquals(
+                50,
+                metricsContext
+                        .counter(EdgeMetricsCalcContext.metricName(EDGE_BUFFER_USAGE, "edge"))
+                        .getCount());
+        Assertions.assertEquals(
+                0,
+                metricsContext
+                        .counter(
+                                EdgeMetricsCalcContext.metricName(EDGE_BLOCKED_TIME_MILLIS, "edge"))
+                        .getCount());
+        Assertions.assertEquals(
+                0,
+                metricsContext
+                        .counter(
+                                EdgeMetricsCalcContext.metricName(EDGE_BACK_PRESSURE_RATIO, "edge"))
+                        .getCount());
+    }
+}
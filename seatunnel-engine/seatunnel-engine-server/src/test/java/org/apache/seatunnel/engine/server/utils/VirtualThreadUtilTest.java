@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class VirtualThreadUtilTest {
+
+    @Test
+    public void testJavaVersion() {
+        Assertions.assertEquals(8, VirtualThreadUtil.javaVersion("1.8"));
+        Assertions.assertEquals(21, VirtualThreadUtil.javaVersion("21"));
+        Assertions.assertEquals(24, VirtualThreadUtil.javaVersion("24"));
+    }
+
+    @Test
+    public void testNewVirtualThreadPerTaskExecutor() throws Exception {
+        Optional<ExecutorService> executorService =
+                VirtualThreadUtil.newVirtualThreadPerTaskExecutor("test-virtual-thread-");
+        boolean supported;
+        try {
+            Thread.class.getMethod("ofVirtual");
+            supported = true;
+        } catch (NoSuchMethodException e) {
+            supported = false;
+        }
+        if (!supported
+                || VirtualThreadUtil.javaVersion(System.getProperty("java.specification.version"))
+                        < VirtualThreadUtil.MIN_JAVA_VERSION) {
+            Assertions.assertFalse(executorService.isPresent());
+            return;
+        }
+        // virtual threads may still be a disabled preview feature
+        if (!executorService.isPresent()) {
+            return;
+        }
+        ExecutorService executor = executorService.get();
+        try {
+            String threadName = executor.submit(() -> Thread.currentThread().getName()).get();
+            Assertions.assertEquals("test-virtual-thread-0", threadName);
+            Boolean isVirtual =
+                    executor.submit(
+                                    () ->
+                                            (Boolean)
+                                                    Thread.class
+                                                            .getMethod("isVirtual")
+                                                            .invoke(Thread.currentThread()))
+                            .get();
+            Assertions.assertTrue(isVirtual);
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -21,20 +21,25 @@
 package org.apache.seatunnel.engine.checkpoint.storage.api;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.common.CheckpointDataCodec;
+import org.apache.seatunnel.engine.checkpoint.storage.common.CheckpointSerializers;
 import org.apache.seatunnel.engine.checkpoint.storage.common.StorageThreadFactory;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
-import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadLocalRandom;
@@ -42,16 +47,23 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.COMPRESSION;
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.COMPRESSION_CHUNK_SIZE;
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.COMPRESSION_PARALLELISM;
+
 @Slf4j
 public abstract class AbstractCheckpointStorage implements CheckpointStorage {
 
-    /**
-     * serializer,default is protostuff,if necessary, consider other serialization methods,
-     * temporarily hard-coding
-     */
-    private final Serializer serializer = new ProtoStuffSerializer();
+    /** serializer, writes protostuff by default, see {@link CheckpointSerializers} */
+    private volatile Serializer serializer =
+            CheckpointSerializers.createPipelineStateSerializer(
+                    CheckpointSerializers.Format.PROTOSTUFF);
+
+    /** Compresses the serialized data, checkpoints are stored uncompressed by default. */
+    private volatile CheckpointDataCodec dataCodec = CheckpointDataCodec.NONE;
 
     public static final String DEFAULT_CHECKPOINT_FILE_PATH_SPLIT = "/";
 
@@ -70,6 +82,11 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
 
     public static final String FILE_FORMAT = "ser";
 
+    /** The directory of the task states stored outside of the checkpoint files of a job. */
+    public static final String TASK_STATE_DIRECTORY = "state";
+
+    public static final String TASK_STATE_FILE_FORMAT = "state";
+
     private volatile ExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_MIN_SIZE =
@@ -80,6 +97,9 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
 
     private static final int DEFAULT_THREAD_POOL_QUENE_SIZE = 1024;
 
+    /** The manifests written by this instance: job id -> manifest. */
+    private final Map<String, CheckpointManifest> writtenManifests = new ConcurrentHashMap<>();
+
     /**
      * init storage instance
      *
@@ -105,12 +125,78 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
                 + FILE_FORMAT;
     }
 
+    /** Configures the compression of the checkpoint data from the storage configuration. */
+    protected void initDataCodec(Map<String, String> configuration) {
+        String compression = configuration.get(COMPRESSION);
+        String chunkSize = configuration.get(COMPRESSION_CHUNK_SIZE);
+        String parallelism = configuration.get(COMPRESSION_PARALLELISM);
+        if (compression == null) {
+            return;
+        }
+        this.dataCodec =
+                new CheckpointDataCodec(
+                        CheckpointDataCodec.Compression.fromName(compression),
+                        chunkSize == null
+                                ? CheckpointDataCodec.DEFAULT_CHUNK_SIZE
+                                : Integer.parseInt(chunkSize.trim()),
+                        parallelism == null
+                                ? CheckpointDataCodec.DEFAULT_PARALLELISM
+                                : Integer.parseInt(parallelism.trim()));
+    }
+
+    /** Configures the format the checkpoint data is written in from the storage configuration. */
+    protected void initSerializer(Map<String, String> configuration) {
+        this.serializer =
+                CheckpointSerializers.createPipelineStateSerializer(
+                        CheckpointSerializers.getFormat(configuration));
+    }
+
     public byte[] serializeCheckPointData(PipelineState state) throws IOException {
-        return serializer.serialize(state);
+        return dataCodec.encode(serializer.serialize(state));
+    }
+
+    /** Serializes the checkpoint data straight into the stream of the checkpoint file. */
+    public void writeCheckPointData(PipelineState state, OutputStream out) throws IOException {
+        dataCodec.encode(serializer.serialize(state), out);
     }
 
     public PipelineState deserializeCheckPointData(byte[] data) throws IOException {
-        return serializer.deserialize(data, PipelineState.class);
+        return serializer.deserialize(dataCodec.decode(data), PipelineState.class);
+    }
+
+    /**
+     * Returns the directory of the task states of a checkpoint, relative to the storage root
+     * directory.
+     */
+    public String getTaskStateDirectory(String jobId, String pipelineId, String checkpointId) {
+        return jobId
+                + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT
+                + TASK_STATE_DIRECTORY
+                + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT
+                + pipelineId
+                + FILE_NAME_SPLIT
+                + checkpointId;
+    }
+
+    /**
+     * Returns the handle of a task state, which is its path relative to the storage root directory,
+     * so that every member configured with the same storage can read it.
+     */
+    public String getTaskStateHandle(
+            String jobId, String pipelineId, String checkpointId, String name) {
+        return getTaskStateDirectory(jobId, pipelineId, checkpointId)
+                + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT
+                + name
+                + "."
+                + TASK_STATE_FILE_FORMAT;
+    }
+
+    public byte[] encodeTaskState(byte[] data) throws IOException {
+        return dataCodec.encode(data);
+    }
+
+    public byte[] decodeTaskState(byte[] data) throws IOException {
+        return dataCodec.decode(data);
     }
 
     public void setStorageNameSpace(String storageNameSpace) {
@@ -188,6 +274,113 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
         return getFileNameSegments(fileName)[FILE_NAME_CHECKPOINT_ID_INDEX].split("\\.")[0];
     }
 
+    /**
+     * Reads the checkpoint manifest of the job.
+     *
+     * @return the manifest data, or null if the job has no manifest or the storage does not support
+     *     manifests
+     */
+    protected byte[] readManifest(String jobId) throws IOException {
+        return null;
+    }
+
+    /** Replaces the checkpoint manifest of the job, readers must never see a partial manifest. */
+    protected void writeManifest(String jobId, byte[] data) throws IOException {}
+
+    protected void deleteManifest(String jobId) throws IOException {}
+
+    /** Lists the names of all checkpoint files of the job, used when the job has no manifest. */
+    protected List<String> listCheckpointFileNames(String jobId) throws CheckpointStorageException {
+        return new ArrayList<>();
+    }
+
+    /**
+     * Returns the manifest of the job, or null if it has none and the checkpoint files have to be
+     * listed instead.
+     */
+    protected CheckpointManifest getManifest(String jobId) {
+        synchronized (writtenManifests) {
+            CheckpointManifest written = writtenManifests.get(jobId);
+            if (written != null) {
+                return new CheckpointManifest(written.getFileNames());
+            }
+        }
+        try {
+            byte[] data = readManifest(jobId);
+            return data == null ? null : CheckpointManifest.parse(data);
+        } catch (IOException e) {
+            log.warn(
+                    "Failed to read the checkpoint manifest of job {}, list the checkpoint files instead",
+                    jobId,
+                    e);
+            return null;
+        }
+    }
+
+    protected void addToManifest(String jobId, String fileName) {
+        updateManifest(
+                jobId,
+                manifest -> {
+                    if (!manifest.getFileNames().contains(fileName)) {
+                        manifest.add(fileName);
+                    }
+                });
+    }
+
+    /**
+     * Removes checkpoints from the manifest of the job.
+     *
+     * @return the file names of the removed checkpoints
+     */
+    protected List<String> removeFromManifest(
+            String jobId, String pipelineId, Collection<String> checkpointIds) {
+        List<String> removed = new ArrayList<>();
+        updateManifest(
+                jobId, manifest -> removed.addAll(manifest.remove(pipelineId, checkpointIds)));
+        return removed;
+    }
+
+    protected void forgetManifest(String jobId) {
+        writtenManifests.remove(jobId);
+    }
+
+    /**
+     * Applies a change to the manifest of the job and writes it. A job without manifest gets one
+     * built from its checkpoint files first. If the manifest cannot be written it is deleted, so
+     * that readers list the checkpoint files instead of trusting a stale manifest.
+     */
+    private void updateManifest(String jobId, Consumer<CheckpointManifest> update) {
+        synchronized (writtenManifests) {
+            try {
+                CheckpointManifest manifest = writtenManifests.get(jobId);
+                if (manifest == null) {
+                    manifest = getManifest(jobId);
+                }
+                if (manifest == null) {
+                    List<String> fileNames = listCheckpointFileNames(jobId);
+                    fileNames.sort(
+                            Comparator.comparingLong(
+                                    fileName ->
+                                            Long.parseLong(
+                                                    getFileNameSegments(fileName)[
+                                                            FILE_SORT_ID_INDEX])));
+                    manifest = new CheckpointManifest(fileNames);
+                }
+                update.accept(manifest);
+                writeManifest(jobId, manifest.toBytes());
+                writtenManifests.put(jobId, manifest);
+            } catch (Exception e) {
+                log.warn("Failed to update the checkpoint manifest of job {}", jobId, e);
+                writtenManifests.remove(jobId);
+                try {
+                    deleteManifest(jobId);
+                } catch (IOException ioe) {
+                    log.error("Failed to delete the checkpoint manifest of job {}", jobId, ioe);
+                }
+            }
+        }
+    }
+
     @Override
     public void asyncStoreCheckPoint(PipelineState state) {
         initExecutor();
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The checkpoint files of a job in the order they were stored, one file name per line.
+ *
+ * <p>The manifest lets the storage find the latest checkpoint of every pipeline, or the file of a
+ * given checkpoint, with one read instead of listing the job directory and parsing every file name.
+ * Storing a checkpoint appends its file name and deleting a checkpoint removes it.
+ */
+public class CheckpointManifest {
+
+    public static final String MANIFEST_FILE_NAME = "checkpoint.manifest";
+
+    private final List<String> fileNames;
+
+    public CheckpointManifest(Collection<String> fileNames) {
+        this.fileNames = new ArrayList<>(fileNames);
+    }
+
+    public static CheckpointManifest parse(byte[] data) {
+        List<String> fileNames = new ArrayList<>();
+        for (String line : new String(data, StandardCharsets.UTF_8).split("\n")) {
+            if (!line.trim().isEmpty()) {
+                fileNames.add(line.trim());
+            }
+        }
+        return new CheckpointManifest(fileNames);
+    }
+
+    public byte[] toBytes() {
+        StringBuilder builder = new StringBuilder();
+        for (String fileName : fileNames) {
+            builder.append(fileName).append('\n');
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public void add(String fileName) {
+        fileNames.add(fileName);
+    }
+
+    /** Removes the given checkpoints of a pipeline and returns their file names. */
+    public List<String> remove(String pipelineId, Collection<String> checkpointIds) {
+        List<String> removed = new ArrayList<>();
+        fileNames.removeIf(
+                fileName -> {
+                    boolean matched =
+                            pipelineId.equals(pipelineIdOf(fileName))
+                                    && checkpointIds.contains(checkpointIdOf(fileName));
+                    if (matched) {
+                        removed.add(fileName);
+                    }
+                    return matched;
+                });
+        return removed;
+    }
+
+    /** Returns the file of the latest checkpoint of each pipeline. */
+    public Collection<String> getLatestFileNames() {
+        Map<String, String> latest = new LinkedHashMap<>();
+        for (String fileName : fileNames) {
+            latest.put(pipelineIdOf(fileName), fileName);
+        }
+        return latest.values();
+    }
+
+    /** Returns the file of the latest checkpoint of the pipeline, or null if it has none. */
+    public String getLatestFileName(String pipelineId) {
+        for (int i = fileNames.size() - 1; i >= 0; i--) {
+            if (pipelineId.equals(pipelineIdOf(fileNames.get(i)))) {
+                return fileNames.get(i);
+            }
+        }
+        return null;
+    }
+
+    /** Returns the file of the checkpoint, or null if the manifest does not contain it. */
+    public String getFileName(String pipelineId, String checkpointId) {
+        for (int i = fileNames.size() - 1; i >= 0; i--) {
+            String fileName = fileNames.get(i);
+            if (pipelineId.equals(pipelineIdOf(fileName))
+                    && checkpointId.equals(checkpointIdOf(fileName))) {
+                return fileName;
+            }
+        }
+        return null;
+    }
+
+    public List<String> getFileNames() {
+        return Collections.unmodifiableList(fileNames);
+    }
+
+    private static String pipelineIdOf(String fileName) {
+        return fileName.split(AbstractCheckpointStorage.FILE_NAME_SPLIT)[
+                AbstractCheckpointStorage.FILE_NAME_PIPELINE_ID_INDEX];
+    }
+
+    private static String checkpointIdOf(String fileName) {
+        return fileName.split(AbstractCheckpointStorage.FILE_NAME_SPLIT)[
+                AbstractCheckpointStorage.FILE_NAME_CHECKPOINT_ID_INDEX]
+                .split("\\.")[0];
+    }
+}
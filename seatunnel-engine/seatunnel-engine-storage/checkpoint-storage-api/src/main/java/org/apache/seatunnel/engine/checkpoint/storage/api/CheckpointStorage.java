@@ -118,4 +118,44 @@ public interface CheckpointStorage {
 
     void deleteCheckpoint(String jobId, String pipelineId, List<String> checkpointIdList)
             throws CheckpointStorageException;
+
+    /**
+     * Stores the state of a task outside of the checkpoint file. The state is deleted together with
+     * the checkpoint it belongs to.
+     *
+     * @param jobId job id
+     * @param pipelineId pipeline id
+     * @param checkpointId checkpoint id
+     * @param name the name of the state, unique within the checkpoint
+     * @param data the state data
+     * @return the handle to read the state with
+     * @throws CheckpointStorageException if store the state failed
+     */
+    default String storeTaskState(
+            String jobId, String pipelineId, String checkpointId, String name, byte[] data)
+            throws CheckpointStorageException {
+        throw new CheckpointStorageException(
+                "Storing task states is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Reads a task state stored by {@link #storeTaskState}.
+     *
+     * @param handle the handle returned when the state was stored
+     * @return the state data
+     * @throws CheckpointStorageException if read the state failed
+     */
+    default byte[] getTaskState(String handle) throws CheckpointStorageException {
+        throw new CheckpointStorageException(
+                "Storing task states is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Delete the task states of the checkpoints, checkpoints without task states are ignored.
+     *
+     * @param jobId job id
+     * @param pipelineId pipeline id
+     * @param checkpointIdList checkpoint ids
+     */
+    default void deleteTaskStates(String jobId, String pipelineId, List<String> checkpointIdList) {}
 }
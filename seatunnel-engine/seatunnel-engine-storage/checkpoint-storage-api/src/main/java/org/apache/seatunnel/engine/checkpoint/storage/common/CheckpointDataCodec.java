@@ -0,0 +1,354 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encodes the serialized checkpoint data before it is written to the storage.
+ *
+ * <p>With compression enabled the data is split into chunks that are compressed in parallel and
+ * written in order as soon as they are ready, so the upload of one chunk overlaps the compression
+ * of the next ones and at most {@code parallelism + 1} compressed chunks are held in memory. Every
+ * chunk carries the CRC32 of its uncompressed bytes, which is verified on read.
+ *
+ * <p>Layout: {@code magic, version, codec, chunk count, total length}, then for every chunk {@code
+ * raw length, stored length, crc32, stored bytes}. Data without the magic is returned unchanged by
+ * {@link #decode(byte[])}, so checkpoints written before compression existed stay readable.
+ */
+public class CheckpointDataCodec {
+
+    /** Protostuff never writes a zero byte first, it would be the tag of field number 0. */
+    private static final byte[] MAGIC = {0, 'S', 'T', 'C'};
+
+    private static final byte VERSION = 1;
+
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    public static final int DEFAULT_PARALLELISM =
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    public static final CheckpointDataCodec NONE =
+            new CheckpointDataCodec(Compression.NONE, DEFAULT_CHUNK_SIZE, 1);
+
+    public enum Compression {
+        NONE,
+        DEFLATE;
+
+        public static Compression fromName(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final Compression compression;
+
+    private final int chunkSize;
+
+    private final int parallelism;
+
+    private volatile ThreadPoolExecutor executor;
+
+    public CheckpointDataCodec(Compression compression, int chunkSize, int parallelism) {
+        if (chunkSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "chunk size (%d) and parallelism (%d) must be positive",
+                            chunkSize, parallelism));
+        }
+        this.compression = compression;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public byte[] encode(byte[] data) throws IOException {
+        if (compression == Compression.NONE) {
+            return data;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 64);
+        encode(data, out);
+        return out.toByteArray();
+    }
+
+    /** Writes the encoded data to the stream, chunk by chunk as soon as each one is compressed. */
+    public void encode(byte[] data, OutputStream stream) throws IOException {
+        if (compression == Compression.NONE) {
+            stream.write(data);
+            return;
+        }
+        int chunkCount = Math.max(1, (data.length + chunkSize - 1) / chunkSize);
+        DataOutputStream out = new DataOutputStream(stream);
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(compression.ordinal());
+        out.writeInt(chunkCount);
+        out.writeLong(data.length);
+
+        if (chunkCount == 1) {
+            writeChunk(out, compressChunk(data, 0, data.length));
+        } else {
+            Deque<Future<Chunk>> window = new ArrayDeque<>(parallelism + 1);
+            try {
+                for (int i = 0; i < chunkCount; i++) {
+                    int offset = i * chunkSize;
+                    int length = Math.min(chunkSize, data.length - offset);
+                    window.add(getExecutor().submit(() -> compressChunk(data, offset, length)));
+                    if (window.size() > parallelism) {
+                        writeChunk(out, await(window.poll()));
+                    }
+                }
+                while (!window.isEmpty()) {
+                    writeChunk(out, await(window.poll()));
+                }
+            } finally {
+                window.forEach(future -> future.cancel(true));
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Returns the original data of an encoded checkpoint, or the data itself if it was written
+     * without this codec.
+     */
+    public byte[] decode(byte[] data) throws IOException {
+        if (!isEncoded(data)) {
+            return data;
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        in.skipBytes(MAGIC.length);
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported checkpoint data version " + version);
+        }
+        int codec = in.readByte();
+        if (codec < 0 || codec >= Compression.values().length) {
+            throw new IOException("Unsupported checkpoint data compression " + codec);
+        }
+        Compression dataCompression = Compression.values()[codec];
+        int chunkCount = in.readInt();
+        long totalLength = in.readLong();
+        // every chunk has a 12 byte header: raw length, stored length and checksum
+        if (chunkCount < 1 || chunkCount > in.available() / 12) {
+            throw new IOException("Invalid checkpoint data chunk count " + chunkCount);
+        }
+        if (totalLength < 0) {
+            throw new IOException("Invalid checkpoint data length " + totalLength);
+        }
+        if (totalLength > Integer.MAX_VALUE - 8) {
+            throw new IOException("Checkpoint data is too large: " + totalLength);
+        }
+
+        List<Chunk> chunks = new ArrayList<>(chunkCount);
+        long rawLength = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            Chunk chunk = readChunk(in);
+            rawLength += chunk.rawLength;
+            chunks.add(chunk);
+        }
+        if (rawLength != totalLength) {
+            throw new IOException(
+                    "Checkpoint data chunks hold "
+                            + rawLength
+                            + " bytes but the declared length is "
+                            + totalLength);
+        }
+        byte[] result = new byte[(int) totalLength];
+        if (chunkCount == 1) {
+            decompressChunk(dataCompression, chunks.get(0), result, 0);
+            return result;
+        }
+        List<Future<?>> futures = new ArrayList<>(chunkCount);
+        int offset = 0;
+        for (Chunk chunk : chunks) {
+            int chunkOffset = offset;
+            futures.add(
+                    getExecutor()
+                            .submit(
+                                    () -> {
+                                        decompressChunk(
+                                                dataCompression, chunk, result, chunkOffset);
+                                        return null;
+                                    }));
+            offset += chunk.rawLength;
+        }
+        try {
+            for (Future<?> future : futures) {
+                await(future);
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return result;
+    }
+
+    public static boolean isEncoded(byte[] data) {
+        return data != null
+                && data.length > MAGIC.length
+                && Arrays.equals(Arrays.copyOf(data, MAGIC.length), MAGIC);
+    }
+
+    private Chunk compressChunk(byte[] data, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(data, offset, length);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data, offset, length);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length / 2 + 64);
+            byte[] buffer = new byte[Math.min(length + 64, 64 * 1024)];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+            }
+            return new Chunk(length, (int) crc.getValue(), out.toByteArray());
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void decompressChunk(
+            Compression dataCompression, Chunk chunk, byte[] result, int offset)
+            throws IOException {
+        if (offset + chunk.rawLength > result.length) {
+            throw new IOException("Checkpoint data chunk exceeds the declared length");
+        }
+        if (dataCompression == Compression.NONE) {
+            System.arraycopy(chunk.data, 0, result, offset, chunk.rawLength);
+        } else {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(chunk.data);
+                int read = 0;
+                while (read < chunk.rawLength && !inflater.finished()) {
+                    int count = inflater.inflate(result, offset + read, chunk.rawLength - read);
+                    if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    read += count;
+                }
+                if (read != chunk.rawLength) {
+                    throw new IOException(
+                            String.format(
+                                    "Checkpoint data chunk is truncated, expected %d bytes but got %d",
+                                    chunk.rawLength, read));
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("Checkpoint data chunk is corrupted", e);
+            } finally {
+                inflater.end();
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(result, offset, chunk.rawLength);
+        if ((int) crc.getValue() != chunk.crc) {
+            throw new IOException("Checkpoint data chunk checksum mismatch");
+        }
+    }
+
+    private static void writeChunk(DataOutputStream out, Chunk chunk) throws IOException {
+        out.writeInt(chunk.rawLength);
+        out.writeInt(chunk.data.length);
+        out.writeInt(chunk.crc);
+        out.write(chunk.data);
+    }
+
+    private static Chunk readChunk(DataInputStream in) throws IOException {
+        int rawLength = in.readInt();
+        int storedLength = in.readInt();
+        int crc = in.readInt();
+        if (rawLength < 0 || storedLength < 0 || storedLength > in.available()) {
+            throw new IOException("Checkpoint data chunk header is corrupted");
+        }
+        byte[] stored = new byte[storedLength];
+        in.readFully(stored);
+        return new Chunk(rawLength, crc, stored);
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while encoding checkpoint data", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private ThreadPoolExecutor getExecutor() {
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    ThreadPoolExecutor pool =
+                            new ThreadPoolExecutor(
+                                    parallelism,
+                                    parallelism,
+                                    60L,
+                                    TimeUnit.SECONDS,
+                                    new LinkedBlockingQueue<>(),
+                                    new StorageThreadFactory());
+                    pool.allowCoreThreadTimeOut(true);
+                    executor = pool;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static class Chunk {
+        private final int rawLength;
+        private final int crc;
+        private final byte[] data;
+
+        private Chunk(int rawLength, int crc, byte[] data) {
+            this.rawLength = rawLength;
+            this.crc = crc;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.common;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.serializer.binary.BinaryInput;
+import org.apache.seatunnel.engine.serializer.binary.BinaryOutput;
+import org.apache.seatunnel.engine.serializer.binary.BinarySerializer;
+import org.apache.seatunnel.engine.serializer.binary.TypeCodec;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.SERIALIZER;
+
+/**
+ * Creates the serializers of the checkpoint data. They write the configured {@link Format} and read
+ * both formats, so that the format can be changed without losing the existing checkpoints.
+ */
+public class CheckpointSerializers {
+
+    /** The type ids of the classes with a binary codec, they are written to the data. */
+    public static final int PIPELINE_STATE_TYPE_ID = 1;
+
+    public static final int COMPLETED_CHECKPOINT_TYPE_ID = 2;
+
+    public enum Format {
+        /** Reflection based, the default. */
+        PROTOSTUFF,
+        /** Written by the codecs registered for the checkpoint classes, smaller and faster. */
+        BINARY;
+
+        public static Format fromName(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private CheckpointSerializers() {}
+
+    /** Returns the format configured in the storage configuration. */
+    public static Format getFormat(Map<String, String> configuration) {
+        String format = configuration == null ? null : configuration.get(SERIALIZER);
+        return format == null ? Format.PROTOSTUFF : Format.fromName(format);
+    }
+
+    /** Creates a serializer without codecs, the codecs have to be registered by the caller. */
+    public static BinarySerializer create(Format format) {
+        return new BinarySerializer(new ProtoStuffSerializer(), format == Format.BINARY);
+    }
+
+    /** Creates the serializer of the {@link PipelineState}s. */
+    public static BinarySerializer createPipelineStateSerializer(Format format) {
+        return create(format)
+                .register(PIPELINE_STATE_TYPE_ID, PipelineState.class, new PipelineStateCodec());
+    }
+
+    private static class PipelineStateCodec implements TypeCodec<PipelineState> {
+
+        @Override
+        public void write(BinaryOutput out, PipelineState value) {
+            out.writeString(value.getJobId());
+            out.writeVarInt(value.getPipelineId());
+            out.writeVarLong(value.getCheckpointId());
+            out.writeBytes(value.getStates());
+        }
+
+        @Override
+        public PipelineState read(BinaryInput in) throws IOException {
+            return PipelineState.builder()
+                    .jobId(in.readString())
+                    .pipelineId(in.readVarInt())
+                    .checkpointId(in.readVarLong())
+                    .states(in.readBytes())
+                    .build();
+        }
+    }
+}
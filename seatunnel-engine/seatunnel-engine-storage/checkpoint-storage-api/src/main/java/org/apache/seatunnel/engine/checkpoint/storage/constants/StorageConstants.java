@@ -24,4 +24,22 @@ public class StorageConstants {
 
     /** The name of the configuration property that specifies the name of the file system. */
     public static final String STORAGE_NAME_SPACE = "namespace";
+
+    /** The suffix of the files which are written first and renamed when they are complete. */
+    public static final String STORAGE_TMP_SUFFIX = "tmp";
+
+    /** The compression of the checkpoint data, {@code none} or {@code deflate}. */
+    public static final String COMPRESSION = "compression";
+
+    /** The size in bytes of the chunks that are compressed in parallel. */
+    public static final String COMPRESSION_CHUNK_SIZE = "compression.chunk-size";
+
+    /** How many chunks are compressed at the same time. */
+    public static final String COMPRESSION_PARALLELISM = "compression.parallelism";
+
+    /**
+     * The format the checkpoint data is written in, {@code protostuff} or {@code binary}. Data in
+     * either format is always readable.
+     */
+    public static final String SERIALIZER = "serializer";
 }
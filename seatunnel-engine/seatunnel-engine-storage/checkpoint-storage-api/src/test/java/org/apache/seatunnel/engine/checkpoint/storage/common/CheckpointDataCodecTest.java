@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+public class CheckpointDataCodecTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        CheckpointDataCodec codec =
+                new CheckpointDataCodec(CheckpointDataCodec.Compression.DEFLATE, 1000, 3);
+        for (int length : new int[] {0, 1, 999, 1000, 1001, 10_500}) {
+            byte[] data = compressible(length);
+            byte[] encoded = codec.encode(data);
+            Assertions.assertTrue(CheckpointDataCodec.isEncoded(encoded));
+            Assertions.assertArrayEquals(data, codec.decode(encoded));
+            // the data is readable whatever compression the reading storage is configured with
+            Assertions.assertArrayEquals(data, CheckpointDataCodec.NONE.decode(encoded));
+        }
+
+        byte[] data = compressible(100_000);
+        Assertions.assertTrue(codec.encode(data).length * 4 < data.length);
+    }
+
+    @Test
+    public void testUncompressedData() throws IOException {
+        byte[] data = compressible(100);
+        Assertions.assertSame(data, CheckpointDataCodec.NONE.encode(data));
+        CheckpointDataCodec codec =
+                new CheckpointDataCodec(CheckpointDataCodec.Compression.DEFLATE, 1000, 3);
+        Assertions.assertSame(data, codec.decode(data));
+    }
+
+    @Test
+    public void testCorruptedData() throws IOException {
+        CheckpointDataCodec codec =
+                new CheckpointDataCodec(CheckpointDataCodec.Compression.DEFLATE, 1000, 2);
+        byte[] data = new byte[5000];
+        new Random(42).nextBytes(data);
+        byte[] encoded = codec.encode(data);
+
+        byte[] corrupted = encoded.clone();
+        corrupted[corrupted.length - 10] ^= 0x5A;
+        Assertions.assertThrows(IOException.class, () -> codec.decode(corrupted));
+
+        byte[] truncated = new byte[encoded.length - 100];
+        System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+        Assertions.assertThrows(IOException.class, () -> codec.decode(truncated));
+    }
+
+    @Test
+    public void testCorruptedHeader() throws IOException {
+        CheckpointDataCodec codec =
+                new CheckpointDataCodec(CheckpointDataCodec.Compression.DEFLATE, 1000, 2);
+        byte[] encoded = codec.encode(compressible(5000));
+        // magic, version and compression come before the chunk count and the total length
+        int chunkCountOffset = 6;
+        int totalLengthOffset = chunkCountOffset + 4;
+
+        byte[] negativeChunkCount = encoded.clone();
+        ByteBuffer.wrap(negativeChunkCount).putInt(chunkCountOffset, -1);
+        Assertions.assertThrows(IOException.class, () -> codec.decode(negativeChunkCount));
+
+        byte[] hugeChunkCount = encoded.clone();
+        ByteBuffer.wrap(hugeChunkCount).putInt(chunkCountOffset, Integer.MAX_VALUE);
+        Assertions.assertThrows(IOException.class, () -> codec.decode(hugeChunkCount));
+
+        byte[] negativeLength = encoded.clone();
+        ByteBuffer.wrap(negativeLength).putLong(totalLengthOffset, -1);
+        Assertions.assertThrows(IOException.class, () -> codec.decode(negativeLength));
+
+        byte[] wrongLength = encoded.clone();
+        ByteBuffer.wrap(wrongLength).putLong(totalLengthOffset, 4000);
+        Assertions.assertThrows(IOException.class, () -> codec.decode(wrongLength));
+    }
+
+    private static byte[] compressible(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) ("checkpoint".charAt(i % 10) + i / 1000);
+        }
+        return data;
+    }
+}
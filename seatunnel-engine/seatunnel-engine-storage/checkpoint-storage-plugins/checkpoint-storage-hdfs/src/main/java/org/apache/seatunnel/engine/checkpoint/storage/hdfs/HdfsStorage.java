@@ -22,6 +22,7 @@ package org.apache.seatunnel.engine.checkpoint.storage.hdfs;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.api.AbstractCheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointManifest;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.checkpoint.storage.hdfs.common.AbstractConfiguration;
 import org.apache.seatunnel.engine.checkpoint.storage.hdfs.common.FileConfiguration;
@@ -40,17 +41,18 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_NAME_SPACE;
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_TMP_SUFFIX;
 
 @Slf4j
 public class HdfsStorage extends AbstractCheckpointStorage {
 
     public FileSystem fs;
-    private static final String STORAGE_TMP_SUFFIX = "tmp";
     private static final String STORAGE_TYPE_KEY = "storage.type";
 
     public HdfsStorage(Map<String, String> configuration) throws CheckpointStorageException {
@@ -63,6 +65,8 @@ public class HdfsStorage extends AbstractCheckpointStorage {
             setStorageNameSpace(configuration.get(STORAGE_NAME_SPACE));
             configuration.remove(STORAGE_NAME_SPACE);
         }
+        initDataCodec(configuration);
+        initSerializer(configuration);
         Configuration hadoopConf = getConfiguration(configuration);
         try {
             fs = FileSystem.get(hadoopConf);
@@ -83,13 +87,6 @@ public class HdfsStorage extends AbstractCheckpointStorage {
 
     @Override
     public String storeCheckPoint(PipelineState state) throws CheckpointStorageException {
-        byte[] datas;
-        try {
-            datas = serializeCheckPointData(state);
-        } catch (IOException e) {
-            throw new CheckpointStorageException(
-                    String.format("Failed to serialize checkpoint data, state: %s", state), e);
-        }
         Path filePath =
                 new Path(
                         getStorageParentDirectory()
@@ -105,7 +102,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                                 + getCheckPointName(state)
                                 + STORAGE_TMP_SUFFIX);
         try (FSDataOutputStream out = fs.create(tmpFilePath, false)) {
-            out.write(datas);
+            writeCheckPointData(state, out);
         } catch (IOException e) {
             throw new CheckpointStorageException(
                     String.format(
@@ -131,6 +128,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                 log.error("Failed to delete tmp file", ioe);
             }
         }
+        addToManifest(state.getJobId(), filePath.getName());
 
         return filePath.getName();
     }
@@ -161,6 +159,21 @@ public class HdfsStorage extends AbstractCheckpointStorage {
 
     @Override
     public List<PipelineState> getLatestCheckpoint(String jobId) throws CheckpointStorageException {
+        CheckpointManifest manifest = getManifest(jobId);
+        if (manifest != null) {
+            try {
+                List<PipelineState> latestPipelineStates = new ArrayList<>();
+                for (String fileName : manifest.getLatestFileNames()) {
+                    latestPipelineStates.add(readPipelineState(fileName, jobId));
+                }
+                return latestPipelineStates;
+            } catch (CheckpointStorageException e) {
+                log.warn(
+                        "Failed to read the checkpoints in the manifest of job {}, list the checkpoint files instead",
+                        jobId,
+                        e);
+            }
+        }
         String path = getStorageParentDirectory() + jobId;
         List<String> fileNames = getFileNames(path);
         if (fileNames.isEmpty()) {
@@ -187,6 +200,27 @@ public class HdfsStorage extends AbstractCheckpointStorage {
     @Override
     public PipelineState getLatestCheckpointByJobIdAndPipelineId(String jobId, String pipelineId)
             throws CheckpointStorageException {
+        CheckpointManifest manifest = getManifest(jobId);
+        if (manifest != null) {
+            String fileName = manifest.getLatestFileName(pipelineId);
+            if (fileName == null) {
+                log.info(
+                        "No checkpoint found for this job, the job id is: "
+                                + jobId
+                                + ", pipeline id is: "
+                                + pipelineId);
+                return null;
+            }
+            try {
+                return readPipelineState(fileName, jobId);
+            } catch (CheckpointStorageException e) {
+                log.warn(
+                        "Failed to read the checkpoint {} in the manifest of job {}, list the checkpoint files instead",
+                        fileName,
+                        jobId,
+                        e);
+            }
+        }
         String path = getStorageParentDirectory() + jobId;
         List<String> fileNames = getFileNames(path);
         if (fileNames.isEmpty()) {
@@ -234,6 +268,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
 
     @Override
     public void deleteCheckpoint(String jobId) {
+        forgetManifest(jobId);
         String jobPath = getStorageParentDirectory() + jobId;
         try {
             fs.delete(new Path(jobPath), true);
@@ -245,6 +280,20 @@ public class HdfsStorage extends AbstractCheckpointStorage {
     @Override
     public PipelineState getCheckpoint(String jobId, String pipelineId, String checkpointId)
             throws CheckpointStorageException {
+        CheckpointManifest manifest = getManifest(jobId);
+        String manifestFileName =
+                manifest == null ? null : manifest.getFileName(pipelineId, checkpointId);
+        if (manifestFileName != null) {
+            try {
+                return readPipelineState(manifestFileName, jobId);
+            } catch (CheckpointStorageException e) {
+                log.warn(
+                        "Failed to read the checkpoint {} in the manifest of job {}, list the checkpoint files instead",
+                        manifestFileName,
+                        jobId,
+                        e);
+            }
+        }
         String path = getStorageParentDirectory() + jobId;
         List<String> fileNames = getFileNames(path);
         if (fileNames.isEmpty()) {
@@ -275,6 +324,12 @@ public class HdfsStorage extends AbstractCheckpointStorage {
     @Override
     public synchronized void deleteCheckpoint(String jobId, String pipelineId, String checkpointId)
             throws CheckpointStorageException {
+        deleteTaskStates(jobId, pipelineId, Collections.singletonList(checkpointId));
+        if (deleteCheckpointFiles(
+                jobId,
+                removeFromManifest(jobId, pipelineId, Collections.singletonList(checkpointId)))) {
+            return;
+        }
         String path = getStorageParentDirectory() + jobId;
         List<String> fileNames = getFileNames(path);
         if (fileNames.isEmpty()) {
@@ -304,6 +359,10 @@ public class HdfsStorage extends AbstractCheckpointStorage {
     @Override
     public void deleteCheckpoint(String jobId, String pipelineId, List<String> checkpointIdList)
             throws CheckpointStorageException {
+        deleteTaskStates(jobId, pipelineId, checkpointIdList);
+        if (deleteCheckpointFiles(jobId, removeFromManifest(jobId, pipelineId, checkpointIdList))) {
+            return;
+        }
         String path = getStorageParentDirectory() + jobId;
         List<String> fileNames = getFileNames(path);
         if (fileNames.isEmpty()) {
@@ -331,6 +390,138 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                 });
     }
 
+    @Override
+    public String storeTaskState(
+            String jobId, String pipelineId, String checkpointId, String name, byte[] data)
+            throws CheckpointStorageException {
+        String handle = getTaskStateHandle(jobId, pipelineId, checkpointId, name);
+        Path filePath = new Path(getStorageParentDirectory() + handle);
+        // a partially written file is never visible under the handle
+        Path tmpFilePath = new Path(filePath + STORAGE_TMP_SUFFIX);
+        try {
+            try (FSDataOutputStream out = fs.create(tmpFilePath, true)) {
+                out.write(encodeTaskState(data));
+            }
+            if (fs.exists(filePath)) {
+                fs.delete(filePath, false);
+            }
+            if (!fs.rename(tmpFilePath, filePath)) {
+                throw new IOException("Failed to rename " + tmpFilePath + " to " + filePath);
+            }
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    "Failed to write task state, file: " + filePath, e);
+        } finally {
+            try {
+                // clean up tmp file, if still lying around
+                if (fs.exists(tmpFilePath)) {
+                    fs.delete(tmpFilePath, false);
+                }
+            } catch (IOException ioe) {
+                log.error("Failed to delete tmp file", ioe);
+            }
+        }
+        return handle;
+    }
+
+    @Override
+    public byte[] getTaskState(String handle) throws CheckpointStorageException {
+        Path filePath = new Path(getStorageParentDirectory() + handle);
+        try (FSDataInputStream in = fs.open(filePath);
+                ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+            IOUtils.copyBytes(in, stream, 1024);
+            return decodeTaskState(stream.toByteArray());
+        } catch (IOException e) {
+            throw new CheckpointStorageException("Failed to read task state, file: " + filePath, e);
+        }
+    }
+
+    @Override
+    public void deleteTaskStates(String jobId, String pipelineId, List<String> checkpointIdList) {
+        for (String checkpointId : checkpointIdList) {
+            Path directory =
+                    new Path(
+                            getStorageParentDirectory()
+                                    + getTaskStateDirectory(jobId, pipelineId, checkpointId));
+            try {
+                fs.delete(directory, true);
+            } catch (IOException e) {
+                log.warn("Failed to delete task state directory {}", directory, e);
+            }
+        }
+    }
+
+    /**
+     * Deletes the checkpoint files removed from the manifest.
+     *
+     * @return false if the manifest had none of them and the files have to be listed
+     */
+    private boolean deleteCheckpointFiles(String jobId, List<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return false;
+        }
+        String path = getStorageParentDirectory() + jobId;
+        for (String fileName : fileNames) {
+            try {
+                fs.delete(new Path(path + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName), false);
+            } catch (Exception e) {
+                log.error("Failed to delete checkpoint file {} for job {}", fileName, jobId, e);
+            }
+        }
+        return true;
+    }
+
+    private Path getManifestPath(String jobId) {
+        return new Path(
+                getStorageParentDirectory()
+                        + jobId
+                        + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT
+                        + CheckpointManifest.MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    protected byte[] readManifest(String jobId) throws IOException {
+        Path manifestPath = getManifestPath(jobId);
+        if (!fs.exists(manifestPath)) {
+            return null;
+        }
+        try (FSDataInputStream in = fs.open(manifestPath);
+                ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+            IOUtils.copyBytes(in, stream, 1024);
+            return stream.toByteArray();
+        }
+    }
+
+    /**
+     * Writes the manifest to a temporary file and renames it. Renaming does not replace an existing
+     * file on every file system, so the old manifest is deleted first and readers that find no
+     * manifest in between list the checkpoint files instead.
+     */
+    @Override
+    protected void writeManifest(String jobId, byte[] data) throws IOException {
+        Path manifestPath = getManifestPath(jobId);
+        Path tmpPath = new Path(manifestPath + STORAGE_TMP_SUFFIX);
+        try (FSDataOutputStream out = fs.create(tmpPath, true)) {
+            out.write(data);
+        }
+        if (fs.exists(manifestPath)) {
+            fs.delete(manifestPath, false);
+        }
+        if (!fs.rename(tmpPath, manifestPath)) {
+            throw new IOException("Failed to rename " + tmpPath + " to " + manifestPath);
+        }
+    }
+
+    @Override
+    protected void deleteManifest(String jobId) throws IOException {
+        fs.delete(getManifestPath(jobId), false);
+    }
+
+    @Override
+    protected List<String> listCheckpointFileNames(String jobId) throws CheckpointStorageException {
+        return getFileNames(getStorageParentDirectory() + jobId);
+    }
+
     private List<String> getFileNames(String path) throws CheckpointStorageException {
         try {
             Path parentPath = new Path(path);
@@ -21,17 +21,27 @@
 package org.apache.seatunnel.engine.checkpoint.storage.hdfs;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointManifest;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 
+import org.apache.hadoop.fs.Path;
+
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.COMPRESSION;
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.COMPRESSION_CHUNK_SIZE;
 
 public abstract class AbstractFileCheckPointTest {
 
     protected static HdfsStorage STORAGE;
+    protected static Map<String, String> CONFIG;
     protected static final String JOB_ID = "chris";
 
     @Test
@@ -59,6 +69,58 @@ public abstract class AbstractFileCheckPointTest {
         Assertions.assertEquals(2, state.size());
     }
 
+    @Test
+    public void testManifest() throws CheckpointStorageException, IOException {
+        Path manifestPath =
+                new Path(
+                        STORAGE.getStorageParentDirectory()
+                                + JOB_ID
+                                + "/"
+                                + CheckpointManifest.MANIFEST_FILE_NAME);
+        Assertions.assertTrue(STORAGE.fs.exists(manifestPath));
+        Assertions.assertEquals(1, STORAGE.getCheckpoint(JOB_ID, "1", "1").getCheckpointId());
+    }
+
+    @Test
+    public void testCompression() throws CheckpointStorageException, IOException {
+        String jobId = "chris-compression";
+        Map<String, String> config = new HashMap<>(CONFIG);
+        config.put(COMPRESSION, "deflate");
+        config.put(COMPRESSION_CHUNK_SIZE, "65536");
+        HdfsStorage compressedStorage = new HdfsStorage(config);
+
+        byte[] states = new byte[1024 * 1024];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = (byte) (i % 64);
+        }
+        PipelineState pipelineState =
+                PipelineState.builder()
+                        .jobId(jobId)
+                        .pipelineId(1)
+                        .checkpointId(1)
+                        .states(states)
+                        .build();
+        try {
+            String plainFile = STORAGE.storeCheckPoint(pipelineState);
+            pipelineState.setCheckpointId(2);
+            String compressedFile = compressedStorage.storeCheckPoint(pipelineState);
+            String directory = STORAGE.getStorageParentDirectory() + jobId + "/";
+            long plainSize = STORAGE.fs.getFileStatus(new Path(directory + plainFile)).getLen();
+            long compressedSize =
+                    STORAGE.fs.getFileStatus(new Path(directory + compressedFile)).getLen();
+            Assertions.assertTrue(compressedSize * 4 < plainSize);
+
+            // either storage reads both formats
+            HdfsStorage plainStorage = new HdfsStorage(new HashMap<>(CONFIG));
+            Assertions.assertArrayEquals(
+                    states, plainStorage.getCheckpoint(jobId, "1", "2").getStates());
+            Assertions.assertArrayEquals(
+                    states, compressedStorage.getCheckpoint(jobId, "1", "1").getStates());
+        } finally {
+            STORAGE.deleteCheckpoint(jobId);
+        }
+    }
+
     @AfterAll
     public static void teardown() {
         STORAGE.deleteCheckpoint(JOB_ID);
@@ -44,6 +44,7 @@ public class HDFSFileCheckpointTest extends AbstractFileCheckPointTest {
         config.put(
                 "seatunnel.hadoop.dfs.client.failover.proxy.provider.usdp-bing",
                 "org.apache.hadoop.hdfs.server.namenode.ha.ConfiguredFailoverProxyProvider");
+        CONFIG = new HashMap<>(config);
         STORAGE = new HdfsStorage(config);
         initStorageData();
     }
@@ -36,6 +36,7 @@ public class LocalFileCheckPointTest extends AbstractFileCheckPointTest {
         HashMap config = new HashMap();
         config.put("namespace", "/tmp/");
         config.put("disable.cache", "false");
+        CONFIG = new HashMap<>(config);
         STORAGE = new HdfsStorage(config);
         initStorageData();
     }
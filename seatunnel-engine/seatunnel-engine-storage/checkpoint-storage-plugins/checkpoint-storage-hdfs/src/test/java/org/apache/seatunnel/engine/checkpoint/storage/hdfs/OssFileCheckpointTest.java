@@ -40,6 +40,7 @@ public class OssFileCheckpointTest extends AbstractFileCheckPointTest {
         config.put("fs.oss.accessKeySecret", "your access key secret");
         config.put("fs.oss.endpoint", "oss-cn-hangzhou.aliyuncs.com");
         config.put("oss.bucket", "oss://seatunnel-test/");
+        CONFIG = new HashMap<>(config);
         STORAGE = new HdfsStorage(config);
         initStorageData();
     }
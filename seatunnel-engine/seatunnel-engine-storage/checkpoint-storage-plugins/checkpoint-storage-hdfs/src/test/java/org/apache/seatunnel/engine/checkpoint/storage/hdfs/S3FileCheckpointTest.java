@@ -43,6 +43,7 @@ public class S3FileCheckpointTest extends AbstractFileCheckPointTest {
         config.put(
                 "fs.s3a.aws.credentials.provider",
                 "org.apache.hadoop.fs.s3a.SimpleAWSCredentialsProvider");
+        CONFIG = new HashMap<>(config);
         STORAGE = new HdfsStorage(config);
         initStorageData();
     }
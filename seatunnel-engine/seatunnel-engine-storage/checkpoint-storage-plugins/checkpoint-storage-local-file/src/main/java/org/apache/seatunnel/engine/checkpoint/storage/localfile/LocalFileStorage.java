@@ -22,6 +22,7 @@ package org.apache.seatunnel.engine.checkpoint.storage.localfile;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.api.AbstractCheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointManifest;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 
 import org.apache.commons.collections4.MapUtils;
@@ -31,11 +32,17 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -44,6 +51,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_NAME_SPACE;
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_TMP_SUFFIX;
 
 @Slf4j
 public class LocalFileStorage extends AbstractCheckpointStorage {
@@ -68,6 +76,8 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
         if (StringUtils.isNotBlank(configuration.get(STORAGE_NAME_SPACE))) {
             setStorageNameSpace(configuration.get(STORAGE_NAME_SPACE));
         }
+        initDataCodec(configuration);
+        initSerializer(configuration);
     }
 
     /** set default storage root directory */
@@ -81,12 +91,6 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
 
     @Override
     public String storeCheckPoint(PipelineState state) throws CheckpointStorageException {
-        byte[] datas;
-        try {
-            datas = serializeCheckPointData(state);
-        } catch (IOException e) {
-            throw new CheckpointStorageException("Failed to serialize checkpoint data", e);
-        }
         // Consider file paths for different operating systems
         String fileName =
                 getStorageParentDirectory()
@@ -101,12 +105,13 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
             throw new CheckpointStorageException("Failed to create checkpoint file " + fileName, e);
         }
 
-        try {
-            FileUtils.writeByteArrayToFile(file, datas);
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            writeCheckPointData(state, out);
         } catch (IOException e) {
             throw new CheckpointStorageException(
                     "Failed to write checkpoint data to file " + fileName, e);
         }
+        addToManifest(state.getJobId(), file.getName());
 
         return fileName;
     }
@@ -147,6 +152,21 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
 
     @Override
     public List<PipelineState> getLatestCheckpoint(String jobId) throws CheckpointStorageException {
+        CheckpointManifest manifest = getManifest(jobId);
+        if (manifest != null) {
+            try {
+                List<PipelineState> latestPipelineStates = new ArrayList<>();
+                for (String fileName : manifest.getLatestFileNames()) {
+                    latestPipelineStates.add(readCheckpointFile(jobId, fileName));
+                }
+                return latestPipelineStates;
+            } catch (IOException e) {
+                log.warn(
+                        "Failed to read the checkpoints in the manifest of job {}, list the checkpoint files instead",
+                        jobId,
+                        e);
+            }
+        }
         String parentPath = getStorageParentDirectory() + jobId;
         Collection<File> fileList = new ArrayList<>();
         try {
@@ -189,7 +209,27 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
     @Override
     public PipelineState getLatestCheckpointByJobIdAndPipelineId(String jobId, String pipelineId)
             throws CheckpointStorageException {
-
+        CheckpointManifest manifest = getManifest(jobId);
+        if (manifest != null) {
+            String fileName = manifest.getLatestFileName(pipelineId);
+            if (fileName == null) {
+                log.info(
+                        "No checkpoint found for this job, the job id is: "
+                                + jobId
+                                + ", pipeline id is: "
+                                + pipelineId);
+                return null;
+            }
+            try {
+                return readCheckpointFile(jobId, fileName);
+            } catch (IOException e) {
+                log.warn(
+                        "Failed to read the checkpoint {} in the manifest of job {}, list the checkpoint files instead",
+                        fileName,
+                        jobId,
+                        e);
+            }
+        }
         String parentPath = getStorageParentDirectory() + jobId;
         Collection<File> fileList = new ArrayList<>();
         try {
@@ -272,6 +312,7 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
 
     @Override
     public void deleteCheckpoint(String jobId) {
+        forgetManifest(jobId);
         String jobPath = getStorageParentDirectory() + jobId;
         File file = new File(jobPath);
         try {
@@ -284,6 +325,20 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
     @Override
     public PipelineState getCheckpoint(String jobId, String pipelineId, String checkpointId)
             throws CheckpointStorageException {
+        CheckpointManifest manifest = getManifest(jobId);
+        String manifestFileName =
+                manifest == null ? null : manifest.getFileName(pipelineId, checkpointId);
+        if (manifestFileName != null) {
+            try {
+                return readCheckpointFile(jobId, manifestFileName);
+            } catch (IOException e) {
+                log.warn(
+                        "Failed to read the checkpoint {} in the manifest of job {}, list the checkpoint files instead",
+                        manifestFileName,
+                        jobId,
+                        e);
+            }
+        }
         String parentPath = getStorageParentDirectory() + jobId;
         Collection<File> fileList = new ArrayList<>();
         try {
@@ -323,6 +378,12 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
     @Override
     public synchronized void deleteCheckpoint(String jobId, String pipelineId, String checkpointId)
             throws CheckpointStorageException {
+        deleteTaskStates(jobId, pipelineId, Collections.singletonList(checkpointId));
+        if (deleteCheckpointFiles(
+                jobId,
+                removeFromManifest(jobId, pipelineId, Collections.singletonList(checkpointId)))) {
+            return;
+        }
         String parentPath = getStorageParentDirectory() + jobId;
         Collection<File> fileList = new ArrayList<>();
         try {
@@ -357,6 +418,10 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
     @Override
     public void deleteCheckpoint(String jobId, String pipelineId, List<String> checkpointIdList)
             throws CheckpointStorageException {
+        deleteTaskStates(jobId, pipelineId, checkpointIdList);
+        if (deleteCheckpointFiles(jobId, removeFromManifest(jobId, pipelineId, checkpointIdList))) {
+            return;
+        }
         String parentPath = getStorageParentDirectory() + jobId;
         Collection<File> fileList = new ArrayList<>();
         try {
@@ -389,4 +454,121 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
                     }
                 });
     }
+
+    @Override
+    public String storeTaskState(
+            String jobId, String pipelineId, String checkpointId, String name, byte[] data)
+            throws CheckpointStorageException {
+        String handle = getTaskStateHandle(jobId, pipelineId, checkpointId, name);
+        File file = new File(getStorageParentDirectory() + handle);
+        // a partially written file is never visible under the handle
+        File tmpFile = new File(file.getPath() + STORAGE_TMP_SUFFIX);
+        try {
+            FileUtils.writeByteArrayToFile(tmpFile, encodeTaskState(data));
+            Files.move(
+                    tmpFile.toPath(),
+                    file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            FileUtils.deleteQuietly(tmpFile);
+            throw new CheckpointStorageException("Failed to write task state to file " + file, e);
+        }
+        return handle;
+    }
+
+    @Override
+    public byte[] getTaskState(String handle) throws CheckpointStorageException {
+        File file = new File(getStorageParentDirectory() + handle);
+        try {
+            return decodeTaskState(FileUtils.readFileToByteArray(file));
+        } catch (IOException e) {
+            throw new CheckpointStorageException("Failed to read task state from file " + file, e);
+        }
+    }
+
+    @Override
+    public void deleteTaskStates(String jobId, String pipelineId, List<String> checkpointIdList) {
+        for (String checkpointId : checkpointIdList) {
+            File directory =
+                    new File(
+                            getStorageParentDirectory()
+                                    + getTaskStateDirectory(jobId, pipelineId, checkpointId));
+            try {
+                FileUtils.deleteDirectory(directory);
+            } catch (IOException e) {
+                log.warn("Failed to delete task state directory " + directory, e);
+            }
+        }
+    }
+
+    private PipelineState readCheckpointFile(String jobId, String fileName) throws IOException {
+        File file = new File(getStorageParentDirectory() + jobId + File.separator + fileName);
+        return deserializeCheckPointData(FileUtils.readFileToByteArray(file));
+    }
+
+    /**
+     * Deletes the checkpoint files removed from the manifest.
+     *
+     * @return false if the manifest had none of them and the files have to be listed
+     */
+    private boolean deleteCheckpointFiles(String jobId, List<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return false;
+        }
+        for (String fileName : fileNames) {
+            File file = new File(getStorageParentDirectory() + jobId + File.separator + fileName);
+            try {
+                FileUtils.delete(file);
+            } catch (Exception e) {
+                log.error("Failed to delete checkpoint file {} for job {}", fileName, jobId, e);
+            }
+        }
+        return true;
+    }
+
+    private File getManifestFile(String jobId) {
+        return new File(
+                getStorageParentDirectory()
+                        + jobId
+                        + File.separator
+                        + CheckpointManifest.MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    protected byte[] readManifest(String jobId) throws IOException {
+        File manifestFile = getManifestFile(jobId);
+        if (!manifestFile.exists()) {
+            return null;
+        }
+        return FileUtils.readFileToByteArray(manifestFile);
+    }
+
+    @Override
+    protected void writeManifest(String jobId, byte[] data) throws IOException {
+        File manifestFile = getManifestFile(jobId);
+        File tmpFile = new File(manifestFile.getPath() + STORAGE_TMP_SUFFIX);
+        FileUtils.writeByteArrayToFile(tmpFile, data);
+        Files.move(
+                tmpFile.toPath(),
+                manifestFile.toPath(),
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    protected void deleteManifest(String jobId) throws IOException {
+        Files.deleteIfExists(getManifestFile(jobId).toPath());
+    }
+
+    @Override
+    protected List<String> listCheckpointFileNames(String jobId) {
+        File filePath = new File(getStorageParentDirectory() + jobId);
+        if (!filePath.exists()) {
+            return new ArrayList<>();
+        }
+        return FileUtils.listFiles(filePath, FILE_EXTENSIONS, false).stream()
+                .map(File::getName)
+                .collect(Collectors.toList());
+    }
 }
@@ -21,15 +21,24 @@
 package org.apache.seatunnel.engine.checkpoint.storage.localfile;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointManifest;
+import org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 
+import org.apache.commons.io.FileUtils;
+
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnOs;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.condition.OS.LINUX;
 import static org.junit.jupiter.api.condition.OS.MAC;
@@ -82,6 +91,159 @@ public class LocalFileStorageTest {
         Assertions.assertEquals(2, state.size());
     }
 
+    @Test
+    public void testManifest() throws CheckpointStorageException, IOException {
+        File manifestFile = getManifestFile(JOB_ID);
+        Assertions.assertTrue(manifestFile.exists());
+        CheckpointManifest manifest =
+                CheckpointManifest.parse(FileUtils.readFileToByteArray(manifestFile));
+        Assertions.assertEquals(3, manifest.getFileNames().size());
+        Assertions.assertEquals(1, STORAGE.getCheckpoint(JOB_ID, "1", "1").getCheckpointId());
+    }
+
+    @Test
+    public void testWithoutManifest() throws CheckpointStorageException {
+        String jobId = "chris-without-manifest";
+        LocalFileStorage storage = new LocalFileStorage(null);
+        PipelineState pipelineState =
+                PipelineState.builder()
+                        .jobId(jobId)
+                        .pipelineId(1)
+                        .checkpointId(1)
+                        .states(new byte[0])
+                        .build();
+        storage.storeCheckPoint(pipelineState);
+        pipelineState.setCheckpointId(2);
+        storage.storeCheckPoint(pipelineState);
+        try {
+            // a new storage instance has to list the files when the manifest is missing
+            Assertions.assertTrue(getManifestFile(jobId).delete());
+            LocalFileStorage newStorage = new LocalFileStorage(null);
+            Assertions.assertEquals(
+                    2,
+                    newStorage
+                            .getLatestCheckpointByJobIdAndPipelineId(jobId, "1")
+                            .getCheckpointId());
+
+            // the first change rebuilds the manifest from the files
+            newStorage.deleteCheckpoint(jobId, "1", Collections.singletonList("1"));
+            Assertions.assertTrue(getManifestFile(jobId).exists());
+            Assertions.assertEquals(
+                    1, newStorage.getCheckpointsByJobIdAndPipelineId(jobId, "1").size());
+            Assertions.assertEquals(
+                    2, newStorage.getLatestCheckpoint(jobId).get(0).getCheckpointId());
+        } finally {
+            storage.deleteCheckpoint(jobId);
+        }
+    }
+
+    @Test
+    public void testCompression() throws CheckpointStorageException {
+        String jobId = "chris-compression";
+        Map<String, String> config = new HashMap<>();
+        config.put(StorageConstants.STORAGE_NAME_SPACE, STORAGE.getStorageParentDirectory());
+        config.put(StorageConstants.COMPRESSION, "deflate");
+        LocalFileStorage compressedStorage = new LocalFileStorage(config);
+        byte[] states = new byte[256 * 1024];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = (byte) (i % 64);
+        }
+        PipelineState pipelineState =
+                PipelineState.builder()
+                        .jobId(jobId)
+                        .pipelineId(1)
+                        .checkpointId(1)
+                        .states(states)
+                        .build();
+        try {
+            String plainFile = STORAGE.storeCheckPoint(pipelineState);
+            pipelineState.setCheckpointId(2);
+            String compressedFile = compressedStorage.storeCheckPoint(pipelineState);
+            Assertions.assertTrue(
+                    new File(compressedFile).length() * 4 < new File(plainFile).length());
+
+            Assertions.assertArrayEquals(
+                    states, new LocalFileStorage(null).getCheckpoint(jobId, "1", "2").getStates());
+            Assertions.assertArrayEquals(
+                    states, compressedStorage.getCheckpoint(jobId, "1", "1").getStates());
+        } finally {
+            STORAGE.deleteCheckpoint(jobId);
+        }
+    }
+
+    @Test
+    public void testSerializer() throws CheckpointStorageException {
+        String jobId = "chris-serializer";
+        Map<String, String> config = new HashMap<>();
+        config.put(StorageConstants.STORAGE_NAME_SPACE, STORAGE.getStorageParentDirectory());
+        config.put(StorageConstants.SERIALIZER, "binary");
+        LocalFileStorage binaryStorage = new LocalFileStorage(config);
+        byte[] states = new byte[] {1, 2, 3};
+        PipelineState pipelineState =
+                PipelineState.builder()
+                        .jobId(jobId)
+                        .pipelineId(1)
+                        .checkpointId(1)
+                        .states(states)
+                        .build();
+        try {
+            String protostuffFile = STORAGE.storeCheckPoint(pipelineState);
+            pipelineState.setCheckpointId(2);
+            String binaryFile = binaryStorage.storeCheckPoint(pipelineState);
+            Assertions.assertTrue(
+                    new File(binaryFile).length() < new File(protostuffFile).length());
+
+            // both formats are readable whatever format a storage writes
+            Assertions.assertEquals(
+                    pipelineState, new LocalFileStorage(null).getCheckpoint(jobId, "1", "2"));
+            pipelineState.setCheckpointId(1);
+            Assertions.assertEquals(pipelineState, binaryStorage.getCheckpoint(jobId, "1", "1"));
+        } finally {
+            STORAGE.deleteCheckpoint(jobId);
+        }
+    }
+
+    @Test
+    public void testTaskState() throws CheckpointStorageException {
+        String jobId = "chris-task-state";
+        PipelineState pipelineState =
+                PipelineState.builder()
+                        .jobId(jobId)
+                        .pipelineId(1)
+                        .checkpointId(1)
+                        .states(new byte[0])
+                        .build();
+        byte[] state = new byte[] {1, 2, 3};
+        try {
+            STORAGE.storeCheckPoint(pipelineState);
+            String handle = STORAGE.storeTaskState(jobId, "1", "1", "task-0", state);
+            Assertions.assertArrayEquals(state, new LocalFileStorage(null).getTaskState(handle));
+            // the state is written to a temporary file and renamed
+            Assertions.assertFalse(
+                    new File(
+                                    STORAGE.getStorageParentDirectory()
+                                            + handle
+                                            + StorageConstants.STORAGE_TMP_SUFFIX)
+                            .exists());
+            // the task states are never mistaken for checkpoint files
+            Assertions.assertEquals(1, STORAGE.getAllCheckpoints(jobId).size());
+
+            STORAGE.deleteCheckpoint(jobId, "1", "1");
+            Assertions.assertThrows(
+                    CheckpointStorageException.class, () -> STORAGE.getTaskState(handle));
+        } finally {
+            STORAGE.deleteCheckpoint(jobId);
+        }
+    }
+
+    private static File getManifestFile(String jobId) {
+        return new File(
+                STORAGE.getStorageParentDirectory()
+                        + jobId
+                        + File.separator
+                        + CheckpointManifest.MANIFEST_FILE_NAME);
+    }
+
     @AfterAll
     public static void teardown() {
         STORAGE.deleteCheckpoint(JOB_ID);
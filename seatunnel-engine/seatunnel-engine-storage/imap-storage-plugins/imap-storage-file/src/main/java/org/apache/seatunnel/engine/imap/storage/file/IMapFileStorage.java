@@ -24,6 +24,7 @@ import org.apache.seatunnel.engine.imap.storage.api.IMapStorage;
 import org.apache.seatunnel.engine.imap.storage.api.exception.IMapStorageException;
 import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
 import org.apache.seatunnel.engine.imap.storage.file.common.FileConstants;
+import org.apache.seatunnel.engine.imap.storage.file.common.WALCompactor;
 import org.apache.seatunnel.engine.imap.storage.file.common.WALReader;
 import org.apache.seatunnel.engine.imap.storage.file.config.AbstractConfiguration;
 import org.apache.seatunnel.engine.imap.storage.file.config.FileConfiguration;
@@ -35,6 +36,7 @@ import org.apache.seatunnel.engine.serializer.api.Serializer;
 import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
@@ -48,6 +50,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -55,6 +59,7 @@ import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.DEFAULT_IMAP_NAMESPACE;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.BUSINESS_KEY;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.CLUSTER_NAME;
+import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.COMPACTION_INTERVAL_MILLISECONDS_KEY;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.NAMESPACE_KEY;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.WRITE_DATA_TIMEOUT_MILLISECONDS_KEY;
 
@@ -93,6 +98,8 @@ public class IMapFileStorage implements IMapStorage {
 
     public long writDataTimeoutMilliseconds;
 
+    public long compactionIntervalMilliseconds;
+
     /** We used disruptor to implement the asynchronous write. */
     WALDisruptor walDisruptor;
 
@@ -101,12 +108,21 @@ public class IMapFileStorage implements IMapStorage {
 
     private String businessRootPath = null;
 
+    private Path regionPath;
+
+    /** Periodically compacts the sealed wal files of this region into a snapshot. */
+    private ScheduledExecutorService compactionExecutor;
+
+    private WALCompactor compactor;
+
     public static final int DEFAULT_ARCHIVE_WAIT_TIME_MILLISECONDS = 1000 * 60;
 
     public static final int DEFAULT_QUERY_LIST_SIZE = 256;
 
     public static final long DEFAULT_WRITE_DATA_TIMEOUT_MILLISECONDS = 1000 * 60;
 
+    public static final long DEFAULT_COMPACTION_INTERVAL_MILLISECONDS = 1000 * 60 * 10;
+
     private Configuration conf;
 
     private FileConfiguration fileConfiguration;
@@ -143,6 +159,12 @@ public class IMapFileStorage implements IMapStorage {
                         configuration.getOrDefault(
                                 WRITE_DATA_TIMEOUT_MILLISECONDS_KEY,
                                 DEFAULT_WRITE_DATA_TIMEOUT_MILLISECONDS);
+        this.compactionIntervalMilliseconds =
+                Long.parseLong(
+                        String.valueOf(
+                                configuration.getOrDefault(
+                                        COMPACTION_INTERVAL_MILLISECONDS_KEY,
+                                        DEFAULT_COMPACTION_INTERVAL_MILLISECONDS)));
 
         this.region = String.valueOf(System.nanoTime());
         this.businessRootPath =
@@ -152,6 +174,7 @@ public class IMapFileStorage implements IMapStorage {
                         + DEFAULT_IMAP_FILE_PATH_SPLIT
                         + businessName
                         + DEFAULT_IMAP_FILE_PATH_SPLIT;
+        this.regionPath = new Path(businessRootPath + region);
         try {
             this.fs = FileSystem.get(hadoopConf);
             fs.setWriteChecksum(false);
@@ -165,6 +188,26 @@ public class IMapFileStorage implements IMapStorage {
                         FileConfiguration.valueOf(storageType.toUpperCase()),
                         businessRootPath + region + DEFAULT_IMAP_FILE_PATH_SPLIT,
                         serializer);
+        try {
+            this.compactor = new WALCompactor(fs, this.fileConfiguration, serializer);
+        } catch (IOException e) {
+            throw new IMapStorageException("Failed to create wal compactor", e);
+        }
+        if (compactionIntervalMilliseconds > 0) {
+            this.compactionExecutor =
+                    Executors.newSingleThreadScheduledExecutor(
+                            runnable -> {
+                                Thread thread =
+                                        new Thread(runnable, "imap-compaction-" + businessName);
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+            compactionExecutor.scheduleWithFixedDelay(
+                    this::compact,
+                    compactionIntervalMilliseconds,
+                    compactionIntervalMilliseconds,
+                    TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
@@ -252,6 +295,39 @@ public class IMapFileStorage implements IMapStorage {
         }
     }
 
+    /**
+     * Seal the wal file currently written and compact all sealed wal files of this region into a
+     * snapshot. Entries of other regions are not touched, as those may still be written by other
+     * members, so delete entries are only dropped when this region is the only one left.
+     *
+     * @return whether a new snapshot was written
+     */
+    synchronized boolean compact() {
+        if (walDisruptor.isClosed()) {
+            return false;
+        }
+        try {
+            long requestId = sendToDisruptorQueue(null, WALEventType.ROLLOVER);
+            if (!queryExecuteStatus(requestId)) {
+                log.warn("rollover wal file of {} failed, skip compaction", regionPath);
+                return false;
+            }
+            return compactor.compact(regionPath, walDisruptor.getCurrentIndex(), hasOtherRegions());
+        } catch (Exception e) {
+            log.error("compact wal files of {} failed", regionPath, e);
+            return false;
+        }
+    }
+
+    private boolean hasOtherRegions() throws IOException {
+        for (FileStatus status : fs.listStatus(new Path(businessRootPath))) {
+            if (!status.getPath().getName().equals(region)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void destroy(boolean deleteAllFileFlag) {
         log.info(
@@ -262,6 +338,15 @@ public class IMapFileStorage implements IMapStorage {
          * 1. close current disruptor 2. delete all files notice: we can not delete the files in the
          * middle of the write, so some current file may be not deleted
          */
+        if (compactionExecutor != null) {
+            compactionExecutor.shutdownNow();
+            try {
+                compactionExecutor.awaitTermination(
+                        writDataTimeoutMilliseconds, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
         try {
             walDisruptor.close();
         } catch (IOException e) {
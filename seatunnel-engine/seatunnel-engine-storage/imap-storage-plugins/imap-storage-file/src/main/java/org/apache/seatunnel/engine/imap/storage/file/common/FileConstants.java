@@ -64,5 +64,11 @@ public class FileConstants {
 
         /** The maximum waiting time of write operations */
         String WRITE_DATA_TIMEOUT_MILLISECONDS_KEY = "writeDataTimeoutMilliseconds";
+
+        /**
+         * The interval of compacting the wal files into a snapshot of the live data, a value less
+         * than or equal to 0 disables the compaction
+         */
+        String COMPACTION_INTERVAL_MILLISECONDS_KEY = "compactionIntervalMilliseconds";
     }
 }
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.imap.storage.file.common;
+
+import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
+import org.apache.seatunnel.engine.imap.storage.file.config.FileConfiguration;
+import org.apache.seatunnel.engine.imap.storage.file.wal.DiscoveryWalFileFactory;
+import org.apache.seatunnel.engine.imap.storage.file.wal.reader.IFileReader;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.apache.seatunnel.engine.imap.storage.file.wal.writer.IFileWriter.FILE_NAME;
+
+/**
+ * Compacts the sealed wal files of one region into a snapshot that only holds the latest entry of
+ * every key, so that loading the data costs the size of the live data instead of the whole write
+ * history.
+ *
+ * <p>The snapshot is written to a temporary file and renamed once complete. Afterwards the previous
+ * snapshot and the compacted wal files are deleted from the oldest to the newest. A crash at any
+ * point therefore leaves either the old files, or the new snapshot together with a suffix of the
+ * compacted history, both of which load to the same data.
+ */
+@Slf4j
+public class WALCompactor {
+
+    public static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+
+    private static final String SNAPSHOT_FILE_PREFIX = "snapshot_";
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final FileSystem fs;
+
+    private final Serializer serializer;
+
+    private final IFileReader<IMapFileData> fileReader;
+
+    public WALCompactor(FileSystem fs, FileConfiguration configuration, Serializer serializer)
+            throws IOException {
+        this.fs = fs;
+        this.serializer = serializer;
+        this.fileReader = DiscoveryWalFileFactory.getReader(configuration.getName());
+        this.fileReader.initialize(fs, serializer);
+    }
+
+    /**
+     * @param regionPath the directory the wal files of the region are written to
+     * @param currentIndex the index of the wal file currently written, only files with a smaller
+     *     index are compacted
+     * @param keepDeleted whether delete entries are kept in the snapshot, this is needed as long as
+     *     other regions may still hold older entries of the same keys
+     * @return whether a new snapshot was written
+     */
+    public boolean compact(Path regionPath, long currentIndex, boolean keepDeleted)
+            throws IOException {
+        if (!fs.exists(regionPath)) {
+            return false;
+        }
+        List<Path> snapshots = new ArrayList<>();
+        TreeMap<Long, Path> sealedFiles = new TreeMap<>();
+        for (FileStatus status : fs.listStatus(regionPath)) {
+            String fileName = status.getPath().getName();
+            if (fileName.endsWith(TEMPORARY_FILE_SUFFIX)) {
+                // left over by a compaction that did not finish
+                fs.delete(status.getPath(), false);
+            } else if (fileName.endsWith(SNAPSHOT_FILE_SUFFIX)) {
+                snapshots.add(status.getPath());
+            } else if (fileName.endsWith("_" + FILE_NAME)) {
+                long index = Long.parseLong(fileName.substring(0, fileName.indexOf('_')));
+                if (index < currentIndex) {
+                    sealedFiles.put(index, status.getPath());
+                }
+            }
+        }
+        if (sealedFiles.isEmpty()) {
+            return false;
+        }
+
+        Path snapshotPath =
+                new Path(
+                        regionPath,
+                        SNAPSHOT_FILE_PREFIX + sealedFiles.lastKey() + SNAPSHOT_FILE_SUFFIX);
+        // a snapshot with the same name was completed by a compaction of the same files that
+        // crashed before deleting them, so only the clean up is left
+        if (!fs.exists(snapshotPath)) {
+            writeSnapshot(snapshotPath, snapshots, sealedFiles.values(), keepDeleted);
+        }
+
+        for (Path snapshot : snapshots) {
+            if (!snapshot.getName().equals(snapshotPath.getName())) {
+                fs.delete(snapshot, false);
+            }
+        }
+        for (Path sealedFile : sealedFiles.values()) {
+            fs.delete(sealedFile, false);
+        }
+        return true;
+    }
+
+    private void writeSnapshot(
+            Path snapshotPath,
+            List<Path> snapshots,
+            Collection<Path> sealedFiles,
+            boolean keepDeleted)
+            throws IOException {
+        // read in write order, the latest entry of a key wins
+        List<IMapFileData> allData = new ArrayList<>();
+        for (Path snapshot : snapshots) {
+            allData.addAll(fileReader.readData(snapshot));
+        }
+        for (Path sealedFile : sealedFiles) {
+            allData.addAll(fileReader.readData(sealedFile));
+        }
+        Collections.reverse(allData);
+        allData.sort(Comparator.comparingLong(IMapFileData::getTimestamp).reversed());
+
+        Path temporaryPath =
+                new Path(snapshotPath.getParent(), snapshotPath.getName() + TEMPORARY_FILE_SUFFIX);
+        Set<ByteBuffer> compactedKeys = new HashSet<>(allData.size());
+        int liveEntries = 0;
+        try (FSDataOutputStream out = fs.create(temporaryPath, true)) {
+            for (IMapFileData data : allData) {
+                if (!compactedKeys.add(keyOf(data)) || (data.isDeleted() && !keepDeleted)) {
+                    continue;
+                }
+                out.write(WALDataUtils.wrapperBytes(serializer.serialize(data)));
+                liveEntries++;
+            }
+            out.hsync();
+        }
+        if (!fs.rename(temporaryPath, snapshotPath)) {
+            throw new IOException(
+                    String.format("rename snapshot %s to %s failed", temporaryPath, snapshotPath));
+        }
+        log.info(
+                "compacted {} wal files into snapshot {}, {} entries reduced to {}",
+                sealedFiles.size(),
+                snapshotPath,
+                allData.size(),
+                liveEntries);
+    }
+
+    /** Keys are compared by their serialized form, equal keys always serialize the same way. */
+    private static ByteBuffer keyOf(IMapFileData data) {
+        byte[] className = data.getKeyClassName().getBytes(StandardCharsets.UTF_8);
+        byte[] key = new byte[className.length + data.getKey().length];
+        System.arraycopy(className, 0, key, 0, className.length);
+        System.arraycopy(data.getKey(), 0, key, className.length, data.getKey().length);
+        return ByteBuffer.wrap(key);
+    }
+}
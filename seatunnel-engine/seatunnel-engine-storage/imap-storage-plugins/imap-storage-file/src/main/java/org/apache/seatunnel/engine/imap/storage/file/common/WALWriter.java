@@ -35,6 +35,9 @@ public class WALWriter implements AutoCloseable {
 
     IFileWriter writer;
 
+    /** Whether data was written to the current file since the last rollover. */
+    private boolean dirty = false;
+
     public WALWriter(
             FileSystem fs,
             FileConfiguration fileConfiguration,
@@ -48,6 +51,24 @@ public class WALWriter implements AutoCloseable {
 
     public void write(IMapFileData data) throws IOException {
         this.writer.write(data);
+        this.dirty = true;
+    }
+
+    /**
+     * Seal the current file if anything was written to it.
+     *
+     * @return the index of the file currently written, all files with a smaller index are sealed
+     */
+    public long rollover() throws IOException {
+        if (dirty) {
+            this.writer.rollover();
+            this.dirty = false;
+        }
+        return getCurrentIndex();
+    }
+
+    public long getCurrentIndex() {
+        return this.writer.getCurrentIndex();
     }
 
     @Override
@@ -51,6 +51,8 @@ public class WALDisruptor implements Closeable {
 
     private boolean isClosed = false;
 
+    private final WALWorkHandler workHandler;
+
     private static final EventTranslatorThreeArg<FileWALEvent, IMapFileData, WALEventType, Long>
             TRANSLATOR =
                     (event, sequence, data, walEventStatus, requestId) -> {
@@ -64,18 +66,17 @@ public class WALDisruptor implements Closeable {
             FileConfiguration fileConfiguration,
             String parentPath,
             Serializer serializer) {
-        // todo should support multi thread producer
         ThreadFactory threadFactory = DaemonThreadFactory.INSTANCE;
         this.disruptor =
                 new Disruptor<>(
                         FileWALEvent.FACTORY,
                         DEFAULT_RING_BUFFER_SIZE,
                         threadFactory,
-                        ProducerType.SINGLE,
+                        ProducerType.MULTI,
                         new BlockingWaitStrategy());
 
-        disruptor.handleEventsWithWorkerPool(
-                new WALWorkHandler(fs, fileConfiguration, parentPath, serializer));
+        this.workHandler = new WALWorkHandler(fs, fileConfiguration, parentPath, serializer);
+        disruptor.handleEventsWithWorkerPool(workHandler);
 
         disruptor.start();
     }
@@ -92,6 +93,11 @@ public class WALDisruptor implements Closeable {
         return this.tryPublish(message, WALEventType.APPEND, requestId);
     }
 
+    /** The index of the wal file currently written, files with a smaller index are sealed. */
+    public long getCurrentIndex() {
+        return workHandler.getCurrentIndex();
+    }
+
     public boolean isClosed() {
         return isClosed;
     }
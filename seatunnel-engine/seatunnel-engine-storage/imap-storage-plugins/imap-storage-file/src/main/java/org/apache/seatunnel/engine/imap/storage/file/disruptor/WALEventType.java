@@ -25,6 +25,8 @@ public enum WALEventType {
     APPEND,
     /** delete all wal file in this namespace */
     CLEAR,
+    /** Seal the current wal file and continue with a new one */
+    ROLLOVER,
     /** Close wal file */
     CLOSED
 }
@@ -41,6 +41,9 @@ public class WALWorkHandler implements WorkHandler<FileWALEvent> {
 
     private WALWriter writer;
 
+    /** The index of the wal file currently written, updated on every rollover. */
+    private volatile long currentIndex;
+
     public WALWorkHandler(
             FileSystem fs,
             FileConfiguration fileConfiguration,
@@ -48,6 +51,7 @@ public class WALWorkHandler implements WorkHandler<FileWALEvent> {
             Serializer serializer) {
         try {
             writer = new WALWriter(fs, fileConfiguration, new Path(parentPath), serializer);
+            currentIndex = writer.getCurrentIndex();
         } catch (IOException e) {
             throw new IMapStorageException(
                     e, "create new current writer failed, parent path is %s", parentPath);
@@ -76,12 +80,27 @@ public class WALWorkHandler implements WorkHandler<FileWALEvent> {
             return;
         }
 
+        if (type == WALEventType.ROLLOVER) {
+            boolean rolloverSuccess = true;
+            try {
+                currentIndex = writer.rollover();
+            } catch (IOException e) {
+                rolloverSuccess = false;
+                log.error("rollover wal file error", e);
+            }
+            executeResponse(requestId, rolloverSuccess);
+            return;
+        }
         if (type == WALEventType.CLOSED) {
             // close writer and archive
             writer.close();
         }
     }
 
+    public long getCurrentIndex() {
+        return currentIndex;
+    }
+
     private void executeResponse(long requestId, boolean success) {
         if (null == RequestFutureCache.get(requestId)) {
             log.warn("requestId is {} not found in RequestFutureCache", requestId);
@@ -26,19 +26,27 @@ import org.apache.seatunnel.engine.serializer.api.Serializer;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
-import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
-import org.apache.hadoop.fs.RemoteIterator;
 
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import static org.apache.seatunnel.engine.imap.storage.file.common.WALCompactor.SNAPSHOT_FILE_SUFFIX;
 import static org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils.WAL_DATA_METADATA_LENGTH;
+import static org.apache.seatunnel.engine.imap.storage.file.wal.writer.IFileWriter.FILE_NAME;
 
+@Slf4j
 public class DefaultReader implements IFileReader<IMapFileData> {
     private static final int DEFAULT_QUERY_LIST_SIZE = 1024;
+    private static final int MAX_READ_ATTEMPTS = 10;
     FileSystem fs;
     Serializer serializer;
 
@@ -53,9 +61,44 @@ public class DefaultReader implements IFileReader<IMapFileData> {
         this.serializer = serializer;
     }
 
+    /**
+     * The compaction of another member may replace the listed files while they are read. It writes
+     * the new snapshot before deleting the compacted files, so the files are listed and read again
+     * whenever a listed file vanished or a new snapshot appeared in the meantime.
+     */
     @Override
     public List<IMapFileData> readAllData(Path parentPath) throws IOException {
-        List<String> fileNames = getFileNames(parentPath);
+        for (int attempt = 1; ; attempt++) {
+            List<String> fileNames = getFileNames(parentPath);
+            try {
+                List<IMapFileData> result = readAllData(parentPath, fileNames);
+                if (!isCompactedSince(fileNames, getFileNames(parentPath))) {
+                    return result;
+                }
+            } catch (FileNotFoundException e) {
+                log.debug("wal file of {} removed while reading", parentPath, e);
+            }
+            if (attempt >= MAX_READ_ATTEMPTS) {
+                throw new IOException(
+                        String.format(
+                                "wal files of %s kept changing during %d reads",
+                                parentPath, attempt));
+            }
+            log.info("wal files of {} compacted while reading, read again", parentPath);
+        }
+    }
+
+    private static boolean isCompactedSince(List<String> fileNames, List<String> newFileNames) {
+        Set<String> currentFileNames = new HashSet<>(newFileNames);
+        if (!currentFileNames.containsAll(fileNames)) {
+            return true;
+        }
+        currentFileNames.removeAll(fileNames);
+        return currentFileNames.stream().anyMatch(name -> name.endsWith(SNAPSHOT_FILE_SUFFIX));
+    }
+
+    private List<IMapFileData> readAllData(Path parentPath, List<String> fileNames)
+            throws IOException {
         if (CollectionUtils.isEmpty(fileNames)) {
             return new ArrayList<>();
         }
@@ -66,27 +109,39 @@ public class DefaultReader implements IFileReader<IMapFileData> {
         return result;
     }
 
-    private List<String> getFileNames(Path parentPath) {
+    private List<String> getFileNames(Path parentPath) throws FileNotFoundException {
         try {
             if (!fs.exists(parentPath)) {
                 return new ArrayList<>();
             }
-            RemoteIterator<LocatedFileStatus> fileStatusRemoteIterator =
-                    fs.listFiles(parentPath, true);
             List<String> fileNames = new ArrayList<>();
-            while (fileStatusRemoteIterator.hasNext()) {
-                LocatedFileStatus fileStatus = fileStatusRemoteIterator.next();
-                if (fileStatus.getPath().getName().endsWith("wal.txt")) {
-                    fileNames.add(fileStatus.getPath().toString());
-                }
-            }
+            addFileNames(parentPath, fileNames);
             return fileNames;
+        } catch (FileNotFoundException e) {
+            // a file or region directory was removed while listing
+            throw e;
         } catch (IOException e) {
             throw new IMapStorageException(e, "get file names error,path is s%", parentPath);
         }
     }
 
-    private List<IMapFileData> readData(Path path) throws IOException {
+    /**
+     * Lists the directories one by one, the located statuses of {@link FileSystem#listFiles} fail
+     * on files that are deleted while listing instead of leaving them out.
+     */
+    private void addFileNames(Path path, List<String> fileNames) throws IOException {
+        for (FileStatus fileStatus : fs.listStatus(path)) {
+            String fileName = fileStatus.getPath().getName();
+            if (fileStatus.isDirectory()) {
+                addFileNames(fileStatus.getPath(), fileNames);
+            } else if (fileName.endsWith(FILE_NAME) || fileName.endsWith(SNAPSHOT_FILE_SUFFIX)) {
+                fileNames.add(fileStatus.getPath().toString());
+            }
+        }
+    }
+
+    @Override
+    public List<IMapFileData> readData(Path path) throws IOException {
         List<IMapFileData> result = new ArrayList<>(DEFAULT_QUERY_LIST_SIZE);
         long length = fs.getFileStatus(path).getLen();
         try (FSDataInputStream in = fs.open(path)) {
@@ -33,4 +33,6 @@ public interface IFileReader<R> {
     void initialize(FileSystem fs, Serializer serializer) throws IOException;
 
     List<R> readAllData(Path parentPath) throws IOException;
+
+    List<R> readData(Path path) throws IOException;
 }
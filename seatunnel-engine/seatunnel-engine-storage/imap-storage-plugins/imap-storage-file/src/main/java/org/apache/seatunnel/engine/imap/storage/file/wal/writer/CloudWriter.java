@@ -111,6 +111,17 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
         }
     }
 
+    @Override
+    public void rollover() {
+        this.path = createNewPath();
+        this.bf.clear();
+    }
+
+    @Override
+    public long getCurrentIndex() {
+        return index.get();
+    }
+
     public Path createNewPath() {
         return new Path(parentPath, index.incrementAndGet() + "_" + FILE_NAME);
     }
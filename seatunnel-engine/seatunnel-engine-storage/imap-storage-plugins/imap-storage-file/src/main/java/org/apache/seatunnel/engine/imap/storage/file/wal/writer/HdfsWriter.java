@@ -39,6 +39,12 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
 
     private Serializer serializer;
 
+    private FileSystem fs;
+
+    private Path parentPath;
+
+    private long index = 0;
+
     @Override
     public String identifier() {
         return "hdfs";
@@ -47,9 +53,10 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
     @Override
     public void initialize(FileSystem fs, Path parentPath, Serializer serializer)
             throws IOException {
-        Path path = new Path(parentPath, FILE_NAME);
-        this.out = fs.create(path);
+        this.fs = fs;
+        this.parentPath = parentPath;
         this.serializer = serializer;
+        this.out = fs.create(createNewPath());
     }
 
     @Override
@@ -58,6 +65,22 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
         this.write(bytes);
     }
 
+    @Override
+    public void rollover() throws IOException {
+        FSDataOutputStream sealed = this.out;
+        this.out = fs.create(createNewPath());
+        sealed.close();
+    }
+
+    @Override
+    public long getCurrentIndex() {
+        return index;
+    }
+
+    private Path createNewPath() {
+        return new Path(parentPath, ++index + "_" + FILE_NAME);
+    }
+
     public void flush() throws IOException {
         // hsync to flag
         if (out instanceof HdfsDataOutputStream) {
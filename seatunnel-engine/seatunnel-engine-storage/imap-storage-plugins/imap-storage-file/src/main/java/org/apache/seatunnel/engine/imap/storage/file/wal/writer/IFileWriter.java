@@ -37,4 +37,13 @@ public interface IFileWriter<T> extends AutoCloseable {
     default void setBlockSize(Long blockSize) {}
 
     void write(T data) throws IOException;
+
+    /**
+     * Seal the file currently written and continue with a new one. A sealed file is never written
+     * again, so it can be compacted while new data is appended.
+     */
+    void rollover() throws IOException;
+
+    /** The index of the file currently written, every file with a smaller index is sealed. */
+    long getCurrentIndex();
 }
@@ -23,6 +23,7 @@ package org.apache.seatunnel.engine.imap.storage.file;
 import org.apache.seatunnel.engine.imap.storage.file.common.FileConstants;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
@@ -33,12 +34,16 @@ import org.junit.jupiter.api.condition.EnabledOnOs;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.COMPACTION_INTERVAL_MILLISECONDS_KEY;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.WRITE_DATA_TIMEOUT_MILLISECONDS_KEY;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.condition.OS.LINUX;
@@ -117,8 +122,99 @@ public class IMapFileStorageTest {
         Assertions.assertEquals(array[6], 111111111L);
     }
 
+    @Test
+    void testCompaction() throws IOException {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("fs.defaultFS", "file:///");
+        properties.put(FileConstants.FileInitProperties.BUSINESS_KEY, "compaction");
+        properties.put(FileConstants.FileInitProperties.NAMESPACE_KEY, "/tmp/imap-kris-test/3");
+        properties.put(FileConstants.FileInitProperties.CLUSTER_NAME, "test-one");
+        properties.put(COMPACTION_INTERVAL_MILLISECONDS_KEY, 0L);
+        IMapFileStorage storage = new IMapFileStorage();
+        storage.initialize(properties);
+        try {
+            for (int i = 0; i < 100; i++) {
+                storage.store("key" + (i % 10), (long) i);
+            }
+            storage.delete("key0");
+            Assertions.assertTrue(storage.compact());
+            // nothing was written since the last compaction
+            Assertions.assertFalse(storage.compact());
+
+            storage.store("key1", 1000L);
+            storage.store("key0", 2000L);
+            Assertions.assertTrue(storage.compact());
+            storage.delete("key2");
+
+            FileSystem fs = FileSystem.get(CONF);
+            FileStatus[] regions =
+                    fs.listStatus(new Path("/tmp/imap-kris-test/3/test-one/compaction"));
+            Assertions.assertEquals(1, regions.length);
+            List<String> fileNames = new ArrayList<>();
+            for (FileStatus status : fs.listStatus(regions[0].getPath())) {
+                fileNames.add(status.getPath().getName());
+            }
+            Collections.sort(fileNames);
+            Assertions.assertEquals(Arrays.asList("3_wal.txt", "snapshot_2.snapshot"), fileNames);
+
+            Map<Object, Object> expected = new HashMap<>();
+            for (int i = 3; i < 10; i++) {
+                expected.put("key" + i, 90L + i);
+            }
+            expected.put("key0", 2000L);
+            expected.put("key1", 1000L);
+            Assertions.assertEquals(expected, storage.loadAll());
+            Assertions.assertEquals(expected.keySet(), storage.loadAllKeys());
+        } finally {
+            storage.destroy(true);
+        }
+    }
+
+    @Test
+    void testLoadAllWhileCompacting() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("fs.defaultFS", "file:///");
+        properties.put(FileConstants.FileInitProperties.BUSINESS_KEY, "compaction");
+        properties.put(FileConstants.FileInitProperties.NAMESPACE_KEY, "/tmp/imap-kris-test/4");
+        properties.put(FileConstants.FileInitProperties.CLUSTER_NAME, "test-one");
+        properties.put(COMPACTION_INTERVAL_MILLISECONDS_KEY, 0L);
+        IMapFileStorage storage = new IMapFileStorage();
+        storage.initialize(properties);
+        // another member reading the same files
+        IMapFileStorage reader = new IMapFileStorage();
+        reader.initialize(properties);
+        try {
+            for (int i = 0; i < 10; i++) {
+                storage.store("key" + i, (long) i);
+            }
+            AtomicBoolean compacting = new AtomicBoolean(true);
+            Thread compactor =
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < 100; i++) {
+                                    storage.store("key" + (i % 10), (long) (i % 10));
+                                    storage.compact();
+                                }
+                                compacting.set(false);
+                            });
+            compactor.start();
+            while (compacting.get()) {
+                Map<Object, Object> data = reader.loadAll();
+                for (int i = 0; i < 10; i++) {
+                    Assertions.assertEquals((long) i, data.get("key" + i));
+                }
+            }
+            compactor.join();
+        } finally {
+            reader.destroy(false);
+            storage.destroy(true);
+        }
+    }
+
     @AfterAll
     static void afterAll() throws IOException {
         FileSystem.get(CONF).delete(new Path("/tmp/imap-kris-test/2"), true);
+        FileSystem.get(CONF).delete(new Path("/tmp/imap-kris-test/3"), true);
+        FileSystem.get(CONF).delete(new Path("/tmp/imap-kris-test/4"), true);
     }
 }